@@ -0,0 +1,50 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collection;
+
+/**
+ * Runs the benchmarks matching the optional regular expression with the GC profiler (allocation rate) and writes the
+ * results to jmh-result.json. Throughput is reported in ops/us, SampleTime reports the p99 latency.
+ * The scores are also written as a per-dialect comparison table to jmh-comparison.md.
+ *
+ *   java -jar dmn-benchmarks/target/benchmarks.jar [regexp]
+ *
+ * The standard JMH command line is available with: java -cp dmn-benchmarks/target/benchmarks.jar org.openjdk.jmh.Main
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length == 0 ? "com.gs.dmn.benchmarks.*" : args[0];
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json")
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        Files.write(Paths.get("jmh-comparison.md"), ComparisonTable.format(results).getBytes(StandardCharsets.UTF_8));
+    }
+}
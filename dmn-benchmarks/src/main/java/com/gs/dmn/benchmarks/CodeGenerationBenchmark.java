@@ -0,0 +1,158 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks;
+
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
+import com.gs.dmn.serialization.SyntheticModelGenerator;
+import com.gs.dmn.serialization.SyntheticModelParameters;
+import com.gs.dmn.transformation.DMNToJavaTransformer;
+import com.gs.dmn.transformation.PhaseTimings;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import com.gs.dmn.transformation.lazy.SparseDecisionDetector;
+import com.gs.dmn.transformation.template.DagTemplateProvider;
+import com.gs.dmn.transformation.template.TemplateProvider;
+import com.gs.dmn.transformation.template.TreeTemplateProvider;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.NOPLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs DMNToJavaTransformer (standard dialect) on TCK and synthetic models. Besides the total time, the time of each
+ * phase (see PhaseTimings) is reported in ms as a secondary result.
+ * The synthetic models are named synthetic-N, where N is the number of decisions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CodeGenerationBenchmark {
+    // Logging would dominate the measurements of the small models
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(NOPLogger.NOP_LOGGER);
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Phases {
+        public double read;
+        public double dialectTransformation;
+        public double dmnTransformation;
+        public double lazyDetection;
+        public double validation;
+        public double templateRendering;
+        public double formatting;
+        public double fileWrite;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            read = dialectTransformation = dmnTransformation = lazyDetection = validation = templateRendering = formatting = fileWrite = 0;
+        }
+
+        public void add(PhaseTimings timings) {
+            read += millis(timings, PhaseTimings.READ);
+            dialectTransformation += millis(timings, PhaseTimings.DIALECT_TRANSFORMATION);
+            dmnTransformation += millis(timings, PhaseTimings.DMN_TRANSFORMATION);
+            lazyDetection += millis(timings, PhaseTimings.LAZY_DETECTION);
+            validation += millis(timings, PhaseTimings.VALIDATION);
+            templateRendering += millis(timings, PhaseTimings.TEMPLATE_RENDERING);
+            formatting += millis(timings, PhaseTimings.FORMATTING);
+            fileWrite += millis(timings, PhaseTimings.FILE_WRITE);
+        }
+
+        private static double millis(PhaseTimings timings, String phase) {
+            return timings.getNanos(phase) / 1_000_000.0;
+        }
+    }
+
+    @Param({"0004-lending", "0020-vacation-days", "synthetic-100", "synthetic-500"})
+    public String model;
+
+    @Param({"tree", "dag"})
+    public String template;
+
+    private File folder;
+    private File modelFile;
+    private DMNToJavaTransformer transformer;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.folder = Files.createTempDirectory("dmn-codegen").toFile();
+        this.modelFile = new File(folder, model + ".dmn");
+        if (model.startsWith("synthetic-")) {
+            int decisionCount = Integer.parseInt(model.substring("synthetic-".length()));
+            SyntheticModelParameters parameters = new SyntheticModelParameters(Math.max(10, decisionCount / 5), decisionCount, 2, 2, 10, 3, 0.5, 3);
+            new SyntheticModelGenerator(LOGGER).write(parameters, modelFile);
+        } else {
+            try (InputStream input = CodeGenerationBenchmark.class.getClassLoader().getResourceAsStream(String.format("tck/cl3/%s.dmn", model))) {
+                if (input == null) {
+                    throw new DMNRuntimeException(String.format("Cannot find TCK model '%s'", model));
+                }
+                FileUtils.copyInputStreamToFile(input, modelFile);
+            }
+        }
+
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        inputParameters.put("dmnVersion", "1.1");
+        inputParameters.put("modelVersion", "1.0");
+        inputParameters.put("platformVersion", "1.0");
+        inputParameters.put("javaRootPackage", "com.gs.dmn.benchmarks.codegen");
+        inputParameters.put("caching", "false");
+        TemplateProvider templateProvider = "dag".equals(template) ? new DagTemplateProvider() : new TreeTemplateProvider();
+        this.transformer = Dialect.STANDARD.createDialectDefinition().createDMNToJavaTransformer(
+                new DefaultDMNValidator(LOGGER),
+                new ToSimpleNameTransformer(LOGGER),
+                templateProvider,
+                new SparseDecisionDetector(inputParameters, LOGGER),
+                new DefaultTypeDeserializationConfigurer(),
+                inputParameters,
+                LOGGER
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(folder);
+    }
+
+    @Benchmark
+    public void generate(Phases phases) {
+        transformer.getPhaseTimings().reset();
+        transformer.transform(modelFile.toPath(), new File(folder, "java").toPath());
+        phases.add(transformer.getPhaseTimings());
+    }
+}
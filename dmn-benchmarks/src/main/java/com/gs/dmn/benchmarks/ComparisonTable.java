@@ -0,0 +1,87 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Formats the primary results as a Markdown table: one row per benchmark, mode and remaining parameters, one column
+ * per dialect (or per variant for GeneratedCodeBenchmark).
+ */
+public class ComparisonTable {
+    private static final String[] COLUMN_PARAMETERS = {"dialect", "variant"};
+
+    public static String format(Collection<RunResult> results) {
+        Set<String> columns = new LinkedHashSet<>();
+        Map<String, Map<String, String>> rows = new LinkedHashMap<>();
+        for (RunResult runResult : results) {
+            BenchmarkParams params = runResult.getParams();
+            String columnParameter = columnParameter(params);
+            String column = columnParameter == null ? "" : params.getParam(columnParameter);
+            columns.add(column);
+
+            Result result = runResult.getPrimaryResult();
+            String row = rowName(params, columnParameter, result.getScoreUnit());
+            rows.computeIfAbsent(row, k -> new LinkedHashMap<>()).put(column, String.format("%.3f ± %.3f", result.getScore(), result.getScoreError()));
+        }
+
+        StringBuilder builder = new StringBuilder();
+        List<String> header = new ArrayList<>(columns);
+        builder.append("| Benchmark |");
+        header.forEach(c -> builder.append(" ").append(c).append(" |"));
+        builder.append("\n|---|");
+        header.forEach(c -> builder.append("---:|"));
+        builder.append("\n");
+        for (Map.Entry<String, Map<String, String>> row : rows.entrySet()) {
+            builder.append("| ").append(row.getKey()).append(" |");
+            for (String column : header) {
+                builder.append(" ").append(row.getValue().getOrDefault(column, "")).append(" |");
+            }
+            builder.append("\n");
+        }
+        return builder.toString();
+    }
+
+    private static String columnParameter(BenchmarkParams params) {
+        for (String name : COLUMN_PARAMETERS) {
+            if (params.getParam(name) != null) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private static String rowName(BenchmarkParams params, String columnParameter, String unit) {
+        String benchmark = params.getBenchmark();
+        String[] parts = benchmark.split("\\.");
+        StringBuilder name = new StringBuilder();
+        name.append(parts.length < 2 ? benchmark : parts[parts.length - 2] + "." + parts[parts.length - 1]);
+        for (String key : params.getParamsKeys()) {
+            if (!key.equals(columnParameter)) {
+                name.append(" ").append(key).append("=").append(params.getParam(key));
+            }
+        }
+        name.append(" (").append(params.getMode().shortLabel()).append(", ").append(unit).append(")");
+        return name.toString();
+    }
+}
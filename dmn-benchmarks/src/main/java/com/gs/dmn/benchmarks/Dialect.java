@@ -0,0 +1,47 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks;
+
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.dialect.DoubleMixedJavaTimeDMNDialectDefinition;
+import com.gs.dmn.dialect.MixedJavaTimeDMNDialectDefinition;
+import com.gs.dmn.dialect.PureJavaTimeDMNDialectDefinition;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.dialect.UniformJavaTimeDMNDialectDefinition;
+
+import java.util.function.Supplier;
+
+// Dialects and the package segment used for their generated code (see pom.xml)
+public enum Dialect {
+    STANDARD("standard", StandardDMNDialectDefinition::new),
+    MIXED("mixed", MixedJavaTimeDMNDialectDefinition::new),
+    PURE("pure", PureJavaTimeDMNDialectDefinition::new),
+    UNIFORM("uniform", UniformJavaTimeDMNDialectDefinition::new),
+    DOUBLE_MIXED("doublemixed", DoubleMixedJavaTimeDMNDialectDefinition::new);
+
+    private final String packageName;
+    private final Supplier<DMNDialectDefinition> factory;
+
+    Dialect(String packageName, Supplier<DMNDialectDefinition> factory) {
+        this.packageName = packageName;
+        this.factory = factory;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public DMNDialectDefinition createDialectDefinition() {
+        return factory.get();
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks;
+
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates the result nodes of the TCK test cases with the code generated by jdmn-maven-plugin.
+ * The variant is DIALECT_TEMPLATE; the DAG template is generated only for the standard dialect.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class GeneratedCodeBenchmark {
+    @Param({"0004-lending", "0020-vacation-days"})
+    public String model;
+
+    @Param({"STANDARD_TREE", "STANDARD_DAG", "MIXED_TREE", "PURE_TREE", "UNIFORM_TREE", "DOUBLE_MIXED_TREE"})
+    public String variant;
+
+    private List<GeneratedDecision> decisions;
+
+    @Setup
+    public void setUp() {
+        int separator = variant.lastIndexOf('_');
+        Dialect dialect = Dialect.valueOf(variant.substring(0, separator));
+        String template = variant.substring(separator + 1).toLowerCase();
+
+        TCKModel tckModel = TCKModel.load(model, dialect);
+        BasicDMN2JavaTransformer transformer = tckModel.getTransformer();
+        String packageName = tckModel.javaPackageName(dialect, template);
+        this.decisions = new ArrayList<>();
+        for (TCKModel.Evaluation evaluation : tckModel.getEvaluations()) {
+            String className = packageName + "." + transformer.drgElementClassName(evaluation.getElement());
+            List<Object> inputs = transformer.drgElementArgumentNameList(evaluation.getElement(), false).stream()
+                    .map(name -> evaluation.getRuntimeEnvironment().lookupBinding(name))
+                    .collect(Collectors.toList());
+            this.decisions.add(new GeneratedDecision(className, inputs));
+        }
+    }
+
+    @Benchmark
+    public void evaluate(Blackhole blackhole) throws Throwable {
+        for (GeneratedDecision decision : decisions) {
+            blackhole.consume(decision.apply());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks;
+
+import com.gs.dmn.runtime.Context;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+import com.gs.dmn.runtime.external.DefaultExternalFunctionExecutor;
+import com.gs.dmn.runtime.external.ExternalFunctionExecutor;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.serialization.JsonSerializer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Calls the typed apply() method of a generated decision with arguments converted once, at set-up.
+ * The method is called through a MethodHandle bound to the decision, so that reflection is not measured.
+ */
+public class GeneratedDecision {
+    private final MethodHandle apply;
+    private final Object[] arguments;
+    private final int annotationSetIndex;
+
+    public GeneratedDecision(String className, List<Object> inputs) {
+        try {
+            Class<?> decisionClass = Class.forName(className);
+            Object decision = decisionClass.newInstance();
+            Method method = findApply(decisionClass, inputs.size());
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            this.apply = MethodHandles.publicLookup().unreflect(method)
+                    .bindTo(decision)
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            this.arguments = new Object[parameterTypes.length];
+            for (int i = 0; i < inputs.size(); i++) {
+                this.arguments[i] = convert(inputs.get(i), parameterTypes[i]);
+            }
+            this.annotationSetIndex = inputs.size();
+            this.arguments[annotationSetIndex + 1] = new NopEventListener();
+            this.arguments[annotationSetIndex + 2] = new DefaultExternalFunctionExecutor();
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot prepare decision '%s'", className), e);
+        }
+    }
+
+    public Object apply() throws Throwable {
+        // A fresh set, otherwise the annotations accumulate across invocations
+        arguments[annotationSetIndex] = new AnnotationSet();
+        return (Object) apply.invokeExact(arguments);
+    }
+
+    // apply(inputs, AnnotationSet, EventListener, ExternalFunctionExecutor), preferring typed inputs to JSON strings
+    private static Method findApply(Class<?> decisionClass, int inputCount) {
+        Method result = null;
+        for (Method method : decisionClass.getMethods()) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (!"apply".equals(method.getName()) || Modifier.isStatic(method.getModifiers()) || parameterTypes.length != inputCount + 3) {
+                continue;
+            }
+            if (parameterTypes[inputCount] != AnnotationSet.class
+                    || parameterTypes[inputCount + 1] != EventListener.class
+                    || parameterTypes[inputCount + 2] != ExternalFunctionExecutor.class) {
+                continue;
+            }
+            if (result == null || !isStringSignature(method, inputCount)) {
+                result = method;
+            }
+        }
+        if (result == null) {
+            throw new DMNRuntimeException(String.format("Cannot find apply method in '%s'", decisionClass.getName()));
+        }
+        return result;
+    }
+
+    private static boolean isStringSignature(Method method, int inputCount) {
+        for (int i = 0; i < inputCount; i++) {
+            if (method.getParameterTypes()[i] != String.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Structured values are converted to the generated Impl class with the same JSON mapping as the String overloads
+    private static Object convert(Object value, Class<?> type) throws Exception {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+        String json = JsonSerializer.OBJECT_MAPPER.writeValueAsString(toJsonValue(value));
+        Class<?> implClass = type.isInterface() ? Class.forName(type.getName() + "Impl") : type;
+        return JsonSerializer.OBJECT_MAPPER.readValue(json, implClass);
+    }
+
+    private static Object toJsonValue(Object value) {
+        if (value instanceof Context) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Context) value).getBindings().forEach((k, v) -> map.put(k, toJsonValue(v)));
+            return map;
+        } else if (value instanceof List) {
+            return ((List<?>) value).stream().map(GeneratedDecision::toJsonValue).collect(Collectors.toList());
+        } else {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks;
+
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates the result nodes of the TCK test cases with the DMNInterpreter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class InterpreterBenchmark {
+    @Param({"0004-lending", "0020-vacation-days"})
+    public String model;
+
+    @Param({"STANDARD", "MIXED", "PURE", "UNIFORM", "DOUBLE_MIXED"})
+    public Dialect dialect;
+
+    private DMNInterpreter interpreter;
+    private List<TCKModel.Evaluation> evaluations;
+
+    @Setup
+    public void setUp() {
+        DMNInterpreter.setEventListener(new NopEventListener());
+        TCKModel tckModel = TCKModel.load(model, dialect);
+        this.interpreter = tckModel.getInterpreter();
+        this.evaluations = tckModel.getEvaluations();
+    }
+
+    @Benchmark
+    public void evaluate(Blackhole blackhole) {
+        for (TCKModel.Evaluation evaluation : evaluations) {
+            blackhole.consume(interpreter.evaluate(evaluation.getElement().getName(), evaluation.makeRuntimeEnvironment()));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.tck.TCKUtil;
+import com.gs.dmn.tck.TestCasesReader;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase.ResultNode;
+import org.omg.spec.dmn._20180521.model.TDRGElement;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A TCK model and its test cases, prepared for a dialect. Each result node of each test case becomes an Evaluation.
+ */
+public class TCKModel {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(TCKModel.class));
+
+    public static class Evaluation {
+        private final TDRGElement element;
+        private final RuntimeEnvironment runtimeEnvironment;
+
+        Evaluation(TDRGElement element, RuntimeEnvironment runtimeEnvironment) {
+            this.element = element;
+            this.runtimeEnvironment = runtimeEnvironment;
+        }
+
+        public TDRGElement getElement() {
+            return element;
+        }
+
+        // Inputs of the test case, shared by its result nodes
+        public RuntimeEnvironment getRuntimeEnvironment() {
+            return runtimeEnvironment;
+        }
+
+        // The interpreter stores the results of the decisions in the environment (DAG optimisation) and returns them on
+        // later calls; a child environment for each evaluation keeps the inputs and discards the results
+        public RuntimeEnvironment makeRuntimeEnvironment() {
+            return RuntimeEnvironmentFactory.instance().makeEnvironment(runtimeEnvironment);
+        }
+    }
+
+    public static TCKModel load(String modelName, Dialect dialect) {
+        try {
+            ClassLoader classLoader = TCKModel.class.getClassLoader();
+            URL modelURL = classLoader.getResource(String.format("tck/cl3/%s.dmn", modelName));
+            URL testsURL = classLoader.getResource(String.format("tck/cl3/%s-test-01.xml", modelName));
+            if (modelURL == null || testsURL == null) {
+                throw new DMNRuntimeException(String.format("Cannot find TCK model '%s'", modelName));
+            }
+            DMNModelRepository repository = new DMNReader(LOGGER, false).read(modelURL);
+            TestCases testCases = new TestCasesReader(LOGGER).read(testsURL);
+
+            // Same name transformer as the generated code (see pom.xml)
+            Pair<DMNModelRepository, TestCases> pair = new ToSimpleNameTransformer(LOGGER).transform(repository, testCases);
+            return new TCKModel(modelName, dialect, pair.getLeft(), pair.getRight());
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot load TCK model '%s'", modelName), e);
+        }
+    }
+
+    private final String name;
+    private final DMNInterpreter interpreter;
+    private final BasicDMN2JavaTransformer transformer;
+    private final List<Evaluation> evaluations = new ArrayList<>();
+
+    private TCKModel(String name, Dialect dialect, DMNModelRepository repository, TestCases testCases) {
+        this.name = name;
+        this.interpreter = dialect.createDialectDefinition().createDMNInterpreter(repository);
+        this.transformer = this.interpreter.getBasicDMNTransformer();
+        TCKUtil tckUtil = new TCKUtil(this.transformer, (StandardFEELLib) this.interpreter.getFeelLib());
+        for (TestCase testCase : testCases.getTestCase()) {
+            RuntimeEnvironment runtimeEnvironment = tckUtil.makeEnvironment(testCase);
+            for (ResultNode resultNode : testCase.getResultNode()) {
+                TDRGElement element = repository.findDRGElementByName(resultNode.getName());
+                this.evaluations.add(new Evaluation(element, runtimeEnvironment));
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DMNInterpreter getInterpreter() {
+        return interpreter;
+    }
+
+    public BasicDMN2JavaTransformer getTransformer() {
+        return transformer;
+    }
+
+    public List<Evaluation> getEvaluations() {
+        return evaluations;
+    }
+
+    // Java package of the code generated for this model (see pom.xml)
+    public String javaPackageName(Dialect dialect, String template) {
+        return String.format("com.gs.dmn.benchmarks.%s.%s.cl3_%s", dialect.getPackageName(), template, name.replace('-', '_'));
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks.feel;
+
+import com.gs.dmn.benchmarks.Dialect;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FEELLib of each dialect. The operands are created in setUp() with the library under test, so they have the types
+ * of the dialect (e.g. BigDecimal vs Double, XMLGregorianCalendar vs java.time).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractFEELLibBenchmark {
+    @Param({"STANDARD", "MIXED", "PURE", "UNIFORM", "DOUBLE_MIXED"})
+    public Dialect dialect;
+
+    protected StandardFEELLib lib;
+
+    @Setup
+    public void setUp() {
+        this.lib = (StandardFEELLib) dialect.createDialectDefinition().createFEELLib();
+        init();
+    }
+
+    protected abstract void init();
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks.feel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+// Conversion functions (literals are parsed on every call in the generated code)
+@SuppressWarnings("unchecked")
+public class ConversionBenchmark extends AbstractFEELLibBenchmark {
+    private Object number;
+
+    @Override
+    protected void init() {
+        this.number = lib.number("1234.5678");
+    }
+
+    @Benchmark
+    public Object number() {
+        return lib.number("1234.5678");
+    }
+
+    @Benchmark
+    public Object string() {
+        return lib.string(number);
+    }
+
+    @Benchmark
+    public Object date() {
+        return lib.date("2018-05-21");
+    }
+
+    @Benchmark
+    public Object dateAndTime() {
+        return lib.dateAndTime("2018-05-21T10:20:30+01:00");
+    }
+
+    @Benchmark
+    public Object duration() {
+        return lib.duration("P1DT2H3M4S");
+    }
+}
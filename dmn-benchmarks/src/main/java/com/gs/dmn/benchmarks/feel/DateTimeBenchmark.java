@@ -0,0 +1,79 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks.feel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Date and date-time comparisons and arithmetic in the xml (STANDARD: DefaultDateType / DefaultDateTimeType over
+ * FEELXMLGregorianCalendar), mixed, pure and uniform type packages.
+ */
+@SuppressWarnings("unchecked")
+public class DateTimeBenchmark extends AbstractFEELLibBenchmark {
+    private Object date1;
+    private Object date2;
+    private Object dateTime1;
+    private Object dateTime2;
+    private Object dateTimeOtherOffset;
+    private Object duration;
+
+    @Override
+    protected void init() {
+        this.date1 = lib.date("2018-05-21");
+        this.date2 = lib.date("2019-01-31");
+        this.dateTime1 = lib.dateAndTime("2018-05-21T10:20:30Z");
+        this.dateTime2 = lib.dateAndTime("2018-05-21T12:20:30Z");
+        this.dateTimeOtherOffset = lib.dateAndTime("2018-05-21T12:20:30+02:00");
+        this.duration = lib.duration("P10D");
+    }
+
+    @Benchmark
+    public Object dateLessThan() {
+        return lib.dateLessThan(date1, date2);
+    }
+
+    @Benchmark
+    public Object dateEqual() {
+        return lib.dateEqual(date1, date2);
+    }
+
+    @Benchmark
+    public Object dateSubtract() {
+        return lib.dateSubtract(date2, date1);
+    }
+
+    @Benchmark
+    public Object dateAddDuration() {
+        return lib.dateAddDuration(date1, duration);
+    }
+
+    @Benchmark
+    public Object dateTimeLessThan() {
+        return lib.dateTimeLessThan(dateTime1, dateTime2);
+    }
+
+    @Benchmark
+    public Object dateTimeEqualDifferentOffsets() {
+        return lib.dateTimeEqual(dateTime1, dateTimeOtherOffset);
+    }
+
+    @Benchmark
+    public Object dateTimeSubtract() {
+        return lib.dateTimeSubtract(dateTime2, dateTime1);
+    }
+
+    @Benchmark
+    public Object dateTimeAddDuration() {
+        return lib.dateTimeAddDuration(dateTime1, duration);
+    }
+}
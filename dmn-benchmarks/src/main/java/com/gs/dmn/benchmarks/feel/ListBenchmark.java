@@ -0,0 +1,66 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks.feel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// List functions over 100 numbers
+@SuppressWarnings("unchecked")
+public class ListBenchmark extends AbstractFEELLibBenchmark {
+    private List<Object> numbers;
+    private Object element;
+    private Object position;
+
+    @Override
+    protected void init() {
+        this.numbers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            this.numbers.add(lib.number(String.valueOf(i % 50)));
+        }
+        this.element = lib.number("49");
+        this.position = lib.number("10");
+    }
+
+    @Benchmark
+    public Object sum() {
+        return lib.sum(numbers);
+    }
+
+    @Benchmark
+    public Object count() {
+        return lib.count(numbers);
+    }
+
+    @Benchmark
+    public Object max() {
+        return lib.max(numbers);
+    }
+
+    @Benchmark
+    public Object listContains() {
+        return lib.listContains(numbers, element);
+    }
+
+    @Benchmark
+    public Object distinctValues() {
+        return lib.distinctValues(numbers);
+    }
+
+    @Benchmark
+    public Object sublist() {
+        return lib.sublist(numbers, position, position);
+    }
+}
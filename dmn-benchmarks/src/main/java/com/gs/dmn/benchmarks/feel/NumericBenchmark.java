@@ -0,0 +1,58 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks.feel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+// DefaultNumericType (BigDecimal) vs DoubleNumericType (Double, DOUBLE_MIXED)
+@SuppressWarnings("unchecked")
+public class NumericBenchmark extends AbstractFEELLibBenchmark {
+    private Object first;
+    private Object second;
+
+    @Override
+    protected void init() {
+        this.first = lib.number("1234.5678");
+        this.second = lib.number("3");
+    }
+
+    @Benchmark
+    public Object add() {
+        return lib.numericAdd(first, second);
+    }
+
+    @Benchmark
+    public Object multiply() {
+        return lib.numericMultiply(first, second);
+    }
+
+    @Benchmark
+    public Object divide() {
+        return lib.numericDivide(first, second);
+    }
+
+    @Benchmark
+    public Object lessThan() {
+        return lib.numericLessThan(first, second);
+    }
+
+    @Benchmark
+    public Object equal() {
+        return lib.numericEqual(first, second);
+    }
+
+    @Benchmark
+    public Object decimal() {
+        return lib.decimal(first, second);
+    }
+}
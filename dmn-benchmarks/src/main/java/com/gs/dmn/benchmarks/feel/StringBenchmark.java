@@ -0,0 +1,64 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks.feel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+// String functions (StringUtil)
+@SuppressWarnings("unchecked")
+public class StringBenchmark extends AbstractFEELLibBenchmark {
+    private final String text = "The quick brown fox jumps over the lazy dog";
+    private Object position;
+    private Object length;
+
+    @Override
+    protected void init() {
+        this.position = lib.number("5");
+        this.length = lib.number("11");
+    }
+
+    @Benchmark
+    public Object contains() {
+        return lib.contains(text, "lazy");
+    }
+
+    @Benchmark
+    public Object substring() {
+        return lib.substring(text, position, length);
+    }
+
+    @Benchmark
+    public Object stringLength() {
+        return lib.stringLength(text);
+    }
+
+    @Benchmark
+    public Object upperCase() {
+        return lib.upperCase(text);
+    }
+
+    @Benchmark
+    public Object replace() {
+        return lib.replace(text, "o(\\w)", "0$1");
+    }
+
+    @Benchmark
+    public Object matches() {
+        return lib.matches(text, "^The.*dog$");
+    }
+
+    @Benchmark
+    public Object split() {
+        return lib.split(text, "\\s");
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmarks.scaling;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.benchmarks.CodeGenerationBenchmark;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
+import com.gs.dmn.serialization.SyntheticModelGenerator;
+import com.gs.dmn.serialization.SyntheticModelParameters;
+import com.gs.dmn.transformation.DMNToJavaTransformer;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import com.gs.dmn.transformation.template.TreeTemplateProvider;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import com.gs.dmn.validation.NopDMNValidator;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.helpers.NOPLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads, validates, transforms the names of, generates code for and evaluates (interpreter) synthetic models of
+ * increasing size, to show how each phase scales with the number of decisions, the size of the decision tables, the
+ * depth of the graph and the share of FEEL literal expressions.
+ *
+ * The shape of a model is DECISIONSxRULESxDEPTH: the decisions are arranged in DEPTH layers (each decision requires
+ * two elements of the previous layer) and each decision table has RULES rules. The phases of the code generation
+ * (e.g. name transformation, template rendering) are reported in ms as secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScalingBenchmark {
+    // Logging would dominate the measurements of the small models
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(NOPLogger.NOP_LOGGER);
+
+    // A repository read for each invocation, the name transformer changes it in place
+    @State(Scope.Thread)
+    public static class FreshRepository {
+        private DMNModelRepository repository;
+
+        @Setup(Level.Invocation)
+        public void read(ScalingBenchmark benchmark) {
+            this.repository = new DMNReader(LOGGER, false).read(benchmark.modelFile);
+        }
+    }
+
+    @Param({"100x10x5", "1000x10x5", "3000x10x5", "3000x10x40", "1000x1000x10", "10x50000x2"})
+    public String shape;
+
+    @Param({"0.0", "0.5", "1.0"})
+    public double feelShare;
+
+    private final DMNDialectDefinition dialectDefinition = new StandardDMNDialectDefinition();
+
+    private File folder;
+    private File modelFile;
+    private DMNModelRepository repository;
+    private DMNToJavaTransformer transformer;
+    private DMNInterpreter interpreter;
+    private List<String> topDecisionNames;
+    private RuntimeEnvironment inputEnvironment;
+
+    @Setup
+    public void setUp() throws IOException {
+        DMNInterpreter.setEventListener(new NopEventListener());
+
+        SyntheticModelParameters parameters = makeParameters();
+        SyntheticModelGenerator generator = new SyntheticModelGenerator(LOGGER);
+        this.folder = Files.createTempDirectory("dmn-scaling").toFile();
+        this.modelFile = new File(folder, parameters.getModelName() + ".dmn");
+        generator.write(parameters, modelFile);
+
+        this.repository = new DMNReader(LOGGER, false).read(modelFile);
+        this.transformer = dialectDefinition.createDMNToJavaTransformer(new NopDMNValidator(), new ToSimpleNameTransformer(LOGGER), new TreeTemplateProvider(), new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), makeInputParameters(), LOGGER);
+        this.interpreter = dialectDefinition.createDMNInterpreter(repository);
+        this.topDecisionNames = generator.topDecisionNames(repository.getDefinitions());
+        StandardFEELLib lib = (StandardFEELLib) interpreter.getFeelLib();
+        this.inputEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+        for (int i = 0; i < parameters.getInputCount(); i++) {
+            inputEnvironment.bind(generator.inputDataName(i), lib.number(String.valueOf(generator.inputValue(parameters, i, 0))));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(folder);
+    }
+
+    @Benchmark
+    public DMNModelRepository read() {
+        return new DMNReader(LOGGER, false).read(modelFile);
+    }
+
+    @Benchmark
+    public DMNModelRepository readWithSchemaValidation() {
+        return new DMNReader(LOGGER, true).read(modelFile);
+    }
+
+    @Benchmark
+    public List<String> validate() {
+        return new DefaultDMNValidator(LOGGER).validate(repository);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public DMNModelRepository transformNames(FreshRepository fresh) {
+        return new ToSimpleNameTransformer(LOGGER).transform(fresh.repository);
+    }
+
+    // One operation takes seconds for the large models
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void generateCode(CodeGenerationBenchmark.Phases phases) {
+        transformer.getPhaseTimings().reset();
+        transformer.transform(modelFile.toPath(), new File(folder, "java").toPath());
+        phases.add(transformer.getPhaseTimings());
+    }
+
+    // The interpreter stores the results of the decisions in the environment (DAG optimisation), each invocation
+    // evaluates in a child of the environment of the inputs
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void evaluate(Blackhole blackhole) {
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment(inputEnvironment);
+        for (String name : topDecisionNames) {
+            blackhole.consume(interpreter.evaluate(name, runtimeEnvironment));
+        }
+    }
+
+    // DECISIONSxRULESxDEPTH, 3 columns, a chain of 3 BKMs
+    private SyntheticModelParameters makeParameters() {
+        String[] parts = shape.split("x");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException(String.format("Illegal shape '%s'", shape));
+        }
+        int decisionCount = Integer.parseInt(parts[0]);
+        int ruleCount = Integer.parseInt(parts[1]);
+        int depth = Integer.parseInt(parts[2]);
+        // fanIn = fanOut, all the layers have the width of the input layer
+        int inputCount = Math.max(2, decisionCount / depth);
+        return new SyntheticModelParameters(inputCount, decisionCount, 2, 2, ruleCount, 3, feelShare, 3);
+    }
+
+    private Map<String, String> makeInputParameters() {
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        inputParameters.put("dmnVersion", "1.2");
+        inputParameters.put("modelVersion", "1.0");
+        inputParameters.put("platformVersion", "1.0");
+        inputParameters.put("javaRootPackage", "com.gs.dmn.benchmarks.synthetic");
+        inputParameters.put("caching", "false");
+        return inputParameters;
+    }
+}
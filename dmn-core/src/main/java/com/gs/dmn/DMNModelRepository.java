@@ -12,6 +12,7 @@
  */
 package com.gs.dmn;
 
+import com.gs.dmn.feel.analysis.ASTCache;
 import com.gs.dmn.runtime.DMNRuntimeException;
 import com.gs.dmn.serialization.PrefixNamespaceMappings;
 import com.gs.dmn.transformation.DMNToJavaTransformer;
@@ -36,6 +37,12 @@ public class DMNModelRepository {
 
     private final PrefixNamespaceMappings prefixNamespaceMappings;
 
+    // Index of the DRG elements by id, rebuilt when a lookup misses (e.g. elements added after construction)
+    private volatile Map<String, TDRGElement> elementsById = new HashMap<>();
+
+    // FEEL ASTs parsed ahead of time (e.g. loaded from a snapshot), null when the expressions are parsed on first use
+    private ASTCache astCache;
+
     public DMNModelRepository() {
         this(OBJECT_FACTORY.createTDefinitions(), new PrefixNamespaceMappings() );
     }
@@ -110,6 +117,14 @@ public class DMNModelRepository {
         return prefixNamespaceMappings;
     }
 
+    public ASTCache getASTCache() {
+        return astCache;
+    }
+
+    public void setASTCache(ASTCache astCache) {
+        this.astCache = astCache;
+    }
+
     public List<TDRGElement> drgElements() {
         List<TDRGElement> result = new ArrayList<>();
         for (JAXBElement<? extends TDRGElement> jaxbElement : definitions.getDrgElement()) {
@@ -232,33 +247,25 @@ public class DMNModelRepository {
     }
 
     public TDecision findDecisionById(String href) {
-        for (TDecision decision : decisions()) {
-            if (sameId(decision, href)) {
-                return decision;
-            }
+        TDRGElement element = findDRGElementById(href, TDecision.class);
+        if (element != null) {
+            return (TDecision) element;
         }
         throw new DMNRuntimeException(String.format("Cannot find decision for href='%s'", href));
     }
 
     public TInputData findInputDataById(String href) {
-        for (TInputData inputData : inputDatas()) {
-            if (sameId(inputData, href)) {
-                return inputData;
-            }
+        TDRGElement element = findDRGElementById(href, TInputData.class);
+        if (element != null) {
+            return (TInputData) element;
         }
         throw new DMNRuntimeException(String.format("Cannot find input data for href='%s'", href));
     }
 
     public TInvocable findInvocableById(String href) {
-        for (TBusinessKnowledgeModel knowledgeModel : businessKnowledgeModels()) {
-            if (sameId(knowledgeModel, href)) {
-                return knowledgeModel;
-            }
-        }
-        for (TDecisionService service : decisionServices()) {
-            if (sameId(service, href)) {
-                return service;
-            }
+        TDRGElement element = findDRGElementById(href, TInvocable.class);
+        if (element != null) {
+            return (TInvocable) element;
         }
         throw new DMNRuntimeException(String.format("Cannot find invocable (knowledge model or decision service) for href='%s'", href));
     }
@@ -290,6 +297,29 @@ public class DMNModelRepository {
         throw new DMNRuntimeException(String.format("Cannot find element for href='%s'", href));
     }
 
+    private TDRGElement findDRGElementById(String href, Class<? extends TDRGElement> elementClass) {
+        String id = href.startsWith("#") ? href.substring(1) : href;
+        TDRGElement element = elementsById.get(id);
+        if (element == null) {
+            elementsById = indexDRGElements();
+            element = elementsById.get(id);
+        }
+        return elementClass.isInstance(element) ? element : null;
+    }
+
+    private Map<String, TDRGElement> indexDRGElements() {
+        Map<String, TDRGElement> index = new HashMap<>();
+        if (definitions == null) {
+            return index;
+        }
+        for (TDRGElement element : drgElements()) {
+            if (element.getId() != null) {
+                index.putIfAbsent(element.getId(), element);
+            }
+        }
+        return index;
+    }
+
     public boolean sameId(TDMNElement element, String href) {
         if (href.startsWith("#")) {
             href = href.substring(1);
@@ -317,14 +347,19 @@ public class DMNModelRepository {
 
     public Collection<TDecision> allSubDecisions(TDRGElement element) {
         Set<TDecision> decisions = new LinkedHashSet<>();
-        collectSubDecisions(element, decisions);
+        collectSubDecisions(element, decisions, new HashSet<>());
         return decisions;
     }
 
-    private void collectSubDecisions(TDRGElement element, Collection<TDecision> decisions) {
-        decisions.addAll(directSubDecisions(element));
-        for (TDecision child : directSubDecisions(element)) {
-            collectSubDecisions(child, decisions);
+    // Each element is expanded once, shared sub-graphs would add nothing
+    private void collectSubDecisions(TDRGElement element, Collection<TDecision> decisions, Set<TDRGElement> visited) {
+        if (!visited.add(element)) {
+            return;
+        }
+        List<TDecision> children = directSubDecisions(element);
+        decisions.addAll(children);
+        for (TDecision child : children) {
+            collectSubDecisions(child, decisions, visited);
         }
     }
 
@@ -410,9 +445,16 @@ public class DMNModelRepository {
     }
 
     public void collectInputDatas(TDRGElement element, Set<TInputData> inputDatas) {
+        collectInputDatas(element, inputDatas, new HashSet<>());
+    }
+
+    private void collectInputDatas(TDRGElement element, Set<TInputData> inputDatas, Set<TDRGElement> visited) {
+        if (!visited.add(element)) {
+            return;
+        }
         inputDatas.addAll(directInputDatas(element));
         for (TDecision child : directSubDecisions(element)) {
-            collectInputDatas(child, inputDatas);
+            collectInputDatas(child, inputDatas, visited);
         }
     }
 
@@ -442,24 +484,32 @@ public class DMNModelRepository {
 
     public List<TInvocable> allInvocables(TDRGElement element) {
         Set<TInvocable> result = new LinkedHashSet<>();
-        collectInvocables(element, result);
+        collectInvocables(element, result, new HashSet<>());
         return new ArrayList<>(result);
     }
 
-    private void collectInvocables(TDRGElement element, Set<TInvocable> accumulator) {
-        accumulator.addAll(directSubInvocables(element));
-        for (TDRGElement child : directSubInvocables(element)) {
-            collectInvocables(child, accumulator);
+    private void collectInvocables(TDRGElement element, Set<TInvocable> accumulator, Set<TDRGElement> visited) {
+        if (!visited.add(element)) {
+            return;
+        }
+        List<TInvocable> children = directSubInvocables(element);
+        accumulator.addAll(children);
+        for (TDRGElement child : children) {
+            collectInvocables(child, accumulator, visited);
         }
     }
 
     public List<TDRGElement> allDrgElements(TDRGElement element) {
-        List<TDRGElement> result = new ArrayList<>();
+        Set<TDRGElement> result = new LinkedHashSet<>();
         collectDrgElements(element, result);
-        return result;
+        return new ArrayList<>(result);
     }
 
-    private void collectDrgElements(TDRGElement element, List<TDRGElement> accumulator) {
+    private void collectDrgElements(TDRGElement element, Set<TDRGElement> accumulator) {
+        if (accumulator.contains(element)) {
+            // Already added together with its requirements
+            return;
+        }
         if (element instanceof TInputData) {
             // Add input data
             if (!accumulator.contains(element)) {
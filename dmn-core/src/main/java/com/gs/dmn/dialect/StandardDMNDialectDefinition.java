@@ -51,7 +51,7 @@ public class StandardDMNDialectDefinition extends AbstractDMNDialectDefinition {
     @Override
     public BasicDMN2JavaTransformer createBasicTransformer(DMNModelRepository repository, LazyEvaluationDetector lazyEvaluationDetector, Map<String, String> inputParameters) {
         EnvironmentFactory environmentFactory = createEnvironmentFactory();
-        return new BasicDMN2JavaTransformer(repository, environmentFactory, createTypeTranslator(), lazyEvaluationDetector, inputParameters);
+        return new BasicDMN2JavaTransformer(repository, environmentFactory, createTypeTranslator(), lazyEvaluationDetector, inputParameters, createFEELLib());
     }
 
     private EnvironmentFactory createEnvironmentFactory() {
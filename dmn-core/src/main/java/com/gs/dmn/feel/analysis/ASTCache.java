@@ -0,0 +1,363 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.analysis;
+
+import com.gs.dmn.feel.analysis.semantics.environment.Declaration;
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.semantics.environment.FunctionDeclaration;
+import com.gs.dmn.feel.analysis.semantics.environment.VariableDeclaration;
+import com.gs.dmn.feel.analysis.syntax.ast.CloneVisitor;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Name;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.QualifiedName;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.function.Context;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.function.FunctionDefinition;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.textual.FilterExpression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.textual.ForExpression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.textual.QuantifiedExpression;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Caches the ASTs produced by a FEEL analyzer.
+ *
+ * Parsed ASTs are cached by grammar rule and text; callers always receive a fresh copy, because later phases annotate the nodes.
+ * Analyzed ASTs are cached by grammar rule, text and the shape of the environment, i.e. the identity of the types bound
+ * to the names referenced by the expression and of the input expression type. Expressions with local scopes (e.g. for,
+ * quantified, context, function definitions) or filters are analyzed every time, because the analysis or the code
+ * generation rewrites their nodes.
+ *
+ * The maximum size of each cache is configured via the system property 'jdmn.feel.astCacheSize' (0 disables caching).
+ */
+public class ASTCache {
+    public static final String MAX_SIZE_PROPERTY = "jdmn.feel.astCacheSize";
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    public static int defaultMaxSize() {
+        return Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+    }
+
+    private final int maxSize;
+    private final Map<ParseKey, ParsedEntry> parsedASTs = new ConcurrentHashMap<>();
+    private final Map<AnalysisKey, Expression> analyzedASTs = new ConcurrentHashMap<>();
+
+    private final LongAdder parseHits = new LongAdder();
+    private final LongAdder parseMisses = new LongAdder();
+    private final LongAdder analysisHits = new LongAdder();
+    private final LongAdder analysisMisses = new LongAdder();
+
+    public ASTCache() {
+        this(defaultMaxSize());
+    }
+
+    public ASTCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Expression parse(String rule, String text, Function<String, Expression> parser) {
+        if (text == null || maxSize <= 0) {
+            return parser.apply(text);
+        }
+
+        ParsedEntry entry = lookupParsedEntry(rule, text, parser);
+        if (entry.isShareable()) {
+            return copy(entry.getAST());
+        } else {
+            return parser.apply(text);
+        }
+    }
+
+    public Expression analyze(String rule, String text, FEELContext context, Function<String, Expression> parser, BiFunction<Expression, FEELContext, Expression> analyzer) {
+        if (text == null || maxSize <= 0) {
+            return analyzer.apply(parser.apply(text), context);
+        }
+
+        ParsedEntry entry = lookupParsedEntry(rule, text, parser);
+        if (!entry.isShareable()) {
+            return analyzer.apply(parser.apply(text), context);
+        }
+        Environment environment = context == null ? null : context.getEnvironment();
+        if (!entry.isAnalysisCacheable() || environment == null) {
+            return analyzer.apply(copy(entry.getAST()), context);
+        }
+
+        AnalysisKey key = new AnalysisKey(rule, text, environmentShape(entry.getNames(), environment));
+        Expression result = analyzedASTs.get(key);
+        if (result != null) {
+            analysisHits.increment();
+            return result;
+        }
+        analysisMisses.increment();
+        result = analyzer.apply(copy(entry.getAST()), context);
+        if (result != null) {
+            if (analyzedASTs.size() >= maxSize) {
+                analyzedASTs.clear();
+            }
+            analyzedASTs.put(key, result);
+        }
+        return result;
+    }
+
+    // Adds an AST parsed ahead of time (e.g. loaded from a snapshot)
+    public void putParsed(String rule, String text, Expression ast) {
+        if (text == null || ast == null || maxSize <= 0) {
+            return;
+        }
+        if (parsedASTs.size() >= maxSize) {
+            return;
+        }
+        parsedASTs.put(new ParseKey(rule, text), makeParsedEntry(ast));
+    }
+
+    public int parsedSize() {
+        return parsedASTs.size();
+    }
+
+    public int analyzedSize() {
+        return analyzedASTs.size();
+    }
+
+    public long getParseHitCount() {
+        return parseHits.sum();
+    }
+
+    public long getParseMissCount() {
+        return parseMisses.sum();
+    }
+
+    public long getAnalysisHitCount() {
+        return analysisHits.sum();
+    }
+
+    public long getAnalysisMissCount() {
+        return analysisMisses.sum();
+    }
+
+    public void clear() {
+        parsedASTs.clear();
+        analyzedASTs.clear();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ASTCache(parsed=%d, parseHits=%d, parseMisses=%d, analyzed=%d, analysisHits=%d, analysisMisses=%d)",
+                parsedSize(), getParseHitCount(), getParseMissCount(), analyzedSize(), getAnalysisHitCount(), getAnalysisMissCount());
+    }
+
+    private ParsedEntry lookupParsedEntry(String rule, String text, Function<String, Expression> parser) {
+        ParseKey key = new ParseKey(rule, text);
+        ParsedEntry entry = parsedASTs.get(key);
+        if (entry != null) {
+            parseHits.increment();
+            return entry;
+        }
+        parseMisses.increment();
+        entry = makeParsedEntry(parser.apply(text));
+        if (parsedASTs.size() >= maxSize) {
+            parsedASTs.clear();
+        }
+        parsedASTs.put(key, entry);
+        return entry;
+    }
+
+    private ParsedEntry makeParsedEntry(Expression ast) {
+        ScanVisitor scanner = new ScanVisitor();
+        ast.accept(scanner, null);
+        return new ParsedEntry(ast, scanner.names, scanner.shareable, scanner.analysisCacheable);
+    }
+
+    private Expression copy(Expression ast) {
+        return (Expression) ast.accept(new CloneVisitor(), null);
+    }
+
+    // The analysis depends only on the types declared for the referenced names and on the type of the input expression
+    private List<Object> environmentShape(Set<String> names, Environment environment) {
+        List<Object> shape = new ArrayList<>();
+        shape.add(new IdentityKey(environment.getInputExpressionType()));
+        for (String name : names) {
+            Declaration variableDeclaration = environment.lookupVariableDeclaration(name);
+            if (variableDeclaration instanceof VariableDeclaration) {
+                shape.add(new IdentityKey(((VariableDeclaration) variableDeclaration).getType()));
+            } else {
+                shape.add(null);
+            }
+            for (Declaration functionDeclaration : environment.lookupFunctionDeclaration(name)) {
+                shape.add(new IdentityKey(((FunctionDeclaration) functionDeclaration).getType()));
+            }
+        }
+        return shape;
+    }
+
+    private static class ScanVisitor extends CloneVisitor {
+        private final Set<String> names = new LinkedHashSet<>();
+        private boolean shareable = true;
+        private boolean analysisCacheable = true;
+
+        @Override
+        public Object visit(Name element, FEELContext context) {
+            names.add(element.getName());
+            return element;
+        }
+
+        @Override
+        public Object visit(QualifiedName element, FEELContext context) {
+            names.add(element.getQualifiedName());
+            if (!element.getNames().isEmpty()) {
+                names.add(element.getNames().get(0));
+            }
+            return element;
+        }
+
+        @Override
+        public Object visit(FunctionDefinition element, FEELContext context) {
+            // CloneVisitor does not copy function definitions
+            shareable = false;
+            analysisCacheable = false;
+            return element;
+        }
+
+        @Override
+        public Object visit(FilterExpression element, FEELContext context) {
+            analysisCacheable = false;
+            return super.visit(element, context);
+        }
+
+        @Override
+        public Object visit(ForExpression element, FEELContext context) {
+            analysisCacheable = false;
+            return super.visit(element, context);
+        }
+
+        @Override
+        public Object visit(QuantifiedExpression element, FEELContext context) {
+            analysisCacheable = false;
+            return super.visit(element, context);
+        }
+
+        @Override
+        public Object visit(Context element, FEELContext context) {
+            analysisCacheable = false;
+            return super.visit(element, context);
+        }
+    }
+
+    private static class ParsedEntry {
+        private final Expression ast;
+        private final Set<String> names;
+        private final boolean shareable;
+        private final boolean analysisCacheable;
+
+        ParsedEntry(Expression ast, Set<String> names, boolean shareable, boolean analysisCacheable) {
+            this.ast = ast;
+            this.names = names;
+            this.shareable = shareable;
+            this.analysisCacheable = analysisCacheable;
+        }
+
+        Expression getAST() {
+            return ast;
+        }
+
+        Set<String> getNames() {
+            return names;
+        }
+
+        boolean isShareable() {
+            return shareable;
+        }
+
+        boolean isAnalysisCacheable() {
+            return analysisCacheable;
+        }
+    }
+
+    private static class ParseKey {
+        private final String rule;
+        private final String text;
+
+        ParseKey(String rule, String text) {
+            this.rule = rule;
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ParseKey other = (ParseKey) o;
+            return Objects.equals(rule, other.rule) && Objects.equals(text, other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rule, text);
+        }
+    }
+
+    private static class AnalysisKey {
+        private final String rule;
+        private final String text;
+        private final List<Object> environmentShape;
+
+        AnalysisKey(String rule, String text, List<Object> environmentShape) {
+            this.rule = rule;
+            this.text = text;
+            this.environmentShape = environmentShape;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            AnalysisKey other = (AnalysisKey) o;
+            return Objects.equals(rule, other.rule) && Objects.equals(text, other.text) && Objects.equals(environmentShape, other.environmentShape);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rule, text, environmentShape);
+        }
+    }
+
+    private static class IdentityKey {
+        private final Object object;
+
+        IdentityKey(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+}
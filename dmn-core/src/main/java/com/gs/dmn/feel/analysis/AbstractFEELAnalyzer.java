@@ -13,58 +13,88 @@
 package com.gs.dmn.feel.analysis;
 
 import com.gs.dmn.feel.analysis.semantics.FEELSemanticVisitor;
+import com.gs.dmn.feel.analysis.syntax.ErrorListener;
 import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
 import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.util.function.Function;
 
 abstract class AbstractFEELAnalyzer implements FEELAnalyzer {
     private final BasicDMN2JavaTransformer dmnTransformer;
+    private final Visitor optimizer;
 
     protected AbstractFEELAnalyzer(BasicDMN2JavaTransformer dmnTransformer) {
+        this(dmnTransformer, null);
+    }
+
+    // The optimizer (e.g. ConstantFoldingVisitor) rewrites the AST after the semantic analysis
+    protected AbstractFEELAnalyzer(BasicDMN2JavaTransformer dmnTransformer, Visitor optimizer) {
         this.dmnTransformer = dmnTransformer;
+        this.optimizer = optimizer;
     }
 
     @Override
     public UnaryTests analyzeUnaryTests(String text, FEELContext context) {
-        UnaryTests unaryTests = parseUnaryTests(text);
-        FEELSemanticVisitor visitor = new FEELSemanticVisitor(dmnTransformer);
-        return (UnaryTests) unaryTests.accept(visitor, context);
+        return (UnaryTests) analyze(parseUnaryTests(text), context);
     }
 
     @Override
     public UnaryTests analyzeSimpleUnaryTests(String text, FEELContext context) {
-        UnaryTests unaryTests = parseSimpleUnaryTests(text);
-        FEELSemanticVisitor visitor = new FEELSemanticVisitor(dmnTransformer);
-        return (UnaryTests) unaryTests.accept(visitor, context);
+        return (UnaryTests) analyze(parseSimpleUnaryTests(text), context);
     }
 
     @Override
     public Expression analyzeExpression(String text, FEELContext context) {
-        Expression expression = parseExpression(text);
-        FEELSemanticVisitor visitor = new FEELSemanticVisitor(dmnTransformer);
-        return (Expression) expression.accept(visitor, context);
+        return analyze(parseExpression(text), context);
     }
 
     @Override
     public Expression analyzeSimpleExpressions(String text, FEELContext context) {
-        Expression expression = parseSimpleExpressions(text);
-        FEELSemanticVisitor visitor = new FEELSemanticVisitor(dmnTransformer);
-        return (Expression) expression.accept(visitor, context);
+        return analyze(parseSimpleExpressions(text), context);
     }
 
     @Override
     public Expression analyzeTextualExpressions(String text, FEELContext context) {
-        Expression expression = parseTextualExpressions(text);
-        FEELSemanticVisitor visitor = new FEELSemanticVisitor(dmnTransformer);
-        return (Expression) expression.accept(visitor, context);
+        return analyze(parseTextualExpressions(text), context);
     }
 
     @Override
     public Expression analyzeBoxedExpression(String text, FEELContext context) {
-        Expression expression = parseBoxedExpression(text);
+        return analyze(parseBoxedExpression(text), context);
+    }
+
+    protected Expression analyze(Expression expression, FEELContext context) {
         FEELSemanticVisitor visitor = new FEELSemanticVisitor(dmnTransformer);
-        return (Expression) expression.accept(visitor, context);
+        Expression result = (Expression) expression.accept(visitor, context);
+        if (optimizer != null && result != null) {
+            result = (Expression) result.accept(optimizer, context);
+        }
+        return result;
+    }
+
+    // Two-stage parsing: SLL prediction is much faster and succeeds for almost all inputs; full LL prediction (and the
+    // error reporting) is used only when SLL fails
+    protected <P extends Parser, T> T parse(P parser, Function<P, T> rule) {
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return rule.apply(parser);
+        } catch (ParseCancellationException e) {
+            parser.reset();
+            parser.addErrorListener(new ErrorListener());
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return rule.apply(parser);
+        }
     }
 
     @Override
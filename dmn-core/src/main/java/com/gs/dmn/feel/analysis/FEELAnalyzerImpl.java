@@ -12,10 +12,12 @@
  */
 package com.gs.dmn.feel.analysis;
 
-import com.gs.dmn.feel.analysis.syntax.ErrorListener;
+import com.gs.dmn.feel.analysis.syntax.SimpleUnaryTestsRecognizer;
 import com.gs.dmn.feel.analysis.syntax.antlrv4.FEELLexer;
 import com.gs.dmn.feel.analysis.syntax.antlrv4.FEELParser;
 import com.gs.dmn.feel.analysis.syntax.ast.ASTFactory;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
 import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
@@ -24,44 +26,112 @@ import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 
 public class FEELAnalyzerImpl extends AbstractFEELAnalyzer {
+    public static final String UNARY_TESTS_ROOT = "unaryTestsRoot";
+    public static final String EXPRESSION_ROOT = "expressionRoot";
+
+    private final ASTCache astCache;
+
     public FEELAnalyzerImpl(BasicDMN2JavaTransformer dmnTransformer) {
-        super(dmnTransformer);
+        this(dmnTransformer, new ASTCache());
+    }
+
+    public FEELAnalyzerImpl(BasicDMN2JavaTransformer dmnTransformer, ASTCache astCache) {
+        this(dmnTransformer, astCache, null);
+    }
+
+    public FEELAnalyzerImpl(BasicDMN2JavaTransformer dmnTransformer, ASTCache astCache, Visitor optimizer) {
+        super(dmnTransformer, optimizer);
+        this.astCache = astCache;
+    }
+
+    public ASTCache getASTCache() {
+        return astCache;
+    }
+
+    @Override
+    public UnaryTests analyzeUnaryTests(String text, FEELContext context) {
+        return (UnaryTests) astCache.analyze(UNARY_TESTS_ROOT, text, context, this::unaryTestsRoot, this::analyze);
     }
 
     @Override
     public UnaryTests parseUnaryTests(String text) {
-        FEELParser parser = makeParser(text);
-        return parser.unaryTestsRoot().ast;
+        return (UnaryTests) astCache.parse(UNARY_TESTS_ROOT, text, this::unaryTestsRoot);
+    }
+
+    @Override
+    public UnaryTests analyzeSimpleUnaryTests(String text, FEELContext context) {
+        return (UnaryTests) astCache.analyze("simpleUnaryTests", text, context, this::simpleUnaryTests, this::analyze);
     }
 
     @Override
     public UnaryTests parseSimpleUnaryTests(String text) {
-        FEELParser parser = makeParser(text);
-        return parser.simpleUnaryTests().ast;
+        return (UnaryTests) astCache.parse("simpleUnaryTests", text, this::simpleUnaryTests);
+    }
+
+    @Override
+    public Expression analyzeExpression(String text, FEELContext context) {
+        return astCache.analyze(EXPRESSION_ROOT, text, context, this::expressionRoot, this::analyze);
     }
 
     @Override
     public Expression parseExpression(String text) {
-        FEELParser parser = makeParser(text);
-        return parser.expressionRoot().ast;
+        return astCache.parse(EXPRESSION_ROOT, text, this::expressionRoot);
+    }
+
+    @Override
+    public Expression analyzeSimpleExpressions(String text, FEELContext context) {
+        return astCache.analyze("simpleExpressionsRoot", text, context, this::simpleExpressionsRoot, this::analyze);
     }
 
     @Override
     public Expression parseSimpleExpressions(String text) {
-        FEELParser parser = makeParser(text);
-        return parser.simpleExpressionsRoot().ast;
+        return astCache.parse("simpleExpressionsRoot", text, this::simpleExpressionsRoot);
+    }
+
+    @Override
+    public Expression analyzeTextualExpressions(String text, FEELContext context) {
+        return astCache.analyze("textualExpressionsRoot", text, context, this::textualExpressionsRoot, this::analyze);
     }
 
     @Override
     public Expression parseTextualExpressions(String text) {
-        FEELParser parser = makeParser(text);
-        return parser.textualExpressionsRoot().ast;
+        return astCache.parse("textualExpressionsRoot", text, this::textualExpressionsRoot);
+    }
+
+    @Override
+    public Expression analyzeBoxedExpression(String text, FEELContext context) {
+        return astCache.analyze("boxedExpressionRoot", text, context, this::boxedExpressionRoot, this::analyze);
     }
 
     @Override
     public Expression parseBoxedExpression(String text) {
-        FEELParser parser = makeParser(text);
-        return parser.boxedExpressionRoot().ast;
+        return astCache.parse("boxedExpressionRoot", text, this::boxedExpressionRoot);
+    }
+
+    private Expression unaryTestsRoot(String text) {
+        UnaryTests unaryTests = new SimpleUnaryTestsRecognizer(new ASTFactory()).parseUnaryTests(text);
+        return unaryTests != null ? unaryTests : parse(makeParser(text), p -> p.unaryTestsRoot().ast);
+    }
+
+    private Expression simpleUnaryTests(String text) {
+        UnaryTests unaryTests = new SimpleUnaryTestsRecognizer(new ASTFactory()).parseSimpleUnaryTests(text);
+        return unaryTests != null ? unaryTests : parse(makeParser(text), p -> p.simpleUnaryTests().ast);
+    }
+
+    private Expression expressionRoot(String text) {
+        return parse(makeParser(text), p -> p.expressionRoot().ast);
+    }
+
+    private Expression simpleExpressionsRoot(String text) {
+        return parse(makeParser(text), p -> p.simpleExpressionsRoot().ast);
+    }
+
+    private Expression textualExpressionsRoot(String text) {
+        return parse(makeParser(text), p -> p.textualExpressionsRoot().ast);
+    }
+
+    private Expression boxedExpressionRoot(String text) {
+        return parse(makeParser(text), p -> p.boxedExpressionRoot().ast);
     }
 
     private FEELParser makeParser(String text) {
@@ -71,9 +141,6 @@ public class FEELAnalyzerImpl extends AbstractFEELAnalyzer {
         CharStream cs = CharStreams.fromString(text);
         FEELLexer lexer = new FEELLexer(cs);
         CommonTokenStream tokens = new CommonTokenStream(lexer);
-        FEELParser feelParser = new FEELParser(tokens, new ASTFactory());
-        feelParser.removeErrorListeners();
-        feelParser.addErrorListener(new ErrorListener());
-        return feelParser;
+        return new FEELParser(tokens, new ASTFactory());
     }
 }
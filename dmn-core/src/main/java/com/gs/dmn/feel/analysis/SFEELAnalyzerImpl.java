@@ -12,10 +12,11 @@
  */
 package com.gs.dmn.feel.analysis;
 
-import com.gs.dmn.feel.analysis.syntax.ErrorListener;
+import com.gs.dmn.feel.analysis.syntax.SimpleUnaryTestsRecognizer;
 import com.gs.dmn.feel.analysis.syntax.antlrv4.SFEELLexer;
 import com.gs.dmn.feel.analysis.syntax.antlrv4.SFEELParser;
 import com.gs.dmn.feel.analysis.syntax.ast.ASTFactory;
+import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
 import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
@@ -28,6 +29,10 @@ public class SFEELAnalyzerImpl extends AbstractFEELAnalyzer {
         super(dmnTransformer);
     }
 
+    public SFEELAnalyzerImpl(BasicDMN2JavaTransformer dmnTransformer, Visitor optimizer) {
+        super(dmnTransformer, optimizer);
+    }
+
     @Override
     public UnaryTests parseUnaryTests(String text) {
         throw new UnsupportedOperationException("Not supported");
@@ -35,20 +40,18 @@ public class SFEELAnalyzerImpl extends AbstractFEELAnalyzer {
 
     @Override
     public UnaryTests parseSimpleUnaryTests(String text) {
-        SFEELParser parser = makeParser(text);
-        return parser.simpleUnaryTestsRoot().ast;
+        UnaryTests unaryTests = new SimpleUnaryTestsRecognizer(new ASTFactory()).parseSimpleUnaryTests(text);
+        return unaryTests != null ? unaryTests : parse(makeParser(text), p -> p.simpleUnaryTestsRoot().ast);
     }
 
     @Override
     public Expression parseExpression(String text) {
-        SFEELParser parser = makeParser(text);
-        return parser.expressionRoot().ast;
+        return parse(makeParser(text), p -> p.expressionRoot().ast);
     }
 
     @Override
     public Expression parseSimpleExpressions(String text) {
-        SFEELParser parser = makeParser(text);
-        return parser.simpleExpressionsRoot().ast;
+        return parse(makeParser(text), p -> p.simpleExpressionsRoot().ast);
     }
 
     @Override
@@ -65,9 +68,6 @@ public class SFEELAnalyzerImpl extends AbstractFEELAnalyzer {
         CharStream cs = CharStreams.fromString(text);
         SFEELLexer lexer = new SFEELLexer(cs);
         CommonTokenStream tokens = new CommonTokenStream(lexer);
-        SFEELParser sfeelParser = new SFEELParser(tokens, new ASTFactory());
-        sfeelParser.removeErrorListeners();
-        sfeelParser.addErrorListener(new ErrorListener());
-        return sfeelParser;
+        return new SFEELParser(tokens, new ASTFactory());
     }
 }
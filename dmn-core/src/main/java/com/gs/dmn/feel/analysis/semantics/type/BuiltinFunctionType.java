@@ -31,6 +31,11 @@ public class BuiltinFunctionType extends FunctionType {
     private final boolean hasOptionalParams;
     private final boolean hasVarArgs;
 
+    // Used by DMNSnapshotReader
+    private BuiltinFunctionType() {
+        this(new ArrayList<>(), null);
+    }
+
     public BuiltinFunctionType(Type type, Parameter... parameters) {
         this(Arrays.asList(parameters), type);
     }
@@ -19,6 +19,11 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class DMNFunctionType extends FunctionType {
+    // Used by DMNSnapshotReader
+    private DMNFunctionType() {
+        this(null, null);
+    }
+
     public DMNFunctionType(List<FormalParameter> parameters, Type returnType) {
         super(parameters, returnType);
     }
@@ -49,6 +49,11 @@ public class DateTimeType extends DataType {
                 || other == DATE_TIME_CAMEL;
     }
 
+    // Used by DMNSnapshotReader
+    private DateTimeType() {
+        this(null);
+    }
+
     public DateTimeType(String datetime) {
         super(datetime, "date and time");
     }
@@ -28,6 +28,11 @@ public class DurationType extends DataType {
 
     public static final String CONVERSION_FUNCTION = "duration";
 
+    // Used by DMNSnapshotReader
+    private DurationType() {
+        this(null);
+    }
+
     public DurationType(String name) {
         super(name, CONVERSION_FUNCTION);
     }
@@ -23,6 +23,11 @@ public class FEELFunctionType extends FunctionType {
     private final FunctionDefinition functionDefinition;
     private final boolean external;
 
+    // Used by DMNSnapshotReader
+    private FEELFunctionType() {
+        this(null, null, false);
+    }
+
     public FEELFunctionType(List<FormalParameter> parameters, Type returnType, boolean external) {
         this(parameters, returnType, external, null);
     }
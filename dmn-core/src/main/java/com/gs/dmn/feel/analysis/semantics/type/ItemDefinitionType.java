@@ -21,6 +21,11 @@ public class ItemDefinitionType extends NamedType implements CompositeDataType {
     private final Map<String, Type> members = new LinkedHashMap<>();
     private final Map<String, List<String>> aliases = new LinkedHashMap<>();
 
+    // Used by DMNSnapshotReader
+    private ItemDefinitionType() {
+        this(null);
+    }
+
     public ItemDefinitionType(String name) {
         super(name);
     }
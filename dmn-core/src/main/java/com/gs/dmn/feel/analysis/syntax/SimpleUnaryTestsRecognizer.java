@@ -0,0 +1,304 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.analysis.syntax;
+
+import com.gs.dmn.feel.analysis.syntax.ast.ASTFactory;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.test.PositiveUnaryTests;
+import com.gs.dmn.feel.analysis.syntax.ast.test.SimplePositiveUnaryTests;
+import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hand-written recognizer for the subset of unary tests found in most decision table cells: '-', numeric, string and
+ * boolean literals, comparisons with literals, intervals with literal endpoints, lists of those and their negation
+ * (e.g. '-', '< 590', '[1..10)', '"HIGH", "MEDIUM"', 'not(true)').
+ *
+ * The recognizer builds the same nodes as the ANTLR grammars (FEELParser / SFEELParser), using the same ASTFactory calls.
+ * It returns null for any text outside the subset (including syntax errors); the caller falls back to the ANTLR parser.
+ */
+public class SimpleUnaryTestsRecognizer {
+    private enum TokenType {
+        NUMBER, STRING, TRUE, FALSE, NOT, LT, LE, GT, GE, MINUS, DOT_DOT, COMMA, PAREN_OPEN, PAREN_CLOSE, BRACKET_OPEN, BRACKET_CLOSE, EOF
+    }
+
+    private static class Token {
+        private final TokenType type;
+        private final String text;
+
+        Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+    }
+
+    private final ASTFactory astFactory;
+
+    private List<Token> tokens;
+    private int position;
+
+    public SimpleUnaryTestsRecognizer(ASTFactory astFactory) {
+        this.astFactory = astFactory;
+    }
+
+    // Same result as FEELParser.unaryTestsRoot()
+    public UnaryTests parseUnaryTests(String text) {
+        return parse(text, false);
+    }
+
+    // Same result as FEELParser.simpleUnaryTests() and SFEELParser.simpleUnaryTestsRoot()
+    public UnaryTests parseSimpleUnaryTests(String text) {
+        return parse(text, true);
+    }
+
+    private UnaryTests parse(String text, boolean simple) {
+        if (text == null) {
+            return null;
+        }
+        this.tokens = tokenize(text);
+        this.position = 0;
+        if (tokens == null) {
+            return null;
+        }
+        UnaryTests result = unaryTests(simple);
+        if (result == null || peek() != TokenType.EOF) {
+            return null;
+        }
+        return result;
+    }
+
+    //
+    // Parser
+    //
+    private UnaryTests unaryTests(boolean simple) {
+        if (peek() == TokenType.MINUS && peek(1) == TokenType.EOF) {
+            next();
+            return astFactory.toAny();
+        } else if (peek() == TokenType.NOT) {
+            next();
+            if (!accept(TokenType.PAREN_OPEN)) {
+                return null;
+            }
+            List<Expression> tests = positiveUnaryTests();
+            if (tests == null || !accept(TokenType.PAREN_CLOSE)) {
+                return null;
+            }
+            return simple ? astFactory.toNegatedSimpleUnaryTests(astFactory.toSimplePositiveUnaryTests(tests)) : astFactory.toNegatedUnaryTests(astFactory.toPositiveUnaryTests(tests));
+        } else {
+            List<Expression> tests = positiveUnaryTests();
+            if (tests == null) {
+                return null;
+            }
+            return simple ? toSimplePositiveUnaryTests(tests) : toPositiveUnaryTests(tests);
+        }
+    }
+
+    private SimplePositiveUnaryTests toSimplePositiveUnaryTests(List<Expression> tests) {
+        return astFactory.toSimplePositiveUnaryTests(tests);
+    }
+
+    private PositiveUnaryTests toPositiveUnaryTests(List<Expression> tests) {
+        List<Expression> positiveUnaryTests = new ArrayList<>();
+        for (Expression test : tests) {
+            positiveUnaryTests.add(astFactory.toPositiveUnaryTest(test));
+        }
+        return astFactory.toPositiveUnaryTests(positiveUnaryTests);
+    }
+
+    private List<Expression> positiveUnaryTests() {
+        List<Expression> tests = new ArrayList<>();
+        do {
+            Expression test = positiveUnaryTest();
+            if (test == null) {
+                return null;
+            }
+            tests.add(test);
+        } while (accept(TokenType.COMMA));
+        return tests;
+    }
+
+    private Expression positiveUnaryTest() {
+        TokenType type = peek();
+        if (type == TokenType.LT || type == TokenType.LE || type == TokenType.GT || type == TokenType.GE) {
+            String operator = next().text;
+            Expression endpoint = endpoint();
+            return endpoint == null ? null : astFactory.toOperatorTest(operator, endpoint);
+        } else if (type == TokenType.PAREN_OPEN || type == TokenType.BRACKET_OPEN || type == TokenType.BRACKET_CLOSE) {
+            return interval();
+        } else {
+            Expression endpoint = endpoint();
+            return endpoint == null ? null : astFactory.toOperatorTest(null, endpoint);
+        }
+    }
+
+    private Expression interval() {
+        String leftPar = next().text;
+        Expression start = endpoint();
+        if (start == null || !accept(TokenType.DOT_DOT)) {
+            return null;
+        }
+        Expression end = endpoint();
+        TokenType type = peek();
+        if (end == null || !(type == TokenType.PAREN_CLOSE || type == TokenType.BRACKET_OPEN || type == TokenType.BRACKET_CLOSE)) {
+            return null;
+        }
+        String rightPar = next().text;
+        return astFactory.toIntervalTest(leftPar, start, rightPar, end);
+    }
+
+    private Expression endpoint() {
+        if (accept(TokenType.MINUS)) {
+            // Only negative numbers, other negations are left to the grammar
+            if (peek() != TokenType.NUMBER) {
+                return null;
+            }
+            return astFactory.toNegation("-", astFactory.toNumericLiteral(next().text));
+        }
+        switch (peek()) {
+            case NUMBER:
+                return astFactory.toNumericLiteral(next().text);
+            case STRING:
+                return astFactory.toStringLiteral(next().text);
+            case TRUE:
+            case FALSE:
+                return astFactory.toBooleanLiteral(next().text);
+            default:
+                return null;
+        }
+    }
+
+    private TokenType peek() {
+        return peek(0);
+    }
+
+    private TokenType peek(int offset) {
+        int index = Math.min(position + offset, tokens.size() - 1);
+        return tokens.get(index).type;
+    }
+
+    private Token next() {
+        Token token = tokens.get(position);
+        if (token.type != TokenType.EOF) {
+            position++;
+        }
+        return token;
+    }
+
+    private boolean accept(TokenType type) {
+        if (peek() == type) {
+            next();
+            return true;
+        }
+        return false;
+    }
+
+    //
+    // Lexer
+    //
+    private static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char ch = text.charAt(i);
+            if (ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r') {
+                i++;
+            } else if (isDigit(ch) || (ch == '.' && i + 1 < length && isDigit(text.charAt(i + 1)))) {
+                int start = i;
+                while (i < length && isDigit(text.charAt(i))) {
+                    i++;
+                }
+                if (i + 1 < length && text.charAt(i) == '.' && isDigit(text.charAt(i + 1))) {
+                    i++;
+                    while (i < length && isDigit(text.charAt(i))) {
+                        i++;
+                    }
+                }
+                tokens.add(new Token(TokenType.NUMBER, text.substring(start, i)));
+            } else if (ch == '"') {
+                int start = i++;
+                while (i < length && text.charAt(i) != '"') {
+                    char c = text.charAt(i);
+                    // Escapes and line breaks are left to the grammar
+                    if (c == '\\' || c == '\n' || c == '\r' || c == '\u000B' || c == '\u000C') {
+                        return null;
+                    }
+                    i++;
+                }
+                if (i == length) {
+                    return null;
+                }
+                i++;
+                tokens.add(new Token(TokenType.STRING, text.substring(start, i)));
+            } else if (ch == '<' || ch == '>') {
+                if (i + 1 < length && text.charAt(i + 1) == '=') {
+                    tokens.add(new Token(ch == '<' ? TokenType.LE : TokenType.GE, text.substring(i, i + 2)));
+                    i += 2;
+                } else {
+                    tokens.add(new Token(ch == '<' ? TokenType.LT : TokenType.GT, text.substring(i, i + 1)));
+                    i++;
+                }
+            } else if (ch == '.' && i + 1 < length && text.charAt(i + 1) == '.') {
+                tokens.add(new Token(TokenType.DOT_DOT, ".."));
+                i += 2;
+            } else if (ch == '-') {
+                tokens.add(new Token(TokenType.MINUS, "-"));
+                i++;
+            } else if (ch == ',') {
+                tokens.add(new Token(TokenType.COMMA, ","));
+                i++;
+            } else if (ch == '(') {
+                tokens.add(new Token(TokenType.PAREN_OPEN, "("));
+                i++;
+            } else if (ch == ')') {
+                tokens.add(new Token(TokenType.PAREN_CLOSE, ")"));
+                i++;
+            } else if (ch == '[') {
+                tokens.add(new Token(TokenType.BRACKET_OPEN, "["));
+                i++;
+            } else if (ch == ']') {
+                tokens.add(new Token(TokenType.BRACKET_CLOSE, "]"));
+                i++;
+            } else if (text.startsWith("true", i) && isKeywordEnd(text, i + 4)) {
+                tokens.add(new Token(TokenType.TRUE, "true"));
+                i += 4;
+            } else if (text.startsWith("false", i) && isKeywordEnd(text, i + 5)) {
+                tokens.add(new Token(TokenType.FALSE, "false"));
+                i += 5;
+            } else if (text.startsWith("not", i) && isKeywordEnd(text, i + 3)) {
+                tokens.add(new Token(TokenType.NOT, "not"));
+                i += 3;
+            } else {
+                // Names, other operators, comments, other white spaces
+                return null;
+            }
+        }
+        tokens.add(new Token(TokenType.EOF, "<EOF>"));
+        return tokens;
+    }
+
+    private static boolean isDigit(char ch) {
+        return '0' <= ch && ch <= '9';
+    }
+
+    // Keywords followed by a name character are names
+    private static boolean isKeywordEnd(String text, int index) {
+        if (index >= text.length()) {
+            return true;
+        }
+        char ch = text.charAt(index);
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r' || ch == ',' || ch == '(' || ch == ')' || ch == '[' || ch == ']';
+    }
+}
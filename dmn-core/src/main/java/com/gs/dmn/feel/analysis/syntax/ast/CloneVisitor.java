@@ -92,11 +92,7 @@ public class CloneVisitor extends AbstractVisitor {
     public Object visit(RangeTest element, FEELContext context) {
         Expression start = (Expression) element.getStart().accept(this, context);
         Expression end = (Expression) element.getEnd().accept(this, context);
-        return astFactory.toIntervalTest(par(element.isOpenStart()), start, par(element.isOpenEnd()), end);
-    }
-
-    private String par(boolean isOpen) {
-        return isOpen ? "(" : "]";
+        return astFactory.toIntervalTest(element.isOpenStart() ? "(" : "[", start, element.isOpenEnd() ? ")" : "]", end);
     }
 
     @Override
@@ -187,7 +183,7 @@ public class CloneVisitor extends AbstractVisitor {
     @Override
     public Object visit(InstanceOfExpression element, FEELContext context) {
         Expression value = (Expression) element.getValue().accept(this, context);
-        QualifiedName qName = (QualifiedName) element.getQTypeName().accept(this, context);
+        QualifiedName qName = new QualifiedName(element.getQTypeName().getNames());
         return astFactory.toInstanceOf(value, qName);
     }
 
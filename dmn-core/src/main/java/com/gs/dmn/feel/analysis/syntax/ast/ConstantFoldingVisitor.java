@@ -0,0 +1,429 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.analysis.syntax.ast;
+
+import com.gs.dmn.feel.analysis.semantics.type.*;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.OperatorDecisionTable;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Addition;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.ArithmeticExpression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.ArithmeticNegation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Exponentiation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Multiplication;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.comparison.Relational;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.BooleanLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.DateTimeLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.NumericLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.StringLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.logic.Conjunction;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.logic.Disjunction;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.logic.LogicNegation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.textual.IfExpression;
+import com.gs.dmn.feel.analysis.syntax.ast.test.*;
+import com.gs.dmn.feel.lib.FEELLib;
+import com.gs.dmn.feel.lib.StringEscapeUtil;
+import com.gs.dmn.feel.synthesis.JavaOperator;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.feel.lib.StringUtil;
+import org.apache.commons.lang3.reflect.MethodUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Folds the constant sub-expressions of an analyzed AST: arithmetic, comparisons, string concatenation, date and
+ * duration arithmetic over literals, negations and the dead branches of if / and / or.
+ *
+ * Constants are evaluated directly with the dialect FEELLib, resolving the operators as the interpreter does, so the
+ * folded literals have the exact semantics of the runtime and no interpreter is needed. A sub-expression is folded only
+ * when its value converts back to a literal of the same type and value; otherwise the sub-expression is left unchanged.
+ * Nodes not handled here (e.g. function invocations, contexts, lists, iterations, filters) and their children are left
+ * unchanged.
+ *
+ * The interpreter and the code generator fold the same way, only the defaults differ: the interpreter folds constants
+ * unless the system property 'jdmn.feel.constantFolding' is 'false'; the code generator folds only when the input
+ * parameter 'constantFolding' is 'true', so that the generated code does not change by default.
+ */
+public class ConstantFoldingVisitor extends NopVisitor {
+    public static final String ENABLED_PROPERTY = "jdmn.feel.constantFolding";
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    }
+
+    private final FEELLib<?, ?, ?, ?, ?> lib;
+
+    public ConstantFoldingVisitor(FEELLib<?, ?, ?, ?, ?> lib) {
+        this.lib = lib;
+    }
+
+    //
+    // Tests
+    //
+    @Override
+    public Object visit(PositiveUnaryTests element, FEELContext context) {
+        List<PositiveUnaryTest> tests = element.getPositiveUnaryTests();
+        List<PositiveUnaryTest> newTests = new ArrayList<>();
+        boolean changed = false;
+        for (PositiveUnaryTest test : tests) {
+            PositiveUnaryTest newTest = (PositiveUnaryTest) test.accept(this, context);
+            changed |= newTest != test;
+            newTests.add(newTest);
+        }
+        return changed ? withType(new PositiveUnaryTests(newTests), element) : element;
+    }
+
+    @Override
+    public Object visit(NegatedPositiveUnaryTests element, FEELContext context) {
+        PositiveUnaryTests tests = element.getPositiveUnaryTests();
+        PositiveUnaryTests newTests = (PositiveUnaryTests) tests.accept(this, context);
+        return newTests != tests ? withType(new NegatedPositiveUnaryTests(newTests), element) : element;
+    }
+
+    @Override
+    public Object visit(SimplePositiveUnaryTests element, FEELContext context) {
+        List<SimplePositiveUnaryTest> tests = element.getSimplePositiveUnaryTests();
+        List<SimplePositiveUnaryTest> newTests = new ArrayList<>();
+        boolean changed = false;
+        for (SimplePositiveUnaryTest test : tests) {
+            SimplePositiveUnaryTest newTest = (SimplePositiveUnaryTest) test.accept(this, context);
+            changed |= newTest != test;
+            newTests.add(newTest);
+        }
+        return changed ? withType(new SimplePositiveUnaryTests(newTests), element) : element;
+    }
+
+    @Override
+    public Object visit(NegatedSimplePositiveUnaryTests element, FEELContext context) {
+        SimplePositiveUnaryTests tests = element.getSimplePositiveUnaryTests();
+        SimplePositiveUnaryTests newTests = (SimplePositiveUnaryTests) tests.accept(this, context);
+        return newTests != tests ? withType(new NegatedSimplePositiveUnaryTests(newTests), element) : element;
+    }
+
+    @Override
+    public Object visit(ExpressionTest element, FEELContext context) {
+        Expression expression = element.getExpression();
+        Expression newExpression = fold(expression, context);
+        return newExpression != expression ? withType(new ExpressionTest(newExpression), element) : element;
+    }
+
+    @Override
+    public Object visit(OperatorTest element, FEELContext context) {
+        Expression endpoint = element.getEndpoint();
+        Expression newEndpoint = fold(endpoint, context);
+        return newEndpoint != endpoint ? withType(new OperatorTest(element.getOperator(), newEndpoint), element) : element;
+    }
+
+    @Override
+    public Object visit(RangeTest element, FEELContext context) {
+        Expression start = element.getStart();
+        Expression end = element.getEnd();
+        Expression newStart = fold(start, context);
+        Expression newEnd = fold(end, context);
+        if (newStart != start || newEnd != end) {
+            return withType(new RangeTest(element.isOpenStart(), newStart, element.isOpenEnd(), newEnd), element);
+        } else {
+            return element;
+        }
+    }
+
+    //
+    // Textual expressions
+    //
+    @Override
+    public Object visit(IfExpression element, FEELContext context) {
+        Expression condition = fold(element.getCondition(), context);
+        Expression thenExpression = fold(element.getThenExpression(), context);
+        Expression elseExpression = fold(element.getElseExpression(), context);
+        if (condition instanceof BooleanLiteral) {
+            Expression branch = isTrue(condition) ? thenExpression : elseExpression;
+            if (sameType(branch, element)) {
+                return branch;
+            }
+        }
+        if (condition != element.getCondition() || thenExpression != element.getThenExpression() || elseExpression != element.getElseExpression()) {
+            return withType(new IfExpression(condition, thenExpression, elseExpression), element);
+        } else {
+            return element;
+        }
+    }
+
+    //
+    // Logic expressions
+    //
+    @Override
+    public Object visit(Disjunction element, FEELContext context) {
+        Expression left = fold(element.getLeftOperand(), context);
+        Expression right = fold(element.getRightOperand(), context);
+        // true or x = true, false or x = x (for boolean x)
+        if (isTrue(left)) {
+            return left;
+        } else if (isTrue(right)) {
+            return right;
+        } else if (isFalse(left) && isBoolean(right)) {
+            return right;
+        } else if (isFalse(right) && isBoolean(left)) {
+            return left;
+        }
+        return rebuild(element, element.getLeftOperand(), element.getRightOperand(), left, right, () -> new Disjunction(left, right));
+    }
+
+    @Override
+    public Object visit(Conjunction element, FEELContext context) {
+        Expression left = fold(element.getLeftOperand(), context);
+        Expression right = fold(element.getRightOperand(), context);
+        // false and x = false, true and x = x (for boolean x)
+        if (isFalse(left)) {
+            return left;
+        } else if (isFalse(right)) {
+            return right;
+        } else if (isTrue(left) && isBoolean(right)) {
+            return right;
+        } else if (isTrue(right) && isBoolean(left)) {
+            return left;
+        }
+        return rebuild(element, element.getLeftOperand(), element.getRightOperand(), left, right, () -> new Conjunction(left, right));
+    }
+
+    @Override
+    public Object visit(LogicNegation element, FEELContext context) {
+        Expression operand = fold(element.getLeftOperand(), context);
+        Expression result = operand != element.getLeftOperand() ? withType(new LogicNegation(operand), element) : element;
+        return isConstant(operand) ? evaluate(result) : result;
+    }
+
+    //
+    // Comparison expressions
+    //
+    @Override
+    public Object visit(Relational element, FEELContext context) {
+        Expression left = fold(element.getLeftOperand(), context);
+        Expression right = fold(element.getRightOperand(), context);
+        return rebuild(element, element.getLeftOperand(), element.getRightOperand(), left, right, () -> new Relational(element.getOperator(), left, right));
+    }
+
+    //
+    // Arithmetic expressions
+    //
+    @Override
+    public Object visit(Addition element, FEELContext context) {
+        Expression left = fold(element.getLeftOperand(), context);
+        Expression right = fold(element.getRightOperand(), context);
+        return rebuild(element, element.getLeftOperand(), element.getRightOperand(), left, right, () -> new Addition(element.getOperator(), left, right));
+    }
+
+    @Override
+    public Object visit(Multiplication element, FEELContext context) {
+        Expression left = fold(element.getLeftOperand(), context);
+        Expression right = fold(element.getRightOperand(), context);
+        return rebuild(element, element.getLeftOperand(), element.getRightOperand(), left, right, () -> new Multiplication(element.getOperator(), left, right));
+    }
+
+    @Override
+    public Object visit(Exponentiation element, FEELContext context) {
+        Expression left = fold(element.getLeftOperand(), context);
+        Expression right = fold(element.getRightOperand(), context);
+        return rebuild(element, element.getLeftOperand(), element.getRightOperand(), left, right, () -> new Exponentiation(left, right));
+    }
+
+    @Override
+    public Object visit(ArithmeticNegation element, FEELContext context) {
+        Expression operand = element.getLeftOperand();
+        if (operand instanceof NumericLiteral) {
+            // Already a constant
+            return element;
+        }
+        Expression newOperand = fold(operand, context);
+        Expression result = newOperand != operand ? withType(new ArithmeticNegation(newOperand), element) : element;
+        return isConstant(newOperand) ? evaluate(result) : result;
+    }
+
+    private Expression fold(Expression expression, FEELContext context) {
+        return (Expression) expression.accept(this, context);
+    }
+
+    // Rebuilds a binary node when an operand changed and evaluates it when both operands are constant
+    private Expression rebuild(Expression element, Expression oldLeft, Expression oldRight, Expression left, Expression right, Supplier<Expression> factory) {
+        Expression result = left != oldLeft || right != oldRight ? withType(factory.get(), element) : element;
+        return isConstant(left) && isConstant(right) ? evaluate(result) : result;
+    }
+
+    // Returns the literal for the value of a constant expression or the expression itself
+    private Expression evaluate(Expression expression) {
+        try {
+            Object value = value(expression);
+            Expression literal = toLiteral(value, expression.getType());
+            if (literal != null && literal.getType() != null && literal.getType().equivalentTo(expression.getType()) && sameValue(value, value(literal))) {
+                return literal;
+            }
+        } catch (Exception e) {
+            // Leave the errors to the runtime
+        }
+        return expression;
+    }
+
+    // Value of a literal or of an operator applied to literals
+    private Object value(Expression expression) throws ReflectiveOperationException {
+        if (expression instanceof NumericLiteral) {
+            return lib.number(((NumericLiteral) expression).getLexeme());
+        } else if (expression instanceof StringLiteral) {
+            return StringEscapeUtil.unescapeFEEL(((StringLiteral) expression).getLexeme());
+        } else if (expression instanceof BooleanLiteral) {
+            return Boolean.parseBoolean(((BooleanLiteral) expression).getLexeme());
+        } else if (expression instanceof DateTimeLiteral) {
+            return dateTimeValue((DateTimeLiteral) expression);
+        } else if (expression instanceof ArithmeticNegation) {
+            return invoke("numericUnaryMinus", value(((ArithmeticNegation) expression).getLeftOperand()));
+        } else if (expression instanceof LogicNegation) {
+            return invoke("booleanNot", value(((LogicNegation) expression).getLeftOperand()));
+        } else if (expression instanceof ArithmeticExpression) {
+            ArithmeticExpression binary = (ArithmeticExpression) expression;
+            return binaryValue(binary.getOperator(), binary.getLeftOperand(), binary.getRightOperand());
+        } else if (expression instanceof Relational) {
+            Relational binary = (Relational) expression;
+            return binaryValue(binary.getOperator(), binary.getLeftOperand(), binary.getRightOperand());
+        } else {
+            throw new DMNRuntimeException(String.format("Cannot fold '%s'", expression));
+        }
+    }
+
+    private Object dateTimeValue(DateTimeLiteral element) {
+        Type type = element.getType();
+        String literal = StringUtil.stripQuotes(element.getLexeme());
+        if (type == DateType.DATE) {
+            return lib.date(literal);
+        } else if (type == TimeType.TIME) {
+            return lib.time(literal);
+        } else if (type == DateTimeType.DATE_AND_TIME) {
+            return lib.dateAndTime(literal);
+        } else if (type == DurationType.DAYS_AND_TIME_DURATION || type == DurationType.YEARS_AND_MONTHS_DURATION) {
+            return lib.duration(literal);
+        } else {
+            throw new DMNRuntimeException(String.format("Illegal date time literal '%s'", element));
+        }
+    }
+
+    private Object binaryValue(String operator, Expression leftOperand, Expression rightOperand) throws ReflectiveOperationException {
+        JavaOperator javaOperator = OperatorDecisionTable.javaOperator(operator, leftOperand.getType(), rightOperand.getType());
+        if (javaOperator == null || javaOperator.getCardinality() != 2 || javaOperator.getNotation() != JavaOperator.Notation.FUNCTIONAL) {
+            throw new DMNRuntimeException(String.format("Cannot fold operator '%s'", operator));
+        }
+        Object leftValue = value(leftOperand);
+        Object rightValue = value(rightOperand);
+        if (javaOperator.getAssociativity() == JavaOperator.Associativity.LEFT_RIGHT) {
+            return invoke(javaOperator.getName(), leftValue, rightValue);
+        } else {
+            return invoke(javaOperator.getName(), rightValue, leftValue);
+        }
+    }
+
+    private Object invoke(String methodName, Object... arguments) throws ReflectiveOperationException {
+        return MethodUtils.invokeMethod(lib, methodName, arguments);
+    }
+
+    private Expression toLiteral(Object value, Type type) {
+        Expression literal = null;
+        if (value == null) {
+            return null;
+        } else if (type == NumberType.NUMBER) {
+            BigDecimal number;
+            if (value instanceof BigDecimal) {
+                number = (BigDecimal) value;
+            } else if (value instanceof Double && !((Double) value).isNaN() && !((Double) value).isInfinite()) {
+                number = BigDecimal.valueOf((Double) value);
+            } else {
+                return null;
+            }
+            if (number.signum() < 0) {
+                NumericLiteral operand = new NumericLiteral(number.negate().toPlainString());
+                operand.deriveType(null);
+                literal = new ArithmeticNegation(operand);
+            } else {
+                literal = new NumericLiteral(number.toPlainString());
+            }
+        } else if (type == StringType.STRING && value instanceof String) {
+            String text = (String) value;
+            if (!isPlainString(text)) {
+                return null;
+            }
+            literal = new StringLiteral("\"" + text + "\"");
+        } else if (type == BooleanType.BOOLEAN && value instanceof Boolean) {
+            literal = new BooleanLiteral(value.toString());
+        } else if (type instanceof DateType || type instanceof TimeType || type instanceof DateTimeType || type instanceof DurationType) {
+            String text = lib.string(value);
+            if (!isPlainString(text)) {
+                return null;
+            }
+            literal = new DateTimeLiteral(((DataType) type).getConversionFunction(), "\"" + text + "\"");
+        }
+        if (literal != null) {
+            literal.deriveType(null);
+        }
+        return literal;
+    }
+
+    private boolean isPlainString(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '"' || ch == '\\' || ch < ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean sameValue(Object value, Object otherValue) {
+        if (value == null || otherValue == null) {
+            return false;
+        } else if (value instanceof Comparable && value.getClass() == otherValue.getClass()) {
+            return ((Comparable<Object>) value).compareTo(otherValue) == 0;
+        } else {
+            return value.equals(otherValue);
+        }
+    }
+
+    private boolean isConstant(Expression expression) {
+        return expression instanceof NumericLiteral
+                || expression instanceof StringLiteral
+                || expression instanceof BooleanLiteral
+                || expression instanceof DateTimeLiteral
+                || expression instanceof ArithmeticNegation && ((ArithmeticNegation) expression).getLeftOperand() instanceof NumericLiteral;
+    }
+
+    private boolean isTrue(Expression expression) {
+        return expression instanceof BooleanLiteral && "true".equals(((BooleanLiteral) expression).getLexeme());
+    }
+
+    private boolean isFalse(Expression expression) {
+        return expression instanceof BooleanLiteral && "false".equals(((BooleanLiteral) expression).getLexeme());
+    }
+
+    private boolean isBoolean(Expression expression) {
+        return expression.getType() == BooleanType.BOOLEAN;
+    }
+
+    private boolean sameType(Expression expression, Expression other) {
+        return expression.getType() != null && other.getType() != null && expression.getType().equivalentTo(other.getType());
+    }
+
+    private <T extends Expression> T withType(T expression, Expression original) {
+        expression.setType(original.getType());
+        return expression;
+    }
+}
@@ -13,6 +13,7 @@
 package com.gs.dmn.feel.analysis.syntax.ast;
 
 import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Name;
 import com.gs.dmn.runtime.DMNRuntimeException;
 import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
 
@@ -44,6 +45,25 @@ public class FEELContext {
         return runtimeEnvironment.lookupBinding(variableName);
     }
 
+    // Resolves the name once and reuses its coordinate while the shape of the runtime environment does not change
+    public Object lookupRuntimeBinding(Name name) {
+        if (runtimeEnvironment == null) {
+            throw new DMNRuntimeException("Missing runtime environment");
+        }
+        String variableName = name.getName();
+        int coordinate = name.getRuntimeCoordinate();
+        if (!runtimeEnvironment.isResolvedAt(variableName, coordinate)) {
+            coordinate = runtimeEnvironment.resolve(variableName);
+            if (coordinate == RuntimeEnvironment.NOT_FOUND) {
+                return null;
+            } else if (coordinate == RuntimeEnvironment.NOT_ADDRESSABLE) {
+                return runtimeEnvironment.lookupBinding(variableName);
+            }
+            name.setRuntimeCoordinate(coordinate);
+        }
+        return runtimeEnvironment.lookupBinding(coordinate);
+    }
+
     public void runtimeBind(String variableName, Object value) {
         if (runtimeEnvironment == null) {
             throw new DMNRuntimeException("Missing runtime environment");
@@ -21,6 +21,11 @@ public class ExpressionIteratorDomain extends IteratorDomain {
     private final Expression expression;
     private Type type;
 
+    // Used by DMNSnapshotReader
+    private ExpressionIteratorDomain() {
+        this(null);
+    }
+
     public ExpressionIteratorDomain(Expression expression) {
         this.expression = expression;
     }
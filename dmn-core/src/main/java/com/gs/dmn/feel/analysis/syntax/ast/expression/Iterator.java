@@ -20,6 +20,11 @@ public class Iterator extends Element {
     private final String name;
     private final IteratorDomain domain;
 
+    // Used by DMNSnapshotReader
+    private Iterator() {
+        this(null, null);
+    }
+
     public Iterator(String name, IteratorDomain domain) {
         this.name = name;
         this.domain = domain;
@@ -17,6 +17,13 @@ import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 
 public class Name extends NamedExpression {
     private String name;
+    // Coordinate of the runtime binding found by the last evaluation, checked before use
+    private int runtimeCoordinate = -1;
+
+    // Used by DMNSnapshotReader
+    private Name() {
+        this(null);
+    }
 
     public Name(String name) {
         this.name = name;
@@ -29,6 +36,15 @@ public class Name extends NamedExpression {
 
     public void setName(String name) {
         this.name = name;
+        this.runtimeCoordinate = -1;
+    }
+
+    public int getRuntimeCoordinate() {
+        return runtimeCoordinate;
+    }
+
+    public void setRuntimeCoordinate(int runtimeCoordinate) {
+        this.runtimeCoordinate = runtimeCoordinate;
     }
 
     @Override
@@ -21,6 +21,11 @@ public class PathExpression extends Expression {
     private final Expression source;
     private final String member;
 
+    // Used by DMNSnapshotReader
+    private PathExpression() {
+        this(null, null);
+    }
+
     public PathExpression(Expression source, String member) {
         this.source = source;
         this.member = member;
@@ -22,6 +22,11 @@ import java.util.stream.Collectors;
 public class QualifiedName extends NamedExpression {
     private List<String> names = new ArrayList<>();
 
+    // Used by DMNSnapshotReader
+    private QualifiedName() {
+        this(null);
+    }
+
     public QualifiedName(List<String> names) {
         if (names != null) {
             this.names = names;
@@ -23,6 +23,11 @@ public class RangeIteratorDomain extends IteratorDomain {
     private final Expression end;
     private Type type;
 
+    // Used by DMNSnapshotReader
+    private RangeIteratorDomain() {
+        this(null, null);
+    }
+
     public RangeIteratorDomain(Expression start, Expression end) {
         this.start = start;
         this.end = end;
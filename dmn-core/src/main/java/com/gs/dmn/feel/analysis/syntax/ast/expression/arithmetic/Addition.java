@@ -20,6 +20,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
 
 public class Addition extends ArithmeticExpression {
+    // Used by DMNSnapshotReader
+    private Addition() {
+        this(null, null, null);
+    }
+
     public Addition(String operator, Expression leftOperand, Expression rightOperand) {
         super(operator, leftOperand, rightOperand);
     }
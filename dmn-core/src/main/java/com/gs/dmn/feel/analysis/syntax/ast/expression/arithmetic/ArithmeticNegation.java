@@ -22,6 +22,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
 
 public class ArithmeticNegation extends ArithmeticExpression {
+    // Used by DMNSnapshotReader
+    private ArithmeticNegation() {
+        this(null);
+    }
+
     public ArithmeticNegation(Expression leftOperand) {
         super("-", leftOperand, null);
     }
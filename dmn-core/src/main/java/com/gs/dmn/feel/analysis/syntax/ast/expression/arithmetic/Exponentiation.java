@@ -20,6 +20,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
 
 public class Exponentiation extends ArithmeticExpression {
+    // Used by DMNSnapshotReader
+    private Exponentiation() {
+        this(null, null);
+    }
+
     public Exponentiation(Expression leftOperand, Expression rightOperand) {
         super("**", leftOperand, rightOperand);
     }
@@ -20,6 +20,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
 
 public class Multiplication extends ArithmeticExpression {
+    // Used by DMNSnapshotReader
+    private Multiplication() {
+        this(null, null, null);
+    }
+
     public Multiplication(String operator, Expression leftOperand, Expression rightOperand) {
         super(operator, leftOperand, rightOperand);
     }
@@ -23,6 +23,11 @@ public class BetweenExpression extends Comparison {
     private final Expression leftEndpoint;
     private final Expression rightEndpoint;
 
+    // Used by DMNSnapshotReader
+    private BetweenExpression() {
+        this(null, null, null);
+    }
+
     public BetweenExpression(Expression value, Expression leftEndpoint, Expression rightEndpoint) {
         this.value = value;
         this.leftEndpoint = leftEndpoint;
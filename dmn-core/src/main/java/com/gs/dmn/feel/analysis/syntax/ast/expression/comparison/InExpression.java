@@ -29,6 +29,11 @@ public class InExpression extends Comparison {
     private final Expression value;
     private final List<PositiveUnaryTest> tests = new ArrayList<>();
 
+    // Used by DMNSnapshotReader
+    private InExpression() {
+        this(null, (PositiveUnaryTests) null);
+    }
+
     public InExpression(Expression value, PositiveUnaryTest test) {
         this.value = value;
         if (test != null) {
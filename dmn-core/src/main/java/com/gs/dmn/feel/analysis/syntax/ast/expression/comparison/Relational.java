@@ -24,6 +24,11 @@ public class Relational extends Comparison {
     private final Expression leftOperand;
     private final Expression rightOperand;
 
+    // Used by DMNSnapshotReader
+    private Relational() {
+        this(null, null, null);
+    }
+
     public Relational(String operator, Expression leftOperand, Expression rightOperand) {
         this.operator = operator;
         this.leftOperand = leftOperand;
@@ -27,6 +27,11 @@ import java.util.stream.Collectors;
 public class Context extends Expression {
     private final List<ContextEntry> entries = new ArrayList<>();
 
+    // Used by DMNSnapshotReader
+    private Context() {
+        this(null);
+    }
+
     public Context(List<ContextEntry> entries) {
         if (entries != null) {
             this.entries.addAll(entries);
@@ -21,6 +21,11 @@ public class ContextEntry extends Element {
     private final ContextEntryKey key;
     private final Expression expression;
 
+    // Used by DMNSnapshotReader
+    private ContextEntry() {
+        this(null, null);
+    }
+
     public ContextEntry(ContextEntryKey key, Expression expression) {
         this.key = key;
         this.expression = expression;
@@ -19,6 +19,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 public class ContextEntryKey extends Element {
     private final String key;
 
+    // Used by DMNSnapshotReader
+    private ContextEntryKey() {
+        this("");
+    }
+
     public ContextEntryKey(String key) {
         // Remove quotes from key if key is string
         if (key.startsWith("\"") && key.endsWith("\"")) {
@@ -23,6 +23,11 @@ public class FormalParameter extends Element {
     private String typeName;
     protected Type type;
 
+    // Used by DMNSnapshotReader
+    private FormalParameter() {
+        this(null, (String) null);
+    }
+
     public FormalParameter(String name, String typeName) {
         this.name = name;
         this.typeName = typeName;
@@ -27,6 +27,11 @@ public class FunctionDefinition extends Expression {
     private final List<FormalParameter> formalParameters;
     private final Expression body;
 
+    // Used by DMNSnapshotReader
+    private FunctionDefinition() {
+        this(null, null, false);
+    }
+
     public FunctionDefinition(List<FormalParameter> formalParameters, Expression body, boolean external) {
         this.formalParameters = formalParameters;
         this.body = body;
@@ -31,6 +31,11 @@ public class FunctionInvocation extends Expression {
     private final Parameters parameters;
     private List<Conversion> parameterConversions;
 
+    // Used by DMNSnapshotReader
+    private FunctionInvocation() {
+        this(null, null);
+    }
+
     public FunctionInvocation(Expression function, Parameters parameters) {
         this.function = function;
         this.parameters = parameters;
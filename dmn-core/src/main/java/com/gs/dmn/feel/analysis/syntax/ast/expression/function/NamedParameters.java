@@ -24,6 +24,11 @@ import java.util.stream.Collectors;
 public class NamedParameters extends Parameters {
     private final Map<String, Expression> parameters;
 
+    // Used by DMNSnapshotReader
+    private NamedParameters() {
+        this(null);
+    }
+
     public NamedParameters(Map<String, Expression> params) {
         this.parameters = params;
     }
@@ -23,6 +23,11 @@ import java.util.stream.Collectors;
 public class NamedSignature extends Signature {
     private final Map<String, Type> namedTypes;
 
+    // Used by DMNSnapshotReader
+    private NamedSignature() {
+        this(null);
+    }
+
     public NamedSignature(Map<String, Type> namedTypes) {
         this.namedTypes = namedTypes;
     }
@@ -23,6 +23,11 @@ import java.util.stream.Collectors;
 public class PositionalParameters extends Parameters {
     private final List<Expression> parameters = new ArrayList<>();
 
+    // Used by DMNSnapshotReader
+    private PositionalParameters() {
+        this(null);
+    }
+
     public PositionalParameters(List<Expression> parameters) {
         if (parameters != null) {
             this.parameters.addAll(parameters);
@@ -22,6 +22,11 @@ import java.util.stream.Collectors;
 public class PositionalSignature extends Signature {
     private final List<Type> types = new ArrayList<>();
 
+    // Used by DMNSnapshotReader
+    private PositionalSignature() {
+        this(null);
+    }
+
     public PositionalSignature(List<Type> types) {
         if (types != null) {
             this.types.addAll(types);
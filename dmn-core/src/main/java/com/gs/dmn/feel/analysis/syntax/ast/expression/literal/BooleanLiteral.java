@@ -18,6 +18,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
 import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 
 public class BooleanLiteral extends SimpleLiteral {
+    // Used by DMNSnapshotReader
+    private BooleanLiteral() {
+        this(null);
+    }
+
     public BooleanLiteral(String value) {
         super(value);
     }
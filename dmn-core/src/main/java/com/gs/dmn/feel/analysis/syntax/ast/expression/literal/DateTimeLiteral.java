@@ -29,6 +29,11 @@ public class DateTimeLiteral extends SimpleLiteral {
 
     private final String conversionFunction;
 
+    // Used by DMNSnapshotReader
+    private DateTimeLiteral() {
+        this(null, null);
+    }
+
     public DateTimeLiteral(String conversionFunction, String lexeme) {
         super(lexeme);
         this.conversionFunction = conversionFunction;
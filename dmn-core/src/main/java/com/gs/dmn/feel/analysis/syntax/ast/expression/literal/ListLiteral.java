@@ -27,6 +27,11 @@ import java.util.stream.Collectors;
 public class ListLiteral extends Expression {
     private final List<Expression> expressionList = new ArrayList<>();
 
+    // Used by DMNSnapshotReader
+    private ListLiteral() {
+        this(null);
+    }
+
     public ListLiteral(List<Expression> expressionList) {
         if (expressionList != null) {
             this.expressionList.addAll(expressionList);
@@ -18,6 +18,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
 import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 
 public class NumericLiteral extends SimpleLiteral {
+    // Used by DMNSnapshotReader
+    private NumericLiteral() {
+        this(null);
+    }
+
     public NumericLiteral(String value) {
         super(value);
     }
@@ -18,6 +18,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
 import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 
 public class StringLiteral extends SimpleLiteral {
+    // Used by DMNSnapshotReader
+    private StringLiteral() {
+        this(null);
+    }
+
     public StringLiteral(String value) {
         super(value);
     }
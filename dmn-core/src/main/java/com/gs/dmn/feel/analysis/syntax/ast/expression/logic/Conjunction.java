@@ -17,6 +17,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 
 public class Conjunction extends LogicExpression {
+    // Used by DMNSnapshotReader
+    private Conjunction() {
+        this(null, null);
+    }
+
     public Conjunction(Expression leftOperand, Expression rightOperand) {
         super("and", leftOperand, rightOperand);
     }
@@ -17,6 +17,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 
 public class Disjunction extends LogicExpression {
+    // Used by DMNSnapshotReader
+    private Disjunction() {
+        this(null, null);
+    }
+
     public Disjunction(Expression leftOperand, Expression rightOperand) {
         super("or", leftOperand, rightOperand);
     }
@@ -20,6 +20,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import static com.gs.dmn.feel.analysis.semantics.type.BooleanType.BOOLEAN;
 
 public class LogicNegation extends LogicExpression {
+    // Used by DMNSnapshotReader
+    private LogicNegation() {
+        this(null);
+    }
+
     public LogicNegation(Expression operand) {
         super("not", operand, null);
     }
@@ -30,6 +30,11 @@ public class FilterExpression extends Expression {
     private final Expression source;
     private Expression filter;
 
+    // Used by DMNSnapshotReader
+    private FilterExpression() {
+        this(null, null);
+    }
+
     public FilterExpression(Expression source, Expression filter) {
         this.source = source;
         this.filter = filter;
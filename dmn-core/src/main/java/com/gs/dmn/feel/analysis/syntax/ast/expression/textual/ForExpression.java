@@ -29,6 +29,11 @@ public class ForExpression extends Expression {
     private final List<Iterator> iterators;
     private final Expression body;
 
+    // Used by DMNSnapshotReader
+    private ForExpression() {
+        this(null, null);
+    }
+
     public ForExpression(List<Iterator> iterators, Expression body) {
         this.iterators = iterators;
         this.body = body;
@@ -27,6 +27,11 @@ public class IfExpression extends Expression {
     private final Expression thenExpression;
     private final Expression elseExpression;
 
+    // Used by DMNSnapshotReader
+    private IfExpression() {
+        this(null, null, null);
+    }
+
     public IfExpression(Expression condition, Expression thenExpression, Expression elseExpression) {
         this.condition = condition;
         this.thenExpression = thenExpression;
@@ -24,6 +24,11 @@ public class InstanceOfExpression extends Expression {
     private final Expression value;
     private final QualifiedName qTypeName;
 
+    // Used by DMNSnapshotReader
+    private InstanceOfExpression() {
+        this(null, null);
+    }
+
     public InstanceOfExpression(Expression value, QualifiedName expressionType) {
         this.value = value;
         this.qTypeName = expressionType;
@@ -26,6 +26,11 @@ public class QuantifiedExpression extends Expression {
     private final List<Iterator> iterators;
     private final Expression body;
 
+    // Used by DMNSnapshotReader
+    private QuantifiedExpression() {
+        this(null, null, null);
+    }
+
     public QuantifiedExpression(String predicate, List<Iterator> iterators, Expression body) {
         this.predicate = predicate;
         this.iterators = iterators;
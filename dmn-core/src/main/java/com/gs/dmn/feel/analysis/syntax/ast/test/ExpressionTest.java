@@ -24,6 +24,11 @@ import com.gs.dmn.runtime.DMNRuntimeException;
 public class ExpressionTest extends PositiveUnaryTest {
     private final Expression expression;
 
+    // Used by DMNSnapshotReader
+    private ExpressionTest() {
+        this(null);
+    }
+
     public ExpressionTest(Expression expression) {
         this.expression = expression;
     }
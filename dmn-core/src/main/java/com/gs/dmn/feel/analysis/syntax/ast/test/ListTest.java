@@ -29,6 +29,11 @@ import static com.gs.dmn.feel.analysis.semantics.type.BooleanType.BOOLEAN;
 public class ListTest extends SimplePositiveUnaryTest {
     private final ListLiteral listLiteral;
 
+    // Used by DMNSnapshotReader
+    private ListTest() {
+        this(null);
+    }
+
     public ListTest(ListLiteral listLiteral) {
         this.listLiteral = listLiteral;
     }
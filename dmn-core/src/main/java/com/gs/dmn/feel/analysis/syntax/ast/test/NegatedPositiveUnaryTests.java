@@ -24,6 +24,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 public class NegatedPositiveUnaryTests extends UnaryTests {
     private final PositiveUnaryTests positiveUnaryTests;
 
+    // Used by DMNSnapshotReader
+    private NegatedPositiveUnaryTests() {
+        this(null);
+    }
+
     public NegatedPositiveUnaryTests(PositiveUnaryTests positiveUnaryTests) {
         this.positiveUnaryTests = positiveUnaryTests;
     }
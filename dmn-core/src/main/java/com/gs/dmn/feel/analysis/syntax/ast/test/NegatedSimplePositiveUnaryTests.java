@@ -23,6 +23,11 @@ import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 public class NegatedSimplePositiveUnaryTests extends SimpleUnaryTests {
     private final SimplePositiveUnaryTests simplePositiveUnaryTests;
 
+    // Used by DMNSnapshotReader
+    private NegatedSimplePositiveUnaryTests() {
+        this(null);
+    }
+
     public NegatedSimplePositiveUnaryTests(SimplePositiveUnaryTests simplePositiveUnaryTests) {
         this.simplePositiveUnaryTests = simplePositiveUnaryTests;
     }
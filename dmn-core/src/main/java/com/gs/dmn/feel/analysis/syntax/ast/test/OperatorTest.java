@@ -26,6 +26,11 @@ public class OperatorTest extends SimplePositiveUnaryTest {
     private final String operator;
     private final Expression endpoint;
 
+    // Used by DMNSnapshotReader
+    private OperatorTest() {
+        this(null, null);
+    }
+
     public OperatorTest(String operator, Expression endpoint) {
         this.operator = operator;
         this.endpoint = endpoint;
@@ -26,6 +26,11 @@ import java.util.stream.Collectors;
 public class PositiveUnaryTests extends UnaryTests {
     private List<PositiveUnaryTest> positiveUnaryTests = new ArrayList<>();
 
+    // Used by DMNSnapshotReader
+    private PositiveUnaryTests() {
+        this(null);
+    }
+
     public PositiveUnaryTests(List<PositiveUnaryTest> positiveUnaryTests) {
         if (positiveUnaryTests != null) {
             this.positiveUnaryTests = positiveUnaryTests;
@@ -25,6 +25,11 @@ public class RangeTest extends SimplePositiveUnaryTest {
     private final boolean openEnd;
     private final Expression end;
 
+    // Used by DMNSnapshotReader
+    private RangeTest() {
+        this(false, null, false, null);
+    }
+
     public RangeTest(boolean isOpenStart, Expression start, boolean isOpenEnd, Expression end) {
         this.openStart = isOpenStart;
         this.start = start;
@@ -26,6 +26,11 @@ import java.util.stream.Collectors;
 public class SimplePositiveUnaryTests extends SimpleUnaryTests {
     private List<SimplePositiveUnaryTest> simplePositiveUnaryTests = new ArrayList<>();
 
+    // Used by DMNSnapshotReader
+    private SimplePositiveUnaryTests() {
+        this(null);
+    }
+
     public SimplePositiveUnaryTests(List<SimplePositiveUnaryTest> simplePositiveUnaryTests) {
         if (simplePositiveUnaryTests != null) {
             this.simplePositiveUnaryTests = simplePositiveUnaryTests;
@@ -13,12 +13,22 @@
 package com.gs.dmn.feel.interpreter;
 
 import com.gs.dmn.feel.analysis.FEELAnalyzer;
+import com.gs.dmn.feel.analysis.syntax.ast.ConstantFoldingVisitor;
 import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
 import com.gs.dmn.runtime.interpreter.DMNInterpreter;
 
 abstract class AbstractFEELInterpreter implements FEELInterpreter {
+    // Constants are evaluated with the same FEELLib as the rest of the expressions
+    protected static Visitor makeOptimizer(DMNInterpreter dmnInterpreter) {
+        if (!ConstantFoldingVisitor.isEnabled()) {
+            return null;
+        }
+        return new ConstantFoldingVisitor(dmnInterpreter.getFeelLib());
+    }
+
     private final FEELAnalyzer feelAnalyzer;
     private final FEELInterpreterVisitor visitor;
 
@@ -12,11 +12,22 @@
  */
 package com.gs.dmn.feel.interpreter;
 
+import com.gs.dmn.feel.analysis.ASTCache;
 import com.gs.dmn.feel.analysis.FEELAnalyzerImpl;
 import com.gs.dmn.runtime.interpreter.DMNInterpreter;
 
 public class FEELInterpreterImpl extends AbstractFEELInterpreter {
     public FEELInterpreterImpl(DMNInterpreter dmnInterpreter) {
-        super(dmnInterpreter, new FEELAnalyzerImpl(dmnInterpreter.getBasicDMNTransformer()));
+        this(dmnInterpreter, makeASTCache(dmnInterpreter));
+    }
+
+    public FEELInterpreterImpl(DMNInterpreter dmnInterpreter, ASTCache astCache) {
+        super(dmnInterpreter, new FEELAnalyzerImpl(dmnInterpreter.getBasicDMNTransformer(), astCache, makeOptimizer(dmnInterpreter)));
+    }
+
+    // Shares the ASTs parsed ahead of time with the model (the cache is thread-safe)
+    private static ASTCache makeASTCache(DMNInterpreter dmnInterpreter) {
+        ASTCache astCache = dmnInterpreter.getBasicDMNTransformer().getDMNModelRepository().getASTCache();
+        return astCache != null ? astCache : new ASTCache();
     }
 }
@@ -1130,8 +1130,7 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
 
     @Override
     public Object visit(Name element, FEELContext context) {
-        String variableName = element.getName();
-        return context.lookupRuntimeBinding(variableName);
+        return context.lookupRuntimeBinding(element);
     }
 
     private void handleError(String message) {
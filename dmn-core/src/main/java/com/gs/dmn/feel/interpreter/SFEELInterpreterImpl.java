@@ -17,6 +17,6 @@ import com.gs.dmn.runtime.interpreter.DMNInterpreter;
 
 public class SFEELInterpreterImpl extends AbstractFEELInterpreter {
     public SFEELInterpreterImpl(DMNInterpreter dmnInterpreter) {
-        super(dmnInterpreter, new SFEELAnalyzerImpl(dmnInterpreter.getBasicDMNTransformer()));
+        super(dmnInterpreter, new SFEELAnalyzerImpl(dmnInterpreter.getBasicDMNTransformer(), makeOptimizer(dmnInterpreter)));
     }
 }
@@ -28,8 +28,13 @@ public abstract class BaseFEELLib<NUMBER, DATE, TIME, DATE_TIME, DURATION> imple
     protected final DurationType<DURATION, NUMBER> durationType;
     protected final ListType listType;
     protected final ContextType contextType;
+    protected final ConversionCaches<NUMBER, DATE, TIME, DATE_TIME, DURATION> conversionCaches;
 
     public BaseFEELLib(NumericType<NUMBER> numericType, BooleanType booleanType, StringType stringType, DateType<DATE, DURATION> dateType, TimeType<TIME, DURATION> timeType, DateTimeType<DATE_TIME, DURATION> dateTimeType, DurationType<DURATION, NUMBER> durationType, ListType listType, ContextType contextType) {
+        this(numericType, booleanType, stringType, dateType, timeType, dateTimeType, durationType, listType, contextType, new ConversionCaches<>(0));
+    }
+
+    public BaseFEELLib(NumericType<NUMBER> numericType, BooleanType booleanType, StringType stringType, DateType<DATE, DURATION> dateType, TimeType<TIME, DURATION> timeType, DateTimeType<DATE_TIME, DURATION> dateTimeType, DurationType<DURATION, NUMBER> durationType, ListType listType, ContextType contextType, ConversionCaches<NUMBER, DATE, TIME, DATE_TIME, DURATION> conversionCaches) {
         this.numericType = numericType;
         this.booleanType = booleanType;
         this.stringType = stringType;
@@ -39,6 +44,11 @@ public abstract class BaseFEELLib<NUMBER, DATE, TIME, DATE_TIME, DURATION> imple
         this.durationType = durationType;
         this.listType = listType;
         this.contextType = contextType;
+        this.conversionCaches = conversionCaches;
+    }
+
+    public ConversionCaches<NUMBER, DATE, TIME, DATE_TIME, DURATION> getConversionCaches() {
+        return conversionCaches;
     }
 
     //
@@ -0,0 +1,105 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded, thread-safe cache for the results of the conversion functions (e.g. number(String), date(String)).
+ * Invalid literals (null results) are not cached. When the cache is full it is cleared.
+ * Mutable values are copied by the provided copier before being returned.
+ */
+public class ConversionCache<T> {
+    private final String name;
+    private final int maxSize;
+    private final UnaryOperator<T> copier;
+    private final Map<String, T> values;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public ConversionCache(String name, int maxSize) {
+        this(name, maxSize, UnaryOperator.identity());
+    }
+
+    public ConversionCache(String name, int maxSize, UnaryOperator<T> copier) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.copier = copier;
+        this.values = new ConcurrentHashMap<>();
+    }
+
+    public T lookup(String literal, Function<String, T> converter) {
+        if (literal == null || maxSize <= 0) {
+            return converter.apply(literal);
+        }
+
+        T value = values.get(literal);
+        if (value != null) {
+            hitCount.increment();
+            return copier.apply(value);
+        }
+
+        missCount.increment();
+        value = converter.apply(literal);
+        if (value != null) {
+            if (values.size() >= maxSize) {
+                values.clear();
+            }
+            values.put(literal, value);
+            value = copier.apply(value);
+        }
+        return value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public void clear() {
+        values.clear();
+        hitCount.reset();
+        missCount.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(size=%d, hits=%d, misses=%d)", name, size(), getHitCount(), getMissCount());
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caches for the conversion functions of a FEEL library. One instance is shared by all the instances of a dialect library.
+ * The maximum size of each cache is configured via the system property 'jdmn.feel.conversionCacheSize' (0 disables caching).
+ */
+public class ConversionCaches<NUMBER, DATE, TIME, DATE_TIME, DURATION> {
+    public static final String MAX_SIZE_PROPERTY = "jdmn.feel.conversionCacheSize";
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    public static int defaultMaxSize() {
+        return Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE);
+    }
+
+    private final ConversionCache<NUMBER> numberCache;
+    private final ConversionCache<DATE> dateCache;
+    private final ConversionCache<TIME> timeCache;
+    private final ConversionCache<DATE_TIME> dateTimeCache;
+    private final ConversionCache<DURATION> durationCache;
+
+    public ConversionCaches() {
+        this(defaultMaxSize());
+    }
+
+    public ConversionCaches(int maxSize) {
+        this(maxSize, UnaryOperator.identity(), UnaryOperator.identity(), UnaryOperator.identity());
+    }
+
+    public ConversionCaches(int maxSize, UnaryOperator<DATE> dateCopier, UnaryOperator<TIME> timeCopier, UnaryOperator<DATE_TIME> dateTimeCopier) {
+        this.numberCache = new ConversionCache<>("number", maxSize);
+        this.dateCache = new ConversionCache<>("date", maxSize, dateCopier);
+        this.timeCache = new ConversionCache<>("time", maxSize, timeCopier);
+        this.dateTimeCache = new ConversionCache<>("date and time", maxSize, dateTimeCopier);
+        this.durationCache = new ConversionCache<>("duration", maxSize);
+    }
+
+    public ConversionCache<NUMBER> getNumberCache() {
+        return numberCache;
+    }
+
+    public ConversionCache<DATE> getDateCache() {
+        return dateCache;
+    }
+
+    public ConversionCache<TIME> getTimeCache() {
+        return timeCache;
+    }
+
+    public ConversionCache<DATE_TIME> getDateTimeCache() {
+        return dateTimeCache;
+    }
+
+    public ConversionCache<DURATION> getDurationCache() {
+        return durationCache;
+    }
+
+    public List<ConversionCache<?>> getCaches() {
+        return Arrays.asList(numberCache, dateCache, timeCache, dateTimeCache, durationCache);
+    }
+
+    public void clear() {
+        for (ConversionCache<?> cache : getCaches()) {
+            cache.clear();
+        }
+    }
+}
@@ -33,6 +33,10 @@ import java.util.*;
 public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar, XMLGregorianCalendar, XMLGregorianCalendar, Duration> implements StandardFEELLib<BigDecimal, XMLGregorianCalendar, XMLGregorianCalendar, XMLGregorianCalendar, Duration> {
     public static final DatatypeFactory DATA_TYPE_FACTORY = XMLDatataypeFactory.newInstance();
 
+    private static final ConversionCaches<BigDecimal, XMLGregorianCalendar, XMLGregorianCalendar, XMLGregorianCalendar, Duration> CONVERSION_CACHES = new ConversionCaches<>(
+            ConversionCaches.defaultMaxSize(),
+            c -> (XMLGregorianCalendar) c.clone(), c -> (XMLGregorianCalendar) c.clone(), c -> (XMLGregorianCalendar) c.clone());
+
     public DefaultFEELLib() {
         super(new DefaultNumericType(LOGGER),
                 new DefaultBooleanType(LOGGER),
@@ -42,7 +46,8 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
                 new DefaultDateTimeType(LOGGER, DATA_TYPE_FACTORY),
                 new DefaultDurationType(LOGGER),
                 new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
+                new DefaultContextType(LOGGER),
+                CONVERSION_CACHES
         );
     }
 
@@ -52,6 +57,10 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
 
     @Override
     public BigDecimal number(String literal) {
+        return conversionCaches.getNumberCache().lookup(literal, this::parseNumber);
+    }
+
+    protected BigDecimal parseNumber(String literal) {
         if (StringUtils.isBlank(literal)) {
             return null;
         }
@@ -112,6 +121,10 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
 
     @Override
     public XMLGregorianCalendar date(String literal) {
+        return conversionCaches.getDateCache().lookup(literal, this::parseDate);
+    }
+
+    protected XMLGregorianCalendar parseDate(String literal) {
         if (StringUtils.isBlank(literal)) {
             return null;
         }
@@ -149,6 +162,10 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
 
     @Override
     public XMLGregorianCalendar time(String literal) {
+        return conversionCaches.getTimeCache().lookup(literal, this::parseTime);
+    }
+
+    protected XMLGregorianCalendar parseTime(String literal) {
         if (literal == null) {
             return null;
         }
@@ -219,6 +236,10 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
 
     @Override
     public XMLGregorianCalendar dateAndTime(String literal) {
+        return conversionCaches.getDateTimeCache().lookup(literal, this::parseDateAndTime);
+    }
+
+    protected XMLGregorianCalendar parseDateAndTime(String literal) {
         if (literal == null) {
             return null;
         }
@@ -253,6 +274,10 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
 
     @Override
     public Duration duration(String from) {
+        return conversionCaches.getDurationCache().lookup(from, this::parseDuration);
+    }
+
+    protected Duration parseDuration(String from) {
         if (StringUtils.isBlank(from)) {
             return null;
         }
@@ -35,6 +35,8 @@ import java.util.List;
 public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, OffsetTime, ZonedDateTime, Duration> implements StandardFEELLib<Double, LocalDate, OffsetTime, ZonedDateTime, Duration> {
     private static final DatatypeFactory DATA_TYPE_FACTORY = XMLDatataypeFactory.newInstance();
 
+    private static final ConversionCaches<Double, LocalDate, OffsetTime, ZonedDateTime, Duration> CONVERSION_CACHES = new ConversionCaches<>();
+
     public DoubleMixedJavaTimeFEELLib() {
         super(new DoubleNumericType(LOGGER),
                 new DefaultBooleanType(LOGGER),
@@ -44,7 +46,8 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
                 new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY),
                 new DoubleDefaultDurationType(LOGGER),
                 new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
+                new DefaultContextType(LOGGER),
+                CONVERSION_CACHES
         );
     }
 
@@ -54,6 +57,10 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
 
     @Override
     public Double number(String literal) {
+        return conversionCaches.getNumberCache().lookup(literal, this::parseNumber);
+    }
+
+    protected Double parseNumber(String literal) {
         if (StringUtils.isBlank(literal)) {
             return null;
         }
@@ -107,6 +114,10 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
 
     @Override
     public LocalDate date(String literal) {
+        return conversionCaches.getDateCache().lookup(literal, this::parseDate);
+    }
+
+    protected LocalDate parseDate(String literal) {
         try {
             if (literal == null) {
                 return null;
@@ -152,6 +163,10 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
 
     @Override
     public OffsetTime time(String literal) {
+        return conversionCaches.getTimeCache().lookup(literal, this::parseTime);
+    }
+
+    protected OffsetTime parseTime(String literal) {
         if (literal == null) {
             return null;
         }
@@ -220,6 +235,10 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
 
     @Override
     public ZonedDateTime dateAndTime(String from) {
+        return conversionCaches.getDateTimeCache().lookup(from, this::parseDateAndTime);
+    }
+
+    protected ZonedDateTime parseDateAndTime(String from) {
         if (from == null) {
             return null;
         }
@@ -265,6 +284,10 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
 
     @Override
     public Duration duration(String from) {
+        return conversionCaches.getDurationCache().lookup(from, this::parseDuration);
+    }
+
+    protected Duration parseDuration(String from) {
         if (StringUtils.isBlank(from)) {
             return null;
         }
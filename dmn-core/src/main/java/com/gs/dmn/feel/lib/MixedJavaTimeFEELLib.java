@@ -36,6 +36,8 @@ import java.util.List;
 public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, OffsetTime, ZonedDateTime, Duration> implements StandardFEELLib<BigDecimal, LocalDate, OffsetTime, ZonedDateTime, Duration> {
     private static final DatatypeFactory DATA_TYPE_FACTORY = XMLDatataypeFactory.newInstance();
 
+    private static final ConversionCaches<BigDecimal, LocalDate, OffsetTime, ZonedDateTime, Duration> CONVERSION_CACHES = new ConversionCaches<>();
+
     public MixedJavaTimeFEELLib() {
         super(new DefaultNumericType(LOGGER),
                 new DefaultBooleanType(LOGGER),
@@ -45,7 +47,8 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
                 new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY),
                 new DefaultDurationType(LOGGER),
                 new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
+                new DefaultContextType(LOGGER),
+                CONVERSION_CACHES
         );
     }
 
@@ -55,6 +58,10 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
 
     @Override
     public BigDecimal number(String literal) {
+        return conversionCaches.getNumberCache().lookup(literal, this::parseNumber);
+    }
+
+    protected BigDecimal parseNumber(String literal) {
         if (StringUtils.isBlank(literal)) {
             return null;
         }
@@ -108,6 +115,10 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
 
     @Override
     public LocalDate date(String literal) {
+        return conversionCaches.getDateCache().lookup(literal, this::parseDate);
+    }
+
+    protected LocalDate parseDate(String literal) {
         try {
             if (literal == null) {
                 return null;
@@ -153,6 +164,10 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
 
     @Override
     public OffsetTime time(String literal) {
+        return conversionCaches.getTimeCache().lookup(literal, this::parseTime);
+    }
+
+    protected OffsetTime parseTime(String literal) {
         if (literal == null) {
             return null;
         }
@@ -221,6 +236,10 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
 
     @Override
     public ZonedDateTime dateAndTime(String from) {
+        return conversionCaches.getDateTimeCache().lookup(from, this::parseDateAndTime);
+    }
+
+    protected ZonedDateTime parseDateAndTime(String from) {
         if (from == null) {
             return null;
         }
@@ -266,6 +285,10 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
 
     @Override
     public Duration duration(String from) {
+        return conversionCaches.getDurationCache().lookup(from, this::parseDuration);
+    }
+
+    protected Duration parseDuration(String from) {
         if (StringUtils.isBlank(from)) {
             return null;
         }
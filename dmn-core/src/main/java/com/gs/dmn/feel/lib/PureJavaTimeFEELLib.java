@@ -27,6 +27,8 @@ import java.time.temporal.*;
 import java.util.*;
 
 public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Temporal, Temporal, TemporalAmount> implements StandardFEELLib<BigDecimal, LocalDate, Temporal, Temporal, TemporalAmount> {
+    private static final ConversionCaches<BigDecimal, LocalDate, Temporal, Temporal, TemporalAmount> CONVERSION_CACHES = new ConversionCaches<>();
+
     public PureJavaTimeFEELLib() {
         super(new DefaultNumericType(LOGGER),
                 new DefaultBooleanType(LOGGER),
@@ -36,7 +38,8 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Temp
                 new TemporalDateTimeType(LOGGER),
                 new TemporalAmountDurationType(LOGGER),
                 new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
+                new DefaultContextType(LOGGER),
+                CONVERSION_CACHES
         );
     }
 
@@ -46,6 +49,10 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Temp
 
     @Override
     public BigDecimal number(String literal) {
+        return conversionCaches.getNumberCache().lookup(literal, this::parseNumber);
+    }
+
+    protected BigDecimal parseNumber(String literal) {
         if (StringUtils.isBlank(literal)) {
             return null;
         }
@@ -99,6 +106,10 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Temp
 
     @Override
     public LocalDate date(String literal) {
+        return conversionCaches.getDateCache().lookup(literal, this::parseDate);
+    }
+
+    protected LocalDate parseDate(String literal) {
         try {
             if (literal == null) {
                 return null;
@@ -142,6 +153,10 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Temp
 
     @Override
     public Temporal time(String literal) {
+        return conversionCaches.getTimeCache().lookup(literal, this::parseTime);
+    }
+
+    protected Temporal parseTime(String literal) {
         if (literal == null) {
             return null;
         }
@@ -211,6 +226,10 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Temp
 
     @Override
     public Temporal dateAndTime(String literal) {
+        return conversionCaches.getDateTimeCache().lookup(literal, this::parseDateAndTime);
+    }
+
+    protected Temporal parseDateAndTime(String literal) {
         if (StringUtils.isBlank(literal)) {
             return null;
         }
@@ -247,6 +266,10 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Temp
 
     @Override
     public TemporalAmount duration(String from) {
+        return conversionCaches.getDurationCache().lookup(from, this::parseDuration);
+    }
+
+    protected TemporalAmount parseDuration(String from) {
         if (StringUtils.isBlank(from)) {
             return null;
         }
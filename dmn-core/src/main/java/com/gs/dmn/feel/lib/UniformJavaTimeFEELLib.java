@@ -36,6 +36,8 @@ import java.util.List;
 public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTime, ZonedDateTime, ZonedDateTime, Duration> implements StandardFEELLib<BigDecimal, ZonedDateTime, ZonedDateTime, ZonedDateTime, Duration> {
     private static final DatatypeFactory DATA_TYPE_FACTORY = XMLDatataypeFactory.newInstance();
 
+    private static final ConversionCaches<BigDecimal, ZonedDateTime, ZonedDateTime, ZonedDateTime, Duration> CONVERSION_CACHES = new ConversionCaches<>();
+
     public UniformJavaTimeFEELLib() {
         super(new DefaultNumericType(LOGGER),
                 new DefaultBooleanType(LOGGER),
@@ -45,7 +47,8 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
                 new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY),
                 new DefaultDurationType(LOGGER),
                 new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
+                new DefaultContextType(LOGGER),
+                CONVERSION_CACHES
         );
     }
 
@@ -55,6 +58,10 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
 
     @Override
     public BigDecimal number(String literal) {
+        return conversionCaches.getNumberCache().lookup(literal, this::parseNumber);
+    }
+
+    protected BigDecimal parseNumber(String literal) {
         if (StringUtils.isBlank(literal)) {
             return null;
         }
@@ -108,6 +115,10 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
 
     @Override
     public ZonedDateTime date(String literal) {
+        return conversionCaches.getDateCache().lookup(literal, this::parseDate);
+    }
+
+    protected ZonedDateTime parseDate(String literal) {
         try {
             if (literal == null) {
                 return null;
@@ -147,6 +158,10 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
 
     @Override
     public ZonedDateTime time(String literal) {
+        return conversionCaches.getTimeCache().lookup(literal, this::parseTime);
+    }
+
+    protected ZonedDateTime parseTime(String literal) {
         try {
             if (literal == null) {
                 return null;
@@ -213,6 +228,10 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
 
     @Override
     public ZonedDateTime dateAndTime(String from) {
+        return conversionCaches.getDateTimeCache().lookup(from, this::parseDateAndTime);
+    }
+
+    protected ZonedDateTime parseDateAndTime(String from) {
         if (from == null) {
             return null;
         }
@@ -246,6 +265,10 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
 
     @Override
     public Duration duration(String from) {
+        return conversionCaches.getDurationCache().lookup(from, this::parseDuration);
+    }
+
+    protected Duration parseDuration(String from) {
         if (StringUtils.isBlank(from)) {
             return null;
         }
@@ -93,6 +93,13 @@ public abstract class DefaultXMLCalendarType extends BaseType {
     }
 
     protected long getDurationInMilliSeconds(XMLGregorianCalendar first, XMLGregorianCalendar second) {
+        if (first instanceof FEELXMLGregorianCalendar && second instanceof FEELXMLGregorianCalendar) {
+            Long firstMillis = ((FEELXMLGregorianCalendar) first).compactTimeInMillis();
+            Long secondMillis = ((FEELXMLGregorianCalendar) second).compactTimeInMillis();
+            if (firstMillis != null && secondMillis != null) {
+                return firstMillis - secondMillis;
+            }
+        }
         return first.toGregorianCalendar().getTimeInMillis() - second.toGregorianCalendar().getTimeInMillis();
     }
 
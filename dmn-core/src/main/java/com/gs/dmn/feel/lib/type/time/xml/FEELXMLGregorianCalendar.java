@@ -61,6 +61,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
     private static final BigDecimal DECIMAL_ZERO = BigDecimal.ZERO;
     private static final BigDecimal DECIMAL_ONE = BigDecimal.ONE;
     private static final BigDecimal DECIMAL_SIXTY = BigDecimal.valueOf(60);
+    private static final BigInteger BILLION = new BigInteger("1000000000");
     public static final String MIN_OFFSET = "+14:00";
     public static final String MAX_OFFSET = "-14:00";
 
@@ -177,7 +178,17 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
     private int secondsOffset = DatatypeConstants.FIELD_UNDEFINED;
     private String zoneID;
 
-    private static final BigInteger BILLION = new BigInteger("1000000000");
+    // Compact representation (seconds since epoch of the local fields + nanoseconds), computed lazily
+    // and reset by every setter. Used to compare values without normalization.
+    // It is published as one immutable holder in a volatile field, so concurrent readers never see it half-initialized.
+    private static final int DATE_FIELDS = 1;
+    private static final int TIME_FIELDS = 2;
+    private static final long SECONDS_PER_DAY = 86400L;
+    private static final BigDecimal DECIMAL_BILLION = new BigDecimal(BILLION);
+
+    // Null when not computed yet
+    private transient volatile Compact compact;
+
     private static final Date PURE_GREGORIAN_CHANGE = new Date(Long.MIN_VALUE);
 
     public FEELXMLGregorianCalendar() {
@@ -271,6 +282,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
 
     @Override
     public void setYear(BigInteger year) {
+        this.compact = null;
         if (year == null) {
             this.eon = null;
             this.year = DatatypeConstants.FIELD_UNDEFINED;
@@ -283,6 +295,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
 
     @Override
     public void setYear(int year) {
+        this.compact = null;
         if (year == DatatypeConstants.FIELD_UNDEFINED) {
             this.year = DatatypeConstants.FIELD_UNDEFINED;
             this.eon = null;
@@ -298,6 +311,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
     }
 
     void setEon(BigInteger eon) {
+        this.compact = null;
         if (eon != null && eon.compareTo(BigInteger.ZERO) == 0) {
             // Treat ZERO as field being undefined.
             this.eon = null;
@@ -317,6 +331,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
             if (month != DatatypeConstants.FIELD_UNDEFINED)
                 invalidFieldValue(MONTH, month);
         this.month = month;
+        this.compact = null;
     }
 
     @Override
@@ -330,6 +345,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
             if (day != DatatypeConstants.FIELD_UNDEFINED)
                 invalidFieldValue(DAY, day);
         this.day = day;
+        this.compact = null;
     }
 
     @Override
@@ -349,6 +365,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
             }
         }
         this.hour = hour;
+        this.compact = null;
         if (validate) {
             fixHour();
         }
@@ -375,6 +392,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
             if (minute != DatatypeConstants.FIELD_UNDEFINED)
                 invalidFieldValue(MINUTE, minute);
         this.minute = minute;
+        this.compact = null;
     }
 
     @Override
@@ -417,6 +435,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
             if (second != DatatypeConstants.FIELD_UNDEFINED)
                 invalidFieldValue(SECOND, second);
         this.second = second;
+        this.compact = null;
     }
 
     @Override
@@ -429,6 +448,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
                     invalidFieldValue(MILLISECOND, millisecond);
             fractionalSecond = new BigDecimal((long) millisecond).movePointLeft(3);
         }
+        this.compact = null;
     }
 
     @Override
@@ -444,6 +464,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
             }
         }
         this.fractionalSecond = fractional;
+        this.compact = null;
     }
 
     @Override
@@ -464,6 +485,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
             }
         }
         this.secondsOffset = offset;
+        this.compact = null;
     }
 
     public String getZoneID() {
@@ -472,6 +494,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
 
     public void setZoneID(String zoneID) {
         this.zoneID = zoneID;
+        this.compact = null;
         // Derive offset from zoneId
         this.setSecondsOffset(zoneID);
     }
@@ -538,7 +561,12 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
         FEELXMLGregorianCalendar lhs = this;
         FEELXMLGregorianCalendar rhs = (FEELXMLGregorianCalendar) other;
 
-        int result = DatatypeConstants.INDETERMINATE;
+        // Optimization:
+        // use compact representation when available
+        int result = compactCompare(lhs, rhs);
+        if (result != DatatypeConstants.INDETERMINATE) {
+            return result;
+        }
         if (lhs.getTimezone() == rhs.getTimezone()) {
             // Optimization:
             // both instances are in same timezone or
@@ -596,6 +624,149 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
         }
     }
 
+    /**
+     * Compares the compact representations of two calendars.
+     * Returns INDETERMINATE when the fast path does not apply and the full algorithm must be used.
+     */
+    private static int compactCompare(FEELXMLGregorianCalendar lhs, FEELXMLGregorianCalendar rhs) {
+        Compact lhsCompact = lhs.compact();
+        Compact rhsCompact = rhs.compact();
+        if (!lhsCompact.available || !rhsCompact.available || lhsCompact.fields != rhsCompact.fields) {
+            return DatatypeConstants.INDETERMINATE;
+        }
+        if (lhs.getTimezone() == rhs.getTimezone()) {
+            // Same as comparing the fields one by one
+            return compareCompact(lhsCompact.localSeconds, lhsCompact.nanos, rhsCompact.localSeconds, rhsCompact.nanos);
+        } else if (lhs.getTimezone() != DatatypeConstants.FIELD_UNDEFINED &&
+                rhs.getTimezone() != DatatypeConstants.FIELD_UNDEFINED &&
+                lhsCompact.fields == (DATE_FIELDS | TIME_FIELDS)) {
+            // Same as normalizing to UTC and comparing the fields one by one
+            return compareCompact(
+                    lhsCompact.localSeconds - lhsCompact.offset, lhsCompact.nanos,
+                    rhsCompact.localSeconds - rhsCompact.offset, rhsCompact.nanos);
+        } else {
+            return DatatypeConstants.INDETERMINATE;
+        }
+    }
+
+    private static int compareCompact(long seconds1, int nanos1, long seconds2, int nanos2) {
+        if (seconds1 != seconds2) {
+            return seconds1 < seconds2 ? DatatypeConstants.LESSER : DatatypeConstants.GREATER;
+        }
+        if (nanos1 != nanos2) {
+            return nanos1 < nanos2 ? DatatypeConstants.LESSER : DatatypeConstants.GREATER;
+        }
+        return DatatypeConstants.EQUAL;
+    }
+
+    /**
+     * Returns the number of milliseconds since epoch when it can be computed without building a GregorianCalendar,
+     * null otherwise. The result is the same as toGregorianCalendar().getTimeInMillis().
+     */
+    Long compactTimeInMillis() {
+        Compact compact = compact();
+        if (!compact.available || secondsOffset == DatatypeConstants.FIELD_UNDEFINED) {
+            return null;
+        }
+        // Offsets not supported by the custom time zone id built in getTimeZone()
+        int absOffset = Math.abs(secondsOffset);
+        int offsetMinutes = (absOffset % 3600) / 60;
+        if (absOffset % 60 != 0 || (offsetMinutes != 0 && offsetMinutes < 10)) {
+            return null;
+        }
+        return (compact.localSeconds - secondsOffset) * 1000L + compact.nanos / 1000000;
+    }
+
+    private Compact compact() {
+        Compact result = compact;
+        if (result == null) {
+            result = computeCompact();
+            compact = result;
+        }
+        return result;
+    }
+
+    private Compact computeCompact() {
+        if (eon != null || second == 60) {
+            return Compact.NOT_AVAILABLE;
+        }
+        int fields = 0;
+        long localSeconds = 0;
+        // Date fields
+        if (year != DatatypeConstants.FIELD_UNDEFINED && month != DatatypeConstants.FIELD_UNDEFINED && day != DatatypeConstants.FIELD_UNDEFINED) {
+            if (day > maximumDayInMonthFor(year, month)) {
+                return Compact.NOT_AVAILABLE;
+            }
+            fields |= DATE_FIELDS;
+            localSeconds += epochDay(year, month, day) * SECONDS_PER_DAY;
+        } else if (year != DatatypeConstants.FIELD_UNDEFINED || month != DatatypeConstants.FIELD_UNDEFINED || day != DatatypeConstants.FIELD_UNDEFINED) {
+            return Compact.NOT_AVAILABLE;
+        }
+        // Time fields
+        if (hour != DatatypeConstants.FIELD_UNDEFINED && minute != DatatypeConstants.FIELD_UNDEFINED && second != DatatypeConstants.FIELD_UNDEFINED) {
+            fields |= TIME_FIELDS;
+            localSeconds += hour * 3600L + minute * 60L + second;
+        } else if (hour != DatatypeConstants.FIELD_UNDEFINED || minute != DatatypeConstants.FIELD_UNDEFINED || second != DatatypeConstants.FIELD_UNDEFINED || fractionalSecond != null) {
+            return Compact.NOT_AVAILABLE;
+        }
+        // Fractional seconds
+        int nanos = 0;
+        if (fractionalSecond != null) {
+            BigDecimal scaled = fractionalSecond.multiply(DECIMAL_BILLION);
+            if (scaled.signum() != 0 && scaled.stripTrailingZeros().scale() > 0) {
+                return Compact.NOT_AVAILABLE;
+            }
+            nanos = scaled.intValue();
+        }
+        // Offset
+        int offset = DatatypeConstants.FIELD_UNDEFINED;
+        if (zoneID != null) {
+            try {
+                offset = secondsOffset(zoneID);
+            } catch (Exception e) {
+                return Compact.NOT_AVAILABLE;
+            }
+        }
+
+        return new Compact(fields, localSeconds, nanos, offset);
+    }
+
+    private static final class Compact {
+        private static final Compact NOT_AVAILABLE = new Compact();
+
+        private final boolean available;
+        private final int fields;
+        private final long localSeconds;
+        private final int nanos;
+        private final int offset;
+
+        private Compact() {
+            this.available = false;
+            this.fields = 0;
+            this.localSeconds = 0;
+            this.nanos = 0;
+            this.offset = 0;
+        }
+
+        private Compact(int fields, long localSeconds, int nanos, int offset) {
+            this.available = true;
+            this.fields = fields;
+            this.localSeconds = localSeconds;
+            this.nanos = nanos;
+            this.offset = offset;
+        }
+    }
+
+    // Number of days since 1970-01-01 in the proleptic Gregorian calendar
+    private static long epochDay(long year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
     @Override
     public XMLGregorianCalendar normalize() {
         XMLGregorianCalendar normalized = normalizeToTimezone(zoneID);
@@ -1254,6 +1425,7 @@ public class FEELXMLGregorianCalendar extends XMLGregorianCalendar implements Se
         fractionalSecond = null;
         secondsOffset = DatatypeConstants.FIELD_UNDEFINED;
         zoneID = null;
+        compact = null;
     }
 
     /**
@@ -13,7 +13,10 @@
 package com.gs.dmn.feel.synthesis;
 
 import com.gs.dmn.feel.analysis.FEELAnalyzer;
+import com.gs.dmn.feel.analysis.ASTCache;
 import com.gs.dmn.feel.analysis.FEELAnalyzerImpl;
+import com.gs.dmn.feel.analysis.syntax.ast.ConstantFoldingVisitor;
+import com.gs.dmn.feel.lib.FEELLib;
 import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
 
 public class FEELTranslatorImpl extends AbstractFEELTranslator {
@@ -22,6 +25,17 @@ public class FEELTranslatorImpl extends AbstractFEELTranslator {
     }
 
     public FEELTranslatorImpl(BasicDMN2JavaTransformer dmnTransformer) {
-        this(new FEELAnalyzerImpl(dmnTransformer), new FEELToJavaVisitor(dmnTransformer), new SimpleExpressionsToJavaVisitor(dmnTransformer));
+        this(new FEELAnalyzerImpl(dmnTransformer, makeASTCache(dmnTransformer)), new FEELToJavaVisitor(dmnTransformer), new SimpleExpressionsToJavaVisitor(dmnTransformer));
+    }
+
+    // Folds the constant expressions before generating the Java code
+    public FEELTranslatorImpl(BasicDMN2JavaTransformer dmnTransformer, FEELLib<?, ?, ?, ?, ?> feelLib) {
+        this(new FEELAnalyzerImpl(dmnTransformer, makeASTCache(dmnTransformer), new ConstantFoldingVisitor(feelLib)), new FEELToJavaVisitor(dmnTransformer), new SimpleExpressionsToJavaVisitor(dmnTransformer));
+    }
+
+    // The AST cache attached to the repository (e.g. shared by the code generation threads) or a new one
+    private static ASTCache makeASTCache(BasicDMN2JavaTransformer dmnTransformer) {
+        ASTCache astCache = dmnTransformer == null ? null : dmnTransformer.getDMNModelRepository().getASTCache();
+        return astCache != null ? astCache : new ASTCache();
     }
 }
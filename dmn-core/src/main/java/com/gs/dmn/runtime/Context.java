@@ -14,37 +14,71 @@ package com.gs.dmn.runtime;
 
 import java.util.*;
 
+/**
+ * Bindings are stored as a shared ContextShape (the keys) plus an array of values. The context falls back to a
+ * LinkedHashMap when the shape limits are reached or when a key is removed.
+ * The shape saves memory, not lookups: members are read by name through the index of the shape. Only the interpreter
+ * creates contexts with an explicit shape (the rows of a relation); the other contexts (e.g. the ones built by the
+ * generated toContext() methods and compound outputs) share a shape when their keys are added in the same order.
+ * getBindings() and keySet() are live views over either representation.
+ * Equality and hash code are the ones of the bindings map.
+ */
 public class Context {
+    private static final Object[] NO_VALUES = new Object[0];
+
     private String name;
-    private final Map map = new LinkedHashMap<>();
+    private ContextShape shape;
+    private Object[] values;
+    private Map<Object, Object> map;
+    private Bindings bindings;
 
     public Context() {
+        this(ContextShape.EMPTY);
     }
 
     public Context(String name) {
+        this();
         this.name = name;
     }
 
+    // All the keys of the shape are bound (to null) from the start
+    public Context(ContextShape shape) {
+        this.shape = shape;
+        this.values = shape.size() == 0 ? NO_VALUES : new Object[shape.size()];
+    }
+
     public String getName() {
         return name;
     }
 
-    public Map getBindings() {
-        return map;
+    // Null after the switch to the map representation
+    public ContextShape getShape() {
+        return shape;
+    }
+
+    public Map<Object, Object> getBindings() {
+        if (bindings == null) {
+            bindings = new Bindings();
+        }
+        return bindings;
     }
 
     public Object get(Object name) {
-        return map.get(name);
+        if (map != null) {
+            return map.get(name);
+        }
+        int index = shape.indexOf(name);
+        return index == -1 ? null : values[index];
     }
 
     public Object get(Object name, Object... aliases) {
-        Object o = map.get(name);
+        Object o = get(name);
         if (o != null) {
             return o;
         }
         if (aliases != null) {
             for(Object key: aliases) {
-                o = map.get(key);
+                o = get(key);
                 if (o != null) {
                     return o;
                 }
@@ -54,7 +88,26 @@ public class Context {
     }
 
     public Object put(Object key, Object value) {
-        return map.put(key, value);
+        if (map != null) {
+            return map.put(key, value);
+        }
+        int index = shape.indexOf(key);
+        if (index != -1) {
+            Object oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        ContextShape next = shape.withKey(key);
+        if (next == null) {
+            return toMap().put(key, value);
+        }
+        int size = shape.size();
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(4, size * 2));
+        }
+        values[size] = value;
+        shape = next;
+        return null;
     }
 
     public Context add(Object key, Object value) {
@@ -68,10 +121,10 @@ public class Context {
 
     @Override
     public String toString() {
-        Set set = this.map.keySet();
+        Collection<Object> set = this.keys();
         if (set != null && !set.isEmpty() && set.iterator().next() instanceof String) {
-            ArrayList orderedKeys = new ArrayList<>(set);
-            Collections.sort(orderedKeys);
+            List<Object> orderedKeys = new ArrayList<>(set);
+            orderedKeys.sort(null);
             StringBuilder result = new StringBuilder("{");
             for(int i=0; i<orderedKeys.size(); i++) {
                 Object key = orderedKeys.get(i);
@@ -86,7 +139,7 @@ public class Context {
     }
 
     public Iterable<?> keySet() {
-        return map.keySet();
+        return getBindings().keySet();
     }
 
     @Override
@@ -96,12 +149,188 @@ public class Context {
 
         Context context = (Context) o;
 
-        return map.equals(context.map);
-
+        if (map == null && context.map == null && shape == context.shape) {
+            for (int i = 0; i < shape.size(); i++) {
+                if (!Objects.equals(values[i], context.values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        Collection<Object> keys = keys();
+        if (keys.size() != context.keys().size()) {
+            return false;
+        }
+        for (Object key : keys) {
+            if (!context.containsKey(key) || !Objects.equals(get(key), context.get(key))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return map.hashCode();
+        // Same as Map.hashCode()
+        int hashCode = 0;
+        for (Object key : keys()) {
+            hashCode += Objects.hashCode(key) ^ Objects.hashCode(get(key));
+        }
+        return hashCode;
+    }
+
+    private Collection<Object> keys() {
+        return map != null ? map.keySet() : shape.getKeys();
+    }
+
+    private boolean containsKey(Object key) {
+        return map != null ? map.containsKey(key) : shape.indexOf(key) != -1;
+    }
+
+    private Object remove(Object key) {
+        if (map == null && shape.indexOf(key) == -1) {
+            return null;
+        }
+        return toMap().remove(key);
+    }
+
+    // Switches to the map representation
+    private Map<Object, Object> toMap() {
+        if (map == null) {
+            Map<Object, Object> newMap = new LinkedHashMap<>();
+            for (int i = 0; i < shape.size(); i++) {
+                newMap.put(shape.getKey(i), values[i]);
+            }
+            map = newMap;
+            shape = null;
+            values = null;
+        }
+        return map;
+    }
+
+    // Live Map view of the bindings, reads and writes go through the context
+    private class Bindings extends AbstractMap<Object, Object> {
+        @Override
+        public int size() {
+            return keys().size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return Context.this.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return Context.this.get(key);
+        }
+
+        @Override
+        public Object put(Object key, Object value) {
+            return Context.this.put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return Context.this.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            map = null;
+            shape = ContextShape.EMPTY;
+            values = NO_VALUES;
+        }
+
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<Entry<Object, Object>>() {
+                @Override
+                public int size() {
+                    return Bindings.this.size();
+                }
+
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    if (map != null) {
+                        return map.entrySet().iterator();
+                    }
+                    // The keys of a shape never change, a removal switches the context to the map representation
+                    ContextShape iteratedShape = shape;
+                    return new Iterator<Entry<Object, Object>>() {
+                        private int index = 0;
+                        private Object lastKey;
+                        private boolean canRemove = false;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < iteratedShape.size();
+                        }
+
+                        @Override
+                        public Entry<Object, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Object key = iteratedShape.getKey(index++);
+                            lastKey = key;
+                            canRemove = true;
+                            return new BindingEntry(key);
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (!canRemove) {
+                                throw new IllegalStateException();
+                            }
+                            canRemove = false;
+                            Context.this.remove(lastKey);
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private class BindingEntry implements Map.Entry<Object, Object> {
+        private final Object key;
+
+        private BindingEntry(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return Context.this.get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return Context.this.put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
     }
 }
@@ -0,0 +1,132 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable layout of the keys of a Context: the keys in insertion order and the index of each key.
+ *
+ * Shapes are shared: adding a key to a shape returns the same successor shape while it is in use (the transitions are
+ * cached), so all the contexts built by adding the same keys in the same order (e.g. the outputs of a compound decision
+ * table) share one shape and store only their values. The interpreter creates the rows of a relation from one explicit
+ * shape.
+ *
+ * A shape references its successors weakly and its parent strongly: a shape stays alive as long as a Context (or a
+ * caller) uses it or one of its successors, and is collected afterwards.
+ */
+public final class ContextShape {
+    // Limits for shared shapes, beyond them Context falls back to a map.
+    // MAX_TRANSITIONS is the number of live successors of one shape (e.g. keys computed at runtime)
+    static final int MAX_SIZE = 64;
+    static final int MAX_TRANSITIONS = 32;
+
+    public static final ContextShape EMPTY = new ContextShape(null, new Object[0]);
+
+    public static ContextShape of(Object... keys) {
+        ContextShape shape = EMPTY;
+        for (Object key : keys) {
+            if (shape.indexOf(key) == -1) {
+                ContextShape next = shape.withKey(key);
+                shape = next == null ? new ContextShape(shape, append(shape.keys, key)) : next;
+            }
+        }
+        return shape;
+    }
+
+    public static ContextShape of(List<?> keys) {
+        return of(keys.toArray());
+    }
+
+    // Keeps the prefix shapes alive while this shape is used
+    private final ContextShape parent;
+    private final Object[] keys;
+    private final Map<Object, Integer> index;
+    private final Map<Object, WeakReference<ContextShape>> transitions = new ConcurrentHashMap<>();
+    private final List<Object> keyList;
+
+    private ContextShape(ContextShape parent, Object[] keys) {
+        this.parent = parent;
+        this.keys = keys;
+        this.index = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            this.index.put(keys[i], i);
+        }
+        this.keyList = Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public Object getKey(int index) {
+        return keys[index];
+    }
+
+    public List<Object> getKeys() {
+        return keyList;
+    }
+
+    public int indexOf(Object key) {
+        Integer i = index.get(key);
+        return i == null ? -1 : i;
+    }
+
+    // Returns the shared successor shape or null when the limits for shared shapes are reached
+    ContextShape withKey(Object key) {
+        // ConcurrentHashMap does not support null keys
+        Object transitionKey = key == null ? NullKey.INSTANCE : key;
+        ContextShape next = successor(transitionKey);
+        if (next != null) {
+            return next;
+        }
+        if (keys.length >= MAX_SIZE) {
+            return null;
+        }
+        synchronized (transitions) {
+            next = successor(transitionKey);
+            if (next == null) {
+                // Drop the successors that were collected before checking the limit
+                transitions.values().removeIf(ref -> ref.get() == null);
+                if (transitions.size() >= MAX_TRANSITIONS) {
+                    return null;
+                }
+                next = new ContextShape(this, append(keys, key));
+                transitions.put(transitionKey, new WeakReference<>(next));
+            }
+            return next;
+        }
+    }
+
+    private ContextShape successor(Object transitionKey) {
+        WeakReference<ContextShape> ref = transitions.get(transitionKey);
+        return ref == null ? null : ref.get();
+    }
+
+    private static Object[] append(Object[] keys, Object key) {
+        Object[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+        newKeys[keys.length] = key;
+        return newKeys;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ContextShape(%s)", keyList);
+    }
+
+    private enum NullKey {
+        INSTANCE
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Evaluates a decision for one input record. Evaluators are not thread-safe: the BatchRunner creates one for each worker.
+ */
+public interface BatchEvaluator {
+    // Reads the input data of the decision from the record and evaluates it
+    Object evaluate(JsonParser record) throws Exception;
+
+    // Writes the fields of the result in the current JSON object: the output and, for generated decisions, the annotations of the matched rules
+    void write(JsonGenerator generator, Object result) throws IOException;
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+/**
+ * Format of the input records: one JSON object per line or comma-separated values with a header line.
+ */
+public enum BatchFormat {
+    NDJSON,
+    CSV;
+
+    public static BatchFormat fromFileName(String fileName) {
+        return fileName != null && fileName.toLowerCase().endsWith(".csv") ? CSV : NDJSON;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+/**
+ * Outcome of a batch run: the number of records, the number of failed evaluations and the elapsed time.
+ */
+public class BatchReport {
+    private final long records;
+    private final long errors;
+    private final long elapsedMillis;
+
+    public BatchReport(long records, long errors, long elapsedMillis) {
+        this.records = records;
+        this.errors = errors;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRecordsPerSecond() {
+        return elapsedMillis == 0 ? records * 1000.0 : records * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Evaluated %d record(s) with %d error(s) in %dms (%.1f records/s)", records, errors, elapsedMillis, getRecordsPerSecond());
+    }
+}
@@ -0,0 +1,351 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.serialization.JsonCodec;
+import com.gs.dmn.serialization.DMNReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates a decision for each record of a NDJSON or CSV file and writes one JSON line for each record, in the input
+ * order: {"index":n,"output":...} or {"index":n,"error":"..."}. Generated decisions also write the annotations of the
+ * matched rules, {"index":n,"output":...,"annotations":[...]}; the interpreter does not collect them.
+ *
+ * The records flow through a pipeline: a reader thread groups the lines in batches of batchSize, parallelism workers
+ * (each with its own evaluator) evaluate the batches and the calling thread writes them in sequence. At most
+ * 4 * parallelism batches are in flight, so the memory does not depend on the size of the input.
+ */
+public class BatchRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchRunner.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final int BATCHES_IN_FLIGHT_PER_WORKER = 4;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private static class Batch {
+        private final long sequence;
+        private final long firstIndex;
+        private final int size;
+        private List<byte[]> lines;
+        private byte[] output;
+        private int errors;
+
+        private Batch(long sequence, long firstIndex, List<byte[]> lines) {
+            this.sequence = sequence;
+            this.firstIndex = firstIndex;
+            this.size = lines.size();
+            this.lines = lines;
+        }
+    }
+
+    private static final Batch END = new Batch(-1, -1, Collections.emptyList());
+
+    private final Supplier<BatchEvaluator> evaluatorFactory;
+    private final int parallelism;
+    private final int batchSize;
+    private final boolean memoryMapped;
+
+    public BatchRunner(Supplier<BatchEvaluator> evaluatorFactory) {
+        this(evaluatorFactory, Runtime.getRuntime().availableProcessors(), DEFAULT_BATCH_SIZE, false);
+    }
+
+    public BatchRunner(Supplier<BatchEvaluator> evaluatorFactory, int parallelism, int batchSize, boolean memoryMapped) {
+        if (evaluatorFactory == null) {
+            throw new IllegalArgumentException("Missing evaluator factory");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal parallelism '%d'", parallelism));
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal batch size '%d'", batchSize));
+        }
+        this.evaluatorFactory = evaluatorFactory;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.memoryMapped = memoryMapped;
+    }
+
+    // The format is derived from the extension of the input file
+    public BatchReport run(Path input, Path output) throws IOException {
+        return run(input, BatchFormat.fromFileName(input.getFileName().toString()), output);
+    }
+
+    public BatchReport run(Path input, BatchFormat format, Path output) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(output), LineReader.DEFAULT_BUFFER_SIZE)) {
+            return run(input, format, outputStream);
+        }
+    }
+
+    public BatchReport run(Path input, BatchFormat format, OutputStream output) throws IOException {
+        long startTime = System.nanoTime();
+        LineReader reader = new LineReader(input, memoryMapped);
+        CsvRecordParser csvParser = null;
+        if (format == BatchFormat.CSV) {
+            byte[] header;
+            try {
+                header = reader.readLine();
+            } catch (IOException | RuntimeException e) {
+                reader.close();
+                throw e;
+            }
+            if (header == null) {
+                reader.close();
+                return new BatchReport(0, 0, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            }
+            csvParser = new CsvRecordParser(header);
+        }
+
+        int maxInFlight = BATCHES_IN_FLIGHT_PER_WORKER * parallelism;
+        Semaphore permits = new Semaphore(maxInFlight);
+        BlockingQueue<Batch> pending = new ArrayBlockingQueue<>(maxInFlight + parallelism);
+        BlockingQueue<Batch> done = new LinkedBlockingQueue<>();
+        AtomicLong batchCount = new AtomicLong(-1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        LOGGER.info("Evaluating '{}' with {} worker(s) in batches of {} record(s)", input, parallelism, batchSize);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism + 1);
+        try {
+            executor.execute(() -> readBatches(reader, permits, pending, batchCount, failure));
+            CsvRecordParser finalCsvParser = csvParser;
+            for (int i = 0; i < parallelism; i++) {
+                executor.execute(() -> evaluateBatches(finalCsvParser, pending, done, failure));
+            }
+            return writeBatches(output, permits, done, batchCount, failure, startTime);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void readBatches(LineReader reader, Semaphore permits, BlockingQueue<Batch> pending, AtomicLong batchCount, AtomicReference<Throwable> failure) {
+        try (LineReader lineReader = reader) {
+            long sequence = 0;
+            long index = 0;
+            List<byte[]> lines = new ArrayList<>(batchSize);
+            byte[] line;
+            while ((line = lineReader.readLine()) != null) {
+                if (isBlank(line)) {
+                    continue;
+                }
+                lines.add(line);
+                if (lines.size() == batchSize) {
+                    permits.acquire();
+                    pending.put(new Batch(sequence++, index, lines));
+                    index += lines.size();
+                    lines = new ArrayList<>(batchSize);
+                }
+            }
+            if (!lines.isEmpty()) {
+                permits.acquire();
+                pending.put(new Batch(sequence++, index, lines));
+            }
+            batchCount.set(sequence);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            // There is room for the end markers, the permits bound the batches in the queue
+            for (int i = 0; i < parallelism; i++) {
+                pending.offer(END);
+            }
+        }
+    }
+
+    private void evaluateBatches(CsvRecordParser csvParser, BlockingQueue<Batch> pending, BlockingQueue<Batch> done, AtomicReference<Throwable> failure) {
+        try {
+            BatchEvaluator evaluator = evaluatorFactory.get();
+            while (true) {
+                Batch batch = pending.take();
+                if (batch == END) {
+                    break;
+                }
+                evaluate(evaluator, csvParser, batch);
+                done.put(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void evaluate(BatchEvaluator evaluator, CsvRecordParser csvParser, Batch batch) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(batch.size * 64);
+        try (JsonGenerator generator = JsonCodec.JSON_FACTORY.createGenerator(buffer)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            for (int i = 0; i < batch.size; i++) {
+                Object result = null;
+                String error = null;
+                try (JsonParser parser = makeParser(csvParser, batch.lines.get(i))) {
+                    result = evaluator.evaluate(parser);
+                } catch (Exception e) {
+                    error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+                    LOGGER.debug(String.format("Evaluation of record %d failed", batch.firstIndex + i), e);
+                }
+                generator.writeStartObject();
+                generator.writeNumberField("index", batch.firstIndex + i);
+                if (error == null) {
+                    evaluator.write(generator, result);
+                } else {
+                    generator.writeStringField("error", error);
+                    batch.errors++;
+                }
+                generator.writeEndObject();
+            }
+            generator.writeRaw('\n');
+        }
+        batch.output = buffer.toByteArray();
+        batch.lines = null;
+    }
+
+    private JsonParser makeParser(CsvRecordParser csvParser, byte[] line) throws IOException {
+        if (csvParser == null) {
+            return JsonCodec.JSON_FACTORY.createParser(line);
+        } else {
+            return csvParser.toTokens(line);
+        }
+    }
+
+    private BatchReport writeBatches(OutputStream output, Semaphore permits, BlockingQueue<Batch> done, AtomicLong batchCount, AtomicReference<Throwable> failure, long startTime) throws IOException {
+        Map<Long, Batch> waiting = new HashMap<>();
+        long nextSequence = 0;
+        long records = 0;
+        long errors = 0;
+        long nextProgress = startTime + PROGRESS_INTERVAL_NANOS;
+        try {
+            while (true) {
+                Batch batch = waiting.remove(nextSequence);
+                if (batch == null) {
+                    long count = batchCount.get();
+                    if (count >= 0 && nextSequence == count) {
+                        break;
+                    }
+                    checkFailure(failure);
+                    Batch next = done.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (next != null) {
+                        waiting.put(next.sequence, next);
+                    }
+                    continue;
+                }
+                output.write(batch.output);
+                records += batch.size;
+                errors += batch.errors;
+                nextSequence++;
+                permits.release();
+
+                long now = System.nanoTime();
+                if (now - nextProgress >= 0) {
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - startTime);
+                    LOGGER.info("Evaluated {} record(s) in {}ms ({} records/s)", records, elapsedMillis, elapsedMillis == 0 ? records : records * 1000 / elapsedMillis);
+                    nextProgress = now + PROGRESS_INTERVAL_NANOS;
+                }
+            }
+            output.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DMNRuntimeException("Batch evaluation interrupted", e);
+        }
+
+        BatchReport report = new BatchReport(records, errors, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        LOGGER.info(report.toString());
+        return report;
+    }
+
+    private void checkFailure(AtomicReference<Throwable> failure) throws IOException {
+        Throwable e = failure.get();
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        } else if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e != null) {
+            throw new DMNRuntimeException("Batch evaluation failed", e);
+        }
+    }
+
+    private static boolean isBlank(byte[] line) {
+        for (byte b : line) {
+            if (b != ' ' && b != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if ("--mapped".equals(option)) {
+                options.put(option, "true");
+            } else if (option.startsWith("--") && i + 1 < args.length) {
+                options.put(option, args[++i]);
+            } else {
+                usage(String.format("Illegal option '%s'", option));
+                return;
+            }
+        }
+        String input = options.get("--input");
+        String output = options.get("--output");
+        String model = options.get("--model");
+        String decision = options.get("--decision");
+        String decisionClass = options.get("--decision-class");
+        if (input == null || output == null || (model == null || decision == null) == (decisionClass == null)) {
+            usage("Missing input, output or decision");
+            return;
+        }
+
+        Supplier<BatchEvaluator> evaluatorFactory;
+        if (decisionClass != null) {
+            evaluatorFactory = GeneratedDecisionBatchEvaluator.factory(Class.forName(decisionClass));
+        } else {
+            String dialectClassName = options.getOrDefault("--dialect", StandardDMNDialectDefinition.class.getName());
+            DMNDialectDefinition dialectDefinition = (DMNDialectDefinition) Class.forName(dialectClassName).newInstance();
+            DMNModelRepository repository = new DMNReader(new Slf4jBuildLogger(LOGGER), false).read(new File(model));
+            evaluatorFactory = InterpreterBatchEvaluator.factory(dialectDefinition, repository, decision);
+        }
+        int parallelism = Integer.parseInt(options.getOrDefault("--threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int batchSize = Integer.parseInt(options.getOrDefault("--batch-size", String.valueOf(DEFAULT_BATCH_SIZE)));
+        boolean mapped = options.containsKey("--mapped");
+        Path inputPath = Paths.get(input);
+        BatchFormat format = options.containsKey("--format") ? BatchFormat.valueOf(options.get("--format").toUpperCase()) : BatchFormat.fromFileName(input);
+
+        BatchReport report = new BatchRunner(evaluatorFactory, parallelism, batchSize, mapped).run(inputPath, format, Paths.get(output));
+        System.out.println(report);
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println("Usage: BatchRunner (--model <file.dmn> --decision <name> [--dialect <class>] | --decision-class <class>) --input <file> --output <file> [--format ndjson|csv] [--threads <n>] [--batch-size <n>] [--mapped]");
+    }
+}
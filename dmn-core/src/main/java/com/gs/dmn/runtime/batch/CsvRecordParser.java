@@ -0,0 +1,168 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts CSV lines to streams of JSON tokens, without building a tree. The columns are given by the header line; a
+ * dotted column name (e.g. "Applicant.Age") is a member of a nested object. Empty cells are missing values; quoted
+ * cells are strings, with "" for a quote. Values spanning several lines are not supported.
+ */
+class CsvRecordParser {
+    // Columns of the header, grouped by nested object in the order of the first column of each object
+    private static class Column {
+        private final String name;
+        private final int index;
+        private final List<Column> members = new ArrayList<>();
+
+        private Column(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        private boolean isObject() {
+            return index < 0;
+        }
+
+        private Column findMember(String name) {
+            for (Column member : members) {
+                if (member.name.equals(name)) {
+                    return member;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Column record = new Column(null, -1);
+    private final int columnCount;
+
+    CsvRecordParser(byte[] headerLine) {
+        List<String> names = parseCells(headerLine);
+        this.columnCount = names.size();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (name == null || name.isEmpty()) {
+                throw new DMNRuntimeException(String.format("Missing name for CSV column %d", i + 1));
+            }
+            addColumn(name.trim().split("\\."), i);
+        }
+    }
+
+    JsonParser toTokens(byte[] line) throws IOException {
+        List<String> cells = parseCells(line);
+        if (cells.size() > columnCount) {
+            throw new DMNRuntimeException(String.format("Expected at most %d CSV values, found %d", columnCount, cells.size()));
+        }
+        TokenBuffer tokens = new TokenBuffer(null, false);
+        tokens.writeStartObject();
+        writeMembers(tokens, record, cells);
+        tokens.writeEndObject();
+        return tokens.asParser();
+    }
+
+    private void addColumn(String[] path, int index) {
+        Column parent = record;
+        for (int i = 0; i < path.length - 1; i++) {
+            Column member = parent.findMember(path[i]);
+            if (member == null) {
+                member = new Column(path[i], -1);
+                parent.members.add(member);
+            } else if (!member.isObject()) {
+                throw new DMNRuntimeException(String.format("Illegal CSV column '%s'", String.join(".", path)));
+            }
+            parent = member;
+        }
+        if (parent.findMember(path[path.length - 1]) != null) {
+            throw new DMNRuntimeException(String.format("Duplicated CSV column '%s'", String.join(".", path)));
+        }
+        parent.members.add(new Column(path[path.length - 1], index));
+    }
+
+    // Objects without values are left out
+    private void writeMembers(TokenBuffer tokens, Column parent, List<String> cells) throws IOException {
+        for (Column member : parent.members) {
+            if (member.isObject()) {
+                if (hasValues(member, cells)) {
+                    tokens.writeObjectFieldStart(member.name);
+                    writeMembers(tokens, member, cells);
+                    tokens.writeEndObject();
+                }
+            } else {
+                String cell = cell(member, cells);
+                if (cell != null) {
+                    tokens.writeStringField(member.name, cell);
+                }
+            }
+        }
+    }
+
+    private boolean hasValues(Column parent, List<String> cells) {
+        for (Column member : parent.members) {
+            if (member.isObject() ? hasValues(member, cells) : cell(member, cells) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String cell(Column column, List<String> cells) {
+        return column.index < cells.size() ? cells.get(column.index) : null;
+    }
+
+    // Unquoted empty cells are null
+    static List<String> parseCells(byte[] line) {
+        String text = new String(line, StandardCharsets.UTF_8);
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (inQuotes) {
+                if (ch == '"') {
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    cell.append(ch);
+                }
+            } else if (ch == '"') {
+                inQuotes = true;
+                quoted = true;
+            } else if (ch == ',') {
+                cells.add(quoted || cell.length() != 0 ? cell.toString() : null);
+                cell.setLength(0);
+                quoted = false;
+            } else {
+                cell.append(ch);
+            }
+        }
+        if (inQuotes) {
+            throw new DMNRuntimeException(String.format("Unterminated quoted value in CSV line '%s'", text));
+        }
+        cells.add(quoted || cell.length() != 0 ? cell.toString() : null);
+        return cells;
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.annotation.Annotation;
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates a generated decision class through the codec generated for it (input parameter generateJsonCodecs), so
+ * that the records are streamed into the typed arguments of the decision without data binding.
+ */
+public class GeneratedDecisionBatchEvaluator implements BatchEvaluator {
+    // One decision instance for each worker
+    public static Supplier<BatchEvaluator> factory(Class<?> decisionClass) {
+        return () -> new GeneratedDecisionBatchEvaluator(decisionClass);
+    }
+
+    private final Object decision;
+    private final Object codec;
+    private final Method apply;
+    private final Method writeOutput;
+
+    public GeneratedDecisionBatchEvaluator(Class<?> decisionClass) {
+        String codecClassName = decisionClass.getName() + "JsonCodec";
+        try {
+            Class<?> codecClass = Class.forName(codecClassName, true, decisionClass.getClassLoader());
+            Field instance = codecClass.getField("INSTANCE");
+            this.codec = instance.get(null);
+            this.apply = codecClass.getMethod("apply", decisionClass, JsonParser.class, AnnotationSet.class);
+            this.writeOutput = findWriteOutput(codecClass);
+            this.decision = decisionClass.newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new DMNRuntimeException(String.format("Cannot find codec '%s', set the input parameter 'generateJsonCodecs' to 'true'", codecClassName), e);
+        } catch (NoSuchFieldException | NoSuchMethodException e) {
+            throw new DMNRuntimeException(String.format("Illegal codec '%s'", codecClassName), e);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new DMNRuntimeException(String.format("Cannot instantiate '%s'", decisionClass.getName()), e);
+        }
+    }
+
+    @Override
+    public Object evaluate(JsonParser record) throws Exception {
+        AnnotationSet annotationSet = new AnnotationSet();
+        Object output = invoke(apply, decision, record, annotationSet);
+        return new Pair<>(output, annotationSet);
+    }
+
+    @Override
+    public void write(JsonGenerator generator, Object result) throws IOException {
+        Pair<?, ?> pair = (Pair<?, ?>) result;
+        generator.writeFieldName("output");
+        try {
+            invoke(writeOutput, generator, pair.getLeft());
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DMNRuntimeException("Cannot write output", e);
+        }
+        AnnotationSet annotationSet = (AnnotationSet) pair.getRight();
+        if (!annotationSet.isEmpty()) {
+            generator.writeArrayFieldStart("annotations");
+            for (Annotation annotation : annotationSet) {
+                generator.writeStartObject();
+                generator.writeStringField("decision", annotation.getDecisionName());
+                generator.writeNumberField("rule", annotation.getRuleIndex());
+                generator.writeStringField("annotation", annotation.getAnnotation());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private Object invoke(Method method, Object... arguments) throws Exception {
+        try {
+            return method.invoke(codec, arguments);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Method findWriteOutput(Class<?> codecClass) throws NoSuchMethodException {
+        for (Method method : codecClass.getMethods()) {
+            if ("writeOutput".equals(method.getName()) && method.getParameterCount() == 2 && method.getParameterTypes()[0] == JsonGenerator.class) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(codecClass.getName() + ".writeOutput");
+    }
+}
@@ -0,0 +1,319 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.feel.analysis.semantics.type.*;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.NopBuildLogger;
+import com.gs.dmn.runtime.Context;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.serialization.DMNNamespacePrefixMapper;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.serialization.DMNVersion;
+import com.gs.dmn.serialization.DMNWriter;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import org.omg.spec.dmn._20180521.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates a decision with the interpreter. The records are streamed from the parser into FEEL values according to
+ * the types of the input data; the input data and the members of the item definitions are read by original name
+ * (display name by default) or by simple name. The output is written as JSON with the original member names (contexts
+ * as objects, dates, times and durations as FEEL strings). The interpreter does not collect rule annotations, so the
+ * output has none.
+ */
+public class InterpreterBatchEvaluator implements BatchEvaluator {
+    private static final BuildLogger LOGGER = new NopBuildLogger();
+
+    // A copy of the repository is transformed to simple names, the records keep the original names.
+    // One interpreter for each worker, the interpreter is not thread-safe
+    public static Supplier<BatchEvaluator> factory(DMNDialectDefinition dialectDefinition, DMNModelRepository repository, String decisionName) {
+        DMNModelRepository simpleNameRepository = copy(repository);
+        Map<TNamedElement, String> originalNames = new IdentityHashMap<>();
+        for (TDRGElement element : simpleNameRepository.drgElements()) {
+            originalNames.put(element, simpleNameRepository.displayName(element));
+        }
+        for (TItemDefinition itemDefinition : simpleNameRepository.itemDefinitions()) {
+            collectMemberNames(simpleNameRepository, itemDefinition, originalNames);
+        }
+        new ToSimpleNameTransformer(LOGGER).transform(simpleNameRepository);
+
+        TDecision decision = null;
+        for (TDecision candidate : simpleNameRepository.decisions()) {
+            if (decisionName.equals(originalNames.get(candidate)) || decisionName.equals(candidate.getName())) {
+                decision = candidate;
+                break;
+            }
+        }
+        if (decision == null) {
+            throw new DMNRuntimeException(String.format("Cannot find decision '%s'", decisionName));
+        }
+        Map<String, String> jsonNames = new LinkedHashMap<>();
+        for (TInputData inputData : simpleNameRepository.allInputDatas(decision)) {
+            jsonNames.put(inputData.getName(), originalNames.getOrDefault(inputData, inputData.getName()));
+        }
+        Map<String, Map<String, String>> jsonMemberNames = new LinkedHashMap<>();
+        for (TItemDefinition itemDefinition : simpleNameRepository.itemDefinitions()) {
+            addMemberNames(itemDefinition, originalNames, jsonMemberNames);
+        }
+        String simpleDecisionName = decision.getName();
+        return () -> new InterpreterBatchEvaluator(dialectDefinition.createDMNInterpreter(simpleNameRepository), simpleDecisionName, jsonNames, jsonMemberNames);
+    }
+
+    // The transformation to simple names is done in place, on a copy written and read back
+    private static DMNModelRepository copy(DMNModelRepository repository) {
+        TDefinitions definitions = repository.getDefinitions();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new DMNWriter(LOGGER).write(definitions, output, new DMNNamespacePrefixMapper(definitions.getNamespace(), "tns", DMNVersion.DMN_12));
+        DMNModelRepository copy = new DMNReader(LOGGER, false).read(new ByteArrayInputStream(output.toByteArray()));
+        return new DMNModelRepository(copy.getDefinitions(), repository.getPrefixNamespaceMappings());
+    }
+
+    private static void collectMemberNames(DMNModelRepository repository, TItemDefinition itemDefinition, Map<TNamedElement, String> originalNames) {
+        for (TItemDefinition member : itemDefinition.getItemComponent()) {
+            originalNames.put(member, repository.displayName(member));
+            collectMemberNames(repository, member, originalNames);
+        }
+    }
+
+    // Maps the simple names of the members to the original names, by item definition
+    private static void addMemberNames(TItemDefinition itemDefinition, Map<TNamedElement, String> originalNames, Map<String, Map<String, String>> jsonMemberNames) {
+        if (itemDefinition.getItemComponent().isEmpty()) {
+            return;
+        }
+        Map<String, String> memberNames = jsonMemberNames.computeIfAbsent(itemDefinition.getName(), k -> new LinkedHashMap<>());
+        for (TItemDefinition member : itemDefinition.getItemComponent()) {
+            memberNames.put(member.getName(), originalNames.getOrDefault(member, member.getName()));
+            addMemberNames(member, originalNames, jsonMemberNames);
+        }
+    }
+
+    private static class Input {
+        private final String name;
+        private final Type type;
+
+        private Input(String name, Type type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    private final DMNInterpreter interpreter;
+    private final String decisionName;
+    private final StandardFEELLib<?, ?, ?, ?, ?> lib;
+    private final Type outputType;
+    private final List<Input> inputs = new ArrayList<>();
+    // Index of the input data by JSON name, the original names take precedence over the simple names
+    private final Map<String, Integer> inputIndexes = new HashMap<>();
+    // Simple and original member names to simple member names, by item definition
+    private final Map<String, Map<String, String>> memberNames = new HashMap<>();
+    // Simple member names to original member names, by item definition
+    private final Map<String, Map<String, String>> jsonMemberNames;
+
+    public InterpreterBatchEvaluator(DMNInterpreter interpreter, String decisionName) {
+        this(interpreter, decisionName, new LinkedHashMap<>(), new LinkedHashMap<>());
+    }
+
+    // jsonNames maps the names of the input data to the names of the record fields and jsonMemberNames maps the names
+    // of the members to the names of the JSON fields, by item definition
+    public InterpreterBatchEvaluator(DMNInterpreter interpreter, String decisionName, Map<String, String> jsonNames, Map<String, Map<String, String>> jsonMemberNames) {
+        this.interpreter = interpreter;
+        this.decisionName = decisionName;
+        this.lib = (StandardFEELLib<?, ?, ?, ?, ?>) interpreter.getFeelLib();
+        this.jsonMemberNames = jsonMemberNames;
+        BasicDMN2JavaTransformer transformer = interpreter.getBasicDMNTransformer();
+        DMNModelRepository repository = transformer.getDMNModelRepository();
+        TDRGElement element = repository.findDRGElementByName(decisionName);
+        if (element == null) {
+            throw new DMNRuntimeException(String.format("Cannot find decision '%s'", decisionName));
+        }
+        this.outputType = transformer.drgElementOutputFEELType(element);
+        List<String> inputJsonNames = new ArrayList<>();
+        for (TInputData inputData : repository.allInputDatas(element)) {
+            this.inputIndexes.putIfAbsent(inputData.getName(), this.inputs.size());
+            this.inputs.add(new Input(inputData.getName(), transformer.toFEELType(inputData)));
+            inputJsonNames.add(jsonNames.getOrDefault(inputData.getName(), repository.displayName(inputData)));
+        }
+        for (int i = 0; i < inputJsonNames.size(); i++) {
+            this.inputIndexes.put(inputJsonNames.get(i), i);
+        }
+        for (Map.Entry<String, Map<String, String>> entry : jsonMemberNames.entrySet()) {
+            Map<String, String> names = new HashMap<>();
+            for (String member : entry.getValue().keySet()) {
+                names.put(member, member);
+            }
+            for (Map.Entry<String, String> member : entry.getValue().entrySet()) {
+                names.put(member.getValue(), member.getKey());
+            }
+            this.memberNames.put(entry.getKey(), names);
+        }
+    }
+
+    @Override
+    public Object evaluate(JsonParser record) throws IOException {
+        JsonToken token = record.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+            throw new DMNRuntimeException(String.format("Expected JSON object, found '%s'", token));
+        }
+        Object[] values = new Object[inputs.size()];
+        while (record.nextToken() == JsonToken.FIELD_NAME) {
+            Integer index = inputIndexes.get(record.getCurrentName());
+            record.nextToken();
+            if (index == null) {
+                record.skipChildren();
+            } else {
+                values[index] = readFEEL(record, inputs.get(index).type);
+            }
+        }
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+        for (int i = 0; i < values.length; i++) {
+            runtimeEnvironment.bind(inputs.get(i).name, values[i]);
+        }
+        return interpreter.evaluate(decisionName, runtimeEnvironment);
+    }
+
+    @Override
+    public void write(JsonGenerator generator, Object result) throws IOException {
+        generator.writeFieldName("output");
+        writeFEEL(generator, result, outputType);
+    }
+
+    // Reads the value starting at the current token
+    private Object readFEEL(JsonParser parser, Type type) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (type instanceof ListType && token == JsonToken.START_ARRAY) {
+            List<Object> list = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                list.add(readFEEL(parser, ((ListType) type).getElementType()));
+            }
+            return list;
+        } else if (type instanceof ItemDefinitionType && token == JsonToken.START_OBJECT) {
+            ItemDefinitionType itemDefinitionType = (ItemDefinitionType) type;
+            Map<String, String> names = memberNames.getOrDefault(itemDefinitionType.getName(), Collections.emptyMap());
+            Context context = new Context();
+            for (String member : itemDefinitionType.getMembers()) {
+                context.put(member, null);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                String member = names.getOrDefault(fieldName, fieldName);
+                Type memberType = itemDefinitionType.getMemberType(member);
+                parser.nextToken();
+                if (memberType == null) {
+                    parser.skipChildren();
+                } else {
+                    context.put(member, readFEEL(parser, memberType));
+                }
+            }
+            return context;
+        } else if (token.isStructStart()) {
+            return readFEEL(parser);
+        } else if (type instanceof NumberType) {
+            return lib.number(parser.getText());
+        } else if (type instanceof StringType) {
+            return parser.getText();
+        } else if (type instanceof BooleanType) {
+            return token.isBoolean() ? parser.getBooleanValue() : Boolean.valueOf(parser.getText());
+        } else if (type instanceof DateType) {
+            return lib.date(parser.getText());
+        } else if (type instanceof TimeType) {
+            return lib.time(parser.getText());
+        } else if (type instanceof DateTimeType) {
+            return lib.dateAndTime(parser.getText());
+        } else if (type instanceof DurationType) {
+            return lib.duration(parser.getText());
+        } else {
+            return readFEEL(parser);
+        }
+    }
+
+    // Values of unknown type keep the JSON type
+    private Object readFEEL(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token.isNumeric()) {
+            return lib.number(parser.getText());
+        } else if (token.isBoolean()) {
+            return parser.getBooleanValue();
+        } else if (token == JsonToken.START_ARRAY) {
+            List<Object> list = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                list.add(readFEEL(parser));
+            }
+            return list;
+        } else if (token == JsonToken.START_OBJECT) {
+            Context context = new Context();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                context.put(fieldName, readFEEL(parser));
+            }
+            return context;
+        } else {
+            return parser.getText();
+        }
+    }
+
+    private void writeFEEL(JsonGenerator generator, Object value, Type type) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Double) {
+            generator.writeNumber((Double) value);
+        } else if (value instanceof List) {
+            Type elementType = type instanceof ListType ? ((ListType) type).getElementType() : null;
+            generator.writeStartArray();
+            for (Object element : (List<?>) value) {
+                writeFEEL(generator, element, elementType);
+            }
+            generator.writeEndArray();
+        } else if (value instanceof Context) {
+            ItemDefinitionType itemDefinitionType = type instanceof ItemDefinitionType ? (ItemDefinitionType) type : null;
+            Map<String, String> names = itemDefinitionType == null ? Collections.emptyMap() : jsonMemberNames.getOrDefault(itemDefinitionType.getName(), Collections.emptyMap());
+            generator.writeStartObject();
+            for (Map.Entry<Object, Object> entry : ((Context) value).getBindings().entrySet()) {
+                String member = String.valueOf(entry.getKey());
+                generator.writeFieldName(names.getOrDefault(member, member));
+                writeFEEL(generator, entry.getValue(), itemDefinitionType == null ? null : itemDefinitionType.getMemberType(member));
+            }
+            generator.writeEndObject();
+        } else {
+            generator.writeString(lib.string(value));
+        }
+    }
+}
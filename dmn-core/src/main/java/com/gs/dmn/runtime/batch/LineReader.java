@@ -0,0 +1,125 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of a file as UTF-8 bytes, chunk by chunk, through a reusable buffer or memory-mapped regions.
+ * The line terminators ('\n' or "\r\n") are removed; a line that spans two chunks is carried over.
+ */
+class LineReader implements Closeable {
+    static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    static final int DEFAULT_MAPPED_REGION_SIZE = 1 << 26;
+
+    private final FileChannel channel;
+    private final boolean mapped;
+    private final int chunkSize;
+    private final long size;
+    private long position;
+    private ByteBuffer chunk;
+    private byte[] carry = new byte[256];
+    private int carryLength;
+
+    LineReader(Path path, boolean mapped) throws IOException {
+        this(path, mapped, mapped ? DEFAULT_MAPPED_REGION_SIZE : DEFAULT_BUFFER_SIZE);
+    }
+
+    LineReader(Path path, boolean mapped, int chunkSize) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal chunk size '%d'", chunkSize));
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.mapped = mapped;
+        this.chunkSize = chunkSize;
+        this.size = channel.size();
+        this.position = 0;
+    }
+
+    // Next line or null at the end of the file
+    byte[] readLine() throws IOException {
+        while (true) {
+            if (chunk == null || !chunk.hasRemaining()) {
+                if (!nextChunk()) {
+                    return carryLength == 0 ? null : takeLine();
+                }
+            }
+            int start = chunk.position();
+            int limit = chunk.limit();
+            for (int i = start; i < limit; i++) {
+                if (chunk.get(i) == '\n') {
+                    append(start, i);
+                    chunk.position(i + 1);
+                    return takeLine();
+                }
+            }
+            append(start, limit);
+            chunk.position(limit);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean nextChunk() throws IOException {
+        if (position >= size) {
+            return false;
+        }
+        if (mapped) {
+            long length = Math.min(chunkSize, size - position);
+            chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            position += length;
+        } else {
+            if (chunk == null) {
+                chunk = ByteBuffer.allocate(chunkSize);
+            }
+            chunk.clear();
+            int count = channel.read(chunk, position);
+            if (count <= 0) {
+                return false;
+            }
+            chunk.flip();
+            position += count;
+        }
+        return true;
+    }
+
+    private void append(int start, int end) {
+        int length = end - start;
+        if (carryLength + length > carry.length) {
+            carry = Arrays.copyOf(carry, Math.max(carry.length * 2, carryLength + length));
+        }
+        int oldPosition = chunk.position();
+        chunk.position(start);
+        chunk.get(carry, carryLength, length);
+        chunk.position(oldPosition);
+        carryLength += length;
+    }
+
+    private byte[] takeLine() {
+        int length = carryLength;
+        if (length > 0 && carry[length - 1] == '\r') {
+            length--;
+        }
+        carryLength = 0;
+        return Arrays.copyOf(carry, length);
+    }
+}
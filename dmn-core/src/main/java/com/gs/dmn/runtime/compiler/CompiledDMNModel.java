@@ -0,0 +1,139 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.compiler;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.runtime.listener.Arguments;
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.Rule;
+import org.omg.spec.dmn._20180521.model.TDRGElement;
+import org.omg.spec.dmn._20180521.model.TInputData;
+
+import java.util.*;
+
+/**
+ * Model produced by JavaAssistDMNCompiler. The compiled decisions are called directly, the other ones are evaluated
+ * by the interpreter. Each sub-decision is evaluated once per call. Instances are thread-safe.
+ * The events of the compiled decisions are sent to the event listener of the interpreter.
+ */
+public class CompiledDMNModel {
+    private final DMNModelRepository repository;
+    private final DMNInterpreter interpreter;
+    private final Map<String, Entry> compiledDecisions;
+
+    CompiledDMNModel(DMNModelRepository repository, DMNInterpreter interpreter, Map<String, Entry> compiledDecisions) {
+        this.repository = repository;
+        this.interpreter = interpreter;
+        this.compiledDecisions = compiledDecisions;
+    }
+
+    public DMNInterpreter getInterpreter() {
+        return interpreter;
+    }
+
+    // Model sharing the compiled decisions of this one, whose events go to eventListener
+    public CompiledDMNModel withEventListener(EventListener eventListener) {
+        return new CompiledDMNModel(repository, interpreter.withEventListener(eventListener), compiledDecisions);
+    }
+
+    public boolean isCompiled(String decisionName) {
+        return compiledDecisions.containsKey(decisionName);
+    }
+
+    public Set<String> getCompiledDecisionNames() {
+        return Collections.unmodifiableSet(compiledDecisions.keySet());
+    }
+
+    public Object evaluate(String decisionName, Map<String, Object> inputs) {
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+        for (Map.Entry<String, Object> entry : inputs.entrySet()) {
+            runtimeEnvironment.bind(entry.getKey(), entry.getValue());
+        }
+        return evaluate(decisionName, runtimeEnvironment);
+    }
+
+    public Object evaluate(String decisionName, RuntimeEnvironment runtimeEnvironment) {
+        return evaluate(decisionName, runtimeEnvironment, new HashMap<>());
+    }
+
+    private Object evaluate(String drgElementName, RuntimeEnvironment runtimeEnvironment, Map<String, Object> results) {
+        if (results.containsKey(drgElementName)) {
+            return results.get(drgElementName);
+        }
+
+        Object result;
+        Entry compiledDecision = compiledDecisions.get(drgElementName);
+        if (compiledDecision != null) {
+            List<String> inputs = compiledDecision.inputs;
+            Object[] arguments = new Object[inputs.size()];
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = evaluate(inputs.get(i), runtimeEnvironment, results);
+            }
+            result = evaluate(compiledDecision, arguments);
+        } else {
+            TDRGElement element = repository.findDRGElementByName(drgElementName);
+            if (element == null) {
+                throw new DMNRuntimeException(String.format("Cannot find DRG element '%s'", drgElementName));
+            } else if (element instanceof TInputData) {
+                result = runtimeEnvironment.lookupBinding(drgElementName);
+            } else {
+                // The interpreter binds the results, keep the caller's environment unchanged
+                result = interpreter.evaluate(drgElementName, RuntimeEnvironmentFactory.instance().makeEnvironment(runtimeEnvironment));
+            }
+        }
+        results.put(drgElementName, result);
+        return result;
+    }
+
+    // Same events as the generated code
+    private Object evaluate(Entry compiledDecision, Object[] arguments) {
+        EventListener eventListener = interpreter.getEventListener();
+        long startTime = System.nanoTime();
+        Arguments eventArguments = null;
+        if (eventListener.isTraced(compiledDecision.metadata)) {
+            eventArguments = new Arguments();
+            for (int i = 0; i < arguments.length; i++) {
+                eventArguments.put(compiledDecision.inputs.get(i), arguments[i]);
+            }
+        }
+        Object result;
+        try {
+            eventListener.startDRGElement(compiledDecision.metadata, eventArguments);
+            result = compiledDecision.decision.evaluate(arguments, eventListener, compiledDecision.metadata, compiledDecision.rules);
+        } catch (RuntimeException e) {
+            eventListener.endDRGElementNanos(compiledDecision.metadata, eventArguments, null, System.nanoTime() - startTime);
+            throw e;
+        }
+        eventListener.endDRGElementNanos(compiledDecision.metadata, eventArguments, result, System.nanoTime() - startTime);
+        return result;
+    }
+
+    static class Entry {
+        private final CompiledDecision decision;
+        private final List<String> inputs;
+        private final DRGElement metadata;
+        private final Rule[] rules;
+
+        Entry(CompiledDecision decision, List<String> inputs, DRGElement metadata, Rule[] rules) {
+            this.decision = decision;
+            this.inputs = inputs;
+            this.metadata = metadata;
+            this.rules = rules;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.compiler;
+
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.Rule;
+
+// Decision compiled to bytecode by JavaAssistDMNCompiler. The arguments are the direct inputs of the decision (input data
+// and sub-decisions) in the order of the generated evaluate method.
+// The rule events are sent to the listener when it traces the element; rules are the metadata of the rules, by index.
+public interface CompiledDecision {
+    Object evaluate(Object[] arguments, EventListener eventListener, DRGElement element, Rule[] rules);
+}
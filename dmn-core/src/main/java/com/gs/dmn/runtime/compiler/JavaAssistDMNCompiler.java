@@ -0,0 +1,310 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.compiler;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.feel.lib.FEELLib;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.Rule;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import com.gs.dmn.transformation.java.CompoundStatement;
+import com.gs.dmn.transformation.java.ExpressionStatement;
+import com.gs.dmn.transformation.java.Statement;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import javassist.*;
+import org.omg.spec.dmn._20180521.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Compiles a subset of the decisions of a model directly to bytecode, without FreeMarker templates and javac.
+ * The Java code of the expressions comes from the same transformer as dmn2java, but the method around it is built here
+ * and is not the code of the dmn2java templates.
+ *
+ * Compiled: decisions (not BKMs or decision services) whose expression is
+ * - a literal expression translated to a single Java expression, or
+ * - a decision table with one output and the hit policy UNIQUE, ANY, FIRST, RULE ORDER or COLLECT (with or without aggregator),
+ * when javassist compiles the translated code. Javassist rejects generics (e.g. explicit type arguments in singleton
+ * list conversions), lambdas (e.g. filters, iterations, sort) and the generated item definition classes, which are not
+ * available at runtime; the translated code is not rewritten to work around these limits.
+ *
+ * The other decisions are evaluated by the interpreter, e.g. PRIORITY and OUTPUT ORDER tables, compound tables, contexts,
+ * relations, lists, invocations; the number of decisions evaluated by the interpreter is logged at INFO level.
+ * Compiled decisions report the element and rule events to the listener of the interpreter, but not the annotations.
+ */
+public class JavaAssistDMNCompiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JavaAssistDMNCompiler.class);
+
+    private static final int MAX_VARARGS_ARITY = 10;
+
+    private final DMNDialectDefinition dialectDefinition;
+    private final Map<String, String> inputParameters;
+
+    public JavaAssistDMNCompiler(DMNDialectDefinition dialectDefinition, Map<String, String> inputParameters) {
+        this.dialectDefinition = dialectDefinition;
+        this.inputParameters = inputParameters;
+    }
+
+    public CompiledDMNModel compile(DMNModelRepository repository) {
+        BasicDMN2JavaTransformer dmnTransformer = this.dialectDefinition.createBasicTransformer(repository, new NopLazyEvaluationDetector(), this.inputParameters);
+        DMNInterpreter interpreter = this.dialectDefinition.createDMNInterpreter(repository);
+        FEELLib<?, ?, ?, ?, ?> feelLib = this.dialectDefinition.createFEELLib();
+
+        ClassPool classPool = new ClassPool(true);
+        classPool.appendClassPath(new LoaderClassPath(feelLib.getClass().getClassLoader()));
+        classPool.importPackage("java.util");
+        ByteArrayClassLoader classLoader = new ByteArrayClassLoader(feelLib.getClass().getClassLoader());
+        CtClass baseClass = compileBaseClass(feelLib.getClass(), classPool, classLoader);
+
+        Map<String, CompiledDMNModel.Entry> compiledDecisions = new LinkedHashMap<>();
+        Map<String, String> interpretedDecisions = new LinkedHashMap<>();
+        for (TDecision decision : repository.decisions()) {
+            long startTime = System.currentTimeMillis();
+            try {
+                CompiledDecision compiledDecision = compile(decision, dmnTransformer, baseClass, classPool, classLoader);
+                List<String> inputs = new ArrayList<>();
+                for (TDRGElement input : dmnTransformer.drgElementDirectInputs(decision)) {
+                    inputs.add(input.getName());
+                }
+                compiledDecisions.put(decision.getName(), new CompiledDMNModel.Entry(compiledDecision, inputs, makeDRGElementMetadata(decision, dmnTransformer), makeRuleMetadata(decision, dmnTransformer)));
+                LOGGER.debug("Compiled decision '{}' in {}ms", decision.getName(), System.currentTimeMillis() - startTime);
+            } catch (Exception | LinkageError e) {
+                interpretedDecisions.put(decision.getName(), e.getMessage());
+                LOGGER.debug("Cannot compile decision '{}', using interpreter: {}", decision.getName(), e.getMessage());
+            }
+        }
+        if (!interpretedDecisions.isEmpty()) {
+            LOGGER.info("Compiled {} of {} decisions, {} evaluated by the interpreter: {}", compiledDecisions.size(), compiledDecisions.size() + interpretedDecisions.size(), interpretedDecisions.size(), interpretedDecisions.keySet());
+        }
+        return new CompiledDMNModel(repository, interpreter, compiledDecisions);
+    }
+
+    private DRGElement makeDRGElementMetadata(TDecision decision, BasicDMN2JavaTransformer dmnTransformer) {
+        DMNModelRepository repository = dmnTransformer.getDMNModelRepository();
+        return new DRGElement(null,
+                repository.name(decision),
+                repository.label(decision),
+                dmnTransformer.elementKind(decision),
+                dmnTransformer.expressionKind(decision),
+                dmnTransformer.hitPolicy(decision),
+                repository.rulesCount(decision)
+        );
+    }
+
+    private Rule[] makeRuleMetadata(TDecision decision, BasicDMN2JavaTransformer dmnTransformer) {
+        TExpression expression = dmnTransformer.getDMNModelRepository().expression(decision);
+        if (!(expression instanceof TDecisionTable)) {
+            return new Rule[0];
+        }
+        List<TDecisionRule> rules = ((TDecisionTable) expression).getRule();
+        Rule[] result = new Rule[rules.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new Rule(i, dmnTransformer.annotationEscapedText(rules.get(i)));
+        }
+        return result;
+    }
+
+    // Library class extended with the fixed arity overloads of the varargs methods
+    private CtClass compileBaseClass(Class<?> libClass, ClassPool classPool, ByteArrayClassLoader classLoader) {
+        String className = JavaAssistDMNCompiler.class.getPackage().getName() + ".CompiledDecisionBase";
+        try {
+            CtClass baseClass = classPool.makeClass(className);
+            baseClass.setSuperclass(classPool.get(libClass.getName()));
+            baseClass.addConstructor(CtNewConstructor.defaultConstructor(baseClass));
+            for (String helperMethodText : varargsHelperMethodTexts(libClass)) {
+                baseClass.addMethod(CtNewMethod.make(helperMethodText, baseClass));
+            }
+            classLoader.define(className, baseClass.toBytecode());
+            return baseClass;
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot compile base class for '%s'", libClass.getName()), e);
+        }
+    }
+
+    private CompiledDecision compile(TDecision decision, BasicDMN2JavaTransformer dmnTransformer, CtClass baseClass, ClassPool classPool, ByteArrayClassLoader classLoader) throws Exception {
+        String evaluateMethodText = evaluateMethodText(decision, dmnTransformer);
+
+        String className = dmnTransformer.qualifiedName(dmnTransformer.javaRootPackageName(), dmnTransformer.drgElementClassName(decision));
+        CtClass decisionClass = classPool.makeClass(className);
+        decisionClass.setSuperclass(baseClass);
+        decisionClass.addInterface(classPool.get(CompiledDecision.class.getName()));
+        decisionClass.addConstructor(CtNewConstructor.defaultConstructor(decisionClass));
+        decisionClass.addMethod(CtNewMethod.make(evaluateMethodText, decisionClass));
+
+        byte[] bytecode = decisionClass.toBytecode();
+        decisionClass.detach();
+        Class<?> cls = classLoader.define(className, bytecode);
+        return (CompiledDecision) cls.newInstance();
+    }
+
+    private String evaluateMethodText(TDecision decision, BasicDMN2JavaTransformer dmnTransformer) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("public Object evaluate(Object[] args_, %s %s, %s element_, %s[] rules_) {\n", dmnTransformer.eventListenerClassName(), dmnTransformer.eventListenerVariableName(), dmnTransformer.drgElementMetadataClassName(), dmnTransformer.drgRuleMetadataClassName()));
+        builder.append(String.format("    %s %s = new %s();\n", dmnTransformer.annotationSetClassName(), dmnTransformer.annotationSetVariableName(), dmnTransformer.annotationSetClassName()));
+        builder.append(String.format("    %s %s = new %s();\n", dmnTransformer.externalExecutorClassName(), dmnTransformer.externalExecutorVariableName(), dmnTransformer.defaultExternalExecutorClassName()));
+        List<Pair<String, String>> parameters = dmnTransformer.drgElementDirectParameters(decision);
+        for (int i = 0; i < parameters.size(); i++) {
+            String javaType = erasure(parameters.get(i).getRight());
+            builder.append(String.format("    %s %s = (%s) args_[%d];\n", javaType, parameters.get(i).getLeft(), javaType, i));
+        }
+
+        DMNModelRepository repository = dmnTransformer.getDMNModelRepository();
+        if (repository.isLiteralExpression(decision)) {
+            Statement statement = dmnTransformer.expressionToJava(decision);
+            if (statement instanceof CompoundStatement) {
+                throw new DMNRuntimeException("Compound statements are not supported");
+            }
+            builder.append(String.format("    return %s;\n", ((ExpressionStatement) statement).getExpression()));
+        } else if (repository.isDecisionTableExpression(decision)) {
+            addDecisionTable(decision, dmnTransformer, builder);
+        } else {
+            throw new DMNRuntimeException(String.format("'%s' is not supported", repository.expression(decision).getClass().getSimpleName()));
+        }
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    private void addDecisionTable(TDecision decision, BasicDMN2JavaTransformer dmnTransformer, StringBuilder builder) {
+        TDecisionTable decisionTable = (TDecisionTable) dmnTransformer.getDMNModelRepository().expression(decision);
+        THitPolicy hitPolicy = decisionTable.getHitPolicy() == null ? THitPolicy.UNIQUE : decisionTable.getHitPolicy();
+        if (decisionTable.getOutput().size() != 1) {
+            throw new DMNRuntimeException("Compound decision tables are not supported");
+        }
+        if (hitPolicy == THitPolicy.PRIORITY || hitPolicy == THitPolicy.OUTPUT_ORDER) {
+            throw new DMNRuntimeException(String.format("Hit policy '%s' is not supported", hitPolicy));
+        }
+        boolean singleHit = hitPolicy == THitPolicy.UNIQUE || hitPolicy == THitPolicy.FIRST || hitPolicy == THitPolicy.ANY;
+
+        // Same semantics as RuleOutputList.applySingle() and applyMultiple(), same events as the generated rule methods
+        String eventListener = dmnTransformer.eventListenerVariableName();
+        builder.append(String.format("    boolean traced_ = %s.isTraced(element_);\n", eventListener));
+        builder.append("    Object ruleOutput_;\n");
+        builder.append("    java.util.List outputs_ = new java.util.ArrayList();\n");
+        List<TDecisionRule> rules = decisionTable.getRule();
+        for (int i = 0; i < rules.size(); i++) {
+            TDecisionRule rule = rules.get(i);
+            String outputEntry = dmnTransformer.outputEntryToJava(decision, rule.getOutputEntry().get(0), 0);
+            builder.append(String.format("    if (traced_) { %s.startRule(element_, rules_[%d]); }\n", eventListener, i));
+            builder.append(String.format("    if (%s) {\n", condition(decision, rule, dmnTransformer)));
+            builder.append(String.format("        if (traced_) { %s.matchRule(element_, rules_[%d]); }\n", eventListener, i));
+            builder.append(String.format("        ruleOutput_ = %s;\n", outputEntry));
+            builder.append("        outputs_.add(ruleOutput_);\n");
+            builder.append(String.format("        if (traced_) { %s.endRule(element_, rules_[%d], ruleOutput_); }\n", eventListener, i));
+            if (hitPolicy == THitPolicy.FIRST) {
+                builder.append("        return outputs_.get(0);\n");
+            }
+            builder.append(String.format("    } else if (traced_) {\n        %s.endRule(element_, rules_[%d], null);\n", eventListener, i));
+            builder.append("    }\n");
+        }
+        builder.append("    if (outputs_.isEmpty()) {\n");
+        builder.append(String.format("        return %s;\n", dmnTransformer.defaultValue(decision)));
+        builder.append("    }\n");
+        if (singleHit) {
+            if (hitPolicy == THitPolicy.UNIQUE) {
+                builder.append("    if (outputs_.size() > 1) {\n");
+                builder.append("        return null;\n");
+                builder.append("    }\n");
+            } else if (hitPolicy == THitPolicy.ANY) {
+                builder.append("    if (new java.util.HashSet(outputs_).size() > 1) {\n");
+                builder.append("        return null;\n");
+                builder.append("    }\n");
+            }
+            builder.append("    return outputs_.get(0);\n");
+        } else {
+            TBuiltinAggregator aggregation = decisionTable.getAggregation();
+            if (aggregation == null) {
+                builder.append("    return outputs_;\n");
+            } else if (aggregation == TBuiltinAggregator.COUNT) {
+                builder.append("    return number(Integer.toString(outputs_.size()));\n");
+            } else {
+                builder.append(String.format("    return %s(outputs_);\n", aggregation.value().toLowerCase()));
+            }
+        }
+    }
+
+    private String condition(TDecision decision, TDecisionRule rule, BasicDMN2JavaTransformer dmnTransformer) {
+        // Skip the '-' entries
+        List<String> parts = new ArrayList<>();
+        for (String part : dmnTransformer.conditionParts(decision, rule)) {
+            if (!"true".equals(part)) {
+                parts.add(part);
+            }
+        }
+        if (parts.isEmpty()) {
+            return "true";
+        } else if (parts.size() == 1) {
+            return String.format("Boolean.TRUE == %s", parts.get(0));
+        } else {
+            return String.format("Boolean.TRUE == booleanAnd(%s)", String.join(", ", parts));
+        }
+    }
+
+    // Fixed arity overloads for the varargs methods of the library, javassist does not support varargs calls
+    private List<String> varargsHelperMethodTexts(Class<?> libClass) {
+        Map<String, Method> varargsMethods = new LinkedHashMap<>();
+        Set<String> declaredMethods = new HashSet<>();
+        for (Method method : libClass.getMethods()) {
+            declaredMethods.add(method.getName() + "/" + method.getParameterCount());
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (method.isVarArgs() && !method.isBridge() && parameterTypes.length == 1 && parameterTypes[0] == Object[].class) {
+                varargsMethods.putIfAbsent(method.getName(), method);
+            }
+        }
+
+        List<String> methods = new ArrayList<>();
+        for (Method method : varargsMethods.values()) {
+            String returnType = method.getReturnType().getCanonicalName();
+            for (int arity = 0; arity <= MAX_VARARGS_ARITY; arity++) {
+                // Keep the existing overloads (e.g. min(List))
+                if (declaredMethods.contains(method.getName() + "/" + arity)) {
+                    continue;
+                }
+                StringBuilder parameters = new StringBuilder();
+                StringBuilder arguments = new StringBuilder();
+                for (int i = 0; i < arity; i++) {
+                    if (i > 0) {
+                        parameters.append(", ");
+                        arguments.append(", ");
+                    }
+                    parameters.append("Object p").append(i);
+                    arguments.append("p").append(i);
+                }
+                String array = arity == 0 ? "new Object[0]" : String.format("new Object[] {%s}", arguments);
+                methods.add(String.format("public %s %s(%s) { return %s(%s); }", returnType, method.getName(), parameters, method.getName(), array));
+            }
+        }
+        return methods;
+    }
+
+    private static String erasure(String javaType) {
+        int index = javaType.indexOf('<');
+        return index == -1 ? javaType : javaType.substring(0, index);
+    }
+
+    private static class ByteArrayClassLoader extends ClassLoader {
+        ByteArrayClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String className, byte[] bytecode) {
+            return defineClass(className, bytecode, 0, bytecode.length);
+        }
+    }
+}
@@ -18,15 +18,97 @@ import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.FilterBuilder;
 
-import java.util.Set;
+import java.util.*;
+import java.util.regex.Pattern;
 
+/**
+ * Finds the generated decisions and BKMs. When the registries generated at build time cover the package, the classes are
+ * taken from the registries and the classpath is not scanned. Otherwise the package is scanned for classes annotated
+ * with @DRGElement. Scanning the packages without a registry next to the registered ones is an explicit option.
+ */
 public class DecisionDiscovery {
+    private final ClassLoader classLoader;
+    private volatile List<ModelElementRegistry> registries;
+
+    public DecisionDiscovery() {
+        this(DecisionDiscovery.class.getClassLoader());
+    }
+
+    public DecisionDiscovery(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
     public Set<Class<?>> discover(String packagePrefix) {
-        Reflections reflections = new Reflections(new ConfigurationBuilder()
+        return discover(packagePrefix, false);
+    }
+
+    // The packages without a registry are scanned when there is no registry for the prefix or when requested explicitly
+    public Set<Class<?>> discover(String packagePrefix, boolean scanUnregisteredPackages) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        Set<String> registeredPackages = new LinkedHashSet<>();
+        for (RegistryEntry entry : discoverEntries(packagePrefix)) {
+            registeredPackages.add(entry.getPackageName());
+            if (!entry.isItemDefinition()) {
+                classes.add(entry.getJavaClass());
+            }
+        }
+        if (registeredPackages.isEmpty() || scanUnregisteredPackages) {
+            classes.addAll(scan(packagePrefix, registeredPackages));
+        }
+        return classes;
+    }
+
+    // Entries of the generated registries in the package
+    public List<RegistryEntry> discoverEntries(String packagePrefix) {
+        List<RegistryEntry> entries = new ArrayList<>();
+        for (ModelElementRegistry registry : getRegistries()) {
+            for (RegistryEntry entry : registry.getEntries()) {
+                if (entry.getClassName().startsWith(packagePrefix)) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    public RegistryEntry findEntry(String className) {
+        for (ModelElementRegistry registry : getRegistries()) {
+            RegistryEntry entry = registry.getEntry(className);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    public List<ModelElementRegistry> getRegistries() {
+        if (this.registries == null) {
+            List<ModelElementRegistry> registries = new ArrayList<>();
+            for (ModelElementRegistry registry : ServiceLoader.load(ModelElementRegistry.class, this.classLoader)) {
+                registries.add(registry);
+            }
+            this.registries = registries;
+        }
+        return this.registries;
+    }
+
+    public Set<Class<?>> scan(String packagePrefix) {
+        return scan(packagePrefix, Collections.emptySet());
+    }
+
+    // Scans the package without reading the class files of the excluded packages (their sub-packages are scanned)
+    public Set<Class<?>> scan(String packagePrefix, Set<String> excludedPackages) {
+        FilterBuilder filter = new FilterBuilder().includePackage(packagePrefix);
+        for (String excludedPackage : excludedPackages) {
+            filter.exclude(Pattern.quote(excludedPackage + ".") + "[^.]+\\.class");
+        }
+        return makeReflections(packagePrefix, filter).getTypesAnnotatedWith(DRGElement.class);
+    }
+
+    protected Reflections makeReflections(String packagePrefix, FilterBuilder filter) {
+        return new Reflections(new ConfigurationBuilder()
                 .setUrls(ClasspathHelper.forPackage(packagePrefix))
-                .filterInputsBy(new FilterBuilder().includePackage(packagePrefix))
+                .filterInputsBy(filter)
         );
-        return reflections.getTypesAnnotatedWith(DRGElement.class);
     }
 }
-
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.discovery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of the registries generated by dmn2java (input parameter 'generateRegistry').
+ * The generated registries are listed in META-INF/services and loaded by DecisionDiscovery with a ServiceLoader.
+ */
+public abstract class ModelElementRegistry {
+    private final Map<String, RegistryEntry> entries = new LinkedHashMap<>();
+
+    protected void register(RegistryEntry entry) {
+        entry.setClassLoader(getClass().getClassLoader());
+        this.entries.put(entry.getClassName(), entry);
+    }
+
+    public List<RegistryEntry> getEntries() {
+        return new ArrayList<>(this.entries.values());
+    }
+
+    public RegistryEntry getEntry(String className) {
+        return this.entries.get(className);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.discovery;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.listener.DRGElement;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// Generated class registered in a ModelElementRegistry: a decision, a BKM or an item definition (metadata is null).
+// The class is loaded (without being initialized) and the metadata is read only when they are requested.
+public class RegistryEntry {
+    private final String className;
+    private final Supplier<DRGElement> metadata;
+    private final List<String> parameterNames;
+    private final List<String> parameterTypes;
+    private final Supplier<?> factory;
+    private volatile ClassLoader classLoader;
+    private volatile Class<?> javaClass;
+
+    public RegistryEntry(String className, Supplier<DRGElement> metadata, List<String> parameterNames, List<String> parameterTypes, Supplier<?> factory) {
+        this.className = className;
+        this.metadata = metadata;
+        this.parameterNames = parameterNames;
+        this.parameterTypes = parameterTypes;
+        this.factory = factory;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getPackageName() {
+        int index = className.lastIndexOf('.');
+        return index == -1 ? "" : className.substring(0, index);
+    }
+
+    public Class<?> getJavaClass() {
+        if (javaClass == null) {
+            try {
+                ClassLoader loader = classLoader == null ? RegistryEntry.class.getClassLoader() : classLoader;
+                javaClass = Class.forName(className, false, loader);
+            } catch (ClassNotFoundException e) {
+                throw new DMNRuntimeException(String.format("Cannot load registered class '%s'", className), e);
+            }
+        }
+        return javaClass;
+    }
+
+    public DRGElement getMetadata() {
+        return metadata == null ? null : metadata.get();
+    }
+
+    public boolean isItemDefinition() {
+        return metadata == null;
+    }
+
+    // Names and Java types of the parameters of apply (without the annotation set, event listener and external executor)
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    public List<String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    // New decision or item definition, the singleton for BKMs
+    public Object newInstance() {
+        return factory.get();
+    }
+
+    // Class loader of the registry
+    void setClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+}
@@ -13,6 +13,7 @@
 package com.gs.dmn.runtime.interpreter;
 
 import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.feel.analysis.ASTCache;
 import com.gs.dmn.feel.analysis.semantics.environment.Environment;
 import com.gs.dmn.feel.analysis.semantics.environment.EnvironmentFactory;
 import com.gs.dmn.feel.analysis.semantics.type.ListType;
@@ -52,16 +53,42 @@ public class DMNInterpreter {
         EVENT_LISTENER = eventListener;
     }
 
+    // Listener of this interpreter, the static one when null
+    private final EventListener instanceEventListener;
+
     private final BasicDMN2JavaTransformer basicDMNTransformer;
     private final FEELLib feelLib;
+    private final ASTCache astCache;
     private final FEELInterpreter feelInterpreter;
 
     public DMNInterpreter(BasicDMN2JavaTransformer basicDMNTransformer, FEELLib feelLib) {
+        this(basicDMNTransformer, feelLib, null, null);
+    }
+
+    // Interpreters sharing the transformer and the AST cache share the analyzed FEEL expressions (e.g. one per thread)
+    public DMNInterpreter(BasicDMN2JavaTransformer basicDMNTransformer, FEELLib feelLib, ASTCache astCache) {
+        this(basicDMNTransformer, feelLib, astCache, null);
+    }
+
+    // eventListener receives the events of this interpreter, the static listener is used when null
+    public DMNInterpreter(BasicDMN2JavaTransformer basicDMNTransformer, FEELLib feelLib, ASTCache astCache, EventListener eventListener) {
         this.basicDMNTransformer = basicDMNTransformer;
         this.dmnModelRepository = basicDMNTransformer.getDMNModelRepository();
         this.environmentFactory = basicDMNTransformer.getEnvironmentFactory();
         this.feelLib = feelLib;
-        this.feelInterpreter = new FEELInterpreterImpl(this);
+        this.astCache = astCache != null ? astCache : makeASTCache(this.dmnModelRepository);
+        this.feelInterpreter = new FEELInterpreterImpl(this, this.astCache);
+        this.instanceEventListener = eventListener;
+    }
+
+    private static ASTCache makeASTCache(DMNModelRepository repository) {
+        ASTCache astCache = repository.getASTCache();
+        return astCache != null ? astCache : new ASTCache();
+    }
+
+    // Interpreter sharing the model, the library and the analyzed FEEL expressions of this one, with its own listener (e.g. for warm-up)
+    public DMNInterpreter withEventListener(EventListener eventListener) {
+        return new DMNInterpreter(basicDMNTransformer, feelLib, astCache, eventListener);
     }
 
     public BasicDMN2JavaTransformer getBasicDMNTransformer() {
@@ -72,6 +99,19 @@ public class DMNInterpreter {
         return feelLib;
     }
 
+    public FEELInterpreter getFeelInterpreter() {
+        return feelInterpreter;
+    }
+
+    // Listener used by this interpreter: the instance one or the static one
+    public EventListener getEventListener() {
+        return eventListener();
+    }
+
+    private EventListener eventListener() {
+        return instanceEventListener != null ? instanceEventListener : EVENT_LISTENER;
+    }
+
     public Object evaluate(String drgElementName, RuntimeEnvironment runtimeEnvironment) {
         TDRGElement drgElement = dmnModelRepository.findDRGElementByName(drgElementName);
         evaluate(drgElement, runtimeEnvironment);
@@ -95,29 +135,35 @@ public class DMNInterpreter {
         RuntimeEnvironment bkmRuntimeEnvironment = runtimeEnvironmentFactory.makeEnvironment(context.getRuntimeEnvironment());
 
         // BKM start
-        long startTime_ = System.currentTimeMillis();
+        long startTime_ = System.nanoTime();
         DRGElement drgElementAnnotation = makeDRGElementAnnotation(bkm, bkmRuntimeEnvironment);
-        com.gs.dmn.runtime.listener.Arguments decisionArguments = makeArguments(bkm, bkmRuntimeEnvironment);
-        EVENT_LISTENER.startDRGElement(drgElementAnnotation, decisionArguments);
+        com.gs.dmn.runtime.listener.Arguments decisionArguments = eventListener().isTraced(drgElementAnnotation) ? makeArguments(bkm, bkmRuntimeEnvironment) : null;
+        Object output;
+        try {
+            eventListener().startDRGElement(drgElementAnnotation, decisionArguments);
+
+            // Bind parameters
+            Environment bkmEnvironment = environmentFactory.makeEnvironment(context.getEnvironment());
+            List<TInformationItem> formalParameterList = bkm.getEncapsulatedLogic().getFormalParameter();
+            for (int i = 0; i < formalParameterList.size(); i++) {
+                TInformationItem param = formalParameterList.get(i);
+                String name = param.getName();
+                Type type = basicDMNTransformer.toFEELType(QualifiedName.toQualifiedName(param.getTypeRef()));
+                Object value = argList.get(i);
+                bkmEnvironment.addDeclaration(environmentFactory.makeVariableDeclaration(name, type));
+                bkmRuntimeEnvironment.bind(name, value);
+            }
 
-        // Bind parameters
-        Environment bkmEnvironment = environmentFactory.makeEnvironment(context.getEnvironment());
-        List<TInformationItem> formalParameterList = bkm.getEncapsulatedLogic().getFormalParameter();
-        for (int i = 0; i < formalParameterList.size(); i++) {
-            TInformationItem param = formalParameterList.get(i);
-            String name = param.getName();
-            Type type = basicDMNTransformer.toFEELType(QualifiedName.toQualifiedName(param.getTypeRef()));
-            Object value = argList.get(i);
-            bkmEnvironment.addDeclaration(environmentFactory.makeVariableDeclaration(name, type));
-            bkmRuntimeEnvironment.bind(name, value);
+            // Execute function body
+            TExpression expression = dmnModelRepository.expression(bkm);
+            output = evaluateExpression(expression, bkmEnvironment, bkmRuntimeEnvironment, bkm, drgElementAnnotation);
+        } catch (RuntimeException e) {
+            endFailedDRGElement(drgElementAnnotation, decisionArguments, startTime_);
+            throw e;
         }
 
-        // Execute function body
-        TExpression expression = dmnModelRepository.expression(bkm);
-        Object output = evaluateExpression(expression, bkmEnvironment, bkmRuntimeEnvironment, bkm, drgElementAnnotation);
-
         // Decision end
-        EVENT_LISTENER.endDRGElement(drgElementAnnotation, decisionArguments, output, (System.currentTimeMillis() - startTime_));
+        eventListener().endDRGElementNanos(drgElementAnnotation, decisionArguments, output, System.nanoTime() - startTime_);
 
         return output;
     }
@@ -126,42 +172,47 @@ public class DMNInterpreter {
         RuntimeEnvironment serviceRuntimeEnvironment = runtimeEnvironmentFactory.makeEnvironment(context.getRuntimeEnvironment());
 
         // Decision Service start
-        long startTime_ = System.currentTimeMillis();
+        long startTime_ = System.nanoTime();
         DRGElement drgElementAnnotation = makeDRGElementAnnotation(service, serviceRuntimeEnvironment);
-        com.gs.dmn.runtime.listener.Arguments decisionArguments = makeArguments(service, serviceRuntimeEnvironment);
-        EVENT_LISTENER.startDRGElement(drgElementAnnotation, decisionArguments);
+        com.gs.dmn.runtime.listener.Arguments decisionArguments = eventListener().isTraced(drgElementAnnotation) ? makeArguments(service, serviceRuntimeEnvironment) : null;
+        Context output = new Context();
+        try {
+            eventListener().startDRGElement(drgElementAnnotation, decisionArguments);
+
+            // Bind parameters
+            Environment serviceEnvironment = environmentFactory.makeEnvironment(context.getEnvironment());
+            List<FormalParameter> formalParameterList = basicDMNTransformer.dsFEELParameters(service);
+            for (int i = 0; i < formalParameterList.size(); i++) {
+                FormalParameter param = formalParameterList.get(i);
+                String name = param.getName();
+                Type type = param.getType();
+                Object value = argList.get(i);
+                serviceEnvironment.addDeclaration(environmentFactory.makeVariableDeclaration(name, type));
+                serviceRuntimeEnvironment.bind(name, value);
+            }
 
-        // Bind parameters
-        Environment serviceEnvironment = environmentFactory.makeEnvironment(context.getEnvironment());
-        List<FormalParameter> formalParameterList = basicDMNTransformer.dsFEELParameters(service);
-        for (int i = 0; i < formalParameterList.size(); i++) {
-            FormalParameter param = formalParameterList.get(i);
-            String name = param.getName();
-            Type type = param.getType();
-            Object value = argList.get(i);
-            serviceEnvironment.addDeclaration(environmentFactory.makeVariableDeclaration(name, type));
-            serviceRuntimeEnvironment.bind(name, value);
-        }
+            // Evaluate output decisions
+            List<TDecision> outputDecisions = service.getOutputDecision().stream().map(er -> dmnModelRepository.findDecisionById(er.getHref())).collect(Collectors.toList());
+            for (TDecision decision: outputDecisions) {
+                evaluateDecision(decision, serviceRuntimeEnvironment);
+            }
 
-        // Evaluate output decisions
-        List<TDecision> outputDecisions = service.getOutputDecision().stream().map(er -> dmnModelRepository.findDecisionById(er.getHref())).collect(Collectors.toList());
-        for (TDecision decision: outputDecisions) {
-            evaluateDecision(decision, serviceRuntimeEnvironment);
-        }
+            // Make context result
+            for(TDecision decision: outputDecisions) {
+                String key = decision.getName();
+                Object value = serviceRuntimeEnvironment.lookupBinding(key);
+                output.add(key, value);
+            }
 
-        // Make context result
-        Context output = new Context();
-        for(TDecision decision: outputDecisions) {
-            String key = decision.getName();
-            Object value = serviceRuntimeEnvironment.lookupBinding(key);
-            output.add(key, value);
+            // Set variable
+            serviceRuntimeEnvironment.bind(service.getName(), output);
+        } catch (RuntimeException e) {
+            endFailedDRGElement(drgElementAnnotation, decisionArguments, startTime_);
+            throw e;
         }
 
-        // Set variable
-        serviceRuntimeEnvironment.bind(service.getName(), output);
-
         // Decision service end
-        EVENT_LISTENER.endDRGElement(drgElementAnnotation, decisionArguments, output, (System.currentTimeMillis() - startTime_));
+        eventListener().endDRGElementNanos(drgElementAnnotation, decisionArguments, output, System.nanoTime() - startTime_);
 
         return output;
     }
@@ -232,33 +283,43 @@ public class DMNInterpreter {
 
     protected void evaluateDecision(TDecision decision, RuntimeEnvironment runtimeEnvironment) {
         // Decision start
-        long startTime_ = System.currentTimeMillis();
+        long startTime_ = System.nanoTime();
         DRGElement drgElementAnnotation = makeDRGElementAnnotation(decision, runtimeEnvironment);
-        com.gs.dmn.runtime.listener.Arguments decisionArguments = makeArguments(decision, runtimeEnvironment);
-        EVENT_LISTENER.startDRGElement(drgElementAnnotation, decisionArguments);
-
+        com.gs.dmn.runtime.listener.Arguments decisionArguments = eventListener().isTraced(drgElementAnnotation) ? makeArguments(decision, runtimeEnvironment) : null;
         // Check if has already been evaluated
         String decisionName = decision.getName();
         Object output = null;
-        if (dagOptimisation() && runtimeEnvironment.isBound(decisionName)) {
-            // Retrieve value from environment
-            output = runtimeEnvironment.lookupBinding(decisionName);
-        } else {
-            // Evaluate dependencies
-            evaluateInformationRequirementList(decision.getInformationRequirement(), runtimeEnvironment);
-            evaluateKnowledgeRequirements(decision.getKnowledgeRequirement(), runtimeEnvironment);
+        try {
+            eventListener().startDRGElement(drgElementAnnotation, decisionArguments);
+
+            if (dagOptimisation() && runtimeEnvironment.isBound(decisionName)) {
+                // Retrieve value from environment
+                output = runtimeEnvironment.lookupBinding(decisionName);
+            } else {
+                // Evaluate dependencies
+                evaluateInformationRequirementList(decision.getInformationRequirement(), runtimeEnvironment);
+                evaluateKnowledgeRequirements(decision.getKnowledgeRequirement(), runtimeEnvironment);
 
-            // Evaluate expression
-            TExpression expression = dmnModelRepository.expression(decision);
-            Environment environment = basicDMNTransformer.makeEnvironment(decision);
-            output = evaluateExpression(expression, environment, runtimeEnvironment, decision, drgElementAnnotation);
+                // Evaluate expression
+                TExpression expression = dmnModelRepository.expression(decision);
+                Environment environment = basicDMNTransformer.makeEnvironment(decision);
+                output = evaluateExpression(expression, environment, runtimeEnvironment, decision, drgElementAnnotation);
 
-            // Set variable
-            runtimeEnvironment.bind(decisionName, output);
+                // Set variable
+                runtimeEnvironment.bind(decisionName, output);
+            }
+        } catch (RuntimeException e) {
+            endFailedDRGElement(drgElementAnnotation, decisionArguments, startTime_);
+            throw e;
         }
 
         // Decision end
-        EVENT_LISTENER.endDRGElement(drgElementAnnotation, decisionArguments, output, (System.currentTimeMillis() - startTime_));
+        eventListener().endDRGElementNanos(drgElementAnnotation, decisionArguments, output, System.nanoTime() - startTime_);
+    }
+
+    // The end event of a failed element has no output; the listeners discard the frames of its nested elements
+    private void endFailedDRGElement(DRGElement drgElementAnnotation, com.gs.dmn.runtime.listener.Arguments decisionArguments, long startTime_) {
+        eventListener().endDRGElementNanos(drgElementAnnotation, decisionArguments, null, System.nanoTime() - startTime_);
     }
 
     protected boolean dagOptimisation() {
@@ -448,6 +509,7 @@ public class DMNInterpreter {
 
         // Column names
         List<String> columnNameList = relation.getColumn().stream().map(TNamedElement::getName).collect(Collectors.toList());
+        ContextShape rowShape = ContextShape.of(columnNameList);
 
         // Scan relation and evaluate each row
         List<Object> relationValue = new ArrayList<>();
@@ -455,7 +517,7 @@ public class DMNInterpreter {
             Object rowValue = null;
             List<JAXBElement<? extends TExpression>> jaxbElementList = row.getExpression();
             if (jaxbElementList != null) {
-                Context context = new Context();
+                Context context = jaxbElementList.size() == rowShape.size() ? new Context(rowShape) : new Context();
                 for(int i = 0; i < jaxbElementList.size(); i++) {
                     JAXBElement<? extends TExpression> jaxbElement = jaxbElementList.get(i);
                     TExpression expression = jaxbElement == null ? null : jaxbElement.getValue();
@@ -488,32 +550,40 @@ public class DMNInterpreter {
         // Evaluate rules
         List<TDecisionRule> ruleList = decisionTable.getRule();
         RuleOutputList ruleOutputList = new RuleOutputList();
+        boolean traced = eventListener().isTraced(elementAnnotation);
+        // Built once for the input entries of all rules
+        Environment elementEnvironment = basicDMNTransformer.makeEnvironment(element);
         for (int i = 0; i < ruleList.size(); i++) {
             TDecisionRule rule = ruleList.get(i);
-            Rule ruleAnnotation = makeRuleAnnotation(rule, i);
+            // No rule metadata and no rule events when not traced
+            Rule ruleAnnotation = traced ? makeRuleAnnotation(rule, i) : null;
 
             // Rule start
-            EVENT_LISTENER.startRule(elementAnnotation, ruleAnnotation);
+            if (traced) {
+                eventListener().startRule(elementAnnotation, ruleAnnotation);
+            }
 
-            InterpretedRuleOutput ruleOutput = evaluateRule(element, decisionTable, rule, inputClauseList, environment, runtimeEnvironment, elementAnnotation, ruleAnnotation);
+            InterpretedRuleOutput ruleOutput = evaluateRule(element, decisionTable, rule, inputClauseList, elementEnvironment, environment, runtimeEnvironment, elementAnnotation, ruleAnnotation);
             ruleOutputList.add(ruleOutput);
 
             // Rule end
-            EVENT_LISTENER.endRule(elementAnnotation, ruleAnnotation, ruleOutput);
+            if (traced) {
+                eventListener().endRule(elementAnnotation, ruleAnnotation, ruleOutput);
+            }
         }
 
         // Return results based on hit policy
         return applyHitPolicy(element, decisionTable, ruleOutputList, environment, runtimeEnvironment, elementAnnotation);
     }
 
-    private InterpretedRuleOutput evaluateRule(TDRGElement element, TDecisionTable decisionTable, TDecisionRule rule, List<InputClausePair> inputClauseList, Environment environment, RuntimeEnvironment runtimeEnvironment, DRGElement elementAnnotation, Rule ruleAnnotation) {
+    private InterpretedRuleOutput evaluateRule(TDRGElement element, TDecisionTable decisionTable, TDecisionRule rule, List<InputClausePair> inputClauseList, Environment elementEnvironment, Environment environment, RuntimeEnvironment runtimeEnvironment, DRGElement elementAnnotation, Rule ruleAnnotation) {
         // Check tests
         List<TUnaryTests> inputEntry = rule.getInputEntry();
         boolean ruleMatched = true;
         for (int index = 0; index < inputEntry.size(); index++) {
             TUnaryTests unaryTest = inputEntry.get(index);
             String text = unaryTest.getText();
-            Environment inputEntryEnvironment = basicDMNTransformer.makeInputEntryEnvironment(element, inputClauseList.get(index).getExpression());
+            Environment inputEntryEnvironment = basicDMNTransformer.makeInputEntryEnvironment(elementEnvironment, inputClauseList.get(index).getExpression());
             RuntimeEnvironment inputEntryRuntimeEnvironment = runtimeEnvironmentFactory.makeInputEntryEnvironment(inputClauseList, runtimeEnvironment, index);
             FEELContext context = FEELContext.makeContext(inputEntryEnvironment, inputEntryRuntimeEnvironment);
             Expression ast = feelInterpreter.analyzeUnaryTests(text, context);
@@ -527,7 +597,9 @@ public class DMNInterpreter {
         // Compute output
         if (ruleMatched) {
             // Rule match
-            EVENT_LISTENER.matchRule(elementAnnotation, ruleAnnotation);
+            if (ruleAnnotation != null) {
+                eventListener().matchRule(elementAnnotation, ruleAnnotation);
+            }
 
             THitPolicy hitPolicy = decisionTable.getHitPolicy();
             if (dmnModelRepository.isCompoundDecisionTable(element)) {
@@ -12,11 +12,34 @@
  */
 package com.gs.dmn.runtime.interpreter.environment;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
+/**
+ * A frame of bindings backed by arrays. Most frames (BKM calls, contexts, filters, iterations) have few bindings and
+ * are searched linearly; an index is built only for large frames (e.g. the top frame of a big model).
+ *
+ * A binding is addressed by its coordinate: the depth of its frame in the parent chain and its slot in that frame.
+ * Slots are stable, rebinding a key reuses its slot. Bindings too deep or in too large a frame to be packed in a
+ * coordinate are resolved to NOT_ADDRESSABLE and looked up by name.
+ */
 public class Environment<K, V> {
-    private final Map<K, V> bindings = new LinkedHashMap<>();
+    public static final int NOT_FOUND = -1;
+    public static final int NOT_ADDRESSABLE = -2;
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int INDEX_THRESHOLD = 16;
+    private static final int SLOT_BITS = 20;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    // Keeps the coordinates positive
+    private static final int MAX_DEPTH = (1 << (Integer.SIZE - 1 - SLOT_BITS)) - 1;
+
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+    private Map<Object, Integer> index;
 
     private final Environment<K, V> parent;
 
@@ -29,39 +52,106 @@ public class Environment<K, V> {
     }
 
     public void bind(K key, V value) {
-        bindings.put(normalize(key), value);
+        K normalizedKey = normalize(key);
+        int slot = localSlot(normalizedKey);
+        if (slot == NOT_FOUND) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            slot = size++;
+            keys[slot] = normalizedKey;
+            if (index != null) {
+                index.put(normalizedKey, slot);
+            } else if (size > INDEX_THRESHOLD) {
+                index = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    index.put(keys[i], i);
+                }
+            }
+        }
+        values[slot] = value;
     }
 
     public V lookupBinding(K key) {
-        if (isLocalBound(key)) {
-            return lookupLocalBinding(key);
-        } else {
-            if (parent != null) {
-                return parent.lookupBinding(key);
-            } else {
-                return null;
+        K normalizedKey = normalize(key);
+        for (Environment<K, V> environment = this; environment != null; environment = environment.parent) {
+            int slot = environment.localSlot(normalizedKey);
+            if (slot != NOT_FOUND) {
+                return environment.value(slot);
             }
         }
+        return null;
     }
 
     public boolean isBound(K key) {
-        if (isLocalBound(key)) {
-            return true;
-        } else {
-            if (parent != null) {
-                return parent.isBound(key);
-            } else {
+        return resolve(key) != NOT_FOUND;
+    }
+
+    // Returns the coordinate of the innermost binding of the key, NOT_ADDRESSABLE when it cannot be packed or NOT_FOUND
+    public int resolve(K key) {
+        K normalizedKey = normalize(key);
+        int depth = 0;
+        for (Environment<K, V> environment = this; environment != null; environment = environment.parent) {
+            int slot = environment.localSlot(normalizedKey);
+            if (slot != NOT_FOUND) {
+                return depth > MAX_DEPTH || slot > SLOT_MASK ? NOT_ADDRESSABLE : depth << SLOT_BITS | slot;
+            }
+            depth++;
+        }
+        return NOT_FOUND;
+    }
+
+    // Checks that a coordinate resolved previously (possibly in another environment) still denotes the innermost binding of the key.
+    // A binding of the current frame costs one slot comparison; a binding of an outer frame also checks that the frames
+    // in between do not shadow it.
+    public boolean isResolvedAt(K key, int coordinate) {
+        if (coordinate < 0) {
+            return false;
+        }
+        K normalizedKey = normalize(key);
+        int depth = coordinate >>> SLOT_BITS;
+        int slot = coordinate & SLOT_MASK;
+        Environment<K, V> target = this;
+        for (int i = 0; i < depth && target != null; i++) {
+            target = target.parent;
+        }
+        if (target == null || slot >= target.size || !Objects.equals(target.keys[slot], normalizedKey)) {
+            return false;
+        }
+        for (Environment<K, V> environment = this; environment != target; environment = environment.parent) {
+            if (environment.localSlot(normalizedKey) != NOT_FOUND) {
                 return false;
             }
         }
+        return true;
     }
 
-    private V lookupLocalBinding(K key) {
-        return bindings.get(normalize(key));
+    public V lookupBinding(int coordinate) {
+        Environment<K, V> environment = this;
+        for (int depth = coordinate >>> SLOT_BITS; depth > 0; depth--) {
+            environment = environment.parent;
+        }
+        return environment.value(coordinate & SLOT_MASK);
+    }
+
+    private int localSlot(Object key) {
+        if (index != null) {
+            Integer slot = index.get(key);
+            return slot == null ? NOT_FOUND : slot;
+        }
+        for (int i = 0; i < size; i++) {
+            Object other = keys[i];
+            if (other == key || other != null && other.equals(key)) {
+                return i;
+            }
+        }
+        return NOT_FOUND;
     }
 
-    private boolean isLocalBound(K key) {
-        return bindings.containsKey(normalize(key));
+    @SuppressWarnings("unchecked")
+    private V value(int slot) {
+        return (V) values[slot];
     }
 
     private K normalize(K key) {
@@ -35,10 +35,10 @@ public class RuntimeEnvironmentFactory {
         return new RuntimeEnvironment(parent);
     }
 
+    // No frame is allocated for input entries, the placeholder is rebound in the same slot of the decision table environment
     public RuntimeEnvironment makeInputEntryEnvironment(List<InputClausePair> inputClauseList, RuntimeEnvironment runtimeEnvironment, int index) {
-        RuntimeEnvironment inputEntryRuntimeEnvironment = makeEnvironment(runtimeEnvironment);
         runtimeEnvironment.bind(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, inputClauseList.get(index).getValue());
-        return inputEntryRuntimeEnvironment;
+        return runtimeEnvironment;
     }
 
 }
@@ -0,0 +1,273 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records the events in a preallocated lock-free ring buffer and drains them to an AuditEventSink on a background thread.
+ * The evaluation threads only copy the event into a slot (see AuditEvent for how mutable values are copied); I/O happens
+ * on the drain thread. Sinks are pluggable, e.g. FileAuditEventSink, MappedFileAuditEventSink or MemoryAuditEventSink.
+ *
+ * When the buffer is full the back-pressure policy decides what happens:
+ *   DROP - the event is dropped,
+ *   BLOCK - the evaluation thread waits for a free slot,
+ *   SAMPLE - the event is dropped; in addition, once the buffer is half full only 1 in sampleRate events is recorded.
+ * Dropped events are counted.
+ */
+public class AsyncEventListener implements EventListener, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventListener.class);
+
+    public enum BackPressure {
+        DROP, BLOCK, SAMPLE
+    }
+
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AuditEventSink sink;
+    private final BackPressure backPressure;
+    private final int sampleRate;
+    private final AuditEvent[] slots;
+    private final int mask;
+
+    // Next sequence to claim (producers) and next sequence to drain (drain thread)
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final LongAdder sinkErrors = new LongAdder();
+    private volatile long written;
+
+    private final Thread drainThread;
+    private volatile boolean closed;
+    // Producers between the check of 'closed' and the publication of their event
+    private final AtomicInteger activePublishers = new AtomicInteger();
+
+    public AsyncEventListener(AuditEventSink sink) {
+        this(sink, DEFAULT_CAPACITY, BackPressure.DROP, 1);
+    }
+
+    public AsyncEventListener(AuditEventSink sink, int capacity, BackPressure backPressure, int sampleRate) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal capacity '%d'", capacity));
+        }
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal sample rate '%d'", sampleRate));
+        }
+        this.sink = sink;
+        this.backPressure = backPressure;
+        this.sampleRate = sampleRate;
+        // Power of 2, at least 2 (a slot must distinguish 'published' from 'free for the next round')
+        int size = Integer.highestOneBit(Math.max(2, capacity));
+        size = size < capacity ? size << 1 : size;
+        this.slots = new AuditEvent[size];
+        for (int i = 0; i < size; i++) {
+            this.slots[i] = new AuditEvent(i);
+        }
+        this.mask = size - 1;
+
+        this.drainThread = new Thread(this::drain, "dmn-audit-drain");
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+    }
+
+    @Override
+    public void startDRGElement(DRGElement element, Arguments arguments) {
+        publish(AuditEvent.Kind.START_ELEMENT, element, null, arguments, null, 0);
+    }
+
+    @Override
+    public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+        endDRGElementNanos(element, arguments, output, TimeUnit.MILLISECONDS.toNanos(duration));
+    }
+
+    @Override
+    public void endDRGElementNanos(DRGElement element, Arguments arguments, Object output, long durationNanos) {
+        publish(AuditEvent.Kind.END_ELEMENT, element, null, arguments, output, durationNanos);
+    }
+
+    @Override
+    public void startRule(DRGElement element, Rule rule) {
+        publish(AuditEvent.Kind.START_RULE, element, rule, null, null, 0);
+    }
+
+    @Override
+    public void matchRule(DRGElement element, Rule rule) {
+        publish(AuditEvent.Kind.MATCH_RULE, element, rule, null, null, 0);
+    }
+
+    @Override
+    public void endRule(DRGElement element, Rule rule, Object result) {
+        publish(AuditEvent.Kind.END_RULE, element, rule, null, result, 0);
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    public long getSinkErrorCount() {
+        return sinkErrors.sum();
+    }
+
+    // Waits until the events published so far are written to the sink
+    public boolean awaitDrained(long timeout, TimeUnit unit) {
+        long end = System.nanoTime() + unit.toNanos(timeout);
+        long target = tail.get();
+        while (head.get() < target) {
+            if (System.nanoTime() > end || !drainThread.isAlive()) {
+                return false;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        return true;
+    }
+
+    // Drains the remaining events (including the ones being published) and closes the sink
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void publish(AuditEvent.Kind kind, DRGElement element, Rule rule, Arguments arguments, Object output, long durationNanos) {
+        // Registered before 'closed' is checked: the drain thread does not stop while an event is being published
+        activePublishers.incrementAndGet();
+        try {
+            if (closed) {
+                dropped.increment();
+                return;
+            }
+            doPublish(kind, element, rule, arguments, output, durationNanos);
+        } finally {
+            activePublishers.decrementAndGet();
+        }
+    }
+
+    private void doPublish(AuditEvent.Kind kind, DRGElement element, Rule rule, Arguments arguments, Object output, long durationNanos) {
+        if (backPressure == BackPressure.SAMPLE && tail.get() - head.get() > (slots.length >> 1)) {
+            if (sampleCounter.incrementAndGet() % sampleRate != 0) {
+                dropped.increment();
+                return;
+            }
+        }
+        while (true) {
+            long position = tail.get();
+            AuditEvent slot = slots[(int) (position & mask)];
+            long difference = slot.sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slot.set(kind, element, rule, arguments, output, durationNanos);
+                    // Publish
+                    slot.sequence = position + 1;
+                    published.increment();
+                    return;
+                }
+            } else if (difference < 0) {
+                // Full
+                if (backPressure != BackPressure.BLOCK || closed) {
+                    dropped.increment();
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            // Otherwise another producer claimed the slot, retry
+        }
+    }
+
+    private void drain() {
+        long idlePark = IDLE_PARK_NANOS;
+        boolean flushed = true;
+        while (true) {
+            long position = head.get();
+            AuditEvent slot = slots[(int) (position & mask)];
+            if (slot.sequence == position + 1) {
+                write(slot);
+                slot.clear();
+                // Release the slot for the next round
+                slot.sequence = position + slots.length;
+                head.lazySet(position + 1);
+                written++;
+                flushed = false;
+                idlePark = IDLE_PARK_NANOS;
+            } else if (closed && activePublishers.get() == 0 && position == tail.get()) {
+                break;
+            } else {
+                if (!flushed) {
+                    flush();
+                    flushed = true;
+                }
+                LockSupport.parkNanos(idlePark);
+                idlePark = Math.min(idlePark << 1, MAX_IDLE_PARK_NANOS);
+            }
+        }
+        flush();
+        try {
+            sink.close();
+        } catch (Exception e) {
+            handleSinkError("Cannot close audit sink", e);
+        }
+    }
+
+    private void write(AuditEvent event) {
+        try {
+            sink.write(event);
+        } catch (Exception e) {
+            handleSinkError("Cannot write audit event", e);
+        }
+    }
+
+    private void flush() {
+        try {
+            sink.flush();
+        } catch (Exception e) {
+            handleSinkError("Cannot flush audit sink", e);
+        }
+    }
+
+    private void handleSinkError(String message, Exception e) {
+        sinkErrors.increment();
+        LOGGER.error(message, e);
+    }
+}
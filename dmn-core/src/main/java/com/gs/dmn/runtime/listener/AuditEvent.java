@@ -0,0 +1,169 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import com.gs.dmn.runtime.Context;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A slot of the ring buffer of AsyncEventListener. The slots are preallocated and reused:
+ * a sink must copy the data it keeps after write() returns.
+ *
+ * The arguments and the output are captured when the event is published and formatted on the drain thread (e.g. by
+ * toString()). Immutable values (strings, numbers, java.time values, ...) are kept as they are; contexts, lists and
+ * XMLGregorianCalendar values are copied, so later changes made by the caller are not recorded. The other values
+ * (e.g. item definitions) are kept by reference.
+ */
+public class AuditEvent {
+    public enum Kind {
+        START_ELEMENT, END_ELEMENT, START_RULE, MATCH_RULE, END_RULE
+    }
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class,
+            LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetTime.class, OffsetDateTime.class, ZonedDateTime.class,
+            Duration.class, Period.class
+    ));
+
+    // Sequence of the event stored in the slot, published after the data is written
+    volatile long sequence;
+
+    private Kind kind;
+    private long timestamp;
+    private String threadName;
+    private DRGElement element;
+    private Rule rule;
+    // Owned by the slot, refilled for each event
+    private final Arguments arguments = new Arguments();
+    private boolean hasArguments;
+    private Object output;
+    private long durationNanos;
+
+    AuditEvent(long sequence) {
+        this.sequence = sequence;
+    }
+
+    void set(Kind kind, DRGElement element, Rule rule, Arguments arguments, Object output, long durationNanos) {
+        this.kind = kind;
+        this.timestamp = System.currentTimeMillis();
+        this.threadName = Thread.currentThread().getName();
+        this.element = element;
+        this.rule = rule;
+        this.hasArguments = arguments != null;
+        if (arguments != null) {
+            for (Map.Entry<String, Object> entry : arguments.entrySet()) {
+                this.arguments.put(entry.getKey(), snapshot(entry.getValue()));
+            }
+        }
+        this.output = snapshot(output);
+        this.durationNanos = durationNanos;
+    }
+
+    void clear() {
+        this.kind = null;
+        this.threadName = null;
+        this.element = null;
+        this.rule = null;
+        this.arguments.clear();
+        this.hasArguments = false;
+        this.output = null;
+    }
+
+    // Cheap copies, no formatting on the evaluation thread
+    static Object snapshot(Object value) {
+        if (value == null || value instanceof Enum || value instanceof javax.xml.datatype.Duration || IMMUTABLE_TYPES.contains(value.getClass())) {
+            return value;
+        } else if (value instanceof Context) {
+            Context context = (Context) value;
+            // Shares the shape of the context
+            Context copy = context.getShape() == null ? new Context() : new Context(context.getShape());
+            for (Object key : context.keySet()) {
+                copy.put(key, snapshot(context.get(key)));
+            }
+            return copy;
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(snapshot(element));
+            }
+            return Collections.unmodifiableList(copy);
+        } else if (value instanceof XMLGregorianCalendar) {
+            return ((XMLGregorianCalendar) value).clone();
+        }
+        return value;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public DRGElement getElement() {
+        return element;
+    }
+
+    public Rule getRule() {
+        return rule;
+    }
+
+    public Arguments getArguments() {
+        return hasArguments ? arguments : null;
+    }
+
+    public Object getOutput() {
+        return output;
+    }
+
+    // Duration in milliseconds
+    public long getDuration() {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        String elementName = element == null ? null : element.getName();
+        switch (kind) {
+            case START_ELEMENT:
+                return String.format("%d [%s] Start element '%s' with inputs %s", timestamp, threadName, elementName, getArguments());
+            case END_ELEMENT:
+                return String.format("%d [%s] End element '%s' with output '%s' in %d.%03dms", timestamp, threadName, elementName, output, getDuration(), TimeUnit.NANOSECONDS.toMicros(durationNanos) % 1000);
+            case START_RULE:
+                return String.format("%d [%s] Start rule %d of '%s'", timestamp, threadName, rule.getIndex(), elementName);
+            case MATCH_RULE:
+                return String.format("%d [%s] Rule %d of '%s' matched", timestamp, threadName, rule.getIndex(), elementName);
+            case END_RULE:
+                return String.format("%d [%s] Rule %d of '%s' fired with output '%s'", timestamp, threadName, rule.getIndex(), elementName, output);
+            default:
+                return String.format("%d [%s] %s", timestamp, threadName, kind);
+        }
+    }
+}
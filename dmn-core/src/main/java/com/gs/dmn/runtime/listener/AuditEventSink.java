@@ -0,0 +1,31 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import java.io.IOException;
+
+/**
+ * Destination of the events drained by AsyncEventListener. All methods are called from the drain thread.
+ */
+public interface AuditEventSink extends AutoCloseable {
+    // The event is reused after the call returns
+    void write(AuditEvent event) throws Exception;
+
+    // Called when the buffer is empty
+    default void flush() throws Exception {
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -26,6 +26,15 @@ public class CompositeListener implements EventListener {
         }
     }
 
+    @Override
+    public boolean isTraced(DRGElement element) {
+        for (EventListener eventListener : eventListeners) {
+            if (eventListener.isTraced(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public void startDRGElement(DRGElement element, Arguments arguments) {
@@ -37,6 +46,11 @@ public class CompositeListener implements EventListener {
         eventListeners.forEach(el -> el.endDRGElement(element, arguments, output, duration));
     }
 
+    @Override
+    public void endDRGElementNanos(DRGElement element, Arguments arguments, Object output, long durationNanos) {
+        eventListeners.forEach(el -> el.endDRGElementNanos(element, arguments, output, durationNanos));
+    }
+
     @Override
     public void startRule(DRGElement element, Rule rule) {
         eventListeners.forEach(el -> el.startRule(element, rule));
@@ -0,0 +1,38 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+/**
+ * JMX view of a MetricsEventListener. Elements are identified by their qualified name (namespace#name, or name when
+ * there is no namespace); durations are in nanoseconds.
+ */
+public interface DecisionMetricsMXBean {
+    String[] getElementNames();
+
+    long getCount(String elementName);
+
+    double getMeanNanos(String elementName);
+
+    long getPercentileNanos(String elementName, double percentile);
+
+    long getMaxNanos(String elementName);
+
+    long[] getRuleHitCounts(String elementName);
+
+    long[] getRuleEvaluationCounts(String elementName);
+
+    // Qualified names of the elements with rules that never matched; empty when the rules are not counted
+    String[] getElementsWithDeadRules();
+
+    void reset();
+}
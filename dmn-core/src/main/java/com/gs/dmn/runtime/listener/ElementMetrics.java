@@ -0,0 +1,98 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram of a DRG element and, for decision tables, the number of times each rule was evaluated and matched.
+ */
+public class ElementMetrics {
+    private final String namespace;
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder[] ruleEvaluations;
+    private final LongAdder[] ruleMatches;
+
+    ElementMetrics(DRGElement element) {
+        this.namespace = element.getNamespace();
+        this.name = element.getName();
+        int rulesCount = Math.max(element.getRulesCount(), 0);
+        this.ruleEvaluations = makeCounters(rulesCount);
+        this.ruleMatches = makeCounters(rulesCount);
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencySnapshot getLatency() {
+        return latency.snapshot();
+    }
+
+    public int getRulesCount() {
+        return ruleMatches.length;
+    }
+
+    public long[] getRuleEvaluationCounts() {
+        return sum(ruleEvaluations);
+    }
+
+    public long[] getRuleHitCounts() {
+        return sum(ruleMatches);
+    }
+
+    void recordDuration(long nanos) {
+        latency.record(nanos);
+    }
+
+    void recordRuleEvaluation(int index) {
+        if (index >= 0 && index < ruleEvaluations.length) {
+            ruleEvaluations[index].increment();
+        }
+    }
+
+    void recordRuleMatch(int index) {
+        if (index >= 0 && index < ruleMatches.length) {
+            ruleMatches[index].increment();
+        }
+    }
+
+    void reset() {
+        latency.reset();
+        for (int i = 0; i < ruleMatches.length; i++) {
+            ruleEvaluations[i].reset();
+            ruleMatches[i].reset();
+        }
+    }
+
+    private static LongAdder[] makeCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private static long[] sum(LongAdder[] counters) {
+        long[] result = new long[counters.length];
+        for (int i = 0; i < counters.length; i++) {
+            result[i] = counters[i].sum();
+        }
+        return result;
+    }
+}
@@ -12,11 +12,25 @@
  */
 package com.gs.dmn.runtime.listener;
 
+import java.util.concurrent.TimeUnit;
+
 public interface EventListener {
+    // Fast check made before the arguments of an element are collected and before the rule events.
+    // When false, startDRGElement / endDRGElement receive null arguments and no rule events are sent for the element.
+    default boolean isTraced(DRGElement element) {
+        return true;
+    }
+
     void startDRGElement(DRGElement element, Arguments arguments);
 
+    // Duration in milliseconds
     void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration);
 
+    // Called by the generated code and by the interpreter; listeners that need sub-millisecond resolution override it
+    default void endDRGElementNanos(DRGElement element, Arguments arguments, Object output, long durationNanos) {
+        endDRGElement(element, arguments, output, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+
     void startRule(DRGElement element, Rule rule);
 
     void matchRule(DRGElement element, Rule rule);
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+/**
+ * Immutable copy of a LatencyHistogram. The counters are read one by one, so a snapshot taken while evaluations are
+ * running may be off by the events recorded meanwhile.
+ */
+public class LatencySnapshot {
+    private final long[] buckets;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    LatencySnapshot(long[] buckets, long count, long totalNanos, long maxNanos) {
+        this.buckets = buckets;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    // Upper bound of the bucket containing the percentile (0 < percentile <= 100)
+    public long getPercentileNanos(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException(String.format("Illegal percentile '%s'", percentile));
+        }
+        long recorded = 0;
+        for (long bucket : buckets) {
+            recorded += bucket;
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile / 100.0 * recorded);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.bucketUpperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.0fns, p50=%dns, p99=%dns, max=%dns", count, getMeanNanos(), getPercentileNanos(50), getPercentileNanos(99), maxNanos);
+    }
+}
@@ -14,6 +14,7 @@ package com.gs.dmn.runtime.listener;
 
 import org.slf4j.Logger;
 
+// Traces only when INFO is enabled for the logger, otherwise startDRGElement / endDRGElement receive null arguments
 public class LoggingEventListener implements SimpleEventListener {
     private final Logger logger;
 
@@ -21,6 +22,11 @@ public class LoggingEventListener implements SimpleEventListener {
         this.logger = logger;
     }
 
+    @Override
+    public boolean isTraced(DRGElement element) {
+        return logger.isInfoEnabled();
+    }
+
     @Override
     public void startDRGElement(DRGElement element, Arguments arguments) {
         if (logger.isInfoEnabled()) {
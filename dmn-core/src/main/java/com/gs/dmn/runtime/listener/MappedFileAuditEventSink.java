@@ -0,0 +1,100 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import com.gs.dmn.runtime.MappedBuffers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends one line per event to a memory-mapped file. The file is mapped one region at a time and the lines are copied
+ * into the mapping, without a system call per event; the operating system writes the pages back.
+ * The events are visible to other processes as soon as they are written and survive a crash of the JVM.
+ * close() forces the content to the storage device and truncates the file to the written length.
+ */
+public class MappedFileAuditEventSink implements AuditEventSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedFileAuditEventSink.class);
+
+    public static final int DEFAULT_REGION_SIZE = 16 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final int regionSize;
+    private long regionStart;
+    private MappedByteBuffer region;
+
+    public MappedFileAuditEventSink(File file) throws IOException {
+        this(file, DEFAULT_REGION_SIZE);
+    }
+
+    public MappedFileAuditEventSink(File file, int regionSize) throws IOException {
+        if (regionSize <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal region size '%d'", regionSize));
+        }
+        this.regionSize = regionSize;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Append to the existing content
+        this.regionStart = channel.size();
+        this.region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionSize);
+    }
+
+    @Override
+    public void write(AuditEvent event) throws IOException {
+        byte[] bytes = (event.toString() + '\n').getBytes(StandardCharsets.UTF_8);
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!region.hasRemaining()) {
+                nextRegion();
+            }
+            int length = Math.min(region.remaining(), bytes.length - offset);
+            region.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            long length = regionStart + region.position();
+            region.force();
+            unmap(region);
+            // Drop the unused part of the last region
+            channel.truncate(length);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void nextRegion() throws IOException {
+        MappedByteBuffer full = region;
+        regionStart += full.position();
+        region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionSize);
+        unmap(full);
+    }
+
+    private void unmap(MappedByteBuffer buffer) {
+        try {
+            MappedBuffers.unmap(buffer);
+        } catch (Exception e) {
+            // The mapping is released when the buffer is garbage collected
+            LOGGER.debug(String.format("Cannot unmap audit file region: %s", e.getMessage()));
+        }
+    }
+}
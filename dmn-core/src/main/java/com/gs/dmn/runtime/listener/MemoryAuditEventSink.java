@@ -0,0 +1,36 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the formatted events in memory (e.g. for tests or for an in-process audit endpoint).
+ */
+public class MemoryAuditEventSink implements AuditEventSink {
+    private final List<String> events = new ArrayList<>();
+
+    @Override
+    public synchronized void write(AuditEvent event) {
+        events.add(event.toString());
+    }
+
+    public synchronized List<String> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
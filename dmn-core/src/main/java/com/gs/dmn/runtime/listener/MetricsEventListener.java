@@ -0,0 +1,205 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates nanosecond latency histograms per DRG element and evaluation / hit counters per rule.
+ * The durations are recorded for all the elements. Only the elements with rules are traced, and only when rule counting
+ * is on: the listener never reads the arguments, so the other elements skip them.
+ */
+public class MetricsEventListener implements EventListener, DecisionMetricsMXBean {
+    public static final String DEFAULT_OBJECT_NAME = "com.gs.dmn:type=DecisionMetrics";
+
+    private final boolean countRules;
+    private final ConcurrentMap<String, ElementMetrics> metrics = new ConcurrentHashMap<>();
+
+    public MetricsEventListener() {
+        this(true);
+    }
+
+    public MetricsEventListener(boolean countRules) {
+        this.countRules = countRules;
+    }
+
+    @Override
+    public boolean isTraced(DRGElement element) {
+        // The rule events are the only ones that need tracing
+        return countRules && element.getRulesCount() > 0;
+    }
+
+    @Override
+    public void startDRGElement(DRGElement element, Arguments arguments) {
+    }
+
+    @Override
+    public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+        endDRGElementNanos(element, arguments, output, TimeUnit.MILLISECONDS.toNanos(duration));
+    }
+
+    @Override
+    public void endDRGElementNanos(DRGElement element, Arguments arguments, Object output, long durationNanos) {
+        metrics(element).recordDuration(durationNanos);
+    }
+
+    @Override
+    public void startRule(DRGElement element, Rule rule) {
+        if (countRules) {
+            metrics(element).recordRuleEvaluation(rule.getIndex());
+        }
+    }
+
+    @Override
+    public void matchRule(DRGElement element, Rule rule) {
+        if (countRules) {
+            metrics(element).recordRuleMatch(rule.getIndex());
+        }
+    }
+
+    @Override
+    public void endRule(DRGElement element, Rule rule, Object result) {
+    }
+
+    //
+    // Java API
+    //
+    public ElementMetrics getMetrics(String qualifiedName) {
+        return metrics.get(qualifiedName);
+    }
+
+    public Collection<ElementMetrics> getMetrics() {
+        return new ArrayList<>(metrics.values());
+    }
+
+    //
+    // JMX
+    //
+    public ObjectName registerMBean() {
+        return registerMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    public ObjectName registerMBean(String objectName) {
+        try {
+            ObjectName name = new ObjectName(objectName);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            return name;
+        } catch (JMException e) {
+            throw new DMNRuntimeException(String.format("Cannot register MBean '%s'", objectName), e);
+        }
+    }
+
+    public void unregisterMBean(ObjectName name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new DMNRuntimeException(String.format("Cannot unregister MBean '%s'", name), e);
+        }
+    }
+
+    @Override
+    public String[] getElementNames() {
+        return metrics.keySet().stream().sorted().toArray(String[]::new);
+    }
+
+    @Override
+    public long getCount(String elementName) {
+        ElementMetrics elementMetrics = metrics.get(elementName);
+        return elementMetrics == null ? 0 : elementMetrics.getLatency().getCount();
+    }
+
+    @Override
+    public double getMeanNanos(String elementName) {
+        ElementMetrics elementMetrics = metrics.get(elementName);
+        return elementMetrics == null ? 0.0 : elementMetrics.getLatency().getMeanNanos();
+    }
+
+    @Override
+    public long getPercentileNanos(String elementName, double percentile) {
+        ElementMetrics elementMetrics = metrics.get(elementName);
+        return elementMetrics == null ? 0 : elementMetrics.getLatency().getPercentileNanos(percentile);
+    }
+
+    @Override
+    public long getMaxNanos(String elementName) {
+        ElementMetrics elementMetrics = metrics.get(elementName);
+        return elementMetrics == null ? 0 : elementMetrics.getLatency().getMaxNanos();
+    }
+
+    @Override
+    public long[] getRuleHitCounts(String elementName) {
+        ElementMetrics elementMetrics = metrics.get(elementName);
+        return elementMetrics == null ? new long[0] : elementMetrics.getRuleHitCounts();
+    }
+
+    @Override
+    public long[] getRuleEvaluationCounts(String elementName) {
+        ElementMetrics elementMetrics = metrics.get(elementName);
+        return elementMetrics == null ? new long[0] : elementMetrics.getRuleEvaluationCounts();
+    }
+
+    @Override
+    public String[] getElementsWithDeadRules() {
+        List<String> result = new ArrayList<>();
+        // Without rule counting all the counters are zero
+        if (!countRules) {
+            return new String[0];
+        }
+        for (String elementName : getElementNames()) {
+            for (long hits : metrics.get(elementName).getRuleHitCounts()) {
+                if (hits == 0) {
+                    result.add(elementName);
+                    break;
+                }
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+    @Override
+    public void reset() {
+        metrics.values().forEach(ElementMetrics::reset);
+    }
+
+    private ElementMetrics metrics(DRGElement element) {
+        String key = qualifiedName(element);
+        ElementMetrics elementMetrics = metrics.get(key);
+        if (elementMetrics == null) {
+            elementMetrics = metrics.computeIfAbsent(key, k -> new ElementMetrics(element));
+        }
+        return elementMetrics;
+    }
+
+    static String qualifiedName(DRGElement element) {
+        String namespace = element.getNamespace();
+        return namespace == null || namespace.isEmpty() ? element.getName() : namespace + "#" + element.getName();
+    }
+}
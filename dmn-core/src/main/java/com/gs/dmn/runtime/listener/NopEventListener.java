@@ -12,7 +12,13 @@
  */
 package com.gs.dmn.runtime.listener;
 
+// Traces nothing: the generated code and the interpreter pass null arguments to startDRGElement / endDRGElement
 public class NopEventListener implements SimpleEventListener {
+    @Override
+    public boolean isTraced(DRGElement element) {
+        return false;
+    }
+
     @Override
     public void startDRGElement(DRGElement element, Arguments arguments) {
     }
@@ -0,0 +1,186 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Forwards to the delegate only the events of some top-level evaluations:
+ *   1 in sampleRate evaluations,
+ *   evaluations whose top-level arguments match the predicate,
+ *   evaluations that take at least thresholdMillis (the events are buffered and replayed when the evaluation ends).
+ * The criteria are combined. An evaluation that is not traced reports isTraced() = false for all its elements, so the
+ * generated code and the interpreter skip the arguments and the rule events.
+ *
+ * The state is kept per thread. The generated code and the interpreter report the end of an element that fails with an
+ * exception (with a null output), so a failed evaluation does not leave frames for the next one; reset() discards them
+ * explicitly.
+ */
+public class SamplingEventListener implements EventListener {
+    public static SamplingEventListener everyNth(EventListener delegate, int sampleRate) {
+        return new SamplingEventListener(delegate, sampleRate, null, 0);
+    }
+
+    public static SamplingEventListener matching(EventListener delegate, Predicate<Arguments> predicate) {
+        return new SamplingEventListener(delegate, 1, predicate, 0);
+    }
+
+    public static SamplingEventListener slowerThan(EventListener delegate, long thresholdMillis) {
+        return new SamplingEventListener(delegate, 1, null, thresholdMillis);
+    }
+
+    private static class Trace {
+        private final List<DRGElement> stack = new ArrayList<>();
+        private boolean decided;
+        private boolean traced;
+        private final List<Runnable> buffer = new ArrayList<>();
+
+        private void clear() {
+            stack.clear();
+            decided = false;
+            traced = false;
+            buffer.clear();
+        }
+    }
+
+    private final EventListener delegate;
+    private final int sampleRate;
+    private final Predicate<Arguments> predicate;
+    private final long thresholdNanos;
+
+    private final AtomicLong counter = new AtomicLong();
+    private final ThreadLocal<Trace> trace = ThreadLocal.withInitial(Trace::new);
+
+    public SamplingEventListener(EventListener delegate, int sampleRate, Predicate<Arguments> predicate, long thresholdMillis) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Missing delegate");
+        }
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal sample rate '%d'", sampleRate));
+        }
+        this.delegate = delegate;
+        this.sampleRate = sampleRate;
+        this.predicate = predicate;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    @Override
+    public boolean isTraced(DRGElement element) {
+        Trace trace = this.trace.get();
+        if (trace.stack.isEmpty()) {
+            // Top-level element: arguments are needed by the predicate
+            decide(trace);
+            return trace.traced && delegate.isTraced(element);
+        }
+        return trace.traced;
+    }
+
+    @Override
+    public void startDRGElement(DRGElement element, Arguments arguments) {
+        Trace trace = this.trace.get();
+        if (trace.stack.isEmpty()) {
+            decide(trace);
+            if (trace.traced && predicate != null) {
+                trace.traced = arguments != null && predicate.test(arguments);
+            }
+        }
+        trace.stack.add(element);
+        if (trace.traced) {
+            forward(trace, () -> delegate.startDRGElement(element, arguments));
+        }
+    }
+
+    @Override
+    public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+        endDRGElementNanos(element, arguments, output, TimeUnit.MILLISECONDS.toNanos(duration));
+    }
+
+    @Override
+    public void endDRGElementNanos(DRGElement element, Arguments arguments, Object output, long durationNanos) {
+        Trace trace = this.trace.get();
+        if (!pop(trace, element)) {
+            return;
+        }
+        if (trace.traced) {
+            forward(trace, () -> delegate.endDRGElementNanos(element, arguments, output, durationNanos));
+        }
+        if (trace.stack.isEmpty()) {
+            if (trace.traced && thresholdNanos > 0 && durationNanos >= thresholdNanos) {
+                for (Runnable event : trace.buffer) {
+                    event.run();
+                }
+            }
+            trace.clear();
+        }
+    }
+
+    @Override
+    public void startRule(DRGElement element, Rule rule) {
+        Trace trace = this.trace.get();
+        if (trace.traced) {
+            forward(trace, () -> delegate.startRule(element, rule));
+        }
+    }
+
+    @Override
+    public void matchRule(DRGElement element, Rule rule) {
+        Trace trace = this.trace.get();
+        if (trace.traced) {
+            forward(trace, () -> delegate.matchRule(element, rule));
+        }
+    }
+
+    @Override
+    public void endRule(DRGElement element, Rule rule, Object result) {
+        Trace trace = this.trace.get();
+        if (trace.traced) {
+            forward(trace, () -> delegate.endRule(element, rule, result));
+        }
+    }
+
+    // Discards the state of the current thread
+    public void reset() {
+        this.trace.get().clear();
+    }
+
+    private void decide(Trace trace) {
+        if (!trace.decided) {
+            trace.decided = true;
+            trace.traced = sampleRate == 1 || counter.getAndIncrement() % sampleRate == 0;
+        }
+    }
+
+    private void forward(Trace trace, Runnable event) {
+        if (thresholdNanos > 0) {
+            trace.buffer.add(event);
+        } else {
+            event.run();
+        }
+    }
+
+    // Pops the frames up to and including the one of element
+    private boolean pop(Trace trace, DRGElement element) {
+        List<DRGElement> stack = trace.stack;
+        for (int i = stack.size() - 1; i >= 0; i--) {
+            if (stack.get(i) == element) {
+                stack.subList(i, stack.size()).clear();
+                return true;
+            }
+        }
+        return false;
+    }
+}
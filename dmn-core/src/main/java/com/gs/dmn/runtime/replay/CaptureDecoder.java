@@ -0,0 +1,129 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.runtime.Context;
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.gs.dmn.runtime.replay.CaptureFormat.*;
+
+/**
+ * Reads the values of a capture file and converts them with the FEEL library. Not thread-safe.
+ */
+class CaptureDecoder {
+    private final DataInputStream in;
+    private final StandardFEELLib<?, ?, ?, ?, ?> lib;
+    private final List<String> strings = new ArrayList<>();
+
+    CaptureDecoder(DataInputStream in, StandardFEELLib<?, ?, ?, ?, ?> lib) {
+        this.in = in;
+        this.lib = lib;
+    }
+
+    Object readValue() throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case LONG:
+                return lib.number(String.valueOf(readVarLong()));
+            case DOUBLE:
+                return lib.number(Double.toString(in.readDouble()));
+            case BIG_DECIMAL:
+                int scale = readVarInt();
+                byte[] unscaled = new byte[readVarInt()];
+                in.readFully(unscaled);
+                return lib.number(new BigDecimal(new BigInteger(unscaled), scale).toString());
+            case DATE:
+                return lib.date(readString());
+            case TIME:
+                return lib.time(readString());
+            case DATE_AND_TIME:
+                return lib.dateAndTime(readString());
+            case DURATION:
+                return lib.duration(readString());
+            case LIST:
+                int size = readVarInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                return list;
+            case CONTEXT:
+                int count = readVarInt();
+                Context context = new Context();
+                for (int i = 0; i < count; i++) {
+                    String key = readString();
+                    context.put(key, readValue());
+                }
+                return context;
+            default:
+                throw new DMNRuntimeException(String.format("Illegal value tag '%d'", tag));
+        }
+    }
+
+    String readString() throws IOException {
+        int index = readVarInt();
+        if (index == NULL_STRING) {
+            return null;
+        } else if (index == NEW_STRING || index == INLINE_STRING) {
+            byte[] bytes = new byte[readVarInt()];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            if (index == NEW_STRING) {
+                strings.add(value);
+            }
+            return value;
+        } else if (index >= 0 && index < strings.size()) {
+            return strings.get(index);
+        } else {
+            throw new DMNRuntimeException(String.format("Illegal string index '%d'", index));
+        }
+    }
+
+    int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    long readVarLong() throws IOException {
+        long v = 0;
+        int shift = 0;
+        while (true) {
+            byte b = in.readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new DMNRuntimeException("Malformed variable-length number");
+            }
+        }
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
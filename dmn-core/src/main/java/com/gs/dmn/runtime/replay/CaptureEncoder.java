@@ -0,0 +1,218 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.gs.dmn.runtime.Context;
+import com.gs.dmn.runtime.DMNType;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAmount;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.gs.dmn.runtime.replay.CaptureFormat.*;
+
+/**
+ * Writes the values of a capture file. Not thread-safe.
+ */
+class CaptureEncoder {
+    // JSON name -> getter of the generated item definitions, sorted by name
+    private static final Map<Class<?>, List<Map.Entry<String, Method>>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final List<String> newStrings = new ArrayList<>();
+
+    CaptureEncoder(DataOutputStream out) {
+        this.out = out;
+    }
+
+    void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(LONG);
+            writeVarLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof BigDecimal) {
+            BigDecimal number = (BigDecimal) value;
+            byte[] unscaled = number.unscaledValue().toByteArray();
+            out.writeByte(BIG_DECIMAL);
+            writeVarInt(number.scale());
+            writeVarInt(unscaled.length);
+            out.write(unscaled);
+        } else if (value instanceof XMLGregorianCalendar) {
+            XMLGregorianCalendar calendar = (XMLGregorianCalendar) value;
+            QName type = calendar.getXMLSchemaType();
+            if (DatatypeConstants.DATE.equals(type)) {
+                writeLiteral(DATE, calendar.toXMLFormat());
+            } else if (DatatypeConstants.TIME.equals(type)) {
+                writeLiteral(TIME, calendar.toXMLFormat());
+            } else if (DatatypeConstants.DATETIME.equals(type)) {
+                writeLiteral(DATE_AND_TIME, calendar.toXMLFormat());
+            } else {
+                throw new IllegalArgumentException(String.format("Cannot capture calendar of type '%s'", type));
+            }
+        } else if (value instanceof javax.xml.datatype.Duration || value instanceof TemporalAmount) {
+            writeLiteral(DURATION, value.toString());
+        } else if (value instanceof LocalDate) {
+            writeLiteral(DATE, ((LocalDate) value).format(DateTimeFormatter.ISO_LOCAL_DATE));
+        } else if (value instanceof OffsetTime) {
+            writeLiteral(TIME, ((OffsetTime) value).format(DateTimeFormatter.ISO_OFFSET_TIME));
+        } else if (value instanceof LocalTime) {
+            writeLiteral(TIME, ((LocalTime) value).format(DateTimeFormatter.ISO_LOCAL_TIME));
+        } else if (value instanceof ZonedDateTime) {
+            ZonedDateTime dateTime = (ZonedDateTime) value;
+            if (dateTime.getZone() instanceof ZoneOffset) {
+                writeLiteral(DATE_AND_TIME, dateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+            } else {
+                writeLiteral(DATE_AND_TIME, dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "@" + dateTime.getZone().getId());
+            }
+        } else if (value instanceof OffsetDateTime) {
+            writeLiteral(DATE_AND_TIME, ((OffsetDateTime) value).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        } else if (value instanceof LocalDateTime) {
+            writeLiteral(DATE_AND_TIME, ((LocalDateTime) value).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            writeVarInt(list.size());
+            for (Object element : list) {
+                writeValue(element);
+            }
+        } else if (value instanceof Context) {
+            writeMap(((Context) value).getBindings());
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value);
+        } else if (value instanceof DMNType) {
+            List<Map.Entry<String, Method>> properties = properties(value.getClass());
+            out.writeByte(CONTEXT);
+            writeVarInt(properties.size());
+            for (Map.Entry<String, Method> property : properties) {
+                writeString(property.getKey());
+                writeValue(get(value, property.getValue()));
+            }
+        } else {
+            throw new IllegalArgumentException(String.format("Cannot capture value of type '%s'", value.getClass().getName()));
+        }
+    }
+
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(NULL_STRING);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarInt(index);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (value.length() <= MAX_INTERNED_LENGTH && strings.size() < MAX_STRINGS) {
+            strings.put(value, strings.size());
+            newStrings.add(value);
+            writeVarInt(NEW_STRING);
+        } else {
+            writeVarInt(INLINE_STRING);
+        }
+        writeVarInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // Zig-zag encoded variable-length int
+    void writeVarInt(int value) throws IOException {
+        writeVarLong(value);
+    }
+
+    // Zig-zag encoded variable-length long
+    void writeVarLong(long value) throws IOException {
+        long v = (value << 1) ^ (value >> 63);
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    // Starts a record: the strings interned from now on are forgotten by rollback()
+    void mark() {
+        newStrings.clear();
+    }
+
+    // Forgets the strings interned since mark(), when the record is not written
+    void rollback() {
+        for (String value : newStrings) {
+            strings.remove(value);
+        }
+        newStrings.clear();
+    }
+
+    private void writeLiteral(byte tag, String literal) throws IOException {
+        out.writeByte(tag);
+        writeString(literal);
+    }
+
+    private void writeMap(Map<?, ?> map) throws IOException {
+        out.writeByte(CONTEXT);
+        writeVarInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeString(String.valueOf(entry.getKey()));
+            writeValue(entry.getValue());
+        }
+    }
+
+    private static Object get(Object value, Method getter) {
+        try {
+            return getter.invoke(value);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(String.format("Cannot read property '%s' of '%s'", getter.getName(), value.getClass().getName()), e);
+        }
+    }
+
+    private static List<Map.Entry<String, Method>> properties(Class<?> cls) {
+        return PROPERTIES.computeIfAbsent(cls, c -> {
+            // The getters are annotated in the interfaces, not in the implementations
+            Map<String, Method> properties = new TreeMap<>();
+            for (Class<?> type = c; type != null; type = type.getSuperclass()) {
+                for (Class<?> itf : type.getInterfaces()) {
+                    if (!DMNType.class.isAssignableFrom(itf)) {
+                        continue;
+                    }
+                    for (Method method : itf.getMethods()) {
+                        JsonGetter getter = method.getAnnotation(JsonGetter.class);
+                        if (getter != null && method.getParameterCount() == 0) {
+                            properties.putIfAbsent(getter.value(), method);
+                        }
+                    }
+                }
+            }
+            return new ArrayList<>(properties.entrySet());
+        });
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+/**
+ * Layout of a capture file (big-endian): magic, format version, then one record for each captured evaluation:
+ *   RECORD, namespace and name of the DRG element, timestamp (ms), duration (ns), the arguments (name and value) and the output.
+ *
+ * The values are tagged: numbers are written as unscaled value and scale, dates, times and durations as FEEL literals,
+ * lists and contexts element by element (generated item definitions are written as contexts). Short strings are written
+ * once and then referenced by index; a truncated last record (e.g. after a crash) is ignored by the reader.
+ */
+public final class CaptureFormat {
+    public static final int MAGIC = 0x4A444D52;
+    public static final int FORMAT_VERSION = 1;
+
+    static final byte RECORD = 1;
+
+    static final byte NULL = 0;
+    static final byte STRING = 1;
+    static final byte TRUE = 2;
+    static final byte FALSE = 3;
+    static final byte LONG = 4;
+    static final byte DOUBLE = 5;
+    static final byte BIG_DECIMAL = 6;
+    static final byte DATE = 7;
+    static final byte TIME = 8;
+    static final byte DATE_AND_TIME = 9;
+    static final byte DURATION = 10;
+    static final byte LIST = 11;
+    static final byte CONTEXT = 12;
+
+    // String references: index of a known string or one of the markers below
+    static final int NULL_STRING = -1;
+    static final int NEW_STRING = -2;
+    static final int INLINE_STRING = -3;
+
+    static final int MAX_STRINGS = 64 * 1024;
+    static final int MAX_INTERNED_LENGTH = 64;
+
+    private CaptureFormat() {
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static com.gs.dmn.runtime.replay.CaptureFormat.*;
+
+/**
+ * Reads the evaluations of a capture file one at a time. The values are converted with the FEEL library of the replay
+ * target. A truncated last record is ignored.
+ */
+public class CaptureReader implements Iterator<CapturedEvaluation>, Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaptureReader.class);
+
+    public static List<CapturedEvaluation> readAll(Path path, StandardFEELLib<?, ?, ?, ?, ?> lib) throws IOException {
+        List<CapturedEvaluation> evaluations = new ArrayList<>();
+        try (CaptureReader reader = new CaptureReader(path, lib)) {
+            while (reader.hasNext()) {
+                evaluations.add(reader.next());
+            }
+        }
+        return evaluations;
+    }
+
+    private final DataInputStream in;
+    private final CaptureDecoder decoder;
+    private CapturedEvaluation next;
+    private boolean done;
+
+    public CaptureReader(Path path, StandardFEELLib<?, ?, ?, ?, ?> lib) throws IOException {
+        this(Files.newInputStream(path), lib);
+    }
+
+    public CaptureReader(InputStream input, StandardFEELLib<?, ?, ?, ?, ?> lib) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(input));
+        this.decoder = new CaptureDecoder(this.in, lib);
+        try {
+            int magic = in.readInt();
+            if (magic != MAGIC) {
+                throw new DMNRuntimeException("Not a capture file");
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new DMNRuntimeException(String.format("Illegal capture format version '%d'", version));
+            }
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readRecord();
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public CapturedEvaluation next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CapturedEvaluation result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private CapturedEvaluation readRecord() {
+        try {
+            int tag = in.read();
+            if (tag == -1) {
+                return null;
+            }
+            if (tag != RECORD) {
+                throw new DMNRuntimeException(String.format("Illegal record tag '%d'", tag));
+            }
+            String namespace = decoder.readString();
+            String name = decoder.readString();
+            long timestamp = decoder.readVarLong();
+            long durationNanos = decoder.readVarLong();
+            int count = decoder.readVarInt();
+            Map<String, Object> arguments = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = decoder.readString();
+                arguments.put(key, decoder.readValue());
+            }
+            Object output = decoder.readValue();
+            return new CapturedEvaluation(namespace, name, timestamp, durationNanos, arguments, output);
+        } catch (EOFException e) {
+            LOGGER.warn("Ignoring truncated last record of capture file");
+            return null;
+        } catch (IOException e) {
+            throw new DMNRuntimeException("Cannot read capture file", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.runtime.listener.DRGElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static com.gs.dmn.runtime.replay.CaptureFormat.*;
+
+/**
+ * Appends captured evaluations to a capture file. Thread-safe: the records are written one at a time.
+ *
+ * A record whose values cannot be captured (e.g. a function) or that comes after close() is skipped and counted; the file
+ * is not affected.
+ */
+public class CaptureWriter implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaptureWriter.class);
+
+    private final DataOutputStream out;
+    // A record is encoded in memory and written only when complete
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final CaptureEncoder encoder = new CaptureEncoder(new DataOutputStream(buffer));
+    private long written;
+    private long skipped;
+    private boolean closed;
+
+    public CaptureWriter(Path path) throws IOException {
+        this(Files.newOutputStream(path));
+    }
+
+    public CaptureWriter(OutputStream output) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(output));
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(FORMAT_VERSION);
+    }
+
+    // Returns false when the record is skipped
+    public synchronized boolean write(DRGElement element, Map<String, ?> arguments, Object output, long durationNanos) {
+        if (closed || arguments == null) {
+            // Capture is over or element was not traced
+            skipped++;
+            return false;
+        }
+        buffer.reset();
+        encoder.mark();
+        try {
+            buffer.write(RECORD);
+            encoder.writeString(element.getNamespace());
+            encoder.writeString(element.getName());
+            encoder.writeVarLong(System.currentTimeMillis());
+            encoder.writeVarLong(durationNanos);
+            encoder.writeVarInt(arguments.size());
+            for (Map.Entry<String, ?> argument : arguments.entrySet()) {
+                encoder.writeString(argument.getKey());
+                encoder.writeValue(argument.getValue());
+            }
+            encoder.writeValue(output);
+            buffer.writeTo(out);
+            written++;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            encoder.rollback();
+            skipped++;
+            LOGGER.debug(String.format("Cannot capture evaluation of '%s'", element.getName()), e);
+            return false;
+        }
+    }
+
+    public synchronized long getWritten() {
+        return written;
+    }
+
+    public synchronized long getSkipped() {
+        return skipped;
+    }
+
+    public synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A top-level evaluation read from a capture file. The values are converted to the types of the FEEL library of the
+ * replay target.
+ */
+public class CapturedEvaluation {
+    private final String namespace;
+    private final String name;
+    private final long timestamp;
+    private final long durationNanos;
+    private final Map<String, Object> arguments;
+    private final Object output;
+
+    public CapturedEvaluation(String namespace, String name, long timestamp, long durationNanos, Map<String, Object> arguments, Object output) {
+        this.namespace = namespace;
+        this.name = name;
+        this.timestamp = timestamp;
+        this.durationNanos = durationNanos;
+        this.arguments = new LinkedHashMap<>(arguments);
+        this.output = output;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    // Duration of the recorded evaluation
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    // In the order of the parameters of the element
+    public Map<String, Object> getArguments() {
+        return arguments;
+    }
+
+    public Object getOutput() {
+        return output;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%s) = %s", name, arguments, output);
+    }
+}
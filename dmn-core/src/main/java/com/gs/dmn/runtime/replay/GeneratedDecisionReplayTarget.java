@@ -0,0 +1,227 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.runtime.Context;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.DMNType;
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+import com.gs.dmn.runtime.annotation.DRGElement;
+import com.gs.dmn.runtime.discovery.DecisionDiscovery;
+import com.gs.dmn.runtime.discovery.RegistryEntry;
+import com.gs.dmn.runtime.external.DefaultExternalFunctionExecutor;
+import com.gs.dmn.runtime.external.ExternalFunctionExecutor;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.NopEventListener;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Replays the evaluations with generated decision classes, found by the name in their @DRGElement annotation. The
+ * arguments are bound by name to the parameters of the typed apply(..., AnnotationSet, EventListener, ExternalFunctionExecutor)
+ * method; the names come from the registry of the model (generateRegistry) or from the class files (compiled with
+ * -parameters). Captured contexts are converted to the item definitions of the parameters.
+ */
+public class GeneratedDecisionReplayTarget implements ReplayTarget {
+    private static class Decision {
+        private final List<String> parameterNames;
+        private final Type[] parameterTypes;
+        private final MethodHandle apply;
+
+        private Decision(List<String> parameterNames, Type[] parameterTypes, MethodHandle apply) {
+            this.parameterNames = parameterNames;
+            this.parameterTypes = parameterTypes;
+            this.apply = apply;
+        }
+    }
+
+    private final Map<String, Decision> decisions = new LinkedHashMap<>();
+    private final StandardFEELLib<?, ?, ?, ?, ?> lib;
+    private final EventListener eventListener = new NopEventListener();
+    private final ExternalFunctionExecutor externalExecutor = new DefaultExternalFunctionExecutor();
+    // Item definition -> member getters by JSON name
+    private final Map<Class<?>, Map<String, Method>> getters = new HashMap<>();
+
+    public GeneratedDecisionReplayTarget(Class<?>... decisionClasses) {
+        if (decisionClasses.length == 0) {
+            throw new IllegalArgumentException("Missing decision classes");
+        }
+        Object first = null;
+        for (Class<?> decisionClass : decisionClasses) {
+            DRGElement annotation = decisionClass.getAnnotation(DRGElement.class);
+            String name = annotation == null ? decisionClass.getSimpleName() : annotation.name();
+            Object instance;
+            try {
+                instance = decisionClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new DMNRuntimeException(String.format("Cannot instantiate '%s'", decisionClass.getName()), e);
+            }
+            if (first == null) {
+                first = instance;
+            }
+            this.decisions.put(name, makeDecision(decisionClass, instance));
+        }
+        if (!(first instanceof StandardFEELLib)) {
+            throw new DMNRuntimeException(String.format("'%s' does not extend a standard FEEL library", first.getClass().getName()));
+        }
+        this.lib = (StandardFEELLib<?, ?, ?, ?, ?>) first;
+    }
+
+    @Override
+    public StandardFEELLib<?, ?, ?, ?, ?> getFeelLib() {
+        return lib;
+    }
+
+    @Override
+    public PreparedEvaluation prepare(CapturedEvaluation evaluation) throws Exception {
+        Decision decision = decisions.get(evaluation.getName());
+        if (decision == null) {
+            throw new DMNRuntimeException(String.format("Cannot find decision class for '%s'", evaluation.getName()));
+        }
+        Map<String, Object> values = evaluation.getArguments();
+        int count = decision.parameterNames.size();
+        if (values.size() != count) {
+            throw new DMNRuntimeException(String.format("Expected %d arguments for '%s' but found %d", count, evaluation.getName(), values.size()));
+        }
+        Object[] arguments = new Object[count + 3];
+        for (int i = 0; i < count; i++) {
+            String parameterName = decision.parameterNames.get(i);
+            if (!values.containsKey(parameterName)) {
+                throw new DMNRuntimeException(String.format("Missing argument '%s' for '%s'", parameterName, evaluation.getName()));
+            }
+            arguments[i] = convert(values.get(parameterName), decision.parameterTypes[i]);
+        }
+        arguments[count] = new AnnotationSet();
+        arguments[count + 1] = eventListener;
+        arguments[count + 2] = externalExecutor;
+        return () -> invoke(decision.apply, arguments);
+    }
+
+    private static Object invoke(MethodHandle apply, Object[] arguments) throws Exception {
+        try {
+            return (Object) apply.invokeExact(arguments);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new DMNRuntimeException(e);
+        }
+    }
+
+    private Object convert(Object value, Type type) throws Exception {
+        if (value instanceof Context && type instanceof Class && ((Class<?>) type).isInterface() && DMNType.class.isAssignableFrom((Class<?>) type)) {
+            return toItemDefinition((Context) value, (Class<?>) type);
+        } else if (value instanceof List && type instanceof ParameterizedType && ((ParameterizedType) type).getActualTypeArguments().length == 1) {
+            Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+            List<Object> result = new ArrayList<>();
+            for (Object element : (List<?>) value) {
+                result.add(convert(element, elementType));
+            }
+            return result;
+        } else {
+            return value;
+        }
+    }
+
+    // Converts the members and then calls the generated static method to<Type>(Object)
+    private Object toItemDefinition(Context context, Class<?> type) throws Exception {
+        Context converted = new Context();
+        for (Map.Entry<String, Method> getter : getters.computeIfAbsent(type, this::findGetters).entrySet()) {
+            converted.put(getter.getKey(), convert(context.get(getter.getKey()), getter.getValue().getGenericReturnType()));
+        }
+        Method factory = type.getMethod("to" + type.getSimpleName(), Object.class);
+        try {
+            return factory.invoke(null, converted);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    private Map<String, Method> findGetters(Class<?> type) {
+        Map<String, Method> result = new LinkedHashMap<>();
+        for (Method method : type.getMethods()) {
+            JsonGetter getter = method.getAnnotation(JsonGetter.class);
+            if (getter != null && method.getParameterCount() == 0) {
+                result.put(getter.value(), method);
+            }
+        }
+        return result;
+    }
+
+    private static Decision makeDecision(Class<?> decisionClass, Object instance) {
+        Method apply = findApply(decisionClass);
+        List<String> parameterNames = findParameterNames(decisionClass, apply);
+        try {
+            // Called with an array of arguments
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(apply).bindTo(instance)
+                    .asSpreader(Object[].class, apply.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new Decision(parameterNames, apply.getGenericParameterTypes(), handle);
+        } catch (IllegalAccessException e) {
+            throw new DMNRuntimeException(String.format("Cannot access apply method in '%s'", decisionClass.getName()), e);
+        }
+    }
+
+    private static List<String> findParameterNames(Class<?> decisionClass, Method apply) {
+        int count = apply.getParameterCount() - 3;
+        RegistryEntry entry = new DecisionDiscovery(decisionClass.getClassLoader()).findEntry(decisionClass.getName());
+        if (entry != null && entry.getParameterNames() != null && entry.getParameterNames().size() == count) {
+            return entry.getParameterNames();
+        }
+        List<String> result = new ArrayList<>();
+        Parameter[] parameters = apply.getParameters();
+        for (int i = 0; i < count; i++) {
+            if (!parameters[i].isNamePresent()) {
+                throw new DMNRuntimeException(String.format("Cannot find the parameter names of '%s': generate the registry of the model or compile with -parameters", decisionClass.getName()));
+            }
+            result.add(parameters[i].getName());
+        }
+        return result;
+    }
+
+    private static Method findApply(Class<?> decisionClass) {
+        Method result = null;
+        for (Method method : decisionClass.getMethods()) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            int n = parameterTypes.length;
+            if ("apply".equals(method.getName()) && n >= 3
+                    && parameterTypes[n - 3] == AnnotationSet.class
+                    && parameterTypes[n - 2] == EventListener.class
+                    && parameterTypes[n - 1] == ExternalFunctionExecutor.class) {
+                if (result == null || !isStringVariant(method)) {
+                    result = method;
+                }
+            }
+        }
+        if (result == null) {
+            throw new DMNRuntimeException(String.format("Cannot find apply method in '%s'", decisionClass.getName()));
+        }
+        return result;
+    }
+
+    private static boolean isStringVariant(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length - 3; i++) {
+            if (parameterTypes[i] != String.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
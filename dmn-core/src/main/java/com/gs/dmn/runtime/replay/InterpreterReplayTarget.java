@@ -0,0 +1,76 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import org.omg.spec.dmn._20180521.model.TDRGElement;
+import org.omg.spec.dmn._20180521.model.TInputData;
+
+import java.util.*;
+
+/**
+ * Replays the evaluations with the interpreter. The arguments are bound to the input data by name; captures of the
+ * generated code (Java names of the input data) are accepted too.
+ */
+public class InterpreterReplayTarget implements ReplayTarget {
+    private final DMNInterpreter interpreter;
+    private final StandardFEELLib<?, ?, ?, ?, ?> lib;
+    // Element name -> input data name and Java name
+    private final Map<String, List<String[]>> inputs = new HashMap<>();
+
+    public InterpreterReplayTarget(DMNInterpreter interpreter) {
+        this.interpreter = interpreter;
+        this.lib = (StandardFEELLib<?, ?, ?, ?, ?>) interpreter.getFeelLib();
+    }
+
+    @Override
+    public StandardFEELLib<?, ?, ?, ?, ?> getFeelLib() {
+        return lib;
+    }
+
+    @Override
+    public PreparedEvaluation prepare(CapturedEvaluation evaluation) {
+        String name = evaluation.getName();
+        Map<String, Object> arguments = evaluation.getArguments();
+        List<String[]> inputNames = inputs.computeIfAbsent(name, this::findInputs);
+        Object[] values = new Object[inputNames.size()];
+        for (int i = 0; i < values.length; i++) {
+            String[] names = inputNames.get(i);
+            values[i] = arguments.containsKey(names[0]) ? arguments.get(names[0]) : arguments.get(names[1]);
+        }
+        // The interpreter binds its results in the environment, a new one is used for each evaluation
+        return () -> {
+            RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+            for (int i = 0; i < values.length; i++) {
+                runtimeEnvironment.bind(inputNames.get(i)[0], values[i]);
+            }
+            return interpreter.evaluate(name, runtimeEnvironment);
+        };
+    }
+
+    private List<String[]> findInputs(String elementName) {
+        BasicDMN2JavaTransformer transformer = interpreter.getBasicDMNTransformer();
+        DMNModelRepository repository = transformer.getDMNModelRepository();
+        TDRGElement element = repository.findDRGElementByName(elementName);
+        List<String[]> result = new ArrayList<>();
+        for (TInputData inputData : repository.allInputDatas(element)) {
+            result.add(new String[] {inputData.getName(), transformer.inputDataVariableName(inputData)});
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.runtime.listener.Arguments;
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.Rule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Captures the arguments and the output of the top-level evaluations. The nested elements are not traced, so the
+ * generated code and the interpreter skip their arguments and rule events. A failed evaluation is recorded with a null
+ * output, because the generated code and the interpreter report the end of the failed element.
+ *
+ * Combine with SamplingEventListener to capture only some evaluations, e.g.
+ *   SamplingEventListener.everyNth(new RecordingEventListener(writer), 100)
+ */
+public class RecordingEventListener implements EventListener {
+    private final CaptureWriter writer;
+    private final ThreadLocal<List<DRGElement>> stack = ThreadLocal.withInitial(ArrayList::new);
+
+    public RecordingEventListener(CaptureWriter writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Missing capture writer");
+        }
+        this.writer = writer;
+    }
+
+    @Override
+    public boolean isTraced(DRGElement element) {
+        return this.stack.get().isEmpty();
+    }
+
+    @Override
+    public void startDRGElement(DRGElement element, Arguments arguments) {
+        this.stack.get().add(element);
+    }
+
+    @Override
+    public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+        endDRGElementNanos(element, arguments, output, TimeUnit.MILLISECONDS.toNanos(duration));
+    }
+
+    @Override
+    public void endDRGElementNanos(DRGElement element, Arguments arguments, Object output, long durationNanos) {
+        List<DRGElement> stack = this.stack.get();
+        if (pop(stack, element) && stack.isEmpty()) {
+            writer.write(element, arguments, output, durationNanos);
+        }
+    }
+
+    @Override
+    public void startRule(DRGElement element, Rule rule) {
+    }
+
+    @Override
+    public void matchRule(DRGElement element, Rule rule) {
+    }
+
+    @Override
+    public void endRule(DRGElement element, Rule rule, Object result) {
+    }
+
+    // Discards the state of the current thread
+    public void reset() {
+        this.stack.get().clear();
+    }
+
+    // Pops the frames up to and including the one of element
+    private boolean pop(List<DRGElement> stack, DRGElement element) {
+        for (int i = stack.size() - 1; i >= 0; i--) {
+            if (stack.get(i) == element) {
+                stack.subList(i, stack.size()).clear();
+                return true;
+            }
+        }
+        return false;
+    }
+}
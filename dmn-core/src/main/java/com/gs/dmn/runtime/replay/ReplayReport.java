@@ -0,0 +1,99 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.runtime.listener.LatencySnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a replay: the evaluations whose output differs from the recorded one or that fail, the throughput and the
+ * latency distributions of the replay and of the recording.
+ */
+public class ReplayReport {
+    private final int evaluations;
+    private final int mismatches;
+    private final int errors;
+    private final List<String> details;
+    private final long measuredEvaluations;
+    private final long elapsedNanos;
+    private final LatencySnapshot replayedLatency;
+    private final LatencySnapshot recordedLatency;
+
+    public ReplayReport(int evaluations, int mismatches, int errors, List<String> details, long measuredEvaluations, long elapsedNanos, LatencySnapshot replayedLatency, LatencySnapshot recordedLatency) {
+        this.evaluations = evaluations;
+        this.mismatches = mismatches;
+        this.errors = errors;
+        this.details = new ArrayList<>(details);
+        this.measuredEvaluations = measuredEvaluations;
+        this.elapsedNanos = elapsedNanos;
+        this.replayedLatency = replayedLatency;
+        this.recordedLatency = recordedLatency;
+    }
+
+    // Number of captured evaluations
+    public int getEvaluations() {
+        return evaluations;
+    }
+
+    public int getMismatches() {
+        return mismatches;
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    // Description of the first mismatches and errors
+    public List<String> getDetails() {
+        return details;
+    }
+
+    public boolean isSuccessful() {
+        return mismatches == 0 && errors == 0;
+    }
+
+    public long getMeasuredEvaluations() {
+        return measuredEvaluations;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public double getEvaluationsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : measuredEvaluations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public LatencySnapshot getReplayedLatency() {
+        return replayedLatency;
+    }
+
+    public LatencySnapshot getRecordedLatency() {
+        return recordedLatency;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append(String.format("%d evaluations, %d mismatches, %d errors%n", evaluations, mismatches, errors));
+        result.append(String.format("throughput: %.1f evaluations/s (%d in %d ms)%n", getEvaluationsPerSecond(), measuredEvaluations, getElapsedMillis()));
+        result.append(String.format("replayed: %s%n", replayedLatency));
+        result.append(String.format("recorded: %s%n", recordedLatency));
+        for (String detail : details) {
+            result.append(detail).append(String.format("%n"));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.feel.lib.StandardFEELLib;
+
+/**
+ * Model version or build that re-evaluates the captured evaluations. Not thread-safe.
+ */
+public interface ReplayTarget {
+    // Library used to convert the captured values and to compare the outputs
+    StandardFEELLib<?, ?, ?, ?, ?> getFeelLib();
+
+    // Binds and converts the arguments once; the measured passes only call the prepared evaluation
+    PreparedEvaluation prepare(CapturedEvaluation evaluation) throws Exception;
+
+    default Object evaluate(CapturedEvaluation evaluation) throws Exception {
+        return prepare(evaluation).evaluate();
+    }
+
+    interface PreparedEvaluation {
+        Object evaluate() throws Exception;
+    }
+}
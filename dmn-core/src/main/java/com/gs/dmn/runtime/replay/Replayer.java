@@ -0,0 +1,193 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.log.NopBuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.Assert;
+import com.gs.dmn.runtime.listener.LatencyHistogram;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Re-evaluates captured evaluations against a new model version or build. The first pass prepares each evaluation
+ * (binding and conversion of the arguments) and compares its output with the recorded one (as values of the FEEL
+ * library of the target, numbers with the tolerance of Assert); the following passes warm up and then measure the
+ * throughput and the latency distribution of the prepared evaluations only. Single-threaded.
+ */
+public class Replayer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Replayer.class);
+
+    public static final int DEFAULT_WARM_UP_ITERATIONS = 2;
+    public static final int DEFAULT_ITERATIONS = 5;
+    private static final int MAX_DETAILS = 100;
+
+    private final int warmUpIterations;
+    private final int iterations;
+
+    public Replayer() {
+        this(DEFAULT_WARM_UP_ITERATIONS, DEFAULT_ITERATIONS);
+    }
+
+    public Replayer(int warmUpIterations, int iterations) {
+        if (warmUpIterations < 0) {
+            throw new IllegalArgumentException(String.format("Illegal number of warm-up iterations '%d'", warmUpIterations));
+        }
+        if (iterations <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal number of iterations '%d'", iterations));
+        }
+        this.warmUpIterations = warmUpIterations;
+        this.iterations = iterations;
+    }
+
+    // The capture is decoded before the measurement
+    public ReplayReport replay(Path capture, ReplayTarget target) throws IOException {
+        return replay(CaptureReader.readAll(capture, target.getFeelLib()), target);
+    }
+
+    public ReplayReport replay(List<CapturedEvaluation> evaluations, ReplayTarget target) {
+        // Prepare the evaluations and compare the outputs
+        int mismatches = 0;
+        int errors = 0;
+        List<String> details = new ArrayList<>();
+        List<ReplayTarget.PreparedEvaluation> preparedEvaluations = new ArrayList<>();
+        LatencyHistogram recordedLatency = new LatencyHistogram();
+        for (int i = 0; i < evaluations.size(); i++) {
+            CapturedEvaluation evaluation = evaluations.get(i);
+            recordedLatency.record(evaluation.getDurationNanos());
+            String detail = null;
+            try {
+                ReplayTarget.PreparedEvaluation preparedEvaluation = target.prepare(evaluation);
+                preparedEvaluations.add(preparedEvaluation);
+                Object actual = normalize(preparedEvaluation.evaluate(), target.getFeelLib());
+                try {
+                    Assert.assertEquals(evaluation.getOutput(), actual);
+                } catch (AssertionError e) {
+                    mismatches++;
+                    detail = String.format("Evaluation %d of '%s': expected '%s' but was '%s'", i, evaluation.getName(), evaluation.getOutput(), actual);
+                }
+            } catch (Exception e) {
+                errors++;
+                detail = String.format("Evaluation %d of '%s' failed: %s", i, evaluation.getName(), e.getMessage());
+                LOGGER.debug(detail, e);
+            }
+            if (detail != null && details.size() < MAX_DETAILS) {
+                details.add(detail);
+            }
+        }
+
+        // Warm up and measure
+        for (int i = 0; i < warmUpIterations; i++) {
+            run(preparedEvaluations, null);
+        }
+        LatencyHistogram replayedLatency = new LatencyHistogram();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            run(preparedEvaluations, replayedLatency);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new ReplayReport(evaluations.size(), mismatches, errors, details, (long) iterations * preparedEvaluations.size(), elapsedNanos, replayedLatency.snapshot(), recordedLatency.snapshot());
+    }
+
+    // The evaluations that could not be prepared are not measured
+    private void run(List<ReplayTarget.PreparedEvaluation> evaluations, LatencyHistogram latency) {
+        for (ReplayTarget.PreparedEvaluation evaluation : evaluations) {
+            long startNanos = System.nanoTime();
+            try {
+                evaluation.evaluate();
+            } catch (Exception e) {
+                // Already reported by the comparison
+            }
+            if (latency != null) {
+                latency.record(System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    // Converts the output the same way as the recorded one (e.g. item definitions to contexts)
+    static Object normalize(Object value, StandardFEELLib<?, ?, ?, ?, ?> lib) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        new CaptureEncoder(new DataOutputStream(buffer)).writeValue(value);
+        return new CaptureDecoder(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())), lib).readValue();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.startsWith("--") && i + 1 < args.length) {
+                options.put(option, args[++i]);
+            } else {
+                usage(String.format("Illegal option '%s'", option));
+                return;
+            }
+        }
+        String capture = options.get("--capture");
+        String model = options.get("--model");
+        String decisionClasses = options.get("--decision-class");
+        if (capture == null || (model == null) == (decisionClasses == null)) {
+            usage("Missing capture, model or decision classes");
+            return;
+        }
+
+        ReplayTarget target;
+        if (decisionClasses != null) {
+            String[] names = decisionClasses.split(",");
+            Class<?>[] classes = new Class<?>[names.length];
+            for (int i = 0; i < names.length; i++) {
+                classes[i] = Class.forName(names[i].trim());
+            }
+            target = new GeneratedDecisionReplayTarget(classes);
+        } else {
+            String dialectClassName = options.getOrDefault("--dialect", StandardDMNDialectDefinition.class.getName());
+            DMNDialectDefinition dialectDefinition = (DMNDialectDefinition) Class.forName(dialectClassName).newInstance();
+            DMNModelRepository repository = new DMNReader(new Slf4jBuildLogger(LOGGER), false).read(new File(model));
+            // The interpreter requires simple names
+            repository = new ToSimpleNameTransformer(new NopBuildLogger()).transform(repository);
+            target = new InterpreterReplayTarget(dialectDefinition.createDMNInterpreter(repository));
+        }
+        int warmUpIterations = Integer.parseInt(options.getOrDefault("--warm-up", String.valueOf(DEFAULT_WARM_UP_ITERATIONS)));
+        int iterations = Integer.parseInt(options.getOrDefault("--iterations", String.valueOf(DEFAULT_ITERATIONS)));
+
+        ReplayReport report = new Replayer(warmUpIterations, iterations).replay(Paths.get(capture), target);
+        System.out.println(report);
+        if (!report.isSuccessful()) {
+            System.exit(1);
+        }
+    }
+
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println("Usage: Replayer --capture <file> (--model <file.dmn> [--dialect <class>] | --decision-class <class>[,<class>...]) [--warm-up <n>] [--iterations <n>]");
+    }
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.serialization;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.serialization.JsonSerializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Base class of the streaming JSON codecs generated by dmn2java (input parameter 'generateJsonCodecs').
+ * The codecs read and write the values token by token with JsonParser / JsonGenerator; the FEEL literals
+ * (numbers as strings, dates, times, durations) are converted with the FEELLib of the dialect.
+ * Values without a specific codec (e.g. contexts) are delegated to JsonSerializer.OBJECT_MAPPER.
+ */
+public abstract class JsonCodec<T> {
+    public static final JsonFactory JSON_FACTORY = JsonSerializer.OBJECT_MAPPER.getFactory();
+
+    @FunctionalInterface
+    public interface ValueReader<V> {
+        V read(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ValueWriter<V> {
+        void write(JsonGenerator generator, V value) throws IOException;
+    }
+
+    // Reads the value starting at the current token (the parser is advanced to the first token if needed)
+    public abstract T read(JsonParser parser) throws IOException;
+
+    public abstract void write(JsonGenerator generator, T value) throws IOException;
+
+    public T read(String json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new DMNRuntimeException("Cannot read JSON", e);
+        }
+    }
+
+    public T read(InputStream inputStream) {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            return read(parser);
+        } catch (IOException e) {
+            throw new DMNRuntimeException("Cannot read JSON", e);
+        }
+    }
+
+    public String writeAsString(T value) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            write(generator, value);
+        } catch (IOException e) {
+            throw new DMNRuntimeException("Cannot write JSON", e);
+        }
+        return writer.toString();
+    }
+
+    //
+    // Read helpers
+    //
+    protected static JsonToken currentToken(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        return token == null ? parser.nextToken() : token;
+    }
+
+    // Returns false when the value is null, fails when it is not an object
+    protected static boolean startObject(JsonParser parser) throws IOException {
+        JsonToken token = currentToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        } else if (token == JsonToken.START_OBJECT) {
+            return true;
+        } else {
+            throw new DMNRuntimeException(String.format("Expected JSON object, found '%s' at %s", token, parser.getCurrentLocation()));
+        }
+    }
+
+    // Returns the name of the next field and moves to its value, or null at the end of the object
+    protected static String nextField(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            return name;
+        } else if (token == JsonToken.END_OBJECT) {
+            return null;
+        } else {
+            throw new DMNRuntimeException(String.format("Unexpected JSON token '%s' at %s", token, parser.getCurrentLocation()));
+        }
+    }
+
+    protected static void skipValue(JsonParser parser) throws IOException {
+        parser.skipChildren();
+    }
+
+    protected static String readString(JsonParser parser) throws IOException {
+        JsonToken token = currentToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token.isScalarValue()) {
+            return parser.getText();
+        } else {
+            throw new DMNRuntimeException(String.format("Expected JSON string, found '%s' at %s", token, parser.getCurrentLocation()));
+        }
+    }
+
+    // Converts the text of the value (e.g. a FEEL date literal)
+    protected static <V> V readString(JsonParser parser, Function<String, V> converter) throws IOException {
+        String text = readString(parser);
+        return text == null ? null : converter.apply(text);
+    }
+
+    protected static Boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = currentToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return parser.getBooleanValue();
+        } else {
+            return Boolean.valueOf(readString(parser));
+        }
+    }
+
+    protected static BigDecimal readBigDecimal(JsonParser parser, Function<String, BigDecimal> converter) throws IOException {
+        JsonToken token = currentToken(parser);
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        } else {
+            return readString(parser, converter);
+        }
+    }
+
+    protected static Double readDouble(JsonParser parser, Function<String, Double> converter) throws IOException {
+        JsonToken token = currentToken(parser);
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        } else {
+            return readString(parser, converter);
+        }
+    }
+
+    protected static <V> List<V> readList(JsonParser parser, ValueReader<V> elementReader) throws IOException {
+        JsonToken token = currentToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token != JsonToken.START_ARRAY) {
+            throw new DMNRuntimeException(String.format("Expected JSON array, found '%s' at %s", token, parser.getCurrentLocation()));
+        }
+        List<V> result = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            result.add(elementReader.read(parser));
+        }
+        return result;
+    }
+
+    // Fallback on data binding
+    protected static <V> V readValue(JsonParser parser, Class<V> valueClass) throws IOException {
+        JsonToken token = currentToken(parser);
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return JsonSerializer.OBJECT_MAPPER.readValue(parser, valueClass);
+    }
+
+    //
+    // Write helpers
+    //
+    protected static void writeString(JsonGenerator generator, String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    // Writes the value as a string (e.g. a FEEL date literal)
+    protected static <V> void writeString(JsonGenerator generator, V value, Function<V, String> converter) throws IOException {
+        writeString(generator, value == null ? null : converter.apply(value));
+    }
+
+    protected static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value);
+        }
+    }
+
+    protected static void writeNumber(JsonGenerator generator, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    protected static void writeNumber(JsonGenerator generator, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    protected static <V> void writeList(JsonGenerator generator, List<V> value, ValueWriter<V> elementWriter) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (V element : value) {
+                elementWriter.write(generator, element);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    // Fallback on data binding
+    protected static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            JsonSerializer.OBJECT_MAPPER.writeValue(generator, value);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.warmup;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+import com.gs.dmn.runtime.annotation.DRGElement;
+import com.gs.dmn.runtime.annotation.DRGElementKind;
+import com.gs.dmn.runtime.discovery.DecisionDiscovery;
+import com.gs.dmn.runtime.external.DefaultExternalFunctionExecutor;
+import com.gs.dmn.runtime.external.ExternalFunctionExecutor;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Evaluates a generated decision class through its typed apply(..., AnnotationSet, EventListener, ExternalFunctionExecutor)
+ * method. The inputs are recorded argument lists or synthetic values derived from the parameter types (complex types
+ * are filled in through the setters of their Impl classes).
+ */
+public class GeneratedDecisionWarmUpTarget implements WarmUpTarget {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedDecisionWarmUpTarget.class);
+    private static final int MAX_DEPTH = 3;
+
+    // One target for each generated decision in the package, with sampleCount synthetic inputs
+    public static List<GeneratedDecisionWarmUpTarget> discover(String packagePrefix, int sampleCount) {
+        return discover(GeneratedDecisionWarmUpTarget.class.getClassLoader(), packagePrefix, sampleCount);
+    }
+
+    public static List<GeneratedDecisionWarmUpTarget> discover(ClassLoader classLoader, String packagePrefix, int sampleCount) {
+        List<Class<?>> classes = new ArrayList<>(new DecisionDiscovery(classLoader).discover(packagePrefix));
+        classes.sort(Comparator.comparing(Class::getName));
+        List<GeneratedDecisionWarmUpTarget> targets = new ArrayList<>();
+        for (Class<?> cls : classes) {
+            DRGElement annotation = cls.getAnnotation(DRGElement.class);
+            if (annotation != null && annotation.elementKind() == DRGElementKind.DECISION && !Modifier.isAbstract(cls.getModifiers())) {
+                if (findApply(cls) == null) {
+                    LOGGER.warn("Skipping '{}': cannot find apply method", cls.getName());
+                } else {
+                    targets.add(synthetic(cls, sampleCount));
+                }
+            }
+        }
+        return targets;
+    }
+
+    public static GeneratedDecisionWarmUpTarget synthetic(Class<?> decisionClass, int sampleCount) {
+        if (sampleCount <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal sample count '%d'", sampleCount));
+        }
+        Method apply = checkApply(decisionClass);
+        Class<?>[] parameterTypes = apply.getParameterTypes();
+        List<Object[]> inputs = new ArrayList<>();
+        for (int sample = 0; sample < sampleCount; sample++) {
+            Object[] arguments = new Object[parameterTypes.length - 3];
+            for (int i = 0; i < arguments.length; i++) {
+                arguments[i] = makeValue(parameterTypes[i], sample, 0);
+            }
+            inputs.add(arguments);
+        }
+        return new GeneratedDecisionWarmUpTarget(decisionClass, inputs);
+    }
+
+    private final String name;
+    private final Object decision;
+    private final Method apply;
+    private final List<Object[]> inputs;
+    private final EventListener eventListener = new NopEventListener();
+    private final ExternalFunctionExecutor externalExecutor = new DefaultExternalFunctionExecutor();
+
+    // Each input holds the arguments that precede the AnnotationSet
+    public GeneratedDecisionWarmUpTarget(Class<?> decisionClass, List<Object[]> inputs) {
+        if (inputs == null || inputs.isEmpty()) {
+            throw new IllegalArgumentException(String.format("Missing inputs for '%s'", decisionClass.getName()));
+        }
+        DRGElement annotation = decisionClass.getAnnotation(DRGElement.class);
+        this.name = annotation == null ? decisionClass.getSimpleName() : annotation.name();
+        this.apply = checkApply(decisionClass);
+        try {
+            this.decision = decisionClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new DMNRuntimeException(String.format("Cannot instantiate '%s'", decisionClass.getName()), e);
+        }
+        this.inputs = new ArrayList<>(inputs);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object evaluate(int sample) throws Exception {
+        Object[] input = inputs.get(sample % inputs.size());
+        Object[] arguments = new Object[input.length + 3];
+        System.arraycopy(input, 0, arguments, 0, input.length);
+        arguments[input.length] = new AnnotationSet();
+        arguments[input.length + 1] = eventListener;
+        arguments[input.length + 2] = externalExecutor;
+        try {
+            return apply.invoke(decision, arguments);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    // Prefers the typed variant to the one that parses JSON strings
+    private static Method findApply(Class<?> decisionClass) {
+        Method result = null;
+        for (Method method : decisionClass.getMethods()) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            int n = parameterTypes.length;
+            if ("apply".equals(method.getName()) && n >= 3
+                    && parameterTypes[n - 3] == AnnotationSet.class
+                    && parameterTypes[n - 2] == EventListener.class
+                    && parameterTypes[n - 1] == ExternalFunctionExecutor.class) {
+                if (result == null || !isStringVariant(method)) {
+                    result = method;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Method checkApply(Class<?> decisionClass) {
+        Method apply = findApply(decisionClass);
+        if (apply == null) {
+            throw new DMNRuntimeException(String.format("Cannot find apply method in '%s'", decisionClass.getName()));
+        }
+        return apply;
+    }
+
+    private static boolean isStringVariant(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length - 3; i++) {
+            if (parameterTypes[i] != String.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Values vary with the sample to exercise different rules and branches
+    private static Object makeValue(Class<?> type, int sample, int depth) {
+        if (depth > MAX_DEPTH) {
+            return null;
+        }
+        if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(sample % 100);
+        } else if (type == Double.class || type == double.class) {
+            return (double) (sample % 100);
+        } else if (type == String.class) {
+            return "s" + sample % 10;
+        } else if (type == Boolean.class || type == boolean.class) {
+            return sample % 2 == 0;
+        } else if (type == javax.xml.datatype.XMLGregorianCalendar.class) {
+            return datatypeFactory().newXMLGregorianCalendar(String.format("2000-01-%02d", 1 + sample % 28));
+        } else if (type == javax.xml.datatype.Duration.class) {
+            return datatypeFactory().newDuration(String.format("P%dD", sample % 30));
+        } else if (type == LocalDate.class) {
+            return LocalDate.of(2000, 1, 1 + sample % 28);
+        } else if (type == OffsetTime.class) {
+            return OffsetTime.of(12, sample % 60, 0, 0, ZoneOffset.UTC);
+        } else if (type == ZonedDateTime.class) {
+            return ZonedDateTime.of(2000, 1, 1 + sample % 28, 12, 0, 0, 0, ZoneOffset.UTC);
+        } else if (type == java.time.Duration.class) {
+            return java.time.Duration.ofDays(sample % 30);
+        } else if (List.class.isAssignableFrom(type)) {
+            return new ArrayList<>();
+        } else if (type.isInterface()) {
+            return makeComplexValue(type, sample, depth);
+        } else {
+            return null;
+        }
+    }
+
+    private static Object makeComplexValue(Class<?> type, int sample, int depth) {
+        Class<?> implClass;
+        Object value;
+        try {
+            implClass = Class.forName(type.getName() + "Impl", true, type.getClassLoader());
+            value = implClass.newInstance();
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+            return null;
+        }
+        for (Method setter : implClass.getMethods()) {
+            if (setter.getName().startsWith("set") && setter.getParameterCount() == 1 && setter.getDeclaringClass() == implClass) {
+                try {
+                    setter.invoke(value, makeValue(setter.getParameterTypes()[0], sample, depth + 1));
+                } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                    // Keep the default value of the member
+                }
+            }
+        }
+        return value;
+    }
+
+    private static DatatypeFactory datatypeFactory() {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (DatatypeConfigurationException e) {
+            throw new DMNRuntimeException("Cannot create DatatypeFactory", e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.warmup;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.feel.analysis.semantics.type.*;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.runtime.Context;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.tck.TCKUtil;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase.ResultNode;
+import org.omg.spec.dmn._20180521.model.TDRGElement;
+import org.omg.spec.dmn._20180521.model.TDecision;
+import org.omg.spec.dmn._20180521.model.TInputData;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates a DRG element with the interpreter. The inputs are recorded environments, the environments of TCK test
+ * cases or synthetic values derived from the types of the input data.
+ *
+ * The interpreter stores the results of the decisions in the environment (DAG optimisation), so each sample is evaluated
+ * in a fresh child of its input environment; the input environments are never modified and can be shared. The samples
+ * are evaluated by a dedicated interpreter that shares the model and the analyzed FEEL expressions of the given one, so
+ * the warm-up listener (a NopEventListener by default) never sees the live traffic of the given interpreter.
+ */
+public class InterpreterWarmUpTarget implements WarmUpTarget {
+    private static final int MAX_DEPTH = 3;
+    private static final int LIST_SIZE = 3;
+
+    // One target for each element checked by the test cases
+    public static List<InterpreterWarmUpTarget> fromTestCases(DMNInterpreter interpreter, TestCases testCases) {
+        TCKUtil tckUtil = new TCKUtil(interpreter.getBasicDMNTransformer(), (StandardFEELLib) interpreter.getFeelLib());
+        Map<String, List<RuntimeEnvironment>> inputs = new LinkedHashMap<>();
+        for (TestCase testCase : testCases.getTestCase()) {
+            // Inputs only, shared by the result nodes of the test case
+            RuntimeEnvironment runtimeEnvironment = tckUtil.makeEnvironment(testCase);
+            for (ResultNode resultNode : testCase.getResultNode()) {
+                inputs.computeIfAbsent(resultNode.getName(), k -> new ArrayList<>()).add(runtimeEnvironment);
+            }
+        }
+        List<InterpreterWarmUpTarget> targets = new ArrayList<>();
+        for (Map.Entry<String, List<RuntimeEnvironment>> entry : inputs.entrySet()) {
+            targets.add(new InterpreterWarmUpTarget(interpreter, entry.getKey(), entry.getValue()));
+        }
+        return targets;
+    }
+
+    // One target for each decision of the model, with sampleCount synthetic inputs
+    public static List<InterpreterWarmUpTarget> fromItemDefinitions(DMNInterpreter interpreter, int sampleCount) {
+        List<InterpreterWarmUpTarget> targets = new ArrayList<>();
+        for (TDecision decision : interpreter.getBasicDMNTransformer().getDMNModelRepository().decisions()) {
+            targets.add(fromItemDefinitions(interpreter, decision.getName(), sampleCount));
+        }
+        return targets;
+    }
+
+    public static InterpreterWarmUpTarget fromItemDefinitions(DMNInterpreter interpreter, String drgElementName, int sampleCount) {
+        if (sampleCount <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal sample count '%d'", sampleCount));
+        }
+        BasicDMN2JavaTransformer transformer = interpreter.getBasicDMNTransformer();
+        DMNModelRepository repository = transformer.getDMNModelRepository();
+        TDRGElement element = repository.findDRGElementByName(drgElementName);
+        if (element == null) {
+            throw new DMNRuntimeException(String.format("Cannot find DRG element '%s'", drgElementName));
+        }
+        StandardFEELLib lib = (StandardFEELLib) interpreter.getFeelLib();
+        List<RuntimeEnvironment> inputs = new ArrayList<>();
+        for (int sample = 0; sample < sampleCount; sample++) {
+            RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+            for (TInputData inputData : repository.allInputDatas(element)) {
+                runtimeEnvironment.bind(inputData.getName(), makeValue(lib, transformer.toFEELType(inputData), sample, 0));
+            }
+            inputs.add(runtimeEnvironment);
+        }
+        return new InterpreterWarmUpTarget(interpreter, drgElementName, inputs);
+    }
+
+    private final DMNInterpreter interpreter;
+    private final String drgElementName;
+    private final List<RuntimeEnvironment> inputs;
+
+    public InterpreterWarmUpTarget(DMNInterpreter interpreter, String drgElementName, List<RuntimeEnvironment> inputs) {
+        this(interpreter, drgElementName, inputs, new NopEventListener());
+    }
+
+    // eventListener receives the events of the warm-up evaluations (e.g. to warm up the production listener)
+    public InterpreterWarmUpTarget(DMNInterpreter interpreter, String drgElementName, List<RuntimeEnvironment> inputs, EventListener eventListener) {
+        if (inputs == null || inputs.isEmpty()) {
+            throw new IllegalArgumentException(String.format("Missing inputs for '%s'", drgElementName));
+        }
+        if (eventListener == null) {
+            throw new IllegalArgumentException("Missing event listener");
+        }
+        this.interpreter = interpreter.withEventListener(eventListener);
+        this.drgElementName = drgElementName;
+        this.inputs = new ArrayList<>(inputs);
+    }
+
+    @Override
+    public String getName() {
+        return drgElementName;
+    }
+
+    public List<RuntimeEnvironment> getInputs() {
+        return inputs;
+    }
+
+    @Override
+    public Object evaluate(int sample) {
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment(inputs.get(sample % inputs.size()));
+        return interpreter.evaluate(drgElementName, runtimeEnvironment);
+    }
+
+    // Values vary with the sample to exercise different rules and branches
+    private static Object makeValue(StandardFEELLib lib, Type type, int sample, int depth) {
+        if (depth > MAX_DEPTH || type == null) {
+            return null;
+        }
+        if (type instanceof NumberType) {
+            return lib.number(String.valueOf(sample % 100));
+        } else if (type instanceof StringType) {
+            return "s" + sample % 10;
+        } else if (type instanceof BooleanType) {
+            return sample % 2 == 0;
+        } else if (type instanceof DateType) {
+            return lib.date(String.format("2000-01-%02d", 1 + sample % 28));
+        } else if (type instanceof TimeType) {
+            return lib.time(String.format("12:%02d:00Z", sample % 60));
+        } else if (type instanceof DateTimeType) {
+            return lib.dateAndTime(String.format("2000-01-%02dT12:00:00Z", 1 + sample % 28));
+        } else if (type instanceof DurationType) {
+            return DurationType.YEARS_AND_MONTHS_DURATION.equivalentTo(type) ? lib.duration(String.format("P%dM", sample % 24)) : lib.duration(String.format("P%dD", sample % 30));
+        } else if (type instanceof ListType) {
+            List<Object> list = new ArrayList<>();
+            for (int i = 0; i < LIST_SIZE; i++) {
+                list.add(makeValue(lib, ((ListType) type).getElementType(), sample + i, depth + 1));
+            }
+            return list;
+        } else if (type instanceof ItemDefinitionType) {
+            ItemDefinitionType itemDefinitionType = (ItemDefinitionType) type;
+            Context context = new Context();
+            for (String member : itemDefinitionType.getMembers()) {
+                context.put(member, makeValue(lib, itemDefinitionType.getMemberType(member), sample, depth + 1));
+            }
+            return context;
+        } else {
+            return null;
+        }
+    }
+}
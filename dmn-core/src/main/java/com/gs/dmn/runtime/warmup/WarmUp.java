@@ -0,0 +1,138 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.warmup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the inputs of the targets through them until their latency stabilizes or the time budget expires, so that the
+ * hot paths are JIT-compiled before the model takes traffic.
+ *
+ * The targets are evaluated round-robin in windows of windowSize evaluations. A target is stable when the mean latency
+ * of stableWindows consecutive windows changes by at most tolerance (relative to the previous window); stable targets
+ * are not evaluated anymore.
+ */
+public class WarmUp {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmUp.class);
+
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 30_000;
+    public static final int DEFAULT_WINDOW_SIZE = 200;
+    public static final double DEFAULT_TOLERANCE = 0.1;
+    public static final int DEFAULT_STABLE_WINDOWS = 3;
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long timeBudgetMillis;
+    private final int windowSize;
+    private final double tolerance;
+    private final int stableWindows;
+
+    public WarmUp() {
+        this(DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    public WarmUp(long timeBudgetMillis) {
+        this(timeBudgetMillis, DEFAULT_WINDOW_SIZE, DEFAULT_TOLERANCE, DEFAULT_STABLE_WINDOWS);
+    }
+
+    public WarmUp(long timeBudgetMillis, int windowSize, double tolerance, int stableWindows) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal time budget '%d'", timeBudgetMillis));
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal window size '%d'", windowSize));
+        }
+        if (tolerance < 0) {
+            throw new IllegalArgumentException(String.format("Illegal tolerance '%s'", tolerance));
+        }
+        if (stableWindows <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal number of stable windows '%d'", stableWindows));
+        }
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.windowSize = windowSize;
+        this.tolerance = tolerance;
+        this.stableWindows = stableWindows;
+    }
+
+    public WarmUpReport run(WarmUpTarget... targets) {
+        return run(Arrays.asList(targets));
+    }
+
+    public WarmUpReport run(List<? extends WarmUpTarget> targets) {
+        List<WarmUpStatistics> statistics = new ArrayList<>();
+        for (WarmUpTarget target : targets) {
+            statistics.add(new WarmUpStatistics(target.getName()));
+        }
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        long nextProgress = startTime + PROGRESS_INTERVAL_NANOS;
+        int sample = 0;
+        boolean budgetExpired = false;
+        LOGGER.info("Warming up {} target(s) for at most {}ms", targets.size(), timeBudgetMillis);
+        while (true) {
+            int pending = 0;
+            for (int i = 0; i < targets.size(); i++) {
+                WarmUpStatistics targetStatistics = statistics.get(i);
+                if (!targetStatistics.isDone()) {
+                    runWindow(targets.get(i), targetStatistics, sample);
+                    if (!targetStatistics.isDone()) {
+                        pending++;
+                    } else if (targetStatistics.isAbandoned()) {
+                        LOGGER.warn("Abandoned warm-up of '{}': all evaluations failed", targetStatistics.getName());
+                    }
+                }
+            }
+            sample += windowSize;
+            long now = System.nanoTime();
+            if (pending == 0) {
+                break;
+            }
+            if (now - deadline >= 0) {
+                budgetExpired = true;
+                break;
+            }
+            if (now - nextProgress >= 0) {
+                LOGGER.info("Warm-up: {} of {} target(s) stable after {}ms", targets.size() - pending, targets.size(), TimeUnit.NANOSECONDS.toMillis(now - startTime));
+                nextProgress = now + PROGRESS_INTERVAL_NANOS;
+            }
+        }
+
+        WarmUpReport report = new WarmUpReport(statistics, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), budgetExpired);
+        LOGGER.info(report.toString());
+        return report;
+    }
+
+    private void runWindow(WarmUpTarget target, WarmUpStatistics statistics, int sample) {
+        int errors = 0;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < windowSize; i++) {
+            try {
+                target.evaluate(sample + i);
+            } catch (Exception e) {
+                if (errors == 0 && statistics.getErrors() == 0) {
+                    LOGGER.debug(String.format("Warm-up evaluation of '%s' failed", target.getName()), e);
+                }
+                errors++;
+            }
+        }
+        long meanNanos = (System.nanoTime() - startTime) / windowSize;
+        statistics.addWindow(windowSize, errors, meanNanos, tolerance, stableWindows);
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a warm-up: the statistics of each target and the elapsed time.
+ */
+public class WarmUpReport {
+    private final List<WarmUpStatistics> statistics;
+    private final long elapsedMillis;
+    private final boolean budgetExpired;
+
+    public WarmUpReport(List<WarmUpStatistics> statistics, long elapsedMillis, boolean budgetExpired) {
+        this.statistics = new ArrayList<>(statistics);
+        this.elapsedMillis = elapsedMillis;
+        this.budgetExpired = budgetExpired;
+    }
+
+    public List<WarmUpStatistics> getStatistics() {
+        return statistics;
+    }
+
+    public WarmUpStatistics getStatistics(String name) {
+        for (WarmUpStatistics s : statistics) {
+            if (s.getName().equals(name)) {
+                return s;
+            }
+        }
+        return null;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isBudgetExpired() {
+        return budgetExpired;
+    }
+
+    public boolean isStabilized() {
+        return statistics.stream().allMatch(WarmUpStatistics::isStabilized);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Warm-up of %d target(s) took %dms%s", statistics.size(), elapsedMillis, budgetExpired ? " (time budget expired)" : ""));
+        for (WarmUpStatistics s : statistics) {
+            builder.append(System.lineSeparator()).append("    ").append(s);
+        }
+        return builder.toString();
+    }
+}
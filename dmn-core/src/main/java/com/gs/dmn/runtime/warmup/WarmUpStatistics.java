@@ -0,0 +1,114 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm-up statistics of a target: number of evaluations and errors, mean latency of the first and last windows and
+ * whether the latency stabilized before the time budget expired.
+ */
+public class WarmUpStatistics {
+    private final String name;
+    private long evaluations;
+    private long errors;
+    private int windows;
+    private long firstWindowMeanNanos;
+    private long lastWindowMeanNanos;
+    private int stableWindows;
+    private boolean stabilized;
+    private boolean abandoned;
+    private long stabilizedAfterEvaluations;
+
+    public WarmUpStatistics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public int getWindows() {
+        return windows;
+    }
+
+    public long getFirstWindowMeanNanos() {
+        return firstWindowMeanNanos;
+    }
+
+    public long getLastWindowMeanNanos() {
+        return lastWindowMeanNanos;
+    }
+
+    public boolean isStabilized() {
+        return stabilized;
+    }
+
+    // All the evaluations of the first window failed
+    public boolean isAbandoned() {
+        return abandoned;
+    }
+
+    public long getStabilizedAfterEvaluations() {
+        return stabilizedAfterEvaluations;
+    }
+
+    public boolean isDone() {
+        return stabilized || abandoned;
+    }
+
+    // Mean latency of the first window divided by the one of the last window
+    public double getSpeedup() {
+        return lastWindowMeanNanos == 0 ? 0.0 : (double) firstWindowMeanNanos / lastWindowMeanNanos;
+    }
+
+    void addWindow(int size, int windowErrors, long meanNanos, double tolerance, int requiredStableWindows) {
+        this.evaluations += size;
+        this.errors += windowErrors;
+        this.windows++;
+        if (windows == 1) {
+            this.firstWindowMeanNanos = meanNanos;
+            if (windowErrors == size) {
+                this.abandoned = true;
+            }
+        } else {
+            long previous = lastWindowMeanNanos;
+            double change = previous == 0 ? 0.0 : Math.abs(meanNanos - previous) / (double) previous;
+            this.stableWindows = change <= tolerance ? stableWindows + 1 : 0;
+            if (stableWindows >= requiredStableWindows) {
+                this.stabilized = true;
+                this.stabilizedAfterEvaluations = evaluations;
+            }
+        }
+        this.lastWindowMeanNanos = meanNanos;
+    }
+
+    @Override
+    public String toString() {
+        String status = stabilized ? "stable after " + stabilizedAfterEvaluations : abandoned ? "abandoned" : "not stable";
+        return String.format("%s: %d evaluations, %d errors, first %.3fms, last %.3fms, %s",
+                name, evaluations, errors, toMillis(firstWindowMeanNanos), toMillis(lastWindowMeanNanos), status);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.warmup;
+
+/**
+ * Something that can be evaluated repeatedly to warm up the JVM (e.g. a decision of an interpreted model or a generated
+ * decision class). The sample index selects the inputs; implementations cycle through their inputs.
+ */
+public interface WarmUpTarget {
+    String getName();
+
+    Object evaluate(int sample) throws Exception;
+}
@@ -14,6 +14,7 @@ package com.gs.dmn.serialization;
 
 public class DMNConstants {
     public static final String DMN_FILE_EXTENSION = ".dmn";
+    public static final String DMN_SNAPSHOT_FILE_EXTENSION = ".dmns";
 
     // DMN 1.1
     public static final String DMN_11_NS = "http://www.omg.org/spec/DMN/20151101/dmn.xsd";
@@ -22,19 +22,37 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import java.io.File;
 import java.io.InputStream;
 import java.io.Reader;
-import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.gs.dmn.serialization.DMNConstants.DMN_11_PACKAGE;
+import static com.gs.dmn.serialization.DMNConstants.DMN_12_DMNDI_NS;
 import static com.gs.dmn.serialization.DMNConstants.DMN_12_PACKAGE;
 
+/**
+ * Reads DMN files. The schema is compiled once. When skipDiagrams is set, the file is read through a StAX reader that
+ * drops the DMNDI section (the diagrams are never executed), so that its JAXB tree is never built.
+ */
 public class DMNReader extends DMNSerializer {
     protected static final JAXBContext JAXB_DMN_CONTEXT;
+    private static final XMLInputFactory XML_INPUT_FACTORY;
+    private static volatile Schema schema;
 
     static {
         try {
@@ -42,14 +60,51 @@ public class DMNReader extends DMNSerializer {
         } catch (JAXBException e) {
             throw new DMNRuntimeException("Cannot create JAXB Context", e);
         }
+        XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
     }
 
     private final boolean validateSchema;
+    private final boolean skipDiagrams;
     private DMNDialectTransformer transformer = new DMNDialectTransformer(logger);
 
     public DMNReader(BuildLogger logger, boolean validateSchema) {
+        this(logger, validateSchema, false);
+    }
+
+    public DMNReader(BuildLogger logger, boolean validateSchema, boolean skipDiagrams) {
         super(logger);
         this.validateSchema = validateSchema;
+        this.skipDiagrams = skipDiagrams;
+    }
+
+    // Reads the files in parallel into independent repositories, one for each input (duplicates included) in the order of the inputs
+    public List<DMNModelRepository> read(List<File> inputs, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal number of threads '%d'", threads));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, inputs.size())));
+        try {
+            List<Future<DMNModelRepository>> futures = new ArrayList<>();
+            for (File input : inputs) {
+                // DMNReader is not thread-safe (dialect transformer)
+                futures.add(executor.submit(() -> new DMNReader(logger, validateSchema, skipDiagrams).read(input)));
+            }
+            List<DMNModelRepository> result = new ArrayList<>();
+            for (Future<DMNModelRepository> future : futures) {
+                result.add(future.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DMNRuntimeException("Interrupted while reading DMN files", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof DMNRuntimeException ? (DMNRuntimeException) cause : new DMNRuntimeException("Cannot read DMN files", cause);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     public DMNModelRepository read(File input) {
@@ -112,31 +167,41 @@ public class DMNReader extends DMNSerializer {
         return u;
     }
 
-    Object readObject(File input) throws Exception {
+    public Object readObject(File input) throws Exception {
         Unmarshaller unmarshaller = makeUnmarshaller();
-        JAXBElement<?> jaxbElement = (JAXBElement<?>) unmarshaller.unmarshal(input);
+        JAXBElement<?> jaxbElement = skipDiagrams ? unmarshal(unmarshaller, new StreamSource(input)) : (JAXBElement<?>) unmarshaller.unmarshal(input);
         return jaxbElement.getValue();
     }
 
     Object readObject(URL input) throws Exception {
         Unmarshaller unmarshaller = makeUnmarshaller();
-        JAXBElement<?> jaxbElement = (JAXBElement<?>) unmarshaller.unmarshal(input);
+        JAXBElement<?> jaxbElement = skipDiagrams ? unmarshal(unmarshaller, new StreamSource(input.toExternalForm())) : (JAXBElement<?>) unmarshaller.unmarshal(input);
         return jaxbElement.getValue();
     }
 
     Object readObject(InputStream input) throws Exception {
         Unmarshaller unmarshaller = makeUnmarshaller();
-        JAXBElement<?> jaxbElement = (JAXBElement<?>) unmarshaller.unmarshal(input);
+        JAXBElement<?> jaxbElement = skipDiagrams ? unmarshal(unmarshaller, new StreamSource(input)) : (JAXBElement<?>) unmarshaller.unmarshal(input);
         return jaxbElement.getValue();
     }
 
     Object readObject(Reader input) throws Exception {
         Unmarshaller unmarshaller = makeUnmarshaller();
-        JAXBElement<?> jaxbElement = (JAXBElement<?>) unmarshaller.unmarshal(input);
+        JAXBElement<?> jaxbElement = skipDiagrams ? unmarshal(unmarshaller, new StreamSource(input)) : (JAXBElement<?>) unmarshaller.unmarshal(input);
         return jaxbElement.getValue();
     }
 
-    private DMNModelRepository transform(Object value) {
+    private JAXBElement<?> unmarshal(Unmarshaller unmarshaller, StreamSource source) throws Exception {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(source);
+        try {
+            return (JAXBElement<?>) unmarshaller.unmarshal(new DiagramSkippingReader(reader));
+        } finally {
+            reader.close();
+        }
+    }
+
+    // Transforms DMN 1.1 definitions to DMN 1.2
+    public DMNModelRepository transform(Object value) {
         if (value == null) {
             return null;
         }
@@ -151,9 +216,66 @@ public class DMNReader extends DMNSerializer {
     }
 
     private void setSchema(Unmarshaller u) throws Exception {
-        SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        URI schemaURI = getClass().getClassLoader().getResource("dmn/dmn.xsd").toURI();
-        Schema schema = sf.newSchema(schemaURI.toURL());
-        u.setSchema(schema);
+        u.setSchema(schema());
+    }
+
+    // Schema is thread-safe, compile it once
+    private static Schema schema() throws Exception {
+        Schema result = schema;
+        if (result == null) {
+            synchronized (DMNReader.class) {
+                result = schema;
+                if (result == null) {
+                    SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+                    URL schemaURL = DMNReader.class.getClassLoader().getResource("dmn/dmn.xsd");
+                    result = sf.newSchema(schemaURL);
+                    schema = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    // Skips the subtrees of the DMNDI elements
+    private static class DiagramSkippingReader extends StreamReaderDelegate {
+        private DiagramSkippingReader(XMLStreamReader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            int event = super.next();
+            while (event == XMLStreamConstants.START_ELEMENT && DMN_12_DMNDI_NS.equals(getNamespaceURI())) {
+                skipElement();
+                event = super.next();
+            }
+            return event;
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            int event = next();
+            while (event == XMLStreamConstants.CHARACTERS && isWhiteSpace()
+                    || event == XMLStreamConstants.COMMENT || event == XMLStreamConstants.PROCESSING_INSTRUCTION
+                    || event == XMLStreamConstants.SPACE) {
+                event = next();
+            }
+            if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+                throw new XMLStreamException("Expected start or end tag", getLocation());
+            }
+            return event;
+        }
+
+        private void skipElement() throws XMLStreamException {
+            int depth = 1;
+            while (depth > 0) {
+                int event = super.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        }
     }
 }
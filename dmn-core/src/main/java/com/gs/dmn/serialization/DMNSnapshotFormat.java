@@ -0,0 +1,151 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.serialization;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Layout of a binary model snapshot (big-endian):
+ *   magic, format version,
+ *   configuration (the settings used to build the repository, e.g. the DMN transformers),
+ *   SHA-256 checksum of the source DMN file,
+ *   length and CRC32 of the payload,
+ *   payload: the prefix / namespace mappings, the definitions and the parsed FEEL expressions (grammar rule, text and
+ *   the encoded AST of each expression).
+ *
+ * The payload is a tagged encoding of the JAXB object graph. Strings and classes are written once and then referenced
+ * by index; the fields of a class are listed by name with its first occurrence, so a snapshot written by a different
+ * version of the model classes is detected when it is read.
+ *
+ * Only the classes of the DMN model, JAXBElement, QName and the FEEL AST and type classes can be read (see isAllowed);
+ * any other class name in a snapshot is rejected before it is loaded.
+ */
+public final class DMNSnapshotFormat {
+    public static final int MAGIC = 0x4A444D53;
+    public static final int FORMAT_VERSION = 2;
+
+    static final byte NULL = 0;
+    static final byte STRING = 1;
+    static final byte TRUE = 2;
+    static final byte FALSE = 3;
+    static final byte INTEGER = 4;
+    static final byte LONG = 5;
+    static final byte DOUBLE = 6;
+    static final byte FLOAT = 7;
+    static final byte BIG_DECIMAL = 8;
+    static final byte BIG_INTEGER = 9;
+    static final byte QNAME = 10;
+    static final byte ENUM = 11;
+    static final byte LIST = 12;
+    static final byte MAP = 13;
+    static final byte JAXB_ELEMENT = 14;
+    static final byte DOM_ELEMENT = 15;
+    static final byte XML_CALENDAR = 16;
+    static final byte XML_DURATION = 17;
+    static final byte BEAN = 18;
+    static final byte CONSTANT = 19;
+
+    static final String DMN_MODEL_PACKAGE = "org.omg.spec.dmn.";
+    static final String FEEL_AST_PACKAGE = "com.gs.dmn.feel.analysis.syntax.ast.";
+    static final String FEEL_TYPE_PACKAGE = "com.gs.dmn.feel.analysis.semantics.type.";
+
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<Object, String>> CONSTANTS = new ConcurrentHashMap<>();
+
+    static boolean isAllowed(String className) {
+        return className.startsWith(DMN_MODEL_PACKAGE)
+                || className.startsWith(FEEL_AST_PACKAGE)
+                || className.startsWith(FEEL_TYPE_PACKAGE)
+                || className.equals(JAXBElement.class.getName())
+                || className.equals(JAXBElement.GlobalScope.class.getName())
+                || className.equals(QName.class.getName());
+    }
+
+    static boolean isFEEL(Class<?> cls) {
+        return cls.getName().startsWith(FEEL_AST_PACKAGE) || cls.getName().startsWith(FEEL_TYPE_PACKAGE);
+    }
+
+    public static byte[] checksum(File file) {
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int n;
+            while ((n = input.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+            return digest.digest();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new DMNRuntimeException(String.format("Cannot compute checksum of '%s'", file.getPath()), e);
+        }
+    }
+
+    // Instance fields, superclass first
+    static List<Field> fields(Class<?> cls) {
+        return FIELDS.computeIfAbsent(cls, c -> {
+            List<Field> fields = new ArrayList<>();
+            collectFields(c, fields);
+            return fields;
+        });
+    }
+
+    // Name of the public static final field of the class holding the value (e.g. NumberType.NUMBER), null if none
+    static String constantName(Object value) {
+        Map<Object, String> constants = CONSTANTS.computeIfAbsent(value.getClass(), c -> {
+            Map<Object, String> map = new IdentityHashMap<>();
+            for (Field field : c.getFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getDeclaringClass() == c) {
+                    try {
+                        map.putIfAbsent(field.get(null), field.getName());
+                    } catch (IllegalAccessException e) {
+                        // Not a constant
+                    }
+                }
+            }
+            return map;
+        });
+        return constants.get(value);
+    }
+
+    private static void collectFields(Class<?> cls, List<Field> fields) {
+        if (cls == null || cls == Object.class) {
+            return;
+        }
+        collectFields(cls.getSuperclass(), fields);
+        for (Field field : cls.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field.isSynthetic()) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+    }
+
+    private DMNSnapshotFormat() {
+    }
+}
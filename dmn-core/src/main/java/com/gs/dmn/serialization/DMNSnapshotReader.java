@@ -0,0 +1,475 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.serialization;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.feel.analysis.ASTCache;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.MappedBuffers;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+import static com.gs.dmn.serialization.DMNSnapshotFormat.*;
+
+/**
+ * Loads a DMNModelRepository from a binary snapshot written by DMNSnapshotWriter. The file is memory-mapped and unmapped
+ * once the model is decoded. The parsed FEEL expressions are attached to the repository (see DMNModelRepository.getASTCache)
+ * and shared by the interpreters created for it.
+ *
+ * A snapshot is used only when its format version and the configuration match and when the checksum of the source DMN
+ * file is the one recorded in the snapshot; otherwise the caller falls back to the XML (see readOrElse).
+ */
+public class DMNSnapshotReader extends DMNSerializer {
+    public DMNSnapshotReader(BuildLogger logger) {
+        super(logger);
+    }
+
+    // Reads the snapshot without checking the source
+    public DMNModelRepository read(File snapshot) {
+        try {
+            logger.info(String.format("Reading DMN snapshot '%s' ...", snapshot.getAbsolutePath()));
+
+            ByteBuffer buffer = map(snapshot);
+            try {
+                DMNModelRepository repository = decode(header(buffer));
+
+                logger.info("DMN snapshot read.");
+                return repository;
+            } finally {
+                unmap(buffer);
+            }
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot read DMN snapshot from '%s'", snapshot.getAbsolutePath()), e);
+        }
+    }
+
+    // Returns null when the snapshot is missing, stale or corrupt
+    public DMNModelRepository read(File snapshot, File source, String configuration) {
+        if (!snapshot.isFile()) {
+            logger.info(String.format("Missing DMN snapshot '%s'", snapshot.getAbsolutePath()));
+            return null;
+        }
+        ByteBuffer buffer = null;
+        try {
+            buffer = map(snapshot);
+            Header header = header(buffer);
+            String expectedConfiguration = configuration == null ? "" : configuration;
+            if (!expectedConfiguration.equals(header.configuration)) {
+                logger.info(String.format("Stale DMN snapshot '%s': configuration changed", snapshot.getAbsolutePath()));
+                return null;
+            }
+            if (!Arrays.equals(DMNSnapshotFormat.checksum(source), header.sourceChecksum)) {
+                logger.info(String.format("Stale DMN snapshot '%s': '%s' changed", snapshot.getAbsolutePath(), source.getAbsolutePath()));
+                return null;
+            }
+            logger.info(String.format("Reading DMN snapshot '%s' ...", snapshot.getAbsolutePath()));
+            DMNModelRepository repository = decode(header);
+            logger.info("DMN snapshot read.");
+            return repository;
+        } catch (Exception e) {
+            logger.warn(String.format("Cannot read DMN snapshot '%s': %s", snapshot.getAbsolutePath(), e.getMessage()));
+            return null;
+        } finally {
+            if (buffer != null) {
+                unmap(buffer);
+            }
+        }
+    }
+
+    public DMNModelRepository readOrElse(File snapshot, File source, String configuration, Supplier<DMNModelRepository> fallback) {
+        DMNModelRepository repository = read(snapshot, source, configuration);
+        return repository != null ? repository : fallback.get();
+    }
+
+    private ByteBuffer map(File snapshot) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    // Nothing decoded refers to the buffer
+    private void unmap(ByteBuffer buffer) {
+        try {
+            MappedBuffers.unmap(buffer);
+        } catch (Exception e) {
+            logger.debug(String.format("Cannot unmap DMN snapshot: %s", e.getMessage()));
+        }
+    }
+
+    private Header header(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a DMN snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format("Unsupported snapshot format version '%d'", version));
+            }
+            Header header = new Header();
+            header.configuration = new String(readBytes(buffer), StandardCharsets.UTF_8);
+            header.sourceChecksum = readBytes(buffer);
+            int length = buffer.getInt();
+            header.crc = buffer.getLong();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IOException("Truncated snapshot");
+            }
+            ByteBuffer payload = buffer.slice();
+            payload.limit(length);
+            header.payload = payload;
+            return header;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated snapshot", e);
+        }
+    }
+
+    private DMNModelRepository decode(Header header) throws IOException {
+        ByteBuffer payload = header.payload;
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if (crc.getValue() != header.crc) {
+            throw new IOException("Checksum mismatch");
+        }
+        try {
+            Decoder decoder = new Decoder(payload.duplicate());
+            Map<?, ?> mappings = (Map<?, ?>) decoder.readValue();
+            TDefinitions definitions = (TDefinitions) decoder.readValue();
+            PrefixNamespaceMappings prefixNamespaceMappings = new PrefixNamespaceMappings();
+            for (Map.Entry<?, ?> entry : mappings.entrySet()) {
+                prefixNamespaceMappings.put((String) entry.getKey(), (String) entry.getValue());
+            }
+            ASTCache astCache = decodeFEEL(decoder);
+            // Already normalized when written
+            DMNModelRepository repository = new DMNModelRepository(definitions, prefixNamespaceMappings);
+            repository.setASTCache(astCache);
+            return repository;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | ClassCastException e) {
+            throw new IOException("Corrupt snapshot", e);
+        }
+    }
+
+    private ASTCache decodeFEEL(Decoder decoder) throws IOException {
+        ASTCache astCache = new ASTCache();
+        int count = decoder.readVarInt();
+        for (int i = 0; i < count; i++) {
+            String rule = decoder.readString();
+            String text = decoder.readString();
+            int length = decoder.readVarInt();
+            if (length < 0 || length > decoder.in.remaining()) {
+                throw new IOException("Truncated snapshot");
+            }
+            ByteBuffer ast = decoder.in.slice();
+            ast.limit(length);
+            decoder.in.position(decoder.in.position() + length);
+            astCache.putParsed(rule, text, (Expression) new Decoder(ast).readValue());
+        }
+        return astCache;
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Truncated snapshot");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static class Header {
+        private String configuration;
+        private byte[] sourceChecksum;
+        private long crc;
+        private ByteBuffer payload;
+    }
+
+    private static class ClassEntry {
+        private final Class<?> cls;
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+
+        private ClassEntry(Class<?> cls, Constructor<?> constructor, Field[] fields) {
+            this.cls = cls;
+            this.constructor = constructor;
+            this.fields = fields;
+        }
+    }
+
+    private static class Decoder {
+        private final ByteBuffer in;
+        private final List<String> strings = new ArrayList<>();
+        private final List<ClassEntry> classes = new ArrayList<>();
+        private DatatypeFactory datatypeFactory;
+        private DocumentBuilder documentBuilder;
+
+        private Decoder(ByteBuffer in) {
+            this.in = in;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object readValue() throws IOException {
+            byte tag = in.get();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return readString();
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case INTEGER:
+                    return readVarInt();
+                case LONG:
+                    return in.getLong();
+                case DOUBLE:
+                    return in.getDouble();
+                case FLOAT:
+                    return in.getFloat();
+                case BIG_DECIMAL:
+                    return new BigDecimal(readString());
+                case BIG_INTEGER:
+                    return new BigInteger(readString());
+                case QNAME:
+                    return readQName();
+                case ENUM: {
+                    Class cls = readClass().cls;
+                    return Enum.valueOf(cls, readString());
+                }
+                case LIST: {
+                    int size = readVarInt();
+                    List<Object> list = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue());
+                    }
+                    return list;
+                }
+                case MAP: {
+                    int size = readVarInt();
+                    Map<Object, Object> map = new LinkedHashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        map.put(readValue(), readValue());
+                    }
+                    return map;
+                }
+                case JAXB_ELEMENT: {
+                    QName name = readQName();
+                    Class declaredType = readClass().cls;
+                    Class scope = readClass().cls;
+                    boolean nil = in.get() != 0;
+                    JAXBElement element = new JAXBElement(name, declaredType, scope, readValue());
+                    element.setNil(nil);
+                    return element;
+                }
+                case DOM_ELEMENT:
+                    return readElement(readString());
+                case XML_CALENDAR:
+                    return datatypeFactory().newXMLGregorianCalendar(readString());
+                case XML_DURATION:
+                    return datatypeFactory().newDuration(readString());
+                case BEAN:
+                    return readBean();
+                case CONSTANT:
+                    return readConstant();
+                default:
+                    throw new IOException(String.format("Unknown tag '%d'", tag));
+            }
+        }
+
+        private Object readBean() throws IOException {
+            ClassEntry entry = readClass();
+            if (entry.constructor == null) {
+                throw new IOException(String.format("Cannot instantiate '%s'", entry.cls.getName()));
+            }
+            try {
+                Object bean = entry.constructor.newInstance();
+                for (Field field : entry.fields) {
+                    Object value = readValue();
+                    if (field.getType().isPrimitive() && value == null) {
+                        continue;
+                    }
+                    field.set(bean, value);
+                }
+                return bean;
+            } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                throw new IOException(String.format("Cannot decode '%s'", entry.cls.getName()), e);
+            }
+        }
+
+        private Object readConstant() throws IOException {
+            ClassEntry entry = readClass();
+            String name = readString();
+            try {
+                Field field = entry.cls.getField(name);
+                if (!Modifier.isStatic(field.getModifiers()) || !Modifier.isFinal(field.getModifiers())) {
+                    throw new IOException(String.format("Unknown constant '%s' of '%s'", name, entry.cls.getName()));
+                }
+                return field.get(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IOException(String.format("Unknown constant '%s' of '%s'", name, entry.cls.getName()), e);
+            }
+        }
+
+        private ClassEntry readClass() throws IOException {
+            int index = readVarInt();
+            if (index >= 0) {
+                if (index >= classes.size()) {
+                    throw new IOException(String.format("Unknown class '%d'", index));
+                }
+                return classes.get(index);
+            }
+            String className = readString();
+            if (className == null || !isAllowed(className)) {
+                throw new IOException(String.format("Class '%s' is not allowed in a DMN snapshot", className));
+            }
+            Class<?> cls;
+            try {
+                cls = Class.forName(className, false, DMNSnapshotReader.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IOException(String.format("Unknown class '%s'", className), e);
+            }
+            int count = readVarInt();
+            Field[] fields = new Field[count];
+            if (count > 0) {
+                Map<String, Field> byName = new LinkedHashMap<>();
+                for (Field field : fields(cls)) {
+                    byName.put(field.getName(), field);
+                }
+                for (int i = 0; i < count; i++) {
+                    String fieldName = readString();
+                    fields[i] = byName.get(fieldName);
+                    if (fields[i] == null) {
+                        throw new IOException(String.format("Unknown field '%s' of '%s'", fieldName, className));
+                    }
+                }
+            }
+            Constructor<?> constructor = null;
+            if (!cls.isEnum() && !cls.isInterface()) {
+                // Beans, including the FEEL AST nodes and types, have a no-arg constructor (private for the FEEL classes)
+                try {
+                    constructor = cls.getDeclaredConstructor();
+                    constructor.setAccessible(true);
+                } catch (NoSuchMethodException e) {
+                    // Not a bean (e.g. the declared type of a JAXBElement)
+                }
+            }
+            ClassEntry entry = new ClassEntry(cls, constructor, fields);
+            classes.add(entry);
+            return entry;
+        }
+
+        private QName readQName() throws IOException {
+            String namespaceURI = readString();
+            String localPart = readString();
+            String prefix = readString();
+            return new QName(namespaceURI, localPart, prefix);
+        }
+
+        private String readString() throws IOException {
+            int index = readVarInt();
+            if (index == -1) {
+                return null;
+            } else if (index >= 0) {
+                if (index >= strings.size()) {
+                    throw new IOException(String.format("Unknown string '%d'", index));
+                }
+                return strings.get(index);
+            }
+            int length = readVarInt();
+            if (length < 0 || length > in.remaining()) {
+                throw new IOException("Truncated snapshot");
+            }
+            String value;
+            if (in.hasArray()) {
+                value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+            } else {
+                byte[] bytes = new byte[length];
+                in.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            strings.add(value);
+            return value;
+        }
+
+        private int readVarInt() {
+            int v = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = in.get();
+                v |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        private Element readElement(String xml) throws IOException {
+            try {
+                if (documentBuilder == null) {
+                    // The elements written by DMNSnapshotWriter have no DTD, reject the ones of a tampered snapshot
+                    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+                    factory.setNamespaceAware(true);
+                    factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+                    factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+                    factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+                    factory.setXIncludeAware(false);
+                    factory.setExpandEntityReferences(false);
+                    documentBuilder = factory.newDocumentBuilder();
+                }
+                return documentBuilder.parse(new InputSource(new StringReader(xml))).getDocumentElement();
+            } catch (Exception e) {
+                throw new IOException("Cannot parse DOM element", e);
+            }
+        }
+
+        private DatatypeFactory datatypeFactory() throws IOException {
+            try {
+                if (datatypeFactory == null) {
+                    datatypeFactory = DatatypeFactory.newInstance();
+                }
+                return datatypeFactory;
+            } catch (Exception e) {
+                throw new IOException("Cannot create DatatypeFactory", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.serialization;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.feel.analysis.ASTCache;
+import com.gs.dmn.feel.analysis.FEELAnalyzerImpl;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import org.omg.spec.dmn._20180521.model.*;
+import org.w3c.dom.Element;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.datatype.Duration;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import static com.gs.dmn.serialization.DMNSnapshotFormat.*;
+
+/**
+ * Writes a DMNModelRepository (after the dialect and DMN transformations) to a binary snapshot that can be loaded by
+ * DMNSnapshotReader without XML parsing, schema validation or transformations. See DMNSnapshotFormat for the layout.
+ *
+ * The FEEL expressions are parsed with the grammar rules used by the interpreter and their ASTs are written as well.
+ * The analysis (name resolution and types) is not written: the types are bound to the transformer of the interpreter
+ * that loads the snapshot, so the analysis is done on first use.
+ */
+public class DMNSnapshotWriter extends DMNSerializer {
+    public DMNSnapshotWriter(BuildLogger logger) {
+        super(logger);
+    }
+
+    public void write(DMNModelRepository repository, File source, String configuration, File output) {
+        try {
+            logger.info(String.format("Writing DMN snapshot '%s' ...", output.getAbsolutePath()));
+
+            File parent = output.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            // Write to a temporary file and move, so that readers never see a partial snapshot
+            File temporary = new File(output.getPath() + ".tmp");
+            try (OutputStream stream = Files.newOutputStream(temporary.toPath())) {
+                write(repository, DMNSnapshotFormat.checksum(source), configuration, stream);
+            }
+            Files.move(temporary.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            logger.info("DMN snapshot written.");
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot write DMN snapshot to '%s'", output.getPath()), e);
+        }
+    }
+
+    public void write(DMNModelRepository repository, byte[] sourceChecksum, String configuration, OutputStream output) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64 * 1024);
+        Encoder encoder = new Encoder(new DataOutputStream(payload));
+        encoder.writeValue(repository.getPrefixNamespaceMappings().mappings);
+        encoder.writeValue(repository.getDefinitions());
+        writeFEEL(encoder, repository);
+        encoder.out.flush();
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        writeBytes(out, (configuration == null ? "" : configuration).getBytes(StandardCharsets.UTF_8));
+        writeBytes(out, sourceChecksum == null ? new byte[0] : sourceChecksum);
+        out.writeInt(bytes.length);
+        out.writeLong(crc.getValue());
+        out.write(bytes);
+        out.flush();
+    }
+
+    // Rule, text and encoded AST of each expression; expressions that cannot be parsed or encoded are left out
+    private void writeFEEL(Encoder encoder, DMNModelRepository repository) throws IOException {
+        Set<String> expressions = new LinkedHashSet<>();
+        Set<String> unaryTests = new LinkedHashSet<>();
+        for (TDRGElement element : repository.drgElements()) {
+            if (element instanceof TDecision || element instanceof TBusinessKnowledgeModel) {
+                collectFEEL(repository.expression(element), expressions, unaryTests);
+            }
+        }
+
+        // Parsing does not need the transformer
+        FEELAnalyzerImpl parser = new FEELAnalyzerImpl(null, new ASTCache(0));
+        List<String> rules = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<byte[]> asts = new ArrayList<>();
+        for (String text : expressions) {
+            encodeFEEL(FEELAnalyzerImpl.EXPRESSION_ROOT, text, parser::parseExpression, rules, texts, asts);
+        }
+        for (String text : unaryTests) {
+            encodeFEEL(FEELAnalyzerImpl.UNARY_TESTS_ROOT, text, parser::parseUnaryTests, rules, texts, asts);
+        }
+
+        encoder.writeVarInt(asts.size());
+        for (int i = 0; i < asts.size(); i++) {
+            encoder.writeString(rules.get(i));
+            encoder.writeString(texts.get(i));
+            encoder.writeVarInt(asts.get(i).length);
+            encoder.out.write(asts.get(i));
+        }
+    }
+
+    private void encodeFEEL(String rule, String text, Function<String, Expression> parser, List<String> rules, List<String> texts, List<byte[]> asts) {
+        try {
+            Expression ast = parser.apply(text);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Encoder encoder = new Encoder(new DataOutputStream(bytes));
+            encoder.writeValue(ast);
+            encoder.out.flush();
+            rules.add(rule);
+            texts.add(text);
+            asts.add(bytes.toByteArray());
+        } catch (Exception e) {
+            logger.debug(String.format("Cannot write FEEL AST for '%s': %s", text, e.getMessage()));
+        }
+    }
+
+    private void collectFEEL(TExpression expression, Set<String> expressions, Set<String> unaryTests) {
+        if (expression instanceof TLiteralExpression) {
+            addText(((TLiteralExpression) expression).getText(), expressions);
+        } else if (expression instanceof TDecisionTable) {
+            TDecisionTable decisionTable = (TDecisionTable) expression;
+            for (TInputClause input : decisionTable.getInput()) {
+                collectFEEL(input.getInputExpression(), expressions, unaryTests);
+            }
+            for (TOutputClause output : decisionTable.getOutput()) {
+                collectFEEL(output.getDefaultOutputEntry(), expressions, unaryTests);
+            }
+            for (TDecisionRule rule : decisionTable.getRule()) {
+                for (TUnaryTests inputEntry : rule.getInputEntry()) {
+                    addText(inputEntry.getText(), unaryTests);
+                }
+                for (TLiteralExpression outputEntry : rule.getOutputEntry()) {
+                    collectFEEL(outputEntry, expressions, unaryTests);
+                }
+            }
+        } else if (expression instanceof TContext) {
+            for (TContextEntry entry : ((TContext) expression).getContextEntry()) {
+                collectFEEL(value(entry.getExpression()), expressions, unaryTests);
+            }
+        } else if (expression instanceof TInvocation) {
+            collectFEEL(value(((TInvocation) expression).getExpression()), expressions, unaryTests);
+            for (TBinding binding : ((TInvocation) expression).getBinding()) {
+                collectFEEL(value(binding.getExpression()), expressions, unaryTests);
+            }
+        } else if (expression instanceof TFunctionDefinition) {
+            collectFEEL(value(((TFunctionDefinition) expression).getExpression()), expressions, unaryTests);
+        } else if (expression instanceof TList) {
+            for (JAXBElement<? extends TExpression> element : ((TList) expression).getExpression()) {
+                collectFEEL(value(element), expressions, unaryTests);
+            }
+        } else if (expression instanceof TRelation) {
+            for (TList row : ((TRelation) expression).getRow()) {
+                collectFEEL(row, expressions, unaryTests);
+            }
+        }
+    }
+
+    private TExpression value(JAXBElement<? extends TExpression> element) {
+        return element == null ? null : element.getValue();
+    }
+
+    private void addText(String text, Set<String> texts) {
+        if (text != null && !text.trim().isEmpty()) {
+            texts.add(text);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static class Encoder {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<Class<?>, Integer> classes = new HashMap<>();
+        private Transformer domTransformer;
+
+        private Encoder(DataOutputStream out) {
+            this.out = out;
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof String) {
+                out.writeByte(STRING);
+                writeString((String) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER);
+                writeVarInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Float) {
+                out.writeByte(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof BigDecimal) {
+                out.writeByte(BIG_DECIMAL);
+                writeString(value.toString());
+            } else if (value instanceof BigInteger) {
+                out.writeByte(BIG_INTEGER);
+                writeString(value.toString());
+            } else if (value instanceof QName) {
+                out.writeByte(QNAME);
+                writeQName((QName) value);
+            } else if (value instanceof Enum) {
+                out.writeByte(ENUM);
+                writeClass(((Enum<?>) value).getDeclaringClass());
+                writeString(((Enum<?>) value).name());
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                out.writeByte(LIST);
+                writeVarInt(list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeByte(MAP);
+                writeVarInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeValue(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+            } else if (value instanceof JAXBElement) {
+                JAXBElement<?> element = (JAXBElement<?>) value;
+                out.writeByte(JAXB_ELEMENT);
+                writeQName(element.getName());
+                writeClass(element.getDeclaredType());
+                writeClass(element.getScope());
+                out.writeBoolean(element.isNil());
+                writeValue(element.getValue());
+            } else if (value instanceof Element) {
+                out.writeByte(DOM_ELEMENT);
+                writeString(toXML((Element) value));
+            } else if (value instanceof XMLGregorianCalendar) {
+                out.writeByte(XML_CALENDAR);
+                writeString(((XMLGregorianCalendar) value).toXMLFormat());
+            } else if (value instanceof Duration) {
+                out.writeByte(XML_DURATION);
+                writeString(value.toString());
+            } else if (DMNSnapshotFormat.isFEEL(value.getClass()) && constantName(value) != null) {
+                // Types are compared by identity
+                out.writeByte(CONSTANT);
+                writeClass(value.getClass());
+                writeString(constantName(value));
+            } else {
+                writeBean(value);
+            }
+        }
+
+        private void writeBean(Object value) throws IOException {
+            Class<?> cls = value.getClass();
+            if (!isAllowed(cls.getName())) {
+                throw new IOException(String.format("'%s' is not supported", cls.getName()));
+            }
+            // DMNSnapshotReader creates the beans with their no-arg constructor
+            try {
+                cls.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                throw new IOException(String.format("'%s' is not supported", cls.getName()));
+            }
+            out.writeByte(BEAN);
+            writeClass(cls);
+            for (Field field : fields(cls)) {
+                try {
+                    writeValue(field.get(value));
+                } catch (IllegalAccessException e) {
+                    throw new IOException(String.format("Cannot access field '%s' of '%s'", field.getName(), cls.getName()), e);
+                }
+            }
+        }
+
+        private void writeQName(QName name) throws IOException {
+            writeString(name.getNamespaceURI());
+            writeString(name.getLocalPart());
+            writeString(name.getPrefix());
+        }
+
+        // Index of a known class, or -1 followed by the name of the class and of its fields
+        private void writeClass(Class<?> cls) throws IOException {
+            Integer index = classes.get(cls);
+            if (index != null) {
+                writeVarInt(index);
+                return;
+            }
+            if (!isAllowed(cls.getName())) {
+                throw new IOException(String.format("'%s' is not supported", cls.getName()));
+            }
+            classes.put(cls, classes.size());
+            writeVarInt(-1);
+            writeString(cls.getName());
+            if (cls.isEnum() || cls == JAXBElement.GlobalScope.class || !isBean(cls)) {
+                writeVarInt(0);
+            } else {
+                List<Field> fields = fields(cls);
+                writeVarInt(fields.size());
+                for (Field field : fields) {
+                    writeString(field.getName());
+                }
+            }
+        }
+
+        // Index of a known string, or -1 for null, or -2 followed by the UTF-8 bytes
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(-1);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarInt(index);
+                return;
+            }
+            strings.put(value, strings.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(-2);
+            writeVarInt(bytes.length);
+            out.write(bytes);
+        }
+
+        // Zig-zag encoded variable-length int
+        private void writeVarInt(int value) throws IOException {
+            int v = (value << 1) ^ (value >> 31);
+            while ((v & ~0x7F) != 0) {
+                out.writeByte((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            out.writeByte(v);
+        }
+
+        private String toXML(Element element) throws IOException {
+            try {
+                if (domTransformer == null) {
+                    domTransformer = TransformerFactory.newInstance().newTransformer();
+                    domTransformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+                }
+                StringWriter writer = new StringWriter();
+                domTransformer.transform(new DOMSource(element), new StreamResult(writer));
+                return writer.toString();
+            } catch (Exception e) {
+                throw new IOException("Cannot serialize DOM element", e);
+            }
+        }
+
+        private boolean isBean(Class<?> cls) {
+            return !cls.isInterface() && !cls.isPrimitive() && !cls.getName().startsWith("java.");
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.serialization;
+
+import com.gs.dmn.log.BuildLogger;
+import org.omg.spec.dmn._20180521.model.*;
+
+import javax.xml.bind.JAXBElement;
+import java.io.File;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.gs.dmn.serialization.DMNConstants.FEEL_12_NS;
+import static com.gs.dmn.serialization.DMNConstants.FEEL_12_PREFIX;
+
+/**
+ * Generates DMN 1.2 models of a given shape (see SyntheticModelParameters) for scalability tests and benchmarks.
+ *
+ * The input data and the decisions are numbers. The decisions are arranged in layers: each decision requires fanIn
+ * elements of the previous layer. A decision is either a FIRST decision table with ranges and comparisons as input
+ * entries, or a FEEL literal expression combining the required values (and invoking the first BKM of the chain).
+ * All values stay in [0, ruleCount * 10), so that the input values returned by inputValue() hit all the rules.
+ *
+ * The models are deterministic: the same parameters produce the same model.
+ */
+public class SyntheticModelGenerator {
+    public static final String NAMESPACE = "http://www.gs.com/dmn/synthetic";
+
+    private static final ObjectFactory OBJECT_FACTORY = new ObjectFactory();
+    private static final String NUMBER_TYPE = String.format("%s.number", FEEL_12_PREFIX);
+    private static final int STEP = 10;
+
+    private final DMNWriter writer;
+
+    public SyntheticModelGenerator(BuildLogger logger) {
+        this.writer = new DMNWriter(logger);
+    }
+
+    public TDefinitions generate(SyntheticModelParameters parameters) {
+        String modelName = parameters.getModelName();
+        TDefinitions definitions = OBJECT_FACTORY.createTDefinitions();
+        definitions.setId(modelName);
+        definitions.setName(modelName);
+        definitions.setNamespace(String.format("%s/%s", NAMESPACE, modelName));
+        definitions.setExpressionLanguage(FEEL_12_NS);
+        definitions.setTypeLanguage(FEEL_12_NS);
+        List<JAXBElement<? extends TDRGElement>> drgElements = definitions.getDrgElement();
+
+        // BKMs
+        for (int i = 1; i <= parameters.getBkmDepth(); i++) {
+            drgElements.add(OBJECT_FACTORY.createBusinessKnowledgeModel(makeBKM(i, parameters)));
+        }
+
+        // Input data
+        List<TDRGElement> previousLayer = new ArrayList<>();
+        for (int i = 0; i < parameters.getInputCount(); i++) {
+            TInputData inputData = makeInputData(i);
+            drgElements.add(OBJECT_FACTORY.createInputData(inputData));
+            previousLayer.add(inputData);
+        }
+
+        // Layers of decisions
+        int index = 0;
+        while (index < parameters.getDecisionCount()) {
+            int width = (int) Math.max(1, Math.round((double) previousLayer.size() * parameters.getFanOut() / parameters.getFanIn()));
+            width = Math.min(width, parameters.getDecisionCount() - index);
+            List<TDRGElement> layer = new ArrayList<>();
+            for (int k = 0; k < width; k++) {
+                List<TDRGElement> requiredElements = requiredElements(previousLayer, k, parameters.getFanIn());
+                TDecision decision = makeDecision(index, requiredElements, parameters);
+                drgElements.add(OBJECT_FACTORY.createDecision(decision));
+                layer.add(decision);
+                index++;
+            }
+            previousLayer = layer;
+        }
+
+        return definitions;
+    }
+
+    public void write(SyntheticModelParameters parameters, File output) {
+        writer.write(generate(parameters), output, makeNamespacePrefixMapper(parameters));
+    }
+
+    public void write(SyntheticModelParameters parameters, OutputStream output) {
+        writer.write(generate(parameters), output, makeNamespacePrefixMapper(parameters));
+    }
+
+    // Value of an input data for a given sample
+    public int inputValue(SyntheticModelParameters parameters, int inputIndex, int sample) {
+        return (inputIndex * 31 + sample * 17) % range(parameters);
+    }
+
+    public String inputDataName(int inputIndex) {
+        return "input" + inputIndex;
+    }
+
+    // Decisions not required by other decisions
+    public List<String> topDecisionNames(TDefinitions definitions) {
+        Set<String> requiredIds = new LinkedHashSet<>();
+        List<TDecision> decisions = new ArrayList<>();
+        for (JAXBElement<? extends TDRGElement> element : definitions.getDrgElement()) {
+            if (element.getValue() instanceof TDecision) {
+                TDecision decision = (TDecision) element.getValue();
+                decisions.add(decision);
+                for (TInformationRequirement ir : decision.getInformationRequirement()) {
+                    if (ir.getRequiredDecision() != null) {
+                        requiredIds.add(ir.getRequiredDecision().getHref().substring(1));
+                    }
+                }
+            }
+        }
+        List<String> result = new ArrayList<>();
+        for (TDecision decision : decisions) {
+            if (!requiredIds.contains(decision.getId())) {
+                result.add(decision.getName());
+            }
+        }
+        return result;
+    }
+
+    private DMNNamespacePrefixMapper makeNamespacePrefixMapper(SyntheticModelParameters parameters) {
+        return new DMNNamespacePrefixMapper(String.format("%s/%s", NAMESPACE, parameters.getModelName()), "tns");
+    }
+
+    private List<TDRGElement> requiredElements(List<TDRGElement> previousLayer, int position, int fanIn) {
+        // Consecutive elements, so that the elements of the previous layer are required fanOut times on average
+        int size = previousLayer.size();
+        List<TDRGElement> result = new ArrayList<>();
+        for (int j = 0; j < Math.min(fanIn, size); j++) {
+            result.add(previousLayer.get((position * fanIn + j) % size));
+        }
+        return result;
+    }
+
+    private TInputData makeInputData(int index) {
+        String name = inputDataName(index);
+        TInputData inputData = OBJECT_FACTORY.createTInputData();
+        inputData.setId("i_" + name);
+        inputData.setName(name);
+        inputData.setVariable(makeVariable(name));
+        return inputData;
+    }
+
+    private TBusinessKnowledgeModel makeBKM(int index, SyntheticModelParameters parameters) {
+        String name = bkmName(index);
+        TFunctionDefinition functionDefinition = OBJECT_FACTORY.createTFunctionDefinition();
+        functionDefinition.getFormalParameter().add(makeVariable("x"));
+        functionDefinition.getFormalParameter().add(makeVariable("y"));
+        String text;
+        if (index < parameters.getBkmDepth()) {
+            text = String.format("%s(y, x + %d)", bkmName(index + 1), index);
+        } else {
+            text = "if x > y then x - y else y - x";
+        }
+        functionDefinition.setExpression(OBJECT_FACTORY.createLiteralExpression(makeLiteralExpression(text)));
+
+        TBusinessKnowledgeModel bkm = OBJECT_FACTORY.createTBusinessKnowledgeModel();
+        bkm.setId("b_" + name);
+        bkm.setName(name);
+        bkm.setVariable(makeVariable(name));
+        bkm.setEncapsulatedLogic(functionDefinition);
+        if (index < parameters.getBkmDepth()) {
+            bkm.getKnowledgeRequirement().add(makeKnowledgeRequirement(index + 1));
+        }
+        return bkm;
+    }
+
+    private TDecision makeDecision(int index, List<TDRGElement> requiredElements, SyntheticModelParameters parameters) {
+        String name = "decision" + index;
+        TDecision decision = OBJECT_FACTORY.createTDecision();
+        decision.setId("d_" + name);
+        decision.setName(name);
+        decision.setVariable(makeVariable(name));
+        for (TDRGElement element : requiredElements) {
+            decision.getInformationRequirement().add(makeInformationRequirement(element));
+        }
+        if (isFEEL(index, parameters.getFeelShare())) {
+            decision.setExpression(OBJECT_FACTORY.createLiteralExpression(makeLiteralExpression(feelText(requiredElements, parameters))));
+            if (parameters.getBkmDepth() > 0) {
+                decision.getKnowledgeRequirement().add(makeKnowledgeRequirement(1));
+            }
+        } else {
+            decision.setExpression(OBJECT_FACTORY.createDecisionTable(makeDecisionTable(requiredElements, parameters)));
+        }
+        return decision;
+    }
+
+    // Spreads the FEEL decisions evenly
+    private boolean isFEEL(int index, double feelShare) {
+        return Math.floor((index + 1) * feelShare) > Math.floor(index * feelShare);
+    }
+
+    private String feelText(List<TDRGElement> requiredElements, SyntheticModelParameters parameters) {
+        String first = requiredElements.get(0).getName();
+        String second = requiredElements.size() > 1 ? requiredElements.get(1).getName() : null;
+        String head;
+        if (parameters.getBkmDepth() > 0) {
+            head = String.format("%s(%s, %s)", bkmName(1), first, second == null ? first : second);
+        } else if (second != null) {
+            head = String.format("if %s > %s then %s - %s else %s - %s", first, second, first, second, second, first);
+        } else {
+            int half = range(parameters) / 2;
+            head = String.format("if %s > %d then %s - %d else %s + %d", first, half, first, half, first, half);
+        }
+        StringBuilder text = new StringBuilder("(").append(head).append(")");
+        for (int i = 2; i < requiredElements.size(); i++) {
+            text.append(" + ").append(requiredElements.get(i).getName());
+        }
+        return String.format("modulo(%s, %d)", text, range(parameters));
+    }
+
+    private TDecisionTable makeDecisionTable(List<TDRGElement> requiredElements, SyntheticModelParameters parameters) {
+        int columnCount = parameters.getColumnCount();
+        int ruleCount = parameters.getRuleCount();
+
+        TDecisionTable decisionTable = OBJECT_FACTORY.createTDecisionTable();
+        decisionTable.setHitPolicy(THitPolicy.FIRST);
+        for (int c = 0; c < columnCount; c++) {
+            TInputClause inputClause = OBJECT_FACTORY.createTInputClause();
+            TLiteralExpression inputExpression = makeLiteralExpression(requiredElements.get(c % requiredElements.size()).getName());
+            inputExpression.setTypeRef(NUMBER_TYPE);
+            inputClause.setInputExpression(inputExpression);
+            decisionTable.getInput().add(inputClause);
+        }
+        TOutputClause outputClause = OBJECT_FACTORY.createTOutputClause();
+        outputClause.setTypeRef(NUMBER_TYPE);
+        decisionTable.getOutput().add(outputClause);
+
+        for (int r = 0; r < ruleCount; r++) {
+            // The last rule catches the remaining values
+            boolean last = r == ruleCount - 1;
+            TDecisionRule rule = OBJECT_FACTORY.createTDecisionRule();
+            for (int c = 0; c < columnCount; c++) {
+                String text;
+                if (last) {
+                    text = "-";
+                } else if (c == 0) {
+                    text = String.format("[%d..%d)", r * STEP, (r + 1) * STEP);
+                } else {
+                    text = (r + c) % 2 == 0 ? "-" : String.format("< %d", (r + c) * STEP);
+                }
+                rule.getInputEntry().add(makeUnaryTests(text));
+            }
+            int output = ((r * 7 + 3) % ruleCount) * STEP + STEP / 2;
+            rule.getOutputEntry().add(makeLiteralExpression(String.valueOf(output)));
+            decisionTable.getRule().add(rule);
+        }
+        return decisionTable;
+    }
+
+    private TInformationItem makeVariable(String name) {
+        TInformationItem variable = OBJECT_FACTORY.createTInformationItem();
+        variable.setName(name);
+        variable.setTypeRef(NUMBER_TYPE);
+        return variable;
+    }
+
+    private TLiteralExpression makeLiteralExpression(String text) {
+        TLiteralExpression expression = OBJECT_FACTORY.createTLiteralExpression();
+        expression.setText(text);
+        return expression;
+    }
+
+    private TUnaryTests makeUnaryTests(String text) {
+        TUnaryTests unaryTests = OBJECT_FACTORY.createTUnaryTests();
+        unaryTests.setText(text);
+        return unaryTests;
+    }
+
+    private TInformationRequirement makeInformationRequirement(TDRGElement element) {
+        TDMNElementReference reference = makeReference(element.getId());
+        TInformationRequirement requirement = OBJECT_FACTORY.createTInformationRequirement();
+        if (element instanceof TInputData) {
+            requirement.setRequiredInput(reference);
+        } else {
+            requirement.setRequiredDecision(reference);
+        }
+        return requirement;
+    }
+
+    private TKnowledgeRequirement makeKnowledgeRequirement(int bkmIndex) {
+        TKnowledgeRequirement requirement = OBJECT_FACTORY.createTKnowledgeRequirement();
+        requirement.setRequiredKnowledge(makeReference("b_" + bkmName(bkmIndex)));
+        return requirement;
+    }
+
+    private TDMNElementReference makeReference(String id) {
+        TDMNElementReference reference = OBJECT_FACTORY.createTDMNElementReference();
+        reference.setHref("#" + id);
+        return reference;
+    }
+
+    private String bkmName(int index) {
+        return "bkm" + index;
+    }
+
+    private int range(SyntheticModelParameters parameters) {
+        return parameters.getRuleCount() * STEP;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.serialization;
+
+import java.util.Locale;
+
+/**
+ * Shape of a synthetic DMN model (see SyntheticModelGenerator):
+ *   inputCount - number of input data,
+ *   decisionCount - number of decisions, arranged in layers above the input data,
+ *   fanIn - number of elements of the previous layer required by each decision,
+ *   fanOut - average number of decisions of the next layer requiring an element (the layers narrow when fanOut is smaller than fanIn),
+ *   ruleCount, columnCount - size of the decision tables,
+ *   feelShare - share of decisions with a FEEL literal expression, the others are decision tables with S-FEEL unary tests,
+ *   bkmDepth - length of the chain of BKMs invoked by the FEEL decisions (0 for no BKMs).
+ */
+public class SyntheticModelParameters {
+    private final int inputCount;
+    private final int decisionCount;
+    private final int fanIn;
+    private final int fanOut;
+    private final int ruleCount;
+    private final int columnCount;
+    private final double feelShare;
+    private final int bkmDepth;
+
+    public SyntheticModelParameters(int inputCount, int decisionCount, int fanIn, int fanOut, int ruleCount, int columnCount, double feelShare, int bkmDepth) {
+        checkPositive("inputCount", inputCount);
+        checkPositive("decisionCount", decisionCount);
+        checkPositive("fanIn", fanIn);
+        checkPositive("fanOut", fanOut);
+        checkPositive("ruleCount", ruleCount);
+        checkPositive("columnCount", columnCount);
+        if (feelShare < 0 || feelShare > 1) {
+            throw new IllegalArgumentException(String.format("Illegal feelShare '%s'", feelShare));
+        }
+        if (bkmDepth < 0) {
+            throw new IllegalArgumentException(String.format("Illegal bkmDepth '%d'", bkmDepth));
+        }
+        this.inputCount = inputCount;
+        this.decisionCount = decisionCount;
+        this.fanIn = fanIn;
+        this.fanOut = fanOut;
+        this.ruleCount = ruleCount;
+        this.columnCount = columnCount;
+        this.feelShare = feelShare;
+        this.bkmDepth = bkmDepth;
+    }
+
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    public int getDecisionCount() {
+        return decisionCount;
+    }
+
+    public int getFanIn() {
+        return fanIn;
+    }
+
+    public int getFanOut() {
+        return fanOut;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    public double getFeelShare() {
+        return feelShare;
+    }
+
+    public int getBkmDepth() {
+        return bkmDepth;
+    }
+
+    // Name of the model, also used as file name
+    public String getModelName() {
+        return String.format(Locale.ROOT, "synthetic-i%d-d%d-f%dx%d-r%dx%d-feel%d-bkm%d",
+                inputCount, decisionCount, fanIn, fanOut, ruleCount, columnCount, Math.round(feelShare * 100), bkmDepth);
+    }
+
+    @Override
+    public String toString() {
+        return getModelName();
+    }
+
+    private static void checkPositive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal %s '%d'", name, value));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.tck;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.feel.analysis.ASTCache;
+import com.gs.dmn.feel.lib.FEELLib;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.runtime.Assert;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase.ResultNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+
+/**
+ * Runs TCK test cases with the interpreter. The model is prepared once, before the workers start: the caller reads and
+ * transforms it, the runner builds one transformer (environments and types) and one AST cache, so the FEEL expressions
+ * are parsed and analyzed once for all workers. Each worker has its own DMNInterpreter and FEELLib (the interpreter is
+ * not thread-safe). The test cases are consumed from an iterator (e.g. TestCasesReader.stream()) and at most 16 test
+ * cases per worker are queued, so large files run in bounded memory.
+ *
+ * The results are compared as in the generated JUnit tests and aggregated in a report with the latency of each test case.
+ */
+public class TCKInterpreterRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TCKInterpreterRunner.class);
+
+    private static final int QUEUED_TEST_CASES_PER_WORKER = 16;
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final DMNDialectDefinition dialectDefinition;
+    private final BasicDMN2JavaTransformer basicTransformer;
+    private final ASTCache astCache;
+    private final int parallelism;
+
+    public TCKInterpreterRunner(DMNDialectDefinition dialectDefinition, DMNModelRepository repository) {
+        this(dialectDefinition, repository, 1);
+    }
+
+    public TCKInterpreterRunner(DMNDialectDefinition dialectDefinition, DMNModelRepository repository, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal parallelism '%d'", parallelism));
+        }
+        this.dialectDefinition = dialectDefinition;
+        this.basicTransformer = dialectDefinition.createBasicTransformer(repository, new NopLazyEvaluationDetector(), new LinkedHashMap<>());
+        this.astCache = repository.getASTCache() != null ? repository.getASTCache() : new ASTCache();
+        this.parallelism = parallelism;
+    }
+
+    public TCKReport run(TestCases testCases) {
+        return run(testCases.getTestCase().iterator());
+    }
+
+    public TCKReport run(Iterator<TestCase> testCases) {
+        long startTime = System.nanoTime();
+        Queue<TCKTestCaseResult> results = new ConcurrentLinkedQueue<>();
+        LOGGER.info("Running test cases with {} worker(s)", parallelism);
+        if (parallelism == 1) {
+            Worker worker = new Worker();
+            int index = 0;
+            long nextProgress = startTime + PROGRESS_INTERVAL_NANOS;
+            while (testCases.hasNext()) {
+                results.add(worker.run(index++, testCases.next()));
+                nextProgress = logProgress(results, startTime, nextProgress);
+            }
+        } else {
+            runInParallel(testCases, results, startTime);
+        }
+
+        List<TCKTestCaseResult> sortedResults = new ArrayList<>(results);
+        sortedResults.sort(Comparator.comparingInt(TCKTestCaseResult::getIndex));
+        TCKReport report = new TCKReport(sortedResults, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        LOGGER.info(report.toString());
+        return report;
+    }
+
+    private void runInParallel(Iterator<TestCase> testCases, Queue<TCKTestCaseResult> results, long startTime) {
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+        Semaphore permits = new Semaphore(parallelism * QUEUED_TEST_CASES_PER_WORKER);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            int index = 0;
+            long nextProgress = startTime + PROGRESS_INTERVAL_NANOS;
+            while (testCases.hasNext()) {
+                TestCase testCase = testCases.next();
+                int testCaseIndex = index++;
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        results.add(workers.get().run(testCaseIndex, testCase));
+                    } catch (RuntimeException e) {
+                        // The interpreter of the worker cannot be created
+                        results.add(new TCKTestCaseResult(testCaseIndex, testCase.getId(), new ArrayList<>(), String.valueOf(e.getMessage()), 0));
+                    } finally {
+                        permits.release();
+                    }
+                });
+                nextProgress = logProgress(results, startTime, nextProgress);
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DMNRuntimeException("Test cases interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long logProgress(Queue<TCKTestCaseResult> results, long startTime, long nextProgress) {
+        long now = System.nanoTime();
+        if (now - nextProgress >= 0) {
+            LOGGER.info("Ran {} test case(s) in {}ms", results.size(), TimeUnit.NANOSECONDS.toMillis(now - startTime));
+            return now + PROGRESS_INTERVAL_NANOS;
+        }
+        return nextProgress;
+    }
+
+    // The interpreter is not thread-safe, the transformer and the AST cache are shared
+    private class Worker {
+        private final DMNInterpreter interpreter;
+        private final TCKUtil tckUtil;
+
+        private Worker() {
+            FEELLib feelLib = dialectDefinition.createFEELLib();
+            this.interpreter = new DMNInterpreter(basicTransformer, feelLib, astCache);
+            this.tckUtil = new TCKUtil(basicTransformer, (StandardFEELLib) feelLib);
+        }
+
+        private TCKTestCaseResult run(int index, TestCase testCase) {
+            List<String> diffs = new ArrayList<>();
+            String error = null;
+            long startTime = System.nanoTime();
+            try {
+                RuntimeEnvironment runtimeEnvironment = tckUtil.makeEnvironment(testCase);
+                for (ResultNode resultNode : testCase.getResultNode()) {
+                    Object expected;
+                    Object actual;
+                    try {
+                        expected = tckUtil.makeExpectedValue(resultNode);
+                        actual = interpreter.evaluate(resultNode.getName(), runtimeEnvironment);
+                    } catch (Exception e) {
+                        // Expected error (e.g. missing or invalid element)
+                        if (resultNode.isErrorResult()) {
+                            continue;
+                        }
+                        throw e;
+                    }
+                    try {
+                        Assert.assertEquals(expected, actual);
+                    } catch (AssertionError e) {
+                        diffs.add(String.format("'%s': expected '%s' but was '%s'", resultNode.getName(), expected, actual));
+                    }
+                }
+            } catch (Exception e) {
+                error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+                LOGGER.debug(String.format("Test case '%s' failed", testCase.getId()), e);
+            }
+            long latencyNanos = System.nanoTime() - startTime;
+            return new TCKTestCaseResult(index, testCase.getId(), diffs, error, latencyNanos);
+        }
+    }
+}
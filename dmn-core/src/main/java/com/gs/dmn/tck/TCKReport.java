@@ -0,0 +1,89 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.tck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of a TCK run: the results of the test cases in file order, the counts and the latency distribution.
+ */
+public class TCKReport {
+    private final List<TCKTestCaseResult> results;
+    private final long elapsedMillis;
+    private final long[] sortedLatencies;
+
+    public TCKReport(List<TCKTestCaseResult> results, long elapsedMillis) {
+        this.results = new ArrayList<>(results);
+        this.elapsedMillis = elapsedMillis;
+        this.sortedLatencies = results.stream().mapToLong(TCKTestCaseResult::getLatencyNanos).sorted().toArray();
+    }
+
+    public List<TCKTestCaseResult> getResults() {
+        return results;
+    }
+
+    // Failed test cases and test cases with errors
+    public List<TCKTestCaseResult> getFailures() {
+        return results.stream().filter(r -> r.getStatus() != TCKTestCaseResult.Status.PASSED).collect(Collectors.toList());
+    }
+
+    public long count(TCKTestCaseResult.Status status) {
+        return results.stream().filter(r -> r.getStatus() == status).count();
+    }
+
+    public boolean isSuccessful() {
+        return count(TCKTestCaseResult.Status.PASSED) == results.size();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getMeanLatencyNanos() {
+        return sortedLatencies.length == 0 ? 0 : (long) Arrays.stream(sortedLatencies).average().getAsDouble();
+    }
+
+    // Nearest-rank percentile, percentile between 0 and 100
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException(String.format("Illegal percentile '%s'", percentile));
+        }
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+        return sortedLatencies[Math.max(0, rank - 1)];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Ran %d test case(s) in %dms: %d passed, %d failed, %d error(s); latency mean %dus, p50 %dus, p90 %dus, p99 %dus, max %dus",
+                results.size(), elapsedMillis,
+                count(TCKTestCaseResult.Status.PASSED), count(TCKTestCaseResult.Status.FAILED), count(TCKTestCaseResult.Status.ERROR),
+                micros(getMeanLatencyNanos()), micros(getLatencyPercentileNanos(50)), micros(getLatencyPercentileNanos(90)),
+                micros(getLatencyPercentileNanos(99)), micros(getLatencyPercentileNanos(100))));
+        for (TCKTestCaseResult failure : getFailures()) {
+            builder.append(System.lineSeparator()).append(failure);
+        }
+        return builder.toString();
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.tck;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a test case: the differences between the expected and the actual results, or the error, and the latency
+ * (building the inputs and evaluating all the result nodes).
+ */
+public class TCKTestCaseResult {
+    public enum Status {
+        PASSED,
+        FAILED,
+        ERROR
+    }
+
+    private final int index;
+    private final String id;
+    private final List<String> diffs;
+    private final String error;
+    private final long latencyNanos;
+
+    public TCKTestCaseResult(int index, String id, List<String> diffs, String error, long latencyNanos) {
+        this.index = index;
+        this.id = id;
+        this.diffs = new ArrayList<>(diffs);
+        this.error = error;
+        this.latencyNanos = latencyNanos;
+    }
+
+    // Position of the test case in the file
+    public int getIndex() {
+        return index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        if (error != null) {
+            return Status.ERROR;
+        } else if (!diffs.isEmpty()) {
+            return Status.FAILED;
+        } else {
+            return Status.PASSED;
+        }
+    }
+
+    public List<String> getDiffs() {
+        return diffs;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Test case '%s' %s in %dus", id, getStatus(), TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (error != null) {
+            builder.append(": ").append(error);
+        }
+        for (String diff : diffs) {
+            builder.append(System.lineSeparator()).append("    ").append(diff);
+        }
+        return builder.toString();
+    }
+}
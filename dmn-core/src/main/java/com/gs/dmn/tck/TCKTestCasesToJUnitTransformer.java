@@ -21,6 +21,8 @@ import com.gs.dmn.serialization.DMNConstants;
 import com.gs.dmn.serialization.TypeDeserializationConfigurer;
 import com.gs.dmn.transformation.AbstractDMNTransformer;
 import com.gs.dmn.transformation.DMNTransformer;
+import com.gs.dmn.transformation.IncrementalBuildState;
+import com.gs.dmn.transformation.PhaseTimings;
 import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
 import com.gs.dmn.transformation.lazy.LazyEvaluationDetector;
 import com.gs.dmn.transformation.template.TemplateProvider;
@@ -38,16 +40,24 @@ public class TCKTestCasesToJUnitTransformer extends AbstractDMNTransformer {
 
     protected final TestCasesReader testCasesReader;
     private final TCKUtil tckUtil;
+    private final String modelFingerprint;
 
     public TCKTestCasesToJUnitTransformer(DMNDialectDefinition dialectDefinition, DMNValidator dmnValidator, DMNTransformer dmnTransformer, TemplateProvider templateProvider, LazyEvaluationDetector lazyEvaluationDetector, TypeDeserializationConfigurer typeDeserializationConfigurer, Path inputModelPath, Map<String, String> inputParameters, BuildLogger logger) {
         super(dialectDefinition, dmnValidator, dmnTransformer, templateProvider, lazyEvaluationDetector, typeDeserializationConfigurer, inputParameters, logger);
+        this.modelFingerprint = IncrementalBuildState.fingerprint(inputModelPath.toFile());
         DMNModelRepository repository = readDMN(inputModelPath.toFile());
-        this.basicTransformer = this.dialectDefinition.createBasicTransformer(repository, lazyEvaluationDetector, inputParameters);
-        handleValidationErrors(this.dmnValidator.validate(repository));
+        this.basicTransformer = this.dialectDefinition.createBasicTransformer(repository, timedLazyEvaluationDetector(), inputParameters);
+        handleValidationErrors(validateDMN(repository));
         this.testCasesReader = new TestCasesReader(logger);
         this.tckUtil = new TCKUtil(basicTransformer, (StandardFEELLib) dialectDefinition.createFEELLib());
     }
 
+    // Generated tests depend on the model as well
+    @Override
+    protected String fingerprint(File inputFile) {
+        return IncrementalBuildState.fingerprint(super.fingerprint(inputFile) + modelFingerprint);
+    }
+
     @Override
     protected boolean shouldTransform(File inputFile) {
         String name = inputFile.getName();
@@ -59,8 +69,13 @@ public class TCKTestCasesToJUnitTransformer extends AbstractDMNTransformer {
         try {
             logger.info("Processing TCK TestCases ...");
 
+            long startTime = System.nanoTime();
             TestCases testCases = testCasesReader.read(child);
+            phaseTimings.record(PhaseTimings.READ, startTime);
+
+            startTime = System.nanoTime();
             testCases = (TestCases) dmnTransformer.transform(basicTransformer.getDMNModelRepository(), testCases).getRight();
+            phaseTimings.record(PhaseTimings.DMN_TRANSFORMATION, startTime);
 
             String javaClassName = testClassName(testCases, basicTransformer);
             processTemplate(testCases, templateProvider.testBaseTemplatePath(), templateProvider.testTemplateName(), basicTransformer, outputPath, javaClassName);
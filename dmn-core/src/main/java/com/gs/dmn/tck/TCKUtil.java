@@ -312,6 +312,13 @@ public class TCKUtil {
         return runtimeEnvironment;
     }
 
+    // Typed as the output of the element, as in the interpreter tests
+    public Object makeExpectedValue(ResultNode resultNode) {
+        TDRGElement element = findDRGElementByName(resultNode.getName());
+        Type type = dmnTransformer.drgElementOutputFEELType(element, dmnTransformer.makeEnvironment(element));
+        return makeValue(resultNode.getExpected(), type);
+    }
+
     private Object makeValue(InputNode inputNode) {
         TDRGElement drgElement = dmnTransformer.getDMNModelRepository().findDRGElementByName(inputNode.getName());
         if (drgElement instanceof TInputData) {
@@ -0,0 +1,108 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.tck;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the test cases of a TCK file with StAX: each testCase element is unmarshalled when it is reached, so
+ * the memory does not depend on the number of test cases. The model name is available after the first call to hasNext().
+ */
+public class TestCaseIterator implements Iterator<TestCase>, Closeable {
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final InputStream inputStream;
+    private final XMLStreamReader reader;
+    private final Unmarshaller unmarshaller;
+    private String modelName;
+    private TestCase next;
+    private boolean done;
+
+    TestCaseIterator(InputStream inputStream, Unmarshaller unmarshaller) throws XMLStreamException {
+        this.inputStream = inputStream;
+        this.reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        this.unmarshaller = unmarshaller;
+    }
+
+    public String getModelName() {
+        return modelName;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = advance();
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public TestCase next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TestCase testCase = next;
+        next = null;
+        return testCase;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private TestCase advance() {
+        try {
+            while (reader.hasNext()) {
+                if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                    String localName = reader.getLocalName();
+                    if ("testCase".equals(localName)) {
+                        // Leaves the reader after the end of the element
+                        return unmarshaller.unmarshal(reader, TestCase.class).getValue();
+                    } else if ("modelName".equals(localName)) {
+                        modelName = reader.getElementText();
+                    }
+                }
+                reader.next();
+            }
+            return null;
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DMNRuntimeException("Cannot read test case", e);
+        }
+    }
+}
@@ -72,6 +72,27 @@ public class TestCasesReader {
         }
     }
 
+    // Reads the test cases one at a time, the file is not loaded in memory
+    public TestCaseIterator stream(File file) {
+        try {
+            return stream(file.toURI().toURL());
+        } catch (DMNRuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot read TCK from '%s'", file.getPath()), e);
+        }
+    }
+
+    public TestCaseIterator stream(URL url) {
+        try {
+            logger.info(String.format("Streaming TCK '%s' ...", url.toString()));
+
+            return new TestCaseIterator(url.openStream(), JAXB_CONTEXT.createUnmarshaller());
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot read TCK from '%s'", url.toString()), e);
+        }
+    }
+
     public void write(TestCases testCases, File file, DMNNamespacePrefixMapper namespacePrefixMapper) {
         try {
             Marshaller marshaller = JAXB_CONTEXT.createMarshaller();
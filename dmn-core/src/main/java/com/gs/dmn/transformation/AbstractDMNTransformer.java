@@ -15,9 +15,11 @@ package com.gs.dmn.transformation;
 import com.gs.dmn.DMNModelRepository;
 import com.gs.dmn.dialect.DMNDialectDefinition;
 import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
 import com.gs.dmn.serialization.DMNReader;
 import com.gs.dmn.serialization.TypeDeserializationConfigurer;
 import com.gs.dmn.transformation.lazy.LazyEvaluationDetector;
+import com.gs.dmn.transformation.lazy.LazyEvaluationOptimisation;
 import com.gs.dmn.transformation.template.TemplateProvider;
 import com.gs.dmn.validation.DMNValidator;
 
@@ -51,7 +53,45 @@ public abstract class AbstractDMNTransformer extends AbstractTemplateBasedTransf
     }
 
     protected DMNModelRepository readDMN(File file) {
-        return dmnReader.read(file);
+        try {
+            logger.info(String.format("Reading DMN '%s' ...", file.getAbsolutePath()));
+
+            long startTime = System.nanoTime();
+            Object definitions = dmnReader.readObject(file);
+            phaseTimings.record(PhaseTimings.READ, startTime);
+
+            startTime = System.nanoTime();
+            DMNModelRepository repository = dmnReader.transform(definitions);
+            phaseTimings.record(PhaseTimings.DIALECT_TRANSFORMATION, startTime);
+
+            logger.info("DMN read.");
+            return repository;
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot read DMN from '%s'", file.getAbsolutePath()), e);
+        }
+    }
+
+    protected void transformDMN(DMNModelRepository repository) {
+        long startTime = System.nanoTime();
+        dmnTransformer.transform(repository);
+        phaseTimings.record(PhaseTimings.DMN_TRANSFORMATION, startTime);
+    }
+
+    protected List<String> validateDMN(DMNModelRepository repository) {
+        long startTime = System.nanoTime();
+        List<String> errors = dmnValidator.validate(repository);
+        phaseTimings.record(PhaseTimings.VALIDATION, startTime);
+        return errors;
+    }
+
+    // Times the lazy evaluation detection done by the BasicDMN2JavaTransformer
+    protected LazyEvaluationDetector timedLazyEvaluationDetector() {
+        return repository -> {
+            long startTime = System.nanoTime();
+            LazyEvaluationOptimisation optimisation = lazyEvaluationDetector.detect(repository);
+            phaseTimings.record(PhaseTimings.LAZY_DETECTION, startTime);
+            return optimisation;
+        };
     }
 
     protected void handleValidationErrors(List<String> errors) {
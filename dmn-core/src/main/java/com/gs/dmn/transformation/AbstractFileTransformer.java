@@ -14,16 +14,25 @@ package com.gs.dmn.transformation;
 
 import com.gs.dmn.log.BuildLogger;
 import com.gs.dmn.runtime.DMNRuntimeException;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 public abstract class AbstractFileTransformer implements FileTransformer {
     protected final Map<String, String> inputParameters;
     protected final BuildLogger logger;
+    protected final PhaseTimings phaseTimings = new PhaseTimings();
+    private IncrementalBuildState incrementalBuildState;
+    private volatile File currentInputFile;
+    // Start of the work covered by the next phase report, including the phases recorded by the constructors
+    private long phaseStartTime = System.nanoTime();
+    private boolean phasesReported;
 
     public AbstractFileTransformer(Map<String, String> inputParameters, BuildLogger logger) {
         this.inputParameters = inputParameters;
@@ -37,8 +46,38 @@ public abstract class AbstractFileTransformer implements FileTransformer {
             throw new DMNRuntimeException("Unable to create directory " + targetDirectory);
         }
 
+        // The timings describe the work since the last report, the first one includes the phases of the constructors
+        if (phasesReported) {
+            phaseTimings.reset();
+            phaseStartTime = System.nanoTime();
+        }
         File inputFile = inputPath.toFile();
         transform(inputFile, inputFile, outputPath);
+        if (incrementalBuildState != null) {
+            List<File> orphans = incrementalBuildState.deleteOrphans();
+            for (File orphan : orphans) {
+                logger.info(String.format("Deleted orphan file '%s'", orphan.getPath()));
+            }
+        }
+        afterTransform(outputPath);
+        if (incrementalBuildState != null) {
+            incrementalBuildState.save();
+        }
+        phaseTimings.log(logger, System.nanoTime() - phaseStartTime);
+        phasesReported = true;
+    }
+
+    public PhaseTimings getPhaseTimings() {
+        return phaseTimings;
+    }
+
+    // Skips the input files that did not change since the build that saved the state
+    public void setIncrementalBuildState(IncrementalBuildState incrementalBuildState) {
+        this.incrementalBuildState = incrementalBuildState;
+    }
+
+    public IncrementalBuildState getIncrementalBuildState() {
+        return incrementalBuildState;
     }
 
     private void transform(File inputFile, File inputRoot, Path outputPath) {
@@ -55,8 +94,22 @@ public abstract class AbstractFileTransformer implements FileTransformer {
         } else {
             try {
                 if (shouldTransform(inputFile)) {
+                    if (incrementalBuildState != null) {
+                        String fingerprint = fingerprint(inputFile);
+                        if (incrementalBuildState.isUpToDate(inputFile, fingerprint)) {
+                            logger.info(String.format("Skipping unchanged file '%s'", inputFile.getPath()));
+                            incrementalBuildState.keep(inputFile);
+                            return;
+                        }
+                        incrementalBuildState.start(inputFile, fingerprint);
+                    }
                     logger.info(String.format("Transforming file '%s'", inputFile.getPath()));
-                    transformFile(inputFile, inputRoot, outputPath);
+                    this.currentInputFile = inputFile;
+                    try {
+                        transformFile(inputFile, inputRoot, outputPath);
+                    } finally {
+                        this.currentInputFile = null;
+                    }
                 }
             } catch (Exception e) {
                 throw new DMNRuntimeException(String.format("Failed to process diagram '%s'", inputFile.getPath()), e);
@@ -64,6 +117,26 @@ public abstract class AbstractFileTransformer implements FileTransformer {
         }
     }
 
+    // Called once all the input files are processed and the orphan files are deleted
+    protected void afterTransform(Path outputPath) {
+    }
+
+    // Fingerprint of an input file for incremental builds, overridden when the output depends on other files
+    protected String fingerprint(File inputFile) {
+        return IncrementalBuildState.fingerprint(inputFile);
+    }
+
+    // Writes only when the content changed, so that the timestamps of unchanged files are preserved
+    protected void writeFile(File outputFile, String text) throws IOException {
+        if (!outputFile.isFile() || !text.equals(FileUtils.readFileToString(outputFile, Charset.defaultCharset()))) {
+            FileUtils.write(outputFile, text, Charset.defaultCharset(), false);
+        }
+        File inputFile = this.currentInputFile;
+        if (incrementalBuildState != null && inputFile != null) {
+            incrementalBuildState.addOutput(inputFile, outputFile);
+        }
+    }
+
     protected File outputFolder(File child, File root, Path outputPath) throws IOException {
         if (root.isDirectory()) {
             String relativePath = relativePath(root, child);
@@ -17,16 +17,15 @@ import com.gs.dmn.transformation.formatter.JavaFormatter;
 import com.gs.dmn.transformation.formatter.NopJavaFormatter;
 import com.gs.dmn.transformation.template.TemplateProvider;
 import freemarker.template.*;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Writer;
+import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractTemplateBasedTransformer extends AbstractFileTransformer {
     private static final Version VERSION = new Version("2.3.23");
@@ -34,27 +33,39 @@ public abstract class AbstractTemplateBasedTransformer extends AbstractFileTrans
 
     protected final TemplateProvider templateProvider;
 
+    // Configurations per base path, they cache the parsed templates
+    private final Map<String, Configuration> configurations = new ConcurrentHashMap<>();
+
     public AbstractTemplateBasedTransformer(TemplateProvider templateProvider, Map<String, String> inputParameters, BuildLogger logger) {
         super(inputParameters, logger);
         this.templateProvider = templateProvider;
     }
 
     protected void processTemplate(String baseTemplatePath, String templateName, Map<String, Object> params, File outputFile, boolean formatOutput) throws IOException, TemplateException {
-        Configuration cfg = makeConfiguration(baseTemplatePath);
+        // Render
+        long startTime = System.nanoTime();
+        Configuration cfg = configurations.computeIfAbsent(baseTemplatePath, this::makeConfiguration);
         Template template = cfg.getTemplate("/" + templateName);
+        StringWriter writer = new StringWriter();
+        template.process(params, writer);
+        String text = writer.toString();
+        phaseTimings.record(PhaseTimings.TEMPLATE_RENDERING, startTime);
 
-        try (Writer fileWriter = new FileWriter(outputFile)) {
-            template.process(params, fileWriter);
-        }
-        try {
-            String text = FileUtils.readFileToString(outputFile);
-            if (formatOutput) {
+        // Format
+        if (formatOutput) {
+            startTime = System.nanoTime();
+            try {
                 text = FORMATTER.formatSource(text);
+            } catch (Exception e) {
+                logger.error(String.format("Formatting error for file %s", outputFile.getName()));
             }
-            FileUtils.write(outputFile, text, false);
-        } catch (Exception e) {
-            logger.error(String.format("Formatting error for file %s", outputFile.getName()));
+            phaseTimings.record(PhaseTimings.FORMATTING, startTime);
         }
+
+        // Write
+        startTime = System.nanoTime();
+        writeFile(outputFile, text);
+        phaseTimings.record(PhaseTimings.FILE_WRITE, startTime);
     }
 
     private Configuration makeConfiguration(String basePackagePath) {
@@ -14,22 +14,33 @@ package com.gs.dmn.transformation;
 
 import com.gs.dmn.DMNModelRepository;
 import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.feel.analysis.ASTCache;
 import com.gs.dmn.log.BuildLogger;
 import com.gs.dmn.runtime.Context;
 import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.discovery.ModelElementRegistry;
 import com.gs.dmn.serialization.DMNConstants;
 import com.gs.dmn.serialization.TypeDeserializationConfigurer;
 import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
 import com.gs.dmn.transformation.lazy.LazyEvaluationDetector;
+import com.gs.dmn.transformation.lazy.LazyEvaluationOptimisation;
 import com.gs.dmn.transformation.template.TemplateProvider;
 import com.gs.dmn.validation.DMNValidator;
+import org.apache.commons.io.FileUtils;
 import org.omg.spec.dmn._20180521.model.TBusinessKnowledgeModel;
 import org.omg.spec.dmn._20180521.model.TDecision;
 import org.omg.spec.dmn._20180521.model.TItemDefinition;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 public class DMNToJavaTransformer extends AbstractDMNTransformer {
     public static final String DATA_PACKAGE = "type";
@@ -47,6 +58,11 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
     protected final String dmnVersion;
     protected final String modelVersion;
     protected final String platformVersion;
+    protected final boolean generateRegistry;
+    protected final boolean generateJsonCodecs;
+    private final String feelLibClassName;
+    private int threads = 1;
+    private final Set<String> registryClassNames = Collections.synchronizedSet(new TreeSet<>());
 
     public DMNToJavaTransformer(DMNDialectDefinition dialectDefinition, DMNValidator dmnValidator, DMNTransformer dmnTransformer, TemplateProvider templateProvider, LazyEvaluationDetector lazyEvaluationDetector, TypeDeserializationConfigurer typeDeserializationConfigurer, Map<String, String> inputParameters, BuildLogger logger) {
         super(dialectDefinition, dmnValidator, dmnTransformer, templateProvider, lazyEvaluationDetector, typeDeserializationConfigurer, inputParameters, logger);
@@ -54,6 +70,21 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
         this.dmnVersion = InputParamUtil.getRequiredParam(inputParameters, "dmnVersion");
         this.modelVersion = InputParamUtil.getRequiredParam(inputParameters, "modelVersion");
         this.platformVersion = InputParamUtil.getRequiredParam(inputParameters, "platformVersion");
+        this.generateRegistry = InputParamUtil.getOptionalBooleanParam(inputParameters, "generateRegistry");
+        this.generateJsonCodecs = InputParamUtil.getOptionalBooleanParam(inputParameters, "generateJsonCodecs");
+        this.feelLibClassName = generateJsonCodecs ? dialectDefinition.createFEELLib().getClass().getName() : null;
+    }
+
+    // Number of threads used to render, format and write the classes of a model
+    public void setThreads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal number of threads '%d'", threads));
+        }
+        this.threads = threads;
+    }
+
+    public int getThreads() {
+        return threads;
     }
 
     @Override
@@ -72,39 +103,103 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
 
         // Read and validate DMN
         DMNModelRepository repository = readDMN(file);
-        dmnTransformer.transform(repository);
-        BasicDMN2JavaTransformer dmnTransformer = dialectDefinition.createBasicTransformer(repository, lazyEvaluationDetector, inputParameters);
+        transformDMN(repository);
+        // One analysis cache, thread-safe, shared by the transformers of all the threads generating code
+        if (repository.getASTCache() == null) {
+            repository.setASTCache(new ASTCache());
+        }
+        BasicDMN2JavaTransformer dmnTransformer = dialectDefinition.createBasicTransformer(repository, timedLazyEvaluationDetector(), inputParameters);
         DMNModelRepository dmnModelRepository = dmnTransformer.getDMNModelRepository();
-        handleValidationErrors(this.dmnValidator.validate(dmnModelRepository));
+        handleValidationErrors(validateDMN(dmnModelRepository));
 
         // Transform
         transform(dmnTransformer, dmnModelRepository, outputPath);
     }
 
     protected void transform(BasicDMN2JavaTransformer dmnTransformer, DMNModelRepository dmnModelRepository, Path outputPath) {
-        // Generate data types
+        // Plan the generation (names and duplicates are checked in the model order)
         List<String> generatedClasses = new ArrayList<>();
+
+        // Generate data types (the templates do not modify the shared model)
+        List<Consumer<BasicDMN2JavaTransformer>> typeTasks = new ArrayList<>();
         List<TItemDefinition> itemDefinitions = dmnModelRepository.itemDefinitions();
-        transformItemDefinitionList(itemDefinitions, dmnTransformer, generatedClasses, outputPath);
+        transformItemDefinitionList(itemDefinitions, dmnTransformer, generatedClasses, typeTasks, outputPath);
+        generate(typeTasks, dmnTransformer);
+
+        // The BKMs and decisions see the item components in name order
+        sortItemComponents(itemDefinitions, dmnModelRepository);
 
         // Generate BKMs
+        List<Consumer<BasicDMN2JavaTransformer>> tasks = new ArrayList<>();
         List<TBusinessKnowledgeModel> businessKnowledgeModels = dmnModelRepository.businessKnowledgeModels();
-        transformBKMList(businessKnowledgeModels, dmnTransformer, generatedClasses, outputPath);
+        transformBKMList(businessKnowledgeModels, dmnTransformer, generatedClasses, tasks, outputPath);
 
         // Generate decisions
         List<TDecision> decisions = dmnModelRepository.decisions();
-        transformDecisionList(decisions, dmnTransformer, generatedClasses, outputPath, decisionBaseClass);
+        transformDecisionList(decisions, dmnTransformer, generatedClasses, tasks, outputPath, decisionBaseClass);
+
+        // Generate registry
+        if (generateRegistry) {
+            transformRegistry(itemDefinitions, dmnTransformer, generatedClasses, tasks, outputPath);
+        }
+
+        // Render, format and write the BKMs and decisions
+        generate(tasks, dmnTransformer);
+    }
+
+    private void generate(List<Consumer<BasicDMN2JavaTransformer>> tasks, BasicDMN2JavaTransformer dmnTransformer) {
+        int poolSize = Math.min(threads, tasks.size());
+        if (poolSize <= 1) {
+            for (Consumer<BasicDMN2JavaTransformer> task : tasks) {
+                task.accept(dmnTransformer);
+            }
+            return;
+        }
+
+        // The FEEL translation is not thread-safe: each thread has its own transformer, sharing the repository, its AST cache and the lazy evaluation analysis
+        DMNModelRepository repository = dmnTransformer.getDMNModelRepository();
+        LazyEvaluationOptimisation lazyEvaluationOptimisation = dmnTransformer.getLazyEvaluationOptimisation();
+        ThreadLocal<BasicDMN2JavaTransformer> transformers = ThreadLocal.withInitial(() -> dialectDefinition.createBasicTransformer(repository, r -> lazyEvaluationOptimisation, inputParameters));
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Consumer<BasicDMN2JavaTransformer> task : tasks) {
+                futures.add(executor.submit(() -> task.accept(transformers.get())));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DMNRuntimeException("Interrupted while generating code", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof DMNRuntimeException ? (DMNRuntimeException) cause : new DMNRuntimeException("Cannot generate code", cause);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
-    private void transformItemDefinitionList(List<TItemDefinition> itemDefinitionList, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath) {
+    private void sortItemComponents(List<TItemDefinition> itemDefinitions, DMNModelRepository repository) {
+        if (itemDefinitions != null) {
+            for (TItemDefinition itemDefinition : itemDefinitions) {
+                if (!repository.isEmpty(itemDefinition.getItemComponent())) {
+                    repository.sortNamedElements(itemDefinition.getItemComponent());
+                    sortItemComponents(itemDefinition.getItemComponent(), repository);
+                }
+            }
+        }
+    }
+
+    private void transformItemDefinitionList(List<TItemDefinition> itemDefinitionList, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, List<Consumer<BasicDMN2JavaTransformer>> tasks, Path outputPath) {
         if (itemDefinitionList != null) {
             for (TItemDefinition itemDefinition : itemDefinitionList) {
-                transformItemDefinition(itemDefinition, dmnTransformer, generatedClasses, outputPath);
+                transformItemDefinition(itemDefinition, dmnTransformer, generatedClasses, tasks, outputPath);
             }
         }
     }
 
-    private void transformItemDefinition(TItemDefinition itemDefinition, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath) {
+    private void transformItemDefinition(TItemDefinition itemDefinition, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, List<Consumer<BasicDMN2JavaTransformer>> tasks, Path outputPath) {
         if (itemDefinition == null) {
             return;
         }
@@ -115,59 +210,121 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
 
             // Generate interface and class
             String javaInterfaceName = dmnTransformer.itemDefinitionJavaInterfaceName(itemDefinition);
-            transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionInterfaceTemplate(), generatedClasses, outputPath, typePackageName, javaInterfaceName);
-            transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionClassTemplate(), generatedClasses, outputPath, typePackageName, dmnTransformer.itemDefinitionJavaClassName(javaInterfaceName));
+            transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionInterfaceTemplate(), generatedClasses, tasks, outputPath, typePackageName, javaInterfaceName);
+            transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionClassTemplate(), generatedClasses, tasks, outputPath, typePackageName, dmnTransformer.itemDefinitionJavaClassName(javaInterfaceName));
+            if (generateJsonCodecs) {
+                transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionJsonCodecTemplate(), generatedClasses, tasks, outputPath, typePackageName, dmnTransformer.jsonCodecClassName(javaInterfaceName));
+            }
 
             // Process children
-            transformItemDefinitionList(itemDefinition.getItemComponent(), dmnTransformer, generatedClasses, outputPath);
+            transformItemDefinitionList(itemDefinition.getItemComponent(), dmnTransformer, generatedClasses, tasks, outputPath);
         }
     }
 
-    private void transformItemDefinition(TItemDefinition itemDefinition, BasicDMN2JavaTransformer dmnTransformer, String baseTemplatePath, String itemDefinitionTemplate, List<String> generatedClasses, Path outputPath, String typePackageName, String typeName) {
+    private void transformItemDefinition(TItemDefinition itemDefinition, BasicDMN2JavaTransformer dmnTransformer, String baseTemplatePath, String itemDefinitionTemplate, List<String> generatedClasses, List<Consumer<BasicDMN2JavaTransformer>> tasks, Path outputPath, String typePackageName, String typeName) {
         String qualifiedName = dmnTransformer.qualifiedName(typePackageName, typeName);
         if (generatedClasses.contains(qualifiedName)) {
             logger.warn(String.format("Class '%s' has already been generated", typeName));
         } else {
-            processTemplate(itemDefinition, baseTemplatePath, itemDefinitionTemplate, dmnTransformer, outputPath, typePackageName, typeName);
+            tasks.add(t -> processTemplate(itemDefinition, baseTemplatePath, itemDefinitionTemplate, t, outputPath, typePackageName, typeName));
             generatedClasses.add(qualifiedName);
         }
     }
 
-    private void transformBKMList(List<TBusinessKnowledgeModel> bkmList, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath) {
+    private void transformBKMList(List<TBusinessKnowledgeModel> bkmList, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, List<Consumer<BasicDMN2JavaTransformer>> tasks, Path outputPath) {
         for (TBusinessKnowledgeModel bkm : bkmList) {
-            transformBKM(bkm, dmnTransformer, generatedClasses, outputPath, decisionBaseClass);
+            transformBKM(bkm, dmnTransformer, generatedClasses, tasks, outputPath, decisionBaseClass);
         }
     }
 
-    private void transformBKM(TBusinessKnowledgeModel bkm, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass) {
+    private void transformBKM(TBusinessKnowledgeModel bkm, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, List<Consumer<BasicDMN2JavaTransformer>> tasks, Path outputPath, String decisionBaseClass) {
         String bkmPackageName = dmnTransformer.javaRootPackageName();
         String bkmClassName = dmnTransformer.drgElementClassName(bkm);
         checkDuplicate(generatedClasses, bkmPackageName, bkmClassName, dmnTransformer);
-        processTemplate(bkm, templateProvider.baseTemplatePath(), templateProvider.bkmTemplateName(), dmnTransformer, outputPath, bkmPackageName, bkmClassName, decisionBaseClass);
+        tasks.add(t -> processTemplate(bkm, templateProvider.baseTemplatePath(), templateProvider.bkmTemplateName(), t, outputPath, bkmPackageName, bkmClassName, decisionBaseClass));
 
         if (dmnTransformer.getDMNModelRepository().isDecisionTableExpression(bkm)) {
             String decisionRuleOutputClassName = dmnTransformer.ruleOutputClassName(bkm);
             checkDuplicate(generatedClasses, bkmPackageName, decisionRuleOutputClassName, dmnTransformer);
-            processTemplate(bkm, templateProvider.baseTemplatePath(), templateProvider.decisionTableRuleOutputTemplate(), dmnTransformer, outputPath, bkmPackageName, decisionRuleOutputClassName, decisionBaseClass);
+            tasks.add(t -> processTemplate(bkm, templateProvider.baseTemplatePath(), templateProvider.decisionTableRuleOutputTemplate(), t, outputPath, bkmPackageName, decisionRuleOutputClassName, decisionBaseClass));
         }
     }
 
-    private void transformDecisionList(List<TDecision> decisions, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass) {
+    private void transformDecisionList(List<TDecision> decisions, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, List<Consumer<BasicDMN2JavaTransformer>> tasks, Path outputPath, String decisionBaseClass) {
         for (TDecision decision : decisions) {
-            transformDecision(decision, dmnTransformer, generatedClasses, outputPath, decisionBaseClass);
+            transformDecision(decision, dmnTransformer, generatedClasses, tasks, outputPath, decisionBaseClass);
         }
     }
 
-    private void transformDecision(TDecision decision, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass) {
+    private void transformDecision(TDecision decision, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, List<Consumer<BasicDMN2JavaTransformer>> tasks, Path outputPath, String decisionBaseClass) {
         String decisionPackageName = dmnTransformer.javaRootPackageName();
         String decisionClassName = dmnTransformer.drgElementClassName(decision);
         checkDuplicate(generatedClasses, decisionPackageName, decisionClassName, dmnTransformer);
-        processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionTemplateName(), dmnTransformer, outputPath, decisionPackageName, decisionClassName, decisionBaseClass);
+        tasks.add(t -> processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionTemplateName(), t, outputPath, decisionPackageName, decisionClassName, decisionBaseClass));
 
         if (dmnTransformer.getDMNModelRepository().isDecisionTableExpression(decision)) {
             String decisionRuleOutputClassName = dmnTransformer.ruleOutputClassName(decision);
             checkDuplicate(generatedClasses, decisionPackageName, decisionRuleOutputClassName, dmnTransformer);
-            processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionTableRuleOutputTemplate(), dmnTransformer, outputPath, decisionPackageName, decisionRuleOutputClassName, decisionBaseClass);
+            tasks.add(t -> processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionTableRuleOutputTemplate(), t, outputPath, decisionPackageName, decisionRuleOutputClassName, decisionBaseClass));
+        }
+
+        if (generateJsonCodecs) {
+            String decisionJsonCodecClassName = dmnTransformer.jsonCodecClassName(decision);
+            checkDuplicate(generatedClasses, decisionPackageName, decisionJsonCodecClassName, dmnTransformer);
+            tasks.add(t -> processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionJsonCodecTemplate(), t, outputPath, decisionPackageName, decisionJsonCodecClassName, decisionBaseClass));
+        }
+    }
+
+    private void transformRegistry(List<TItemDefinition> itemDefinitions, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, List<Consumer<BasicDMN2JavaTransformer>> tasks, Path outputPath) {
+        String registryPackageName = dmnTransformer.javaRootPackageName();
+        String registryClassName = dmnTransformer.registryClassName();
+        checkDuplicate(generatedClasses, registryPackageName, registryClassName, dmnTransformer);
+        List<String> itemDefinitionInterfaces = new ArrayList<>();
+        collectItemDefinitionInterfaces(itemDefinitions, dmnTransformer, itemDefinitionInterfaces);
+        tasks.add(t -> processTemplate(itemDefinitionInterfaces, templateProvider.baseTemplatePath(), templateProvider.registryTemplateName(), t, outputPath, registryPackageName, registryClassName));
+        registryClassNames.add(dmnTransformer.qualifiedName(registryPackageName, registryClassName));
+    }
+
+    private void collectItemDefinitionInterfaces(List<TItemDefinition> itemDefinitions, BasicDMN2JavaTransformer dmnTransformer, List<String> interfaceNames) {
+        if (itemDefinitions == null) {
+            return;
+        }
+        for (TItemDefinition itemDefinition : itemDefinitions) {
+            if (!dmnTransformer.getDMNModelRepository().isEmpty(itemDefinition.getItemComponent())) {
+                String qualifiedName = dmnTransformer.qualifiedName(dmnTransformer.javaTypePackageName(), dmnTransformer.itemDefinitionJavaInterfaceName(itemDefinition));
+                if (!interfaceNames.contains(qualifiedName)) {
+                    interfaceNames.add(qualifiedName);
+                }
+                collectItemDefinitionInterfaces(itemDefinition.getItemComponent(), dmnTransformer, interfaceNames);
+            }
+        }
+    }
+
+    // Lists the registries in META-INF/services, including the ones of the models skipped by incremental builds
+    @Override
+    protected void afterTransform(Path outputPath) {
+        if (!generateRegistry) {
+            return;
+        }
+        File servicesFile = new File(outputPath.toFile(), "META-INF/services/" + ModelElementRegistry.class.getName());
+        Set<String> classNames = new TreeSet<>(registryClassNames);
+        registryClassNames.clear();
+        try {
+            if (servicesFile.isFile()) {
+                for (String line : FileUtils.readLines(servicesFile, StandardCharsets.UTF_8)) {
+                    String className = line.trim();
+                    if (!className.isEmpty() && new File(outputPath.toFile(), className.replace('.', '/') + ".java").isFile()) {
+                        classNames.add(className);
+                    }
+                }
+            }
+            if (classNames.isEmpty()) {
+                FileUtils.deleteQuietly(servicesFile);
+            } else {
+                FileUtils.writeLines(servicesFile, StandardCharsets.UTF_8.name(), classNames, "\n");
+            }
+        } catch (IOException e) {
+            throw new DMNRuntimeException(String.format("Cannot write '%s'", servicesFile.getPath()), e);
         }
     }
 
@@ -231,6 +388,25 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
         }
     }
 
+    private void processTemplate(List<String> itemDefinitionInterfaces, String baseTemplatePath, String templateName, BasicDMN2JavaTransformer dmnTransformer, Path outputPath, String javaPackageName, String javaClassName) {
+        try {
+            // Make parameters
+            Map<String, Object> params = new HashMap<>();
+            params.put("itemDefinitionInterfaces", itemDefinitionInterfaces);
+            addCommonParams(params, javaPackageName, javaClassName, dmnTransformer);
+
+            // Make output file
+            String relativeFilePath = javaPackageName.replace('.', '/');
+            String fileExtension = ".java";
+            File outputFile = makeOutputFile(outputPath, relativeFilePath, javaClassName, fileExtension);
+
+            // Process template
+            processTemplate(baseTemplatePath, templateName, params, outputFile, true);
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot process template '%s' for registry '%s'", templateName, javaClassName), e);
+        }
+    }
+
     //
     // FreeMarker model methods
     //
@@ -267,5 +443,8 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
         params.put("javaClassName", javaClassName);
         params.put("transformer", dmnTransformer);
         params.put("modelRepository", dmnTransformer.getDMNModelRepository());
+        if (feelLibClassName != null) {
+            params.put("feelLibClassName", feelLibClassName);
+        }
     }
 }
@@ -0,0 +1,247 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * State of an incremental transformation, kept in a file between builds: the fingerprint of the configuration and,
+ * for each input file, the fingerprint of its content and the files generated from it.
+ *
+ * An input is up to date when the configuration and its fingerprint did not change and all its outputs still exist.
+ * The outputs of the previous build that are not generated or kept by the current build are orphans.
+ */
+public class IncrementalBuildState {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String CONFIGURATION = "configuration";
+    private static final String INPUTS = "inputs";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String OUTPUTS = "outputs";
+
+    public static IncrementalBuildState load(File stateFile, String configuration, BuildLogger logger) {
+        String configurationFingerprint = fingerprint(configuration);
+        Map<String, Entry> previous = new TreeMap<>();
+        if (stateFile.isFile()) {
+            try {
+                Map<String, Object> state = MAPPER.readValue(stateFile, new TypeReference<Map<String, Object>>() {});
+                if (configurationFingerprint.equals(state.get(CONFIGURATION))) {
+                    readInputs(state, previous);
+                } else {
+                    logger.info("Configuration changed, all files are transformed");
+                    // Outputs are still candidates for orphan deletion
+                    readInputs(state, previous);
+                    for (Entry entry : previous.values()) {
+                        entry.fingerprint = null;
+                    }
+                }
+            } catch (Exception e) {
+                logger.warn(String.format("Cannot read incremental build state '%s': %s", stateFile.getPath(), e.getMessage()));
+                previous.clear();
+            }
+            // A build that fails before saving the state starts from scratch next time
+            if (!stateFile.delete()) {
+                logger.warn(String.format("Cannot delete incremental build state '%s'", stateFile.getPath()));
+            }
+        }
+        return new IncrementalBuildState(stateFile, configurationFingerprint, previous, logger);
+    }
+
+    public static String fingerprint(String text) {
+        MessageDigest digest = sha256();
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        return toHex(digest.digest());
+    }
+
+    // Fingerprint of the content of a file or of all the files in a folder
+    public static String fingerprint(File file) {
+        MessageDigest digest = sha256();
+        try {
+            update(digest, file, file);
+        } catch (IOException e) {
+            throw new DMNRuntimeException(String.format("Cannot compute fingerprint of '%s'", file.getPath()), e);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static class Entry {
+        private String fingerprint;
+        private final Set<String> outputs = new TreeSet<>();
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private final File stateFile;
+    private final String configurationFingerprint;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new TreeMap<>();
+    private final BuildLogger logger;
+
+    private IncrementalBuildState(File stateFile, String configurationFingerprint, Map<String, Entry> previous, BuildLogger logger) {
+        this.stateFile = stateFile;
+        this.configurationFingerprint = configurationFingerprint;
+        this.previous = previous;
+        this.logger = logger;
+    }
+
+    public File getStateFile() {
+        return stateFile;
+    }
+
+    public synchronized boolean isUpToDate(File input, String fingerprint) {
+        Entry entry = previous.get(key(input));
+        if (entry == null || !fingerprint.equals(entry.fingerprint)) {
+            return false;
+        }
+        for (String output : entry.outputs) {
+            if (!new File(output).isFile()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Carries the outputs of an up to date input over to the current build
+    public synchronized void keep(File input) {
+        Entry entry = previous.get(key(input));
+        if (entry != null) {
+            current.put(key(input), entry);
+        }
+    }
+
+    public synchronized void start(File input, String fingerprint) {
+        current.put(key(input), new Entry(fingerprint));
+    }
+
+    public synchronized void addOutput(File input, File output) {
+        Entry entry = current.computeIfAbsent(key(input), k -> new Entry(null));
+        entry.outputs.add(key(output));
+    }
+
+    public synchronized List<File> deleteOrphans() {
+        Set<String> generated = new HashSet<>();
+        for (Entry entry : current.values()) {
+            generated.addAll(entry.outputs);
+        }
+        List<File> deleted = new ArrayList<>();
+        for (Entry entry : previous.values()) {
+            for (String output : entry.outputs) {
+                File file = new File(output);
+                if (!generated.contains(output) && file.isFile()) {
+                    if (file.delete()) {
+                        deleted.add(file);
+                    } else {
+                        logger.warn(String.format("Cannot delete orphan file '%s'", output));
+                    }
+                }
+            }
+        }
+        return deleted;
+    }
+
+    public synchronized void save() {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> e : current.entrySet()) {
+            Map<String, Object> input = new LinkedHashMap<>();
+            input.put(FINGERPRINT, e.getValue().fingerprint);
+            input.put(OUTPUTS, new ArrayList<>(e.getValue().outputs));
+            inputs.put(e.getKey(), input);
+        }
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put(CONFIGURATION, configurationFingerprint);
+        state.put(INPUTS, inputs);
+        try {
+            File parent = stateFile.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("Cannot create folder " + parent);
+            }
+            MAPPER.writeValue(stateFile, state);
+        } catch (IOException e) {
+            throw new DMNRuntimeException(String.format("Cannot write incremental build state '%s'", stateFile.getPath()), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void readInputs(Map<String, Object> state, Map<String, Entry> entries) {
+        Map<String, Object> inputs = (Map<String, Object>) state.get(INPUTS);
+        if (inputs == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> e : inputs.entrySet()) {
+            Map<String, Object> input = (Map<String, Object>) e.getValue();
+            Entry entry = new Entry((String) input.get(FINGERPRINT));
+            List<String> outputs = (List<String>) input.get(OUTPUTS);
+            if (outputs != null) {
+                entry.outputs.addAll(outputs);
+            }
+            entries.put(e.getKey(), entry);
+        }
+    }
+
+    private static String key(File file) {
+        return file.getAbsoluteFile().toPath().normalize().toString();
+    }
+
+    private static void update(MessageDigest digest, File file, File root) throws IOException {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children != null) {
+                Arrays.sort(children);
+                for (File child : children) {
+                    update(digest, child, root);
+                }
+            }
+        } else if (file.isFile()) {
+            // Relative path first, so that renames change the fingerprint
+            String relativePath = root.toPath().relativize(file.toPath()).toString();
+            digest.update(relativePath.getBytes(StandardCharsets.UTF_8));
+            byte[] buffer = new byte[8192];
+            try (InputStream is = Files.newInputStream(file.toPath())) {
+                int n;
+                while ((n = is.read(buffer)) != -1) {
+                    digest.update(buffer, 0, n);
+                }
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new DMNRuntimeException("Cannot find SHA-256", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result = new StringBuilder();
+        for (byte b : bytes) {
+            result.append(String.format("%02x", b));
+        }
+        return result.toString();
+    }
+}
@@ -75,7 +75,8 @@ public abstract class NameTransformer extends SimpleDMNTransformer<TestCases> {
         return new Pair<>(repository, testCases);
     }
 
-    protected void transform(TestCases.TestCase testCase) {
+    // Also used for the test cases streamed one at a time, after the transformation of the repository
+    public void transform(TestCases.TestCase testCase) {
         // Rename
         for (TestCases.TestCase.InputNode n : testCase.getInputNode()) {
             String newName = transformName(n.getName());
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.gs.dmn.log.BuildLogger;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulated duration and number of executions of the phases of a transformer (e.g. read, validation, template rendering).
+ * The transformer logs the timings at the end of each transform() call and resets them at the start of the next one, so
+ * they describe the work since the previous report: the first report includes the phases run by the constructors (e.g.
+ * the model read by the TCK transformer), the later ones only the phases of their own call.
+ */
+public class PhaseTimings {
+    public static final String READ = "read";
+    public static final String DIALECT_TRANSFORMATION = "dialect transformation";
+    public static final String DMN_TRANSFORMATION = "dmn transformation";
+    public static final String LAZY_DETECTION = "lazy detection";
+    public static final String VALIDATION = "validation";
+    public static final String TEMPLATE_RENDERING = "template rendering";
+    public static final String FORMATTING = "formatting";
+    public static final String FILE_WRITE = "file write";
+
+    private static class Phase {
+        private long nanos;
+        private long count;
+    }
+
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+
+    // Adds the time elapsed since startTime (System.nanoTime())
+    public void record(String phase, long startTime) {
+        add(phase, System.nanoTime() - startTime);
+    }
+
+    public synchronized void add(String phase, long nanos) {
+        Phase value = phases.computeIfAbsent(phase, k -> new Phase());
+        value.nanos += nanos;
+        value.count++;
+    }
+
+    public synchronized long getNanos(String phase) {
+        Phase value = phases.get(phase);
+        return value == null ? 0 : value.nanos;
+    }
+
+    public synchronized long getCount(String phase) {
+        Phase value = phases.get(phase);
+        return value == null ? 0 : value.count;
+    }
+
+    // Phases in the order of their first execution
+    public synchronized Map<String, Long> getNanos() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Phase> entry : phases.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().nanos);
+        }
+        return result;
+    }
+
+    public synchronized void reset() {
+        phases.clear();
+    }
+
+    public synchronized void log(BuildLogger logger, long totalNanos) {
+        logger.info(String.format("Phase timings (total %d ms):", TimeUnit.NANOSECONDS.toMillis(totalNanos)));
+        for (Map.Entry<String, Phase> entry : phases.entrySet()) {
+            Phase value = entry.getValue();
+            logger.info(String.format("    %-22s %8d ms %8d calls", entry.getKey(), TimeUnit.NANOSECONDS.toMillis(value.nanos), value.count));
+        }
+    }
+}
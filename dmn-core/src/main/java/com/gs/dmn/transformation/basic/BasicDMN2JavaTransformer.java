@@ -19,6 +19,7 @@ import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.function.FormalParameter;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.function.FunctionDefinition;
+import com.gs.dmn.feel.lib.FEELLib;
 import com.gs.dmn.feel.lib.StringEscapeUtil;
 import com.gs.dmn.feel.synthesis.FEELTranslator;
 import com.gs.dmn.feel.synthesis.FEELTranslatorImpl;
@@ -30,12 +31,15 @@ import com.gs.dmn.runtime.annotation.ExpressionKind;
 import com.gs.dmn.runtime.annotation.HitPolicy;
 import com.gs.dmn.runtime.cache.Cache;
 import com.gs.dmn.runtime.cache.DefaultCache;
+import com.gs.dmn.runtime.discovery.ModelElementRegistry;
+import com.gs.dmn.runtime.discovery.RegistryEntry;
 import com.gs.dmn.runtime.external.DefaultExternalFunctionExecutor;
 import com.gs.dmn.runtime.external.ExternalFunctionExecutor;
 import com.gs.dmn.runtime.listener.Arguments;
 import com.gs.dmn.runtime.listener.EventListener;
 import com.gs.dmn.runtime.listener.LoggingEventListener;
 import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.runtime.serialization.JsonCodec;
 import com.gs.dmn.serialization.JsonSerializer;
 import com.gs.dmn.transformation.DMNToJavaTransformer;
 import com.gs.dmn.transformation.InputParamUtil;
@@ -76,12 +80,18 @@ public class BasicDMN2JavaTransformer {
     private final Set<String> cachedElements;
 
     public BasicDMN2JavaTransformer(DMNModelRepository dmnModelRepository, EnvironmentFactory environmentFactory, FEELTypeTranslator feelTypeTranslator, LazyEvaluationDetector lazyEvaluationDetector, Map<String, String> inputParameters) {
+        this(dmnModelRepository, environmentFactory, feelTypeTranslator, lazyEvaluationDetector, inputParameters, null);
+    }
+
+    // The FEELLib is used to fold the constant FEEL expressions when the 'constantFolding' parameter is set
+    public BasicDMN2JavaTransformer(DMNModelRepository dmnModelRepository, EnvironmentFactory environmentFactory, FEELTypeTranslator feelTypeTranslator, LazyEvaluationDetector lazyEvaluationDetector, Map<String, String> inputParameters, FEELLib<?, ?, ?, ?, ?> feelLib) {
         this.dmnModelRepository = dmnModelRepository;
         this.environmentFactory = environmentFactory;
         this.feelTypeTranslator = feelTypeTranslator;
         this.javaRootPackage = InputParamUtil.getOptionalParam(inputParameters, "javaRootPackage");
         this.caching = InputParamUtil.getOptionalBooleanParam(inputParameters, "caching");
-        this.feelTranslator = new FEELTranslatorImpl(this);
+        boolean constantFolding = InputParamUtil.getOptionalBooleanParam(inputParameters, "constantFolding");
+        this.feelTranslator = constantFolding && feelLib != null ? new FEELTranslatorImpl(this, feelLib) : new FEELTranslatorImpl(this);
 
         this.contextToJavaTransformer = new ContextToJavaTransformer(this);
         this.decisionTableToJavaTransformer = new DecisionTableToJavaTransformer(this);
@@ -110,6 +120,10 @@ public class BasicDMN2JavaTransformer {
         return feelTranslator;
     }
 
+    public LazyEvaluationOptimisation getLazyEvaluationOptimisation() {
+        return lazyEvaluationOptimisation;
+    }
+
     public boolean isList(TDRGElement element) {
         Type feelType = drgElementOutputFEELType(element);
         return feelType instanceof ListType;
@@ -154,11 +168,16 @@ public class BasicDMN2JavaTransformer {
         return lowerCaseFirst(name);
     }
 
+    // The item components in name order, the model is not modified
+    public List<TItemDefinition> sortedItemComponents(TItemDefinition itemDefinition) {
+        List<TItemDefinition> itemComponents = new ArrayList<>(itemDefinition.getItemComponent());
+        this.dmnModelRepository.sortNamedElements(itemComponents);
+        return itemComponents;
+    }
+
     public String itemDefinitionSignature(TItemDefinition itemDefinition) {
         List<Pair<String, String>> parameters = new ArrayList<>();
-        List<TItemDefinition> itemComponents = itemDefinition.getItemComponent();
-        this.dmnModelRepository.sortNamedElements(itemComponents);
-        for (TItemDefinition child : itemComponents) {
+        for (TItemDefinition child : sortedItemComponents(itemDefinition)) {
             parameters.add(new Pair(itemDefinitionVariableName(child), itemDefinitionTypeName(child)));
         }
         return parameters.stream().map(p -> String.format("%s %s", p.getRight(), p.getLeft())).collect(Collectors.joining(", "));
@@ -288,6 +307,18 @@ public class BasicDMN2JavaTransformer {
         }
     }
 
+    // Parameters of the apply method without the extra parameters, as pairs (name, Java type)
+    public List<Pair<String, String>> drgElementSignatureParameters(TDRGElement element) {
+        if (element instanceof TBusinessKnowledgeModel) {
+            return bkmParameters((TBusinessKnowledgeModel) element);
+        } else if (element instanceof TDecision) {
+            List<Pair<String, Type>> parameters = inputDataParametersClosure((TDecision) element);
+            return parameters.stream().map(p -> new Pair<>(p.getLeft(), toJavaType(p.getRight()))).collect(Collectors.toList());
+        } else {
+            throw new DMNRuntimeException(String.format("No supported yet '%s'", element.getClass().getSimpleName()));
+        }
+    }
+
     public String drgElementArgumentList(TDRGElement element) {
         if (element instanceof TBusinessKnowledgeModel) {
             List<Pair<String, String>> parameters = bkmParameters((TBusinessKnowledgeModel) element);
@@ -435,9 +466,19 @@ public class BasicDMN2JavaTransformer {
         }
     }
 
-    private List<Pair<String, String>> directInformationRequirementParameters(TDRGElement element) {
+    // Inputs of the evaluate method, in the order of the parameters
+    public List<TDRGElement> drgElementDirectInputs(TDRGElement element) {
         List<TDRGElement> inputs = directInformationRequirements(element);
         this.dmnModelRepository.sortNamedElements(inputs);
+        return inputs;
+    }
+
+    public List<Pair<String, String>> drgElementDirectParameters(TDRGElement element) {
+        return directInformationRequirementParameters(element);
+    }
+
+    private List<Pair<String, String>> directInformationRequirementParameters(TDRGElement element) {
+        List<TDRGElement> inputs = drgElementDirectInputs(element);
 
         List<Pair<String, String>> parameters = new ArrayList<>();
         for (TDRGElement input : inputs) {
@@ -974,12 +1015,167 @@ public class BasicDMN2JavaTransformer {
         return "DRG_ELEMENT_METADATA";
     }
 
+    //
+    // Registry related functions
+    //
+    public String registryClassName() {
+        String modelName = this.dmnModelRepository.getDefinitions().getName();
+        String name = StringUtils.isBlank(modelName) ? "" : javaFriendlyName(modelName);
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            name = "Model" + name;
+        }
+        return upperCaseFirst(name) + "Registry";
+    }
+
+    public String registryBaseClassName() {
+        return ModelElementRegistry.class.getName();
+    }
+
+    public String registryEntryClassName() {
+        return RegistryEntry.class.getName();
+    }
+
+    public String registryParameterNames(TDRGElement element) {
+        return drgElementSignatureParameters(element).stream().map(p -> String.format("\"%s\"", p.getLeft())).collect(Collectors.joining(", "));
+    }
+
+    public String registryParameterTypes(TDRGElement element) {
+        return drgElementSignatureParameters(element).stream().map(p -> String.format("\"%s\"", p.getRight())).collect(Collectors.joining(", "));
+    }
+
+    //
+    // JSON codec related functions
+    //
+    public String jsonCodecBaseClassName() {
+        return JsonCodec.class.getName();
+    }
+
+    public String jsonCodecClassName(String interfaceName) {
+        return interfaceName + "JsonCodec";
+    }
+
+    public String jsonCodecClassName(TDRGElement element) {
+        return jsonCodecClassName(drgElementClassName(element));
+    }
+
+    public String jsonFEELLibFieldName() {
+        return "FEEL_LIB";
+    }
+
+    // The properties in alphabetical order of their JSON names, as written by the data binding
+    public List<TItemDefinition> jsonProperties(TItemDefinition itemDefinition) {
+        List<TItemDefinition> properties = new ArrayList<>(itemDefinition.getItemComponent());
+        properties.sort(Comparator.comparing(this.dmnModelRepository::displayName));
+        return properties;
+    }
+
+    public List<TInputData> jsonInputDatas(TDecision decision) {
+        List<TInputData> inputDatas = this.dmnModelRepository.allInputDatas(decision);
+        this.dmnModelRepository.sortNamedElements(inputDatas);
+        return inputDatas;
+    }
+
+    public String jsonPropertyName(TNamedElement element) {
+        return escapeInString(this.dmnModelRepository.displayName(element));
+    }
+
+    public String jsonReadExpression(TItemDefinition itemDefinition, String parserVariable) {
+        return jsonReadExpression(toFEELType(itemDefinition), parserVariable, 0);
+    }
+
+    public String jsonReadExpression(TInputData inputData, String parserVariable) {
+        return jsonReadExpression(toFEELType(inputData), parserVariable, 0);
+    }
+
+    public String jsonWriteStatement(TItemDefinition itemDefinition, String generatorVariable, String value) {
+        return jsonWriteStatement(toFEELType(itemDefinition), generatorVariable, value, 0);
+    }
+
+    public String jsonWriteStatement(TInputData inputData, String generatorVariable, String value) {
+        return jsonWriteStatement(toFEELType(inputData), generatorVariable, value, 0);
+    }
+
+    public String jsonOutputWriteStatement(TDRGElement element, String generatorVariable, String value) {
+        return jsonWriteStatement(drgElementOutputFEELType(element), generatorVariable, value, 0);
+    }
+
+    // Argument of the decision read by the codec, cast to the type of the parameter
+    public String jsonArgument(TDecision decision, String argumentsVariable, int index) {
+        String javaType = drgElementSignatureParameters(decision).get(index).getRight();
+        return String.format("((%s) %s[%d])", javaType, argumentsVariable, index);
+    }
+
+    public String jsonApplyArgumentList(TDecision decision, String argumentsVariable) {
+        int size = drgElementSignatureParameters(decision).size();
+        List<String> arguments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            arguments.add(jsonArgument(decision, argumentsVariable, i));
+        }
+        return augmentArgumentList(String.join(", ", arguments));
+    }
+
+    private String jsonReadExpression(Type type, String parser, int depth) {
+        String javaType = toJavaType(type);
+        String conversionFunction = FEELTypes.FEEL_PRIMITIVE_TYPE_TO_JAVA_CONVERSION_FUNCTION.get(type);
+        if (NumberType.NUMBER.equals(type)) {
+            String method = "java.lang.Double".equals(javaType) ? "readDouble" : "readBigDecimal";
+            return String.format("%s(%s, %s::%s)", method, parser, jsonFEELLibFieldName(), conversionFunction);
+        } else if (BooleanType.BOOLEAN.equals(type)) {
+            return String.format("readBoolean(%s)", parser);
+        } else if (isJavaString(javaType)) {
+            return String.format("readString(%s)", parser);
+        } else if (conversionFunction != null) {
+            // The FEELLib may return a super type of the Java type (e.g. TemporalAmount for Duration)
+            return String.format("(%s) readString(%s, %s::%s)", javaType, parser, jsonFEELLibFieldName(), conversionFunction);
+        } else if (type instanceof ItemDefinitionType) {
+            return String.format("%s.INSTANCE.read(%s)", jsonCodecClassName(javaType), parser);
+        } else if (type instanceof ListType && !(((ListType) type).getElementType() instanceof AnyType)) {
+            String elementParser = String.format("p%d_", depth);
+            String elementExpression = jsonReadExpression(((ListType) type).getElementType(), elementParser, depth + 1);
+            return String.format("readList(%s, %s -> %s)", parser, elementParser, elementExpression);
+        } else {
+            return String.format("(%s) readValue(%s, %s.class)", javaType, parser, rawClassName(javaType));
+        }
+    }
+
+    private String jsonWriteStatement(Type type, String generator, String value, int depth) {
+        String javaType = toJavaType(type);
+        String conversionFunction = FEELTypes.FEEL_PRIMITIVE_TYPE_TO_JAVA_CONVERSION_FUNCTION.get(type);
+        if (NumberType.NUMBER.equals(type)) {
+            return String.format("writeNumber(%s, %s)", generator, value);
+        } else if (BooleanType.BOOLEAN.equals(type)) {
+            return String.format("writeBoolean(%s, %s)", generator, value);
+        } else if (isJavaString(javaType)) {
+            return String.format("writeString(%s, %s)", generator, value);
+        } else if (conversionFunction != null) {
+            return String.format("writeString(%s, %s, %s::string)", generator, value, jsonFEELLibFieldName());
+        } else if (type instanceof ItemDefinitionType) {
+            return String.format("%s.INSTANCE.write(%s, %s)", jsonCodecClassName(javaType), generator, value);
+        } else if (type instanceof ListType && !(((ListType) type).getElementType() instanceof AnyType)) {
+            String elementGenerator = String.format("g%d_", depth);
+            String element = String.format("e%d_", depth);
+            String elementStatement = jsonWriteStatement(((ListType) type).getElementType(), elementGenerator, element, depth + 1);
+            return String.format("writeList(%s, %s, (%s, %s) -> %s)", generator, value, elementGenerator, element, elementStatement);
+        } else {
+            return String.format("writeValue(%s, %s)", generator, value);
+        }
+    }
+
+    private boolean isJavaString(String javaType) {
+        return "String".equals(javaType) || "java.lang.String".equals(javaType);
+    }
+
+    private String rawClassName(String javaType) {
+        int index = javaType.indexOf('<');
+        return index == -1 ? javaType : javaType.substring(0, index);
+    }
+
     public String drgRuleMetadataClassName() {
         return com.gs.dmn.runtime.listener.Rule.class.getName();
     }
 
-    public String drgRuleMetadataFieldName() {
-        return "drgRuleMetadata";
+    public String drgRuleMetadataFieldName(int ruleIndex) {
+        return String.format("DRG_RULE_METADATA_%d", ruleIndex);
     }
 
     public String assertClassName() {
@@ -1001,6 +1197,10 @@ public class BasicDMN2JavaTransformer {
         return decisionTableToJavaTransformer.condition(element, rule);
     }
 
+    public List<String> conditionParts(TDRGElement element, TDecisionRule rule) {
+        return decisionTableToJavaTransformer.conditionParts(element, rule);
+    }
+
     public String outputEntryToJava(TDRGElement element, TLiteralExpression outputEntryExpression, int outputIndex) {
         return decisionTableToJavaTransformer.outputEntryToJava(element, outputEntryExpression, outputIndex);
     }
@@ -1526,7 +1726,11 @@ public class BasicDMN2JavaTransformer {
     }
 
     public Environment makeInputEntryEnvironment(TDRGElement element, Expression inputExpression) {
-        Environment environment = environmentFactory.makeEnvironment(makeEnvironment(element), inputExpression);
+        return makeInputEntryEnvironment(makeEnvironment(element), inputExpression);
+    }
+
+    public Environment makeInputEntryEnvironment(Environment elementEnvironment, Expression inputExpression) {
+        Environment environment = environmentFactory.makeEnvironment(elementEnvironment, inputExpression);
         environment.addDeclaration(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, environmentFactory.makeVariableDeclaration(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, inputExpression.getType()));
         return environment;
     }
@@ -333,6 +333,19 @@ public class DecisionTableToJavaTransformer {
     // Rule condition
     //
     public String condition(TDRGElement element, TDecisionRule rule) {
+        List<String> conditionParts = conditionParts(element, rule);
+        if (conditionParts.size() == 1) {
+            return String.format("Boolean.TRUE == %s", conditionParts.get(0));
+        } else {
+            String indent3tabs = "            ";
+            String indent2tabs = "        ";
+            String operands = conditionParts.stream().collect(Collectors.joining(",\n" + indent3tabs));
+            return String.format("Boolean.TRUE == booleanAnd(\n%s%s\n%s)", indent3tabs, operands, indent2tabs);
+        }
+    }
+
+    // One condition for each input entry of the rule
+    public List<String> conditionParts(TDRGElement element, TDecisionRule rule) {
         TExpression decisionTable = dmnModelRepository.expression(element);
         if (decisionTable instanceof TDecisionTable) {
             List<String> conditionParts = new ArrayList<>();
@@ -341,14 +354,7 @@ public class DecisionTableToJavaTransformer {
                 String condition = condition(element, decisionTable, inputEntry, i);
                 conditionParts.add(condition);
             }
-            if (conditionParts.size() == 1) {
-                return String.format("Boolean.TRUE == %s", conditionParts.get(0));
-            } else {
-                String indent3tabs = "            ";
-                String indent2tabs = "        ";
-                String operands = conditionParts.stream().collect(Collectors.joining(",\n" + indent3tabs));
-                return String.format("Boolean.TRUE == booleanAnd(\n%s%s\n%s)", indent3tabs, operands, indent2tabs);
-            }
+            return conditionParts;
         }
         throw new DMNRuntimeException("Cannot build condition for " + decisionTable.getClass().getSimpleName());
     }
@@ -19,6 +19,9 @@ public interface TemplateProvider {
     String bkmTemplateName();
     String decisionTableRuleOutputTemplate();
     String decisionTemplateName();
+    String registryTemplateName();
+    String itemDefinitionJsonCodecTemplate();
+    String decisionJsonCodecTemplate();
 
     String testBaseTemplatePath();
     String testTemplateName();
@@ -43,6 +43,21 @@ public class TreeTemplateProvider implements TemplateProvider {
         return "tree/decisionTableRuleOutput.ftl";
     }
 
+    @Override
+    public String registryTemplateName() {
+        return "common/registry.ftl";
+    }
+
+    @Override
+    public String itemDefinitionJsonCodecTemplate() {
+        return "common/itemDefinitionJsonCodec.ftl";
+    }
+
+    @Override
+    public String decisionJsonCodecTemplate() {
+        return "common/decisionJsonCodec.ftl";
+    }
+
     @Override
     public String testBaseTemplatePath() {
         return "/templates/tck";
@@ -0,0 +1,58 @@
+<#if javaPackageName?has_content>
+package ${javaPackageName};
+</#if>
+
+import java.util.*;
+
+<#assign inputDatas = transformer.jsonInputDatas(drgElement)/>
+<#assign decisionClassName = transformer.drgElementClassName(drgElement)/>
+@javax.annotation.Generated(value = {"decisionJsonCodec.ftl", "${modelRepository.name(drgElement)}"})
+public class ${javaClassName} extends ${transformer.jsonCodecBaseClassName()}<Object[]> {
+    public static final ${javaClassName} INSTANCE = new ${javaClassName}();
+
+    private static final ${feelLibClassName} ${transformer.jsonFEELLibFieldName()} = new ${feelLibClassName}();
+
+    // Reads the input data of the decision in the order of the parameters of apply
+    @Override
+    public Object[] read(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {
+        Object[] arguments_ = new Object[${inputDatas?size}];
+        if (!startObject(parser)) {
+            return arguments_;
+        }
+        String field_;
+        while ((field_ = nextField(parser)) != null) {
+            switch (field_) {
+            <#list inputDatas as inputData>
+                case "${transformer.jsonPropertyName(inputData)}":
+                    arguments_[${inputData_index}] = ${transformer.jsonReadExpression(inputData, "parser")};
+                    break;
+            </#list>
+                default:
+                    skipValue(parser);
+            }
+        }
+        return arguments_;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(com.fasterxml.jackson.core.JsonGenerator generator, Object[] arguments_) throws java.io.IOException {
+        generator.writeStartObject();
+    <#list inputDatas as inputData>
+        generator.writeFieldName("${transformer.jsonPropertyName(inputData)}");
+        ${transformer.jsonWriteStatement(inputData, "generator", transformer.jsonArgument(drgElement, "arguments_", inputData_index))};
+    </#list>
+        generator.writeEndObject();
+    }
+
+    // Reads the input data and applies the decision
+    @SuppressWarnings("unchecked")
+    public ${transformer.drgElementOutputType(drgElement)} apply(${decisionClassName} decision, com.fasterxml.jackson.core.JsonParser parser, ${transformer.annotationSetClassName()} ${transformer.annotationSetVariableName()}) throws java.io.IOException {
+        Object[] arguments_ = read(parser);
+        return decision.apply(${transformer.jsonApplyArgumentList(drgElement, "arguments_")});
+    }
+
+    public void writeOutput(com.fasterxml.jackson.core.JsonGenerator generator, ${transformer.drgElementOutputType(drgElement)} output) throws java.io.IOException {
+        ${transformer.jsonOutputWriteStatement(drgElement, "generator", "output")};
+    }
+}
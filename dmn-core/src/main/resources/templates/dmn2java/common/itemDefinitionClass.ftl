@@ -29,13 +29,13 @@ public class ${javaClassName} implements ${transformer.itemDefinitionJavaInterfa
 </#macro>
 
 <#macro addAssigmentForFields itemDefinition>
-    <#list itemDefinition.itemComponent as child>
+    <#list transformer.sortedItemComponents(itemDefinition) as child>
         this.${transformer.setter(child)}(${transformer.itemDefinitionVariableName(child)});
     </#list>
 </#macro>
 
 <#macro addAccessors itemDefinition>
-    <#list itemDefinition.itemComponent as child>
+    <#list transformer.sortedItemComponents(itemDefinition) as child>
         <#assign memberName = transformer.itemDefinitionVariableName(child)/>
         <#assign memberType = transformer.itemDefinitionTypeName(child)/>
     @com.fasterxml.jackson.annotation.JsonGetter("${transformer.escapeInString(modelRepository.displayName(child))}")
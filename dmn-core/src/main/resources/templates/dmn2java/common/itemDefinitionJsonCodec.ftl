@@ -0,0 +1,48 @@
+<#if javaPackageName?has_content>
+package ${javaPackageName};
+</#if>
+
+import java.util.*;
+
+<#assign interfaceName = transformer.itemDefinitionJavaInterfaceName(itemDefinition)/>
+@javax.annotation.Generated(value = {"itemDefinitionJsonCodec.ftl", "${modelRepository.name(itemDefinition)}"})
+public class ${javaClassName} extends ${transformer.jsonCodecBaseClassName()}<${interfaceName}> {
+    public static final ${javaClassName} INSTANCE = new ${javaClassName}();
+
+    private static final ${feelLibClassName} ${transformer.jsonFEELLibFieldName()} = new ${feelLibClassName}();
+
+    @Override
+    public ${interfaceName} read(com.fasterxml.jackson.core.JsonParser parser) throws java.io.IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        ${serializationClass} result_ = new ${serializationClass}();
+        String field_;
+        while ((field_ = nextField(parser)) != null) {
+            switch (field_) {
+            <#list transformer.jsonProperties(itemDefinition) as child>
+                case "${transformer.jsonPropertyName(child)}":
+                    result_.${transformer.setter(child)}(${transformer.jsonReadExpression(child, "parser")});
+                    break;
+            </#list>
+                default:
+                    skipValue(parser);
+            }
+        }
+        return result_;
+    }
+
+    @Override
+    public void write(com.fasterxml.jackson.core.JsonGenerator generator, ${interfaceName} value) throws java.io.IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+    <#list transformer.jsonProperties(itemDefinition) as child>
+        generator.writeFieldName("${transformer.jsonPropertyName(child)}");
+        ${transformer.jsonWriteStatement(child, "generator", "value." + transformer.getter(child))};
+    </#list>
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,22 @@
+<#if javaPackageName?has_content>
+package ${javaPackageName};
+</#if>
+
+import java.util.*;
+
+@javax.annotation.Generated(value = {"registry.ftl", "${modelRepository.getDefinitions().getName()!""}"})
+public class ${javaClassName} extends ${transformer.registryBaseClassName()} {
+    public ${javaClassName}() {
+    <#list itemDefinitionInterfaces as interfaceName>
+        register(new ${transformer.registryEntryClassName()}("${interfaceName}", null, Arrays.asList(), Arrays.asList(), () -> new ${transformer.itemDefinitionJavaClassName(interfaceName)}()));
+    </#list>
+    <#list modelRepository.businessKnowledgeModels() as bkm>
+        <#assign className = transformer.qualifiedName(javaPackageName, transformer.drgElementClassName(bkm))>
+        register(new ${transformer.registryEntryClassName()}("${className}", () -> ${className}.${transformer.drgElementMetadataFieldName()}, Arrays.asList(${transformer.registryParameterNames(bkm)}), Arrays.asList(${transformer.registryParameterTypes(bkm)}), () -> ${className}.INSTANCE));
+    </#list>
+    <#list modelRepository.decisions() as decision>
+        <#assign className = transformer.qualifiedName(javaPackageName, transformer.drgElementClassName(decision))>
+        register(new ${transformer.registryEntryClassName()}("${className}", () -> ${className}.${transformer.drgElementMetadataFieldName()}, Arrays.asList(${transformer.registryParameterNames(decision)}), Arrays.asList(${transformer.registryParameterTypes(decision)}), () -> new ${className}()));
+    </#list>
+    }
+}
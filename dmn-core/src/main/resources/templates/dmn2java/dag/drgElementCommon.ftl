@@ -2,8 +2,11 @@
     Apply method body
 -->
 <#macro applyMethodBody drgElement>
+        // ${transformer.startElementCommentText(drgElement)}
+        long ${transformer.drgElementVariableName(drgElement)}StartTime_ = System.nanoTime();
+        ${transformer.argumentsClassName()} ${transformer.drgElementVariableName(drgElement)}Arguments_ = null;
         try {
-        <@startDRGElement drgElement/>
+        <@traceStartDRGElement drgElement/>
 
         <#if modelRepository.isDecisionTableExpression(drgElement)>
             <@expressionApplyBody drgElement />
@@ -17,11 +20,11 @@
             <@expressionApplyBody drgElement/>
         <#else >
             logError("${modelRepository.expression(drgElement).class.simpleName} is not implemented yet");
-            return null;
+            <@endDRGElementAndReturn drgElement "null"/>
         </#if>
         } catch (Exception e) {
             logError("Exception caught in '${modelRepository.name(drgElement)}' evaluation", e);
-            return null;
+            <@endDRGElementAndReturn drgElement "null"/>
         }
 </#macro>
 
@@ -138,11 +141,10 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
     <#assign expression = modelRepository.expression(drgElement)>
     <#list expression.rule>
         <#items as rule>
-    @${transformer.ruleAnnotationClassName()}(index = ${rule_index}, annotation = "${transformer.annotationEscapedText(rule)}")
-    public ${transformer.abstractRuleOutputClassName()} rule${rule_index}(${transformer.drgElementSignatureExtra(transformer.ruleSignature(drgElement))}) {
-        // Rule metadata
-        ${transformer.drgRuleMetadataClassName()} ${transformer.drgRuleMetadataFieldName()} = new ${transformer.drgRuleMetadataClassName()}(${rule_index}, "${transformer.annotationEscapedText(rule)}");
+    private static final ${transformer.drgRuleMetadataClassName()} ${transformer.drgRuleMetadataFieldName(rule_index)} = new ${transformer.drgRuleMetadataClassName()}(${rule_index}, "${transformer.annotationEscapedText(rule)}");
 
+    @${transformer.ruleAnnotationClassName()}(index = ${rule_index}, annotation = "${transformer.annotationEscapedText(rule)}")
+    public ${transformer.abstractRuleOutputClassName()} rule${rule_index}(${transformer.drgElementSignatureExtra(transformer.ruleSignature(drgElement))}, boolean traced_) {
         <@startRule drgElement rule_index />
 
         // Apply rule
@@ -173,24 +175,25 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
 
 <#macro collectRuleResults drgElement expression>
         // Apply rules and collect results
+        boolean traced_ = ${transformer.eventListenerVariableName()}.isTraced(<@drgElementAnnotation drgElement/>);
         ${transformer.ruleOutputListClassName()} ruleOutputList_ = new ${transformer.ruleOutputListClassName()}();
     <#assign expression = modelRepository.expression(drgElement)>
     <#list expression.rule>
         <#items as rule>
         <#if modelRepository.isFirstSingleHit(expression.hitPolicy) && modelRepository.atLeastTwoRules(expression)>
         <#if rule?is_first>
-        ${transformer.abstractRuleOutputClassName()} tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))});
+        ${transformer.abstractRuleOutputClassName()} tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))}, traced_);
         ruleOutputList_.add(tempRuleOutput_);
         boolean matched_ = tempRuleOutput_.isMatched();
         <#else >
         if (!matched_) {
-            tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))});
+            tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))}, traced_);
             ruleOutputList_.add(tempRuleOutput_);
             matched_ = tempRuleOutput_.isMatched();
         }
         </#if>
         <#else >
-        ruleOutputList_.add(rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))}));
+        ruleOutputList_.add(rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))}, traced_));
         </#if>
         </#items>
     </#list>
@@ -265,19 +268,26 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
 -->
 <#macro startDRGElement drgElement>
             // ${transformer.startElementCommentText(drgElement)}
-            long ${transformer.drgElementVariableName(drgElement)}StartTime_ = System.currentTimeMillis();
-            ${transformer.argumentsClassName()} ${transformer.drgElementVariableName(drgElement)}Arguments_ = new ${transformer.argumentsClassName()}();
-            <#list transformer.drgElementArgumentNameList(drgElement)>
-            <#items as arg>
-            ${transformer.drgElementVariableName(drgElement)}Arguments_.put("${arg}", ${arg});
-            </#items>
-            </#list>
+            long ${transformer.drgElementVariableName(drgElement)}StartTime_ = System.nanoTime();
+            ${transformer.argumentsClassName()} ${transformer.drgElementVariableName(drgElement)}Arguments_ = null;
+            <@traceStartDRGElement drgElement/>
+</#macro>
+
+<#macro traceStartDRGElement drgElement>
+            if (${transformer.eventListenerVariableName()}.isTraced(<@drgElementAnnotation drgElement/>)) {
+                ${transformer.drgElementVariableName(drgElement)}Arguments_ = new ${transformer.argumentsClassName()}();
+                <#list transformer.drgElementArgumentNameList(drgElement)>
+                <#items as arg>
+                ${transformer.drgElementVariableName(drgElement)}Arguments_.put("${arg}", ${arg});
+                </#items>
+                </#list>
+            }
             ${transformer.eventListenerVariableName()}.startDRGElement(<@drgElementAnnotation drgElement/>, ${transformer.drgElementVariableName(drgElement)}Arguments_);
 </#macro>
 
 <#macro endDRGElement drgElement output>
             // ${transformer.endElementCommentText(drgElement)}
-            ${transformer.eventListenerVariableName()}.endDRGElement(<@drgElementAnnotation drgElement/>, ${transformer.drgElementVariableName(drgElement)}Arguments_, ${output}, (System.currentTimeMillis() - ${transformer.drgElementVariableName(drgElement)}StartTime_));
+            ${transformer.eventListenerVariableName()}.endDRGElementNanos(<@drgElementAnnotation drgElement/>, ${transformer.drgElementVariableName(drgElement)}Arguments_, ${output}, System.nanoTime() - ${transformer.drgElementVariableName(drgElement)}StartTime_);
 </#macro>
 
 <#macro endDRGElementAndReturn drgElement output>
@@ -288,22 +298,28 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
 
 <#macro startRule drgElement rule_index>
         // Rule start
-        ${transformer.eventListenerVariableName()}.startRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>);
+        if (traced_) {
+            ${transformer.eventListenerVariableName()}.startRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation rule_index/>);
+        }
 </#macro>
 
 <#macro matchRule drgElement rule_index>
             // Rule match
-            ${transformer.eventListenerVariableName()}.matchRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>);
+            if (traced_) {
+                ${transformer.eventListenerVariableName()}.matchRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation rule_index/>);
+            }
 </#macro>
 
 <#macro endRule drgElement rule_index output>
         // Rule end
-        ${transformer.eventListenerVariableName()}.endRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>, ${output});
+        if (traced_) {
+            ${transformer.eventListenerVariableName()}.endRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation rule_index/>, ${output});
+        }
 </#macro>
 
 <#macro drgElementAnnotation drgElement>${transformer.qualifiedName(javaPackageName, transformer.drgElementClassName(drgElement))}.${transformer.drgElementMetadataFieldName()}</#macro>
 
-<#macro ruleAnnotation>${transformer.drgRuleMetadataFieldName()}</#macro>
+<#macro ruleAnnotation rule_index>${transformer.drgRuleMetadataFieldName(rule_index)}</#macro>
 
 <#--
     Annotations
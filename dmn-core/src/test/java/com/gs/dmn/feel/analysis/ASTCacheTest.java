@@ -0,0 +1,137 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.analysis;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.semantics.environment.EnvironmentFactory;
+import com.gs.dmn.feel.analysis.semantics.type.Type;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
+import static com.gs.dmn.feel.analysis.semantics.type.StringType.STRING;
+import static org.junit.Assert.*;
+
+public class ASTCacheTest {
+    private final BasicDMN2JavaTransformer dmnTransformer = new StandardDMNDialectDefinition().createDMNInterpreter(new DMNModelRepository()).getBasicDMNTransformer();
+    private final EnvironmentFactory environmentFactory = dmnTransformer.getEnvironmentFactory();
+
+    @Test
+    public void testParsedASTsAreCopied() {
+        FEELAnalyzerImpl analyzer = new FEELAnalyzerImpl(dmnTransformer);
+        List<String> texts = Arrays.asList(
+                "a + b * 2", "if a > 1 then \"x\" else \"y\"", "a.b.c", "[1, 2, 3][item > 1]",
+                "for i in [1, 2] return i + 1", "some i in [1, 2] satisfies i > 1", "{a: 1, b: a + 1}",
+                "date(\"2018-01-01\") + duration(\"P1D\")", "a instance of number", "not(a)", "a between 1 and 2",
+                "a in (1, 2)", "function(x) x + 1"
+        );
+        for (String text : texts) {
+            Expression expected = new FEELAnalyzerImpl(dmnTransformer, new ASTCache(0)).parseExpression(text);
+            Expression first = analyzer.parseExpression(text);
+            Expression second = analyzer.parseExpression(text);
+
+            assertEquals(expected.toString(), first.toString());
+            assertEquals(expected.toString(), second.toString());
+            assertNotSame(first, second);
+        }
+    }
+
+    @Test
+    public void testAnalyzedASTsAreCachedByEnvironmentShape() {
+        FEELAnalyzerImpl analyzer = new FEELAnalyzerImpl(dmnTransformer);
+        ASTCache cache = analyzer.getASTCache();
+
+        Expression first = analyzer.analyzeExpression("a + 1", makeContext(NUMBER));
+        Expression second = analyzer.analyzeExpression("a + 1", makeContext(NUMBER));
+        assertSame(first, second);
+        assertEquals(1, cache.getAnalysisHitCount());
+        assertEquals(1, cache.getAnalysisMissCount());
+
+        Expression third = analyzer.analyzeExpression("a + \"x\"", makeContext(STRING));
+        assertEquals(STRING, third.getType());
+        assertEquals(NUMBER, second.getType());
+        assertEquals(2, cache.getAnalysisMissCount());
+    }
+
+    @Test
+    public void testAnalyzedUnaryTestsDependOnInputExpressionType() {
+        FEELAnalyzerImpl analyzer = new FEELAnalyzerImpl(dmnTransformer);
+
+        UnaryTests numberTests = analyzer.analyzeUnaryTests("< 590", makeInputEntryContext(NUMBER, "a"));
+        UnaryTests sameNumberTests = analyzer.analyzeUnaryTests("< 590", makeInputEntryContext(NUMBER, "a"));
+        assertSame(numberTests, sameNumberTests);
+
+        UnaryTests stringTests = analyzer.analyzeUnaryTests("\"HIGH\"", makeInputEntryContext(STRING, "a"));
+        assertEquals("PositiveUnaryTests(OperatorTest(null,StringLiteral(\"HIGH\")))", stringTests.toString());
+        assertEquals(1, analyzer.getASTCache().getAnalysisHitCount());
+    }
+
+    @Test
+    public void testFiltersAreNotShared() {
+        FEELAnalyzerImpl analyzer = new FEELAnalyzerImpl(dmnTransformer);
+
+        Expression first = analyzer.analyzeExpression("[1, 2, 3][item > a]", makeContext(NUMBER));
+        Expression second = analyzer.analyzeExpression("[1, 2, 3][item > a]", makeContext(NUMBER));
+        assertNotSame(first, second);
+        assertEquals(first.toString(), second.toString());
+    }
+
+    @Test
+    public void testDisabledCache() {
+        FEELAnalyzerImpl analyzer = new FEELAnalyzerImpl(dmnTransformer, new ASTCache(0));
+
+        Expression first = analyzer.analyzeExpression("a + 1", makeContext(NUMBER));
+        Expression second = analyzer.analyzeExpression("a + 1", makeContext(NUMBER));
+        assertNotSame(first, second);
+        assertEquals(0, analyzer.getASTCache().parsedSize());
+        assertEquals(0, analyzer.getASTCache().analyzedSize());
+    }
+
+    @Test
+    public void testTransformersOfTheSameRepositoryShareTheCache() {
+        DMNModelRepository repository = new DMNModelRepository();
+        repository.setASTCache(new ASTCache());
+        StandardDMNDialectDefinition dialectDefinition = new StandardDMNDialectDefinition();
+        BasicDMN2JavaTransformer first = dialectDefinition.createBasicTransformer(repository, new NopLazyEvaluationDetector(), new LinkedHashMap<>());
+        BasicDMN2JavaTransformer second = dialectDefinition.createBasicTransformer(repository, new NopLazyEvaluationDetector(), new LinkedHashMap<>());
+
+        Expression expected = first.getFEELTranslator().analyzeExpression("a + 1", makeContext(NUMBER));
+        Expression actual = second.getFEELTranslator().analyzeExpression("a + 1", makeContext(NUMBER));
+        assertSame(expected, actual);
+        assertEquals(1, repository.getASTCache().getAnalysisHitCount());
+    }
+
+    private FEELContext makeContext(Type type) {
+        Environment environment = environmentFactory.makeEnvironment();
+        environment.addDeclaration(environmentFactory.makeVariableDeclaration("a", type));
+        return FEELContext.makeContext(environment);
+    }
+
+    private FEELContext makeInputEntryContext(Type type, String inputExpressionText) {
+        FEELAnalyzerImpl analyzer = new FEELAnalyzerImpl(dmnTransformer, new ASTCache(0));
+        FEELContext context = makeContext(type);
+        Expression inputExpression = analyzer.analyzeSimpleExpressions(inputExpressionText, context);
+        Environment environment = environmentFactory.makeEnvironment(context.getEnvironment(), inputExpression);
+        return FEELContext.makeContext(environment);
+    }
+}
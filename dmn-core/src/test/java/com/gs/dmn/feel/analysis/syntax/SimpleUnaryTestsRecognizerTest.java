@@ -0,0 +1,132 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.analysis.syntax;
+
+import com.gs.dmn.feel.analysis.syntax.antlrv4.FEELLexer;
+import com.gs.dmn.feel.analysis.syntax.antlrv4.FEELParser;
+import com.gs.dmn.feel.analysis.syntax.antlrv4.SFEELLexer;
+import com.gs.dmn.feel.analysis.syntax.antlrv4.SFEELParser;
+import com.gs.dmn.feel.analysis.syntax.ast.ASTFactory;
+import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class SimpleUnaryTestsRecognizerTest {
+    private final SimpleUnaryTestsRecognizer recognizer = new SimpleUnaryTestsRecognizer(new ASTFactory());
+
+    @Test
+    public void testSimpleUnaryTests() {
+        List<String> texts = Arrays.asList(
+                "-", "1", "-1", ".5", "1.25", "\"HIGH\"", "\"HIGH\", \"MEDIUM\"", "true", "false",
+                "< 590", "<= -1", ">1", ">= \"a\"", "< true",
+                "[1..10]", "(1..10)", "]1..10[", "[-1 .. 1)", "[\"a\"..\"z\"]",
+                "1, 2, < 3, [4..5]", "not(1, 2)", "not(-1)", "not (\"a\")", " \t1\r\n"
+        );
+        for (String text : texts) {
+            UnaryTests expected = antlrUnaryTests(text);
+            UnaryTests actual = recognizer.parseUnaryTests(text);
+            assertNotNull(text, actual);
+            assertEquals(text, expected.toString(), actual.toString());
+
+            UnaryTests expectedSimple = antlrSimpleUnaryTests(text);
+            UnaryTests actualSimple = recognizer.parseSimpleUnaryTests(text);
+            assertNotNull(text, actualSimple);
+            assertEquals(text, expectedSimple.toString(), actualSimple.toString());
+            assertEquals(text, sfeelSimpleUnaryTests(text).toString(), actualSimple.toString());
+        }
+    }
+
+    @Test
+    public void testNotSupported() {
+        List<String> texts = Arrays.asList(
+                null, "", "a", "< a", "1 + 2", "not 1", "--1", "- a", "1..2", "[1..2", "\"a\\\"b\"", "\"abc", "truex", "true.a",
+                "date(\"2018-01-01\")", "null", "1 2", "1,", "?", "/* c */ 1", "= 1", "1.", "-,1"
+        );
+        for (String text : texts) {
+            assertNull(text, recognizer.parseUnaryTests(text));
+            assertNull(text, recognizer.parseSimpleUnaryTests(text));
+        }
+    }
+
+    @Test
+    public void testInputEntriesInTCK() throws Exception {
+        Set<String> texts = new LinkedHashSet<>();
+        for (String folder : Arrays.asList("tck/cl2/input", "tck/cl3/input", "dmn/input")) {
+            File[] files = new File(getClass().getClassLoader().getResource(folder).toURI()).listFiles((dir, name) -> name.endsWith(".dmn"));
+            for (File file : files) {
+                texts.addAll(inputEntries(file));
+            }
+        }
+
+        int recognized = 0;
+        for (String text : texts) {
+            UnaryTests actual = recognizer.parseUnaryTests(text);
+            if (actual != null) {
+                recognized++;
+                assertEquals(text, antlrUnaryTests(text).toString(), actual.toString());
+            }
+        }
+        assertTrue(recognized > texts.size() / 2);
+    }
+
+    private List<String> inputEntries(File file) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder().parse(file);
+        List<String> texts = new ArrayList<>();
+        NodeList entries = document.getElementsByTagNameNS("*", "inputEntry");
+        for (int i = 0; i < entries.getLength(); i++) {
+            NodeList textElements = ((Element) entries.item(i)).getElementsByTagNameNS("*", "text");
+            if (textElements.getLength() > 0) {
+                texts.add(textElements.item(0).getTextContent());
+            }
+        }
+        return texts;
+    }
+
+    private UnaryTests antlrUnaryTests(String text) {
+        return makeFEELParser(text).unaryTestsRoot().ast;
+    }
+
+    private UnaryTests antlrSimpleUnaryTests(String text) {
+        return makeFEELParser(text).simpleUnaryTests().ast;
+    }
+
+    private UnaryTests sfeelSimpleUnaryTests(String text) {
+        SFEELParser parser = new SFEELParser(new CommonTokenStream(new SFEELLexer(CharStreams.fromString(text))), new ASTFactory());
+        parser.removeErrorListeners();
+        parser.addErrorListener(new ErrorListener());
+        return parser.simpleUnaryTestsRoot().ast;
+    }
+
+    private FEELParser makeFEELParser(String text) {
+        FEELParser parser = new FEELParser(new CommonTokenStream(new FEELLexer(CharStreams.fromString(text))), new ASTFactory());
+        parser.removeErrorListeners();
+        parser.addErrorListener(new ErrorListener());
+        return parser;
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.analysis.syntax.ast;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.analysis.ASTCache;
+import com.gs.dmn.feel.analysis.FEELAnalyzerImpl;
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.semantics.environment.EnvironmentFactory;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
+import com.gs.dmn.feel.interpreter.FEELInterpreter;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
+import static org.junit.Assert.assertEquals;
+
+public class ConstantFoldingVisitorTest {
+    private final DMNInterpreter dmnInterpreter = new StandardDMNDialectDefinition().createDMNInterpreter(new DMNModelRepository());
+    private final BasicDMN2JavaTransformer dmnTransformer = dmnInterpreter.getBasicDMNTransformer();
+    private final EnvironmentFactory environmentFactory = dmnTransformer.getEnvironmentFactory();
+    private final FEELInterpreter feelInterpreter = dmnInterpreter.getFeelInterpreter();
+    private final FEELAnalyzerImpl feelAnalyzer = new FEELAnalyzerImpl(dmnTransformer, new ASTCache(0));
+
+    @Test
+    public void testConstantsAreFolded() {
+        assertFolded("1000 * 12", "NumericLiteral(12000)");
+        assertFolded("1 + 2 * 3 - 10", "ArithmeticNegation(NumericLiteral(3))");
+        assertFolded("2 ** 3", "NumericLiteral(8)");
+        assertFolded("\"abc\" + \"def\"", "StringLiteral(\"abcdef\")");
+        assertFolded("1 < 2", "BooleanLiteral(true)");
+        assertFolded("not(1 = 2)", "BooleanLiteral(true)");
+        assertFolded("date(\"2018-01-01\") + duration(\"P1Y\")", "DateTimeLiteral(date, \"2019-01-01\")");
+        assertFolded("duration(\"P1D\") + duration(\"PT1H\")", "DateTimeLiteral(duration, \"P1DT1H\")");
+        assertFolded("a + (1 + 2)", "Addition(+,Name(a),NumericLiteral(3))");
+    }
+
+    @Test
+    public void testDeadBranchesAreRemoved() {
+        assertFolded("if 1 > 2 then a else a + 1", "Addition(+,Name(a),NumericLiteral(1))");
+        assertFolded("if true then a else 0", "Name(a)");
+        assertFolded("false and a > 1", "BooleanLiteral(false)");
+        assertFolded("a > 1 or true", "BooleanLiteral(true)");
+        assertFolded("true and a > 1", "Relational(>,Name(a),NumericLiteral(1))");
+        assertFolded("false or a > 1", "Relational(>,Name(a),NumericLiteral(1))");
+    }
+
+    @Test
+    public void testNotFolded() {
+        List<String> texts = Arrays.asList(
+                "a + 1", "a > 1 and a < 10", "if a > 1 then 1 else 2", "1 / 0", "string(1) + \"a\"", "true and 1", "sum([1, 2])"
+        );
+        for (String text : texts) {
+            Expression expected = feelAnalyzer.analyzeExpression(text, makeContext());
+            Expression actual = feelInterpreter.analyzeExpression(text, makeContext());
+            assertEquals(text, expected.toString(), actual.toString());
+            assertEquals(text, evaluate(expected), evaluate(actual));
+        }
+    }
+
+    @Test
+    public void testUnaryTests() {
+        FEELContext context = makeContext();
+        Expression inputExpression = feelAnalyzer.analyzeSimpleExpressions("a", context);
+        FEELContext inputEntryContext = FEELContext.makeContext(environmentFactory.makeEnvironment(context.getEnvironment(), inputExpression));
+
+        UnaryTests actual = feelInterpreter.analyzeUnaryTests("a < 10 * 2, [1..10]", inputEntryContext);
+        assertEquals("PositiveUnaryTests(ExpressionTest(Relational(<,Name(a),NumericLiteral(20))),IntervalTest(false,NumericLiteral(1),false,NumericLiteral(10)))", actual.toString());
+    }
+
+    @Test
+    public void testFoldingWithoutInterpreter() {
+        // Same folding as the interpreter, with the FEELLib only
+        FEELAnalyzerImpl foldingAnalyzer = new FEELAnalyzerImpl(dmnTransformer, new ASTCache(0), new ConstantFoldingVisitor(new StandardDMNDialectDefinition().createFEELLib()));
+        List<String> texts = Arrays.asList(
+                "1000 * 12", "1 + 2 * 3 - 10", "2 ** 3", "\"abc\" + \"def\"", "1 < 2", "not(1 = 2)",
+                "date(\"2018-01-01\") + duration(\"P1Y\")", "if 1 > 2 then a else a + 1", "false or a > 1", "1 / 0", "sum([1, 2])"
+        );
+        for (String text : texts) {
+            assertEquals(text, feelInterpreter.analyzeExpression(text, makeContext()).toString(), foldingAnalyzer.analyzeExpression(text, makeContext()).toString());
+        }
+    }
+
+    @Test
+    public void testGeneratedCodeWhenEnabled() {
+        StandardDMNDialectDefinition dialect = new StandardDMNDialectDefinition();
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        BasicDMN2JavaTransformer defaultTransformer = dialect.createBasicTransformer(new DMNModelRepository(), new NopLazyEvaluationDetector(), inputParameters);
+        inputParameters.put("constantFolding", "true");
+        BasicDMN2JavaTransformer foldingTransformer = dialect.createBasicTransformer(new DMNModelRepository(), new NopLazyEvaluationDetector(), inputParameters);
+
+        assertEquals("numericMultiply(number(\"1000\"), number(\"12\"))", defaultTransformer.getFEELTranslator().expressionToJava("1000 * 12", makeContext()));
+        assertEquals("number(\"12000\")", foldingTransformer.getFEELTranslator().expressionToJava("1000 * 12", makeContext()));
+    }
+
+    private void assertFolded(String text, String expectedAST) {
+        Expression expected = feelAnalyzer.analyzeExpression(text, makeContext());
+        Expression actual = feelInterpreter.analyzeExpression(text, makeContext());
+        assertEquals(text, expectedAST, actual.toString());
+        assertEquals(text, expected.getType(), actual.getType());
+        assertEquals(text, evaluate(expected), evaluate(actual));
+    }
+
+    private Object evaluate(Expression expression) {
+        Object value = feelInterpreter.evaluateExpression(expression, makeContext());
+        return value instanceof BigDecimal ? ((BigDecimal) value).stripTrailingZeros() : value;
+    }
+
+    private FEELContext makeContext() {
+        Environment environment = environmentFactory.makeEnvironment();
+        environment.addDeclaration(environmentFactory.makeVariableDeclaration("a", NUMBER));
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+        runtimeEnvironment.bind("a", new BigDecimal("5"));
+        return FEELContext.makeContext(environment, runtimeEnvironment);
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib;
+
+import org.junit.Test;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ConversionCacheTest {
+    @Test
+    public void testLookup() {
+        AtomicInteger conversions = new AtomicInteger();
+        ConversionCache<BigDecimal> cache = new ConversionCache<>("number", 10);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(new BigDecimal("123"), cache.lookup("123", s -> { conversions.incrementAndGet(); return new BigDecimal(s); }));
+        }
+
+        assertEquals(1, conversions.get());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.8, cache.getHitRate(), 0.001);
+    }
+
+    @Test
+    public void testNullValuesAreNotCached() {
+        ConversionCache<BigDecimal> cache = new ConversionCache<>("number", 10);
+
+        assertNull(cache.lookup("abc", s -> null));
+        assertNull(cache.lookup(null, s -> null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        ConversionCache<BigDecimal> cache = new ConversionCache<>("number", 10);
+
+        for (int i = 0; i < 25; i++) {
+            cache.lookup("" + i, BigDecimal::new);
+        }
+
+        assertTrue(cache.size() <= 10);
+    }
+
+    @Test
+    public void testDisabled() {
+        ConversionCache<BigDecimal> cache = new ConversionCache<>("number", 0);
+
+        assertEquals(BigDecimal.ONE, cache.lookup("1", BigDecimal::new));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testMutableValuesAreCopied() {
+        DefaultFEELLib lib = new DefaultFEELLib();
+
+        XMLGregorianCalendar date1 = lib.date("2016-08-01");
+        date1.setMonth(10);
+        XMLGregorianCalendar date2 = lib.date("2016-08-01");
+
+        assertNotSame(date1, date2);
+        assertEquals("2016-08-01", date2.toString());
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib.type.time.xml;
+
+import org.junit.Test;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FEELXMLGregorianCalendarTest {
+    private static final String[] ZONES = {"Z", "+01:00", "-05:00", "+05:30", "+14:00", "-14:00"};
+
+    @Test
+    public void testCompareDateTimes() {
+        Random random = new Random(1000);
+        for (int i = 0; i < 2000; i++) {
+            OffsetDateTime odt1 = randomDateTime(random);
+            OffsetDateTime odt2 = random.nextBoolean() ? randomDateTime(random) : odt1.withOffsetSameInstant(randomOffset(random));
+            XMLGregorianCalendar c1 = makeDateTime(odt1);
+            XMLGregorianCalendar c2 = makeDateTime(odt2);
+
+            assertEquals(odt1 + " vs " + odt2, expected(odt1.toInstant().compareTo(odt2.toInstant())), c1.compare(c2));
+            assertEquals(odt1 + " vs " + odt2, expected(odt2.toInstant().compareTo(odt1.toInstant())), c2.compare(c1));
+        }
+    }
+
+    @Test
+    public void testCompareDates() {
+        XMLGregorianCalendar d1 = FEELXMLGregorianCalendar.makeDate(BigInteger.valueOf(2016), 2, 29);
+        XMLGregorianCalendar d2 = FEELXMLGregorianCalendar.makeDate(BigInteger.valueOf(2016), 3, 1);
+        XMLGregorianCalendar d3 = FEELXMLGregorianCalendar.makeDate(BigInteger.valueOf(-2016), 3, 1);
+
+        assertEquals(DatatypeConstants.LESSER, d1.compare(d2));
+        assertEquals(DatatypeConstants.GREATER, d2.compare(d1));
+        assertEquals(DatatypeConstants.EQUAL, d1.compare((XMLGregorianCalendar) d1.clone()));
+        assertEquals(DatatypeConstants.LESSER, d3.compare(d1));
+    }
+
+    @Test
+    public void testCompareTimes() {
+        XMLGregorianCalendar t1 = FEELXMLGregorianCalendar.makeTime(10, 20, 0, null, "Z");
+        XMLGregorianCalendar t2 = FEELXMLGregorianCalendar.makeTime(10, 20, 0, new BigDecimal("0.5"), "Z");
+        XMLGregorianCalendar t3 = FEELXMLGregorianCalendar.makeTime(12, 20, 0, null, "+02:00");
+
+        assertEquals(DatatypeConstants.LESSER, t1.compare(t2));
+        assertEquals(DatatypeConstants.GREATER, t2.compare(t1));
+        assertEquals(DatatypeConstants.EQUAL, t1.compare(t3));
+    }
+
+    @Test
+    public void testCompareAfterUpdate() {
+        FEELXMLGregorianCalendar d1 = (FEELXMLGregorianCalendar) FEELXMLGregorianCalendar.makeDate(BigInteger.valueOf(2016), 2, 29);
+        XMLGregorianCalendar d2 = FEELXMLGregorianCalendar.makeDate(BigInteger.valueOf(2016), 3, 1);
+        assertEquals(DatatypeConstants.LESSER, d1.compare(d2));
+
+        d1.setMonth(4);
+        assertEquals(DatatypeConstants.GREATER, d1.compare(d2));
+    }
+
+    @Test
+    public void testCompactTimeInMillis() {
+        Random random = new Random(2000);
+        for (int i = 0; i < 2000; i++) {
+            FEELXMLGregorianCalendar calendar = (FEELXMLGregorianCalendar) makeDateTime(randomDateTime(random));
+
+            assertEquals(calendar.toString(), (Long) calendar.toGregorianCalendar().getTimeInMillis(), calendar.compactTimeInMillis());
+        }
+        assertNull(((FEELXMLGregorianCalendar) FEELXMLGregorianCalendar.makeDate(BigInteger.valueOf(2016), 2, 29)).compactTimeInMillis());
+    }
+
+    private int expected(int javaTimeResult) {
+        return javaTimeResult < 0 ? DatatypeConstants.LESSER : javaTimeResult > 0 ? DatatypeConstants.GREATER : DatatypeConstants.EQUAL;
+    }
+
+    private OffsetDateTime randomDateTime(Random random) {
+        return OffsetDateTime.of(
+                1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1000000,
+                randomOffset(random));
+    }
+
+    private ZoneOffset randomOffset(Random random) {
+        return ZoneOffset.of(ZONES[random.nextInt(ZONES.length)]);
+    }
+
+    private XMLGregorianCalendar makeDateTime(OffsetDateTime odt) {
+        BigDecimal fractionalSecond = odt.getNano() == 0 ? null : BigDecimal.valueOf(odt.getNano(), 9);
+        return FEELXMLGregorianCalendar.makeDateTime(
+                BigInteger.valueOf(odt.getYear()), odt.getMonthValue(), odt.getDayOfMonth(),
+                odt.getHour(), odt.getMinute(), odt.getSecond(), fractionalSecond,
+                odt.getOffset().getId());
+    }
+}
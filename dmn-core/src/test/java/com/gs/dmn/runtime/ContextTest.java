@@ -0,0 +1,140 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class ContextTest {
+    @Test
+    public void testShapesAreShared() {
+        Context c1 = new Context().add("a", 1).add("b", 2);
+        Context c2 = new Context().add("a", 3).add("b", 4);
+        Context c3 = new Context().add("b", 4).add("a", 3);
+
+        assertSame(c1.getShape(), c2.getShape());
+        assertNotSame(c2.getShape(), c3.getShape());
+        assertSame(c1.getShape(), ContextShape.of("a", "b"));
+        assertEquals(Arrays.asList("a", "b"), c1.getShape().getKeys());
+    }
+
+    @Test
+    public void testGetAndPut() {
+        Context context = new Context();
+        assertNull(context.put("a", 1));
+        assertNull(context.put("b", null));
+        assertEquals(1, context.put("a", 2));
+
+        assertEquals(2, context.get("a"));
+        assertNull(context.get("b"));
+        assertNull(context.get("c"));
+        assertEquals(2, context.get("c", "x", "a"));
+    }
+
+    @Test
+    public void testPreShapedContext() {
+        ContextShape shape = ContextShape.of(Arrays.asList("x", "y"));
+        Context context = new Context(shape);
+        context.put("y", 2);
+
+        assertSame(shape, context.getShape());
+        assertTrue(context.isEquivalent(new Context().add("x", null).add("y", 3)));
+        assertEquals(new Context().add("x", null).add("y", 2), context);
+    }
+
+    @Test
+    public void testEqualsAndHashCodeAreMapSemantics() {
+        Context c1 = new Context().add("a", 1).add("b", "x");
+        Context c2 = new Context().add("b", "x").add("a", 1);
+        Context c3 = new Context().add("a", 1).add("b", "y");
+
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", "x");
+
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+        assertEquals(map.hashCode(), c1.hashCode());
+        assertNotEquals(c1, c3);
+        assertNotEquals(c1, new Context().add("a", 1));
+        assertEquals("{a=1, b=x}", c2.toString());
+    }
+
+    @Test
+    public void testBindingsAreALiveView() {
+        Context context = new Context().add("a", 1);
+        Map<Object, Object> bindings = context.getBindings();
+        bindings.put("b", 2);
+
+        assertSame(ContextShape.of("a", "b"), context.getShape());
+        assertEquals(2, context.get("b"));
+        context.put("c", 3);
+        assertEquals(3, bindings.get("c"));
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(bindings.keySet()));
+
+        for (Map.Entry<Object, Object> entry : bindings.entrySet()) {
+            entry.setValue(10);
+        }
+        assertEquals(new Context().add("a", 10).add("b", 10).add("c", 10), context);
+        assertNotNull(context.getShape());
+
+        assertEquals(10, bindings.remove("b"));
+        assertNull(context.getShape());
+        assertEquals(new Context().add("a", 10).add("c", 10), context);
+        assertEquals(new Context().add("a", 10).add("c", 10).hashCode(), context.hashCode());
+    }
+
+    @Test
+    public void testKeySetIsAView() {
+        Context context = new Context().add("a", 1);
+        Iterable<?> keySet = context.keySet();
+        context.add("b", 2);
+
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), keySet);
+        assertSame(keySet, context.keySet());
+        assertTrue(context.isEquivalent(new Context().add("b", 3).add("a", 4)));
+    }
+
+    @Test
+    public void testMapFallback() {
+        Context large = new Context();
+        for (int i = 0; i < 2 * ContextShape.MAX_SIZE; i++) {
+            large.add("k" + i, i);
+        }
+        assertNull(large.getShape());
+        for (int i = 0; i < 2 * ContextShape.MAX_SIZE; i++) {
+            assertEquals(i, large.get("k" + i));
+        }
+    }
+
+    @Test
+    public void testUnusedShapesAreReleased() throws InterruptedException {
+        String prefix = "released-" + System.nanoTime() + "-";
+        WeakReference<ContextShape> first = new WeakReference<>(new Context().add(prefix + 0, 0).getShape());
+        for (int i = 1; i < 4 * ContextShape.MAX_TRANSITIONS; i++) {
+            // Only the live successors of a shape count for the limit
+            Context context = new Context().add(prefix + i, i);
+            assertNotNull(context.getShape());
+            System.gc();
+        }
+        for (int i = 0; i < 10 && first.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(first.get());
+    }
+}
@@ -0,0 +1,222 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.batch;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.serialization.JsonSerializer;
+import com.gs.dmn.transformation.GeneratedModel;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+public class BatchRunnerTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(BatchRunnerTest.class));
+    private static final ClassLoader CLASS_LOADER = BatchRunnerTest.class.getClassLoader();
+
+    // Age, Years of Service and Total Vacation Days of the TCK test cases
+    private static final int[][] VACATION_DAYS = {{16, 1, 27}, {25, 5, 22}, {25, 20, 24}, {44, 30, 30}};
+    private static final String LENDING_RECORD = "{\"ApplicantData\": {\"Age\": 35, \"EmploymentStatus\": \"EMPLOYED\", \"ExistingCustomer\": true, \"MaritalStatus\": \"M\", \"Monthly\": {\"Expenses\": 2000, \"Income\": 6000, \"Repayments\": 0}}, "
+            + "\"RequestedProduct\": {\"Amount\": 350000, \"ProductType\": \"STANDARD LOAN\", \"Rate\": 0.0395, \"Term\": 360}}";
+
+    private File folder;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = Files.createTempDirectory("dmn-batch").toFile();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(folder);
+    }
+
+    @Test
+    public void testInterpreterWithNDJSON() throws Exception {
+        int count = 1000;
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int[] testCase = VACATION_DAYS[i % VACATION_DAYS.length];
+            lines.add(String.format("{\"Age\": %d, \"Years of Service\": %d}", testCase[0], testCase[1]));
+        }
+        Path input = write("input.ndjson", lines);
+        Path output = folder.toPath().resolve("output.ndjson");
+
+        BatchReport report = new BatchRunner(vacationDays(), 3, 7, false).run(input, output);
+
+        assertEquals(count, report.getRecords());
+        assertEquals(0, report.getErrors());
+        List<JsonNode> results = read(output);
+        assertEquals(count, results.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, results.get(i).get("index").asInt());
+            assertEquals(VACATION_DAYS[i % VACATION_DAYS.length][2], results.get(i).get("output").asInt());
+        }
+    }
+
+    @Test
+    public void testInterpreterWithMappedCSV() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("Age,\"Years of Service\"");
+        for (int[] testCase : VACATION_DAYS) {
+            lines.add(String.format("%d,%d", testCase[0], testCase[1]));
+        }
+        Path input = write("input.csv", lines);
+        Path output = folder.toPath().resolve("output.ndjson");
+
+        BatchReport report = new BatchRunner(vacationDays(), 2, 3, true).run(input, output);
+
+        assertEquals(4, report.getRecords());
+        assertEquals(
+                Arrays.asList(
+                        "{\"index\":0,\"output\":27}",
+                        "{\"index\":1,\"output\":22}",
+                        "{\"index\":2,\"output\":24}",
+                        "{\"index\":3,\"output\":30}"),
+                Files.readAllLines(output, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testInterpreterWithNestedCSVColumns() throws Exception {
+        Path input = write("input.csv", Arrays.asList(
+                "ApplicantData.Age,ApplicantData.EmploymentStatus,ApplicantData.ExistingCustomer,ApplicantData.MaritalStatus,ApplicantData.Monthly.Expenses,ApplicantData.Monthly.Income,ApplicantData.Monthly.Repayments,"
+                        + "RequestedProduct.Amount,RequestedProduct.ProductType,RequestedProduct.Rate,RequestedProduct.Term",
+                "35,EMPLOYED,true,M,2000,6000,0,350000,STANDARD LOAN,0.0395,360"
+        ));
+        Path output = folder.toPath().resolve("output.ndjson");
+
+        BatchReport report = new BatchRunner(lendingStrategy(), 1, 10, false).run(input, output);
+
+        assertEquals(0, report.getErrors());
+        assertEquals(Arrays.asList("{\"index\":0,\"output\":\"BUREAU\"}"), Files.readAllLines(output, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testInterpreterWritesOriginalMemberNames() throws Exception {
+        DMNModelRepository repository = new DMNReader(LOGGER, false).read(new File(CLASS_LOADER.getResource("dmn/input/0034-drg-scopes.dmn").getFile()));
+        Supplier<BatchEvaluator> evaluatorFactory = InterpreterBatchEvaluator.factory(new StandardDMNDialectDefinition(), repository, "decision A 2.1");
+        Path input = write("input.ndjson", Arrays.asList("{\"A\": \"A\"}"));
+        Path output = folder.toPath().resolve("output.ndjson");
+
+        new BatchRunner(evaluatorFactory, 1, 10, false).run(input, output);
+
+        assertEquals(Arrays.asList("{\"index\":0,\"output\":{\"resolve A 1\":{\"resolve A\":\"A\"}}}"), Files.readAllLines(output, StandardCharsets.UTF_8));
+        // The repository of the caller keeps the original names
+        assertNotNull(repository.findDRGElementByName("decision A 2.1"));
+        assertEquals("resolve A", repository.itemDefinitions().stream().filter(i -> "TypeDecisionA1".equals(i.getName())).findFirst().get().getItemComponent().get(0).getName());
+    }
+
+    @Test
+    public void testGeneratedDecision() throws Exception {
+        Path input = write("input.ndjson", Arrays.asList(
+                LENDING_RECORD,
+                "",
+                LENDING_RECORD.replace("\"Amount\": 350000", "\"Amount\": \"350000\""),
+                "{\"ApplicantData\": {\"Age\": 35,"
+        ));
+        Path output = folder.toPath().resolve("output.ndjson");
+
+        BatchReport report;
+        try (URLClassLoader classLoader = GeneratedModel.load("tck/cl3/input/0004-lending.dmn", "com.gs.lending", true, new File(folder, "lending"))) {
+            report = new BatchRunner(GeneratedDecisionBatchEvaluator.factory(classLoader.loadClass("com.gs.lending.Strategy")), 2, 1, false).run(input, output);
+        }
+
+        assertEquals(3, report.getRecords());
+        assertEquals(1, report.getErrors());
+        List<String> results = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertEquals("{\"index\":0,\"output\":\"BUREAU\"}", results.get(0));
+        assertEquals("{\"index\":1,\"output\":\"BUREAU\"}", results.get(1));
+        assertTrue(results.get(2).startsWith("{\"index\":2,\"error\":"));
+    }
+
+    @Test
+    public void testLineReaderAcrossChunks() throws Exception {
+        Path input = folder.toPath().resolve("lines.txt");
+        Files.write(input, "first line\r\nsecond\n\nthird without terminator".getBytes(StandardCharsets.UTF_8));
+
+        for (boolean mapped : new boolean[]{false, true}) {
+            List<String> lines = new ArrayList<>();
+            try (LineReader reader = new LineReader(input, mapped, 4)) {
+                byte[] line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(new String(line, StandardCharsets.UTF_8));
+                }
+            }
+            assertEquals(Arrays.asList("first line", "second", "", "third without terminator"), lines);
+        }
+    }
+
+    @Test
+    public void testCSVRecords() throws Exception {
+        CsvRecordParser parser = new CsvRecordParser("id,Applicant.Name,Applicant.Age,note".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("{\"id\":\"1\",\"Applicant\":{\"Name\":\"Smith, John\",\"Age\":\"38\"},\"note\":\"a \\\"b\\\"\"}",
+                toJson(parser, "1,\"Smith, John\",38,\"a \"\"b\"\"\""));
+        assertEquals("{\"id\":\"2\",\"note\":\"\"}", toJson(parser, "2,,,\"\""));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalBatchSize() {
+        new BatchRunner(vacationDays(), 1, 0, false);
+    }
+
+    private Supplier<BatchEvaluator> vacationDays() {
+        DMNModelRepository repository = new DMNReader(LOGGER, false).read(new File(CLASS_LOADER.getResource("tck/cl3/input/0020-vacation-days.dmn").getFile()));
+        return InterpreterBatchEvaluator.factory(new StandardDMNDialectDefinition(), repository, "Total Vacation Days");
+    }
+
+    private Supplier<BatchEvaluator> lendingStrategy() {
+        DMNModelRepository repository = new DMNReader(LOGGER, false).read(new File(CLASS_LOADER.getResource("tck/cl3/input/0004-lending.dmn").getFile()));
+        return InterpreterBatchEvaluator.factory(new StandardDMNDialectDefinition(), repository, "Strategy");
+    }
+
+    private String toJson(CsvRecordParser parser, String line) throws IOException {
+        try (JsonParser tokens = parser.toTokens(line.getBytes(StandardCharsets.UTF_8))) {
+            return JsonSerializer.OBJECT_MAPPER.readTree(tokens).toString();
+        }
+    }
+
+    private Path write(String fileName, List<String> lines) throws IOException {
+        Path path = folder.toPath().resolve(fileName);
+        Files.write(path, lines, StandardCharsets.UTF_8);
+        return path;
+    }
+
+    private List<JsonNode> read(Path path) throws IOException {
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            nodes.add(JsonSerializer.OBJECT_MAPPER.readTree(line));
+        }
+        return nodes;
+    }
+}
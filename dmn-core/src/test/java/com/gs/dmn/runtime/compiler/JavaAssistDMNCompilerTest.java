@@ -0,0 +1,195 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.compiler;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.dialect.DoubleMixedJavaTimeDMNDialectDefinition;
+import com.gs.dmn.dialect.MixedJavaTimeDMNDialectDefinition;
+import com.gs.dmn.dialect.PureJavaTimeDMNDialectDefinition;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.dialect.UniformJavaTimeDMNDialectDefinition;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.Assert;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.listener.Arguments;
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.Rule;
+import com.gs.dmn.serialization.DMNConstants;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.tck.TCKUtil;
+import com.gs.dmn.tck.TestCasesReader;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import org.junit.Test;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase.ResultNode;
+import org.omg.spec.dmn._20180521.model.TDRGElement;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JavaAssistDMNCompilerTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(JavaAssistDMNCompilerTest.class));
+    private static final String CL2_PATH = "tck/cl2/input";
+    private static final String CL3_PATH = "tck/cl3/input";
+
+    // Decisions expected to be compiled, by model; all the other decisions are evaluated by the interpreter
+    // (e.g. decision2 in 0021-singleton-list converts a singleton list with an explicit type argument)
+    private static final Map<String, Set<String>> COMPILED_DECISIONS = new LinkedHashMap<>();
+    static {
+        COMPILED_DECISIONS.put("0004-lending", set("Strategy"));
+        COMPILED_DECISIONS.put("0004-simpletable-U", set("ApprovalStatus"));
+        COMPILED_DECISIONS.put("0005-simpletable-A", set("ApprovalStatus"));
+        COMPILED_DECISIONS.put("0017-tableTests", set("dateCompare1", "dateCompare2"));
+        COMPILED_DECISIONS.put("0020-vacation-days", set("BaseVacationDays", "ExtraDaysCase1", "ExtraDaysCase2", "ExtraDaysCase3", "TotalVacationDays"));
+        COMPILED_DECISIONS.put("0021-singleton-list", set("decision1"));
+    }
+
+    @Test
+    public void testStandardDialect() throws Exception {
+        DMNDialectDefinition dialectDefinition = new StandardDMNDialectDefinition();
+        doTest(dialectDefinition, CL2_PATH, CL2_PATH);
+        doTest(dialectDefinition, CL3_PATH, CL3_PATH + "/standard");
+    }
+
+    @Test
+    public void testMixedJavaTimeDialect() throws Exception {
+        DMNDialectDefinition dialectDefinition = new MixedJavaTimeDMNDialectDefinition();
+        doTest(dialectDefinition, CL2_PATH, CL2_PATH);
+        doTest(dialectDefinition, CL3_PATH, CL3_PATH + "/mixed");
+    }
+
+    @Test
+    public void testUniformJavaTimeDialect() throws Exception {
+        DMNDialectDefinition dialectDefinition = new UniformJavaTimeDMNDialectDefinition();
+        doTest(dialectDefinition, CL2_PATH, CL2_PATH);
+        doTest(dialectDefinition, CL3_PATH, CL3_PATH + "/uniform");
+    }
+
+    @Test
+    public void testPureJavaTimeDialect() throws Exception {
+        // No CL3 test cases for this dialect
+        doTest(new PureJavaTimeDMNDialectDefinition(), CL2_PATH, CL2_PATH);
+    }
+
+    @Test
+    public void testDoubleMixedJavaTimeDialect() throws Exception {
+        DMNDialectDefinition dialectDefinition = new DoubleMixedJavaTimeDMNDialectDefinition();
+        doTest(dialectDefinition, CL2_PATH, CL2_PATH);
+        doTest(dialectDefinition, CL3_PATH, CL3_PATH + "/double-mixed");
+    }
+
+    @Test
+    public void testCompiledDecisionReportsEvents() throws Exception {
+        String modelName = "0004-simpletable-U";
+        File dmnFile = new File(getClass().getClassLoader().getResource(CL2_PATH + "/" + modelName + DMNConstants.DMN_FILE_EXTENSION).toURI());
+        File testFile = new File(getClass().getClassLoader().getResource(CL2_PATH + "/" + modelName + "-test-01" + TestCasesReader.TEST_FILE_EXTENSION).toURI());
+        DMNModelRepository repository = new DMNReader(LOGGER, false).read(dmnFile);
+        TestCases testCases = new TestCasesReader(LOGGER).read(testFile);
+        Pair<DMNModelRepository, TestCases> result = new ToSimpleNameTransformer(LOGGER).transform(repository, testCases);
+
+        List<String> events = new ArrayList<>();
+        CompiledDMNModel model = new JavaAssistDMNCompiler(new StandardDMNDialectDefinition(), new LinkedHashMap<>()).compile(result.getLeft()).withEventListener(new RecordingListener(events));
+        assertTrue(model.isCompiled("ApprovalStatus"));
+        DMNInterpreter interpreter = model.getInterpreter();
+        TCKUtil tckUtil = new TCKUtil(interpreter.getBasicDMNTransformer(), (StandardFEELLib) interpreter.getFeelLib());
+        RuntimeEnvironment runtimeEnvironment = tckUtil.makeEnvironment(result.getRight().getTestCase().get(0));
+        model.evaluate("ApprovalStatus", runtimeEnvironment);
+
+        assertEquals("start ApprovalStatus", events.get(0));
+        assertEquals("end ApprovalStatus", events.get(events.size() - 1));
+        assertEquals(1, events.stream().filter(e -> e.startsWith("match ")).count());
+        assertTrue(events.contains("startRule 0"));
+    }
+
+    // Checks which decisions were compiled and compares the results with the expected values of the TCK tests, for compiled and interpreted decisions
+    private void doTest(DMNDialectDefinition dialectDefinition, String dmnFolder, String testFolder) throws Exception {
+        File[] dmnFiles = new File(getClass().getClassLoader().getResource(dmnFolder).toURI()).listFiles((dir, name) -> name.endsWith(DMNConstants.DMN_FILE_EXTENSION));
+        File testCasesFolder = new File(getClass().getClassLoader().getResource(testFolder).toURI());
+        for (File dmnFile : dmnFiles) {
+            String modelName = dmnFile.getName().replace(DMNConstants.DMN_FILE_EXTENSION, "");
+            File testFile = new File(testCasesFolder, modelName + "-test-01" + TestCasesReader.TEST_FILE_EXTENSION);
+            DMNModelRepository repository = new DMNReader(LOGGER, false).read(dmnFile);
+            TestCases testCases = new TestCasesReader(LOGGER).read(testFile);
+            Pair<DMNModelRepository, TestCases> result = new ToSimpleNameTransformer(LOGGER).transform(repository, testCases);
+
+            CompiledDMNModel model = new JavaAssistDMNCompiler(dialectDefinition, new LinkedHashMap<>()).compile(result.getLeft());
+            Set<String> expectedCompiled = COMPILED_DECISIONS.getOrDefault(modelName, Collections.emptySet());
+            assertEquals(String.format("Compiled decisions in '%s'", modelName), expectedCompiled, new TreeSet<>(model.getCompiledDecisionNames()));
+            DMNInterpreter interpreter = model.getInterpreter();
+            BasicDMN2JavaTransformer basicTransformer = interpreter.getBasicDMNTransformer();
+            TCKUtil tckUtil = new TCKUtil(basicTransformer, (StandardFEELLib) interpreter.getFeelLib());
+            for (TestCase testCase : result.getRight().getTestCase()) {
+                RuntimeEnvironment runtimeEnvironment = tckUtil.makeEnvironment(testCase);
+                for (ResultNode resultNode : testCase.getResultNode()) {
+                    if (resultNode.isErrorResult()) {
+                        continue;
+                    }
+                    TDRGElement element = basicTransformer.getDMNModelRepository().findDRGElementByName(resultNode.getName());
+                    Object expectedValue = tckUtil.makeValue(resultNode.getExpected(), basicTransformer.drgElementOutputFEELType(element));
+                    Object actualValue = model.evaluate(resultNode.getName(), runtimeEnvironment);
+                    String message = String.format("Unexpected result in '%s' for '%s' (compiled = %s)", testFile.getName(), resultNode.getName(), model.isCompiled(resultNode.getName()));
+                    Assert.assertEquals(message, expectedValue, actualValue);
+                }
+            }
+        }
+    }
+
+    private static Set<String> set(String... names) {
+        return new TreeSet<>(Arrays.asList(names));
+    }
+
+    private static class RecordingListener implements EventListener {
+        private final List<String> events;
+
+        RecordingListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void startDRGElement(DRGElement element, Arguments arguments) {
+            events.add("start " + element.getName());
+        }
+
+        @Override
+        public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+            events.add("end " + element.getName());
+        }
+
+        @Override
+        public void startRule(DRGElement element, Rule rule) {
+            events.add("startRule " + rule.getIndex());
+        }
+
+        @Override
+        public void matchRule(DRGElement element, Rule rule) {
+            events.add("match " + rule.getIndex());
+        }
+
+        @Override
+        public void endRule(DRGElement element, Rule rule, Object result) {
+            events.add("endRule " + rule.getIndex());
+        }
+    }
+}
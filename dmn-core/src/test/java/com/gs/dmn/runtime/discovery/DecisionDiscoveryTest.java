@@ -12,11 +12,20 @@
  */
 package com.gs.dmn.runtime.discovery;
 
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.transformation.GeneratedModel;
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
+import org.reflections.Reflections;
+import org.reflections.util.FilterBuilder;
 
+import java.io.File;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class DecisionDiscoveryTest {
     private final DecisionDiscovery decisionDiscovery = new DecisionDiscovery();
@@ -28,4 +37,31 @@ public class DecisionDiscoveryTest {
         Class<?> first = decisions.iterator().next();
         assertEquals("com.gs.dmn.runtime.discovery.NopDecision", first.getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRegistryDiscoveryDoesNotScan() throws Exception {
+        File folder = Files.createTempDirectory("dmn-discovery").toFile();
+        try (URLClassLoader classLoader = GeneratedModel.load("tck/cl3/input/0004-lending.dmn", "com.gs.lending", folder)) {
+            DecisionDiscovery discovery = new NoScanDecisionDiscovery(classLoader);
+
+            Set<Class<?>> decisions = discovery.discover("com.gs.lending");
+            assertEquals(20, decisions.size());
+            assertTrue(decisions.stream().anyMatch(c -> c.getName().equals("com.gs.lending.Strategy")));
+            // The registry covers the enclosing packages too
+            assertEquals(20, discovery.discover("com.gs").size());
+        } finally {
+            FileUtils.deleteDirectory(folder);
+        }
+    }
+
+    private static class NoScanDecisionDiscovery extends DecisionDiscovery {
+        NoScanDecisionDiscovery(ClassLoader classLoader) {
+            super(classLoader);
+        }
+
+        @Override
+        protected Reflections makeReflections(String packagePrefix, FilterBuilder filter) {
+            throw new DMNRuntimeException(String.format("Unexpected scan of '%s'", packagePrefix));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.interpreter.environment;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RuntimeEnvironmentTest {
+    private final RuntimeEnvironmentFactory factory = RuntimeEnvironmentFactory.instance();
+
+    @Test
+    public void testLookup() {
+        RuntimeEnvironment parent = factory.makeEnvironment();
+        parent.bind("a", 1);
+        parent.bind("b", null);
+        RuntimeEnvironment child = factory.makeEnvironment(parent);
+        child.bind("a", 2);
+
+        assertEquals(2, child.lookupBinding("a"));
+        assertEquals(1, parent.lookupBinding("a"));
+        assertNull(child.lookupBinding("b"));
+        assertTrue(child.isBound("b"));
+        assertFalse(child.isBound("c"));
+
+        child.bind("a", 3);
+        assertEquals(3, child.lookupBinding("a"));
+    }
+
+    @Test
+    public void testLargeFrames() {
+        RuntimeEnvironment environment = factory.makeEnvironment();
+        for (int i = 0; i < 100; i++) {
+            environment.bind("x" + i, i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, environment.lookupBinding("x" + i));
+        }
+        environment.bind("x50", -1);
+        assertEquals(-1, environment.lookupBinding("x50"));
+    }
+
+    @Test
+    public void testCoordinates() {
+        RuntimeEnvironment parent = factory.makeEnvironment();
+        parent.bind("a", 1);
+        parent.bind("b", 2);
+        RuntimeEnvironment child = factory.makeEnvironment(parent);
+        child.bind("c", 3);
+
+        int coordinate = child.resolve("b");
+        assertTrue(child.isResolvedAt("b", coordinate));
+        assertEquals(2, child.lookupBinding(coordinate));
+        assertEquals(RuntimeEnvironment.NOT_FOUND, child.resolve("d"));
+
+        // Same shape
+        RuntimeEnvironment otherChild = factory.makeEnvironment(parent);
+        otherChild.bind("c", 4);
+        assertTrue(otherChild.isResolvedAt("b", coordinate));
+
+        // Shadowed
+        otherChild.bind("b", 5);
+        assertFalse(otherChild.isResolvedAt("b", coordinate));
+        assertEquals(5, otherChild.lookupBinding(otherChild.resolve("b")));
+
+        // Different shape
+        assertFalse(parent.isResolvedAt("b", coordinate));
+        assertFalse(child.isResolvedAt("a", coordinate));
+    }
+
+    @Test
+    public void testDeepBindingIsNotAddressable() {
+        RuntimeEnvironment root = factory.makeEnvironment();
+        root.bind("a", 1);
+        RuntimeEnvironment environment = root;
+        for (int i = 0; i < 3000; i++) {
+            environment = factory.makeEnvironment(environment);
+        }
+
+        assertEquals(RuntimeEnvironment.NOT_ADDRESSABLE, environment.resolve("a"));
+        assertTrue(environment.isBound("a"));
+        assertFalse(environment.isResolvedAt("a", RuntimeEnvironment.NOT_ADDRESSABLE));
+        assertEquals(1, environment.lookupBinding("a"));
+    }
+}
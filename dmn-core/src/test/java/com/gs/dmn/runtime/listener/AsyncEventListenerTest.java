@@ -0,0 +1,219 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import com.gs.dmn.runtime.Context;
+import com.gs.dmn.runtime.annotation.DRGElementKind;
+import com.gs.dmn.runtime.annotation.ExpressionKind;
+import com.gs.dmn.runtime.annotation.HitPolicy;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class AsyncEventListenerTest {
+    private final DRGElement element = new DRGElement("ns", "Decision", "Decision", DRGElementKind.DECISION, ExpressionKind.DECISION_TABLE, HitPolicy.UNIQUE, 2);
+    private final Rule rule = new Rule(1, "");
+
+    @Test
+    public void testEventsAreWrittenInOrder() throws Exception {
+        MemoryAuditEventSink sink = new MemoryAuditEventSink();
+        AsyncEventListener listener = new AsyncEventListener(sink, 8, AsyncEventListener.BackPressure.BLOCK, 1);
+        Arguments arguments = new Arguments();
+        arguments.put("a", 1);
+        for (int i = 0; i < 100; i++) {
+            listener.startDRGElement(element, arguments);
+            listener.startRule(element, rule);
+            listener.matchRule(element, rule);
+            listener.endRule(element, rule, "x");
+            listener.endDRGElement(element, arguments, "x", 1);
+        }
+        listener.close();
+
+        List<String> events = sink.getEvents();
+        assertEquals(500, events.size());
+        assertEquals(500, listener.getWrittenCount());
+        assertEquals(0, listener.getDroppedCount());
+        assertTrue(events.get(0).endsWith("Start element 'Decision' with inputs a='1'"));
+        assertTrue(events.get(3).endsWith("Rule 1 of 'Decision' fired with output 'x'"));
+        assertTrue(events.get(499).endsWith("End element 'Decision' with output 'x' in 1.000ms"));
+    }
+
+    @Test
+    public void testDropWhenFull() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<String> written = new ArrayList<>();
+        AuditEventSink blockedSink = event -> {
+            latch.await();
+            written.add(event.getKind().toString());
+        };
+        AsyncEventListener listener = new AsyncEventListener(blockedSink, 4, AsyncEventListener.BackPressure.DROP, 1);
+        for (int i = 0; i < 100; i++) {
+            listener.matchRule(element, rule);
+        }
+        latch.countDown();
+        assertTrue(listener.awaitDrained(10, TimeUnit.SECONDS));
+        listener.close();
+
+        assertEquals(100, listener.getPublishedCount() + listener.getDroppedCount());
+        assertTrue(listener.getDroppedCount() >= 100 - 5);
+        assertEquals(listener.getPublishedCount(), written.size());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        MemoryAuditEventSink sink = new MemoryAuditEventSink();
+        AsyncEventListener listener = new AsyncEventListener(sink, 16, AsyncEventListener.BackPressure.BLOCK, 1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    listener.matchRule(element, rule);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        listener.close();
+
+        assertEquals(4000, sink.getEvents().size());
+        assertEquals(0, listener.getDroppedCount());
+    }
+
+    @Test
+    public void testSinkErrorsAreCounted() throws Exception {
+        AsyncEventListener listener = new AsyncEventListener(event -> {
+            throw new IllegalStateException("test");
+        }, 4, AsyncEventListener.BackPressure.BLOCK, 1);
+        listener.matchRule(element, rule);
+        listener.close();
+
+        assertEquals(1, listener.getSinkErrorCount());
+        listener.matchRule(element, rule);
+        assertEquals(1, listener.getDroppedCount());
+    }
+
+    @Test
+    public void testArgumentsAndOutputAreCopiedWhenPublished() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        MemoryAuditEventSink memorySink = new MemoryAuditEventSink();
+        AsyncEventListener listener = new AsyncEventListener(event -> {
+            latch.await();
+            memorySink.write(event);
+        }, 4, AsyncEventListener.BackPressure.BLOCK, 1);
+        Arguments arguments = new Arguments();
+        arguments.put("a", 1);
+        List<Object> output = new ArrayList<>();
+        output.add("x");
+        listener.startDRGElement(element, arguments);
+        listener.endDRGElement(element, arguments, output, 1);
+        arguments.put("a", 2);
+        output.add("y");
+        latch.countDown();
+        listener.close();
+
+        List<String> events = memorySink.getEvents();
+        assertTrue(events.get(0).endsWith("Start element 'Decision' with inputs a='1'"));
+        assertTrue(events.get(1).endsWith("End element 'Decision' with output '[x]' in 1.000ms"));
+    }
+
+    @Test
+    public void testValuesAreFormattedOnDrainThread() throws Exception {
+        List<String> formattingThreads = new ArrayList<>();
+        Object itemDefinition = new Object() {
+            @Override
+            public String toString() {
+                formattingThreads.add(Thread.currentThread().getName());
+                return "item";
+            }
+        };
+        List<AuditEvent> received = new ArrayList<>();
+        MemoryAuditEventSink memorySink = new MemoryAuditEventSink();
+        AsyncEventListener listener = new AsyncEventListener(event -> {
+            received.add(event);
+            memorySink.write(event);
+        }, 4, AsyncEventListener.BackPressure.BLOCK, 1);
+        Context output = new Context();
+        output.put("item", itemDefinition);
+        output.put("list", new ArrayList<>(Collections.singletonList("x")));
+        listener.endDRGElementNanos(element, null, output, 1500000);
+        output.put("item", "changed");
+        listener.close();
+
+        // Captured, not formatted, when published
+        assertEquals(Collections.singletonList("dmn-audit-drain"), formattingThreads);
+        assertTrue(memorySink.getEvents().get(0).endsWith("End element 'Decision' with output '{item=item, list=[x]}' in 1.500ms"));
+        assertEquals(1500000, received.get(0).getDurationNanos());
+        assertEquals(1, received.get(0).getDuration());
+    }
+
+    @Test
+    public void testCloseWritesEventsBeingPublished() throws Exception {
+        MemoryAuditEventSink sink = new MemoryAuditEventSink();
+        AsyncEventListener listener = new AsyncEventListener(sink, 1024, AsyncEventListener.BackPressure.BLOCK, 1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    listener.matchRule(element, rule);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        listener.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40000, listener.getPublishedCount() + listener.getDroppedCount());
+        assertEquals(listener.getPublishedCount(), listener.getWrittenCount());
+        assertEquals(listener.getPublishedCount(), sink.getEvents().size());
+    }
+
+    @Test
+    public void testMappedFileSink() throws Exception {
+        File file = File.createTempFile("dmn-audit", ".log");
+        try {
+            // Small regions to cross region boundaries
+            AsyncEventListener listener = new AsyncEventListener(new MappedFileAuditEventSink(file, 64), 8, AsyncEventListener.BackPressure.BLOCK, 1);
+            for (int i = 0; i < 100; i++) {
+                listener.matchRule(element, rule);
+            }
+            listener.close();
+
+            List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+            assertEquals(100, lines.size());
+            assertTrue(lines.get(99).endsWith("Rule 1 of 'Decision' matched"));
+
+            // Appends to the existing content
+            listener = new AsyncEventListener(new MappedFileAuditEventSink(file, 64), 8, AsyncEventListener.BackPressure.BLOCK, 1);
+            listener.matchRule(element, rule);
+            listener.close();
+            assertEquals(101, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testBuckets() {
+        long previousUpperBound = -1;
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            long upperBound = LatencyHistogram.bucketUpperBound(i);
+            assertTrue(upperBound > previousUpperBound);
+            assertEquals(i, LatencyHistogram.bucketIndex(previousUpperBound + 1));
+            assertEquals(i, LatencyHistogram.bucketIndex(upperBound));
+            previousUpperBound = upperBound;
+        }
+        assertEquals(Long.MAX_VALUE, previousUpperBound);
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500500.0, snapshot.getMeanNanos(), 0.1);
+        assertEquals(1000000, snapshot.getMaxNanos());
+        assertEquals(1000000, snapshot.getPercentileNanos(100));
+        assertEquals(500000, snapshot.getPercentileNanos(50), 500000 / 8);
+        assertEquals(990000, snapshot.getPercentileNanos(99), 990000 / 8);
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getPercentileNanos(50));
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import com.gs.dmn.runtime.annotation.DRGElementKind;
+import com.gs.dmn.runtime.annotation.ExpressionKind;
+import com.gs.dmn.runtime.annotation.HitPolicy;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+public class MetricsEventListenerTest {
+    private final DRGElement element = new DRGElement("", "Decision", "Decision", DRGElementKind.DECISION, ExpressionKind.DECISION_TABLE, HitPolicy.FIRST, 3);
+
+    @Test
+    public void testCounters() {
+        MetricsEventListener listener = new MetricsEventListener();
+        for (int i = 0; i < 10; i++) {
+            evaluate(listener, i % 2, 1000 * (i + 1));
+        }
+
+        ElementMetrics metrics = listener.getMetrics("Decision");
+        assertEquals(10, metrics.getLatency().getCount());
+        assertEquals(10000, metrics.getLatency().getMaxNanos());
+        assertArrayEquals(new long[] {10, 5, 0}, metrics.getRuleEvaluationCounts());
+        assertArrayEquals(new long[] {5, 5, 0}, metrics.getRuleHitCounts());
+        assertArrayEquals(new String[] {"Decision"}, listener.getElementsWithDeadRules());
+
+        listener.reset();
+        assertEquals(0, listener.getCount("Decision"));
+    }
+
+    @Test
+    public void testTimingOnly() {
+        MetricsEventListener listener = new MetricsEventListener(false);
+        assertFalse(listener.isTraced(element));
+
+        evaluate(listener, 0, 10);
+        assertEquals(1, listener.getCount("Decision"));
+        assertArrayEquals(new long[] {0, 0, 0}, listener.getRuleHitCounts("Decision"));
+        assertArrayEquals(new String[0], listener.getElementsWithDeadRules());
+    }
+
+    @Test
+    public void testOnlyElementsWithRulesAreTraced() {
+        MetricsEventListener listener = new MetricsEventListener();
+        DRGElement literal = new DRGElement("", "Literal", "Literal", DRGElementKind.DECISION, ExpressionKind.LITERAL_EXPRESSION, HitPolicy.UNKNOWN, 0);
+        assertTrue(listener.isTraced(element));
+        assertFalse(listener.isTraced(literal));
+
+        evaluate(listener, literal, 0, 10);
+        assertEquals(1, listener.getCount("Literal"));
+        assertArrayEquals(new String[0], listener.getElementsWithDeadRules());
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        MetricsEventListener listener = new MetricsEventListener();
+        evaluate(listener, 1, 2000);
+
+        ObjectName name = listener.registerMBean("com.gs.dmn:type=DecisionMetrics,name=test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertArrayEquals(new String[] {"Decision"}, (String[]) server.getAttribute(name, "ElementNames"));
+            Object count = server.invoke(name, "getCount", new Object[] {"Decision"}, new String[] {String.class.getName()});
+            assertEquals(1L, count);
+        } finally {
+            listener.unregisterMBean(name);
+        }
+    }
+
+    // First hit policy: rules are evaluated until matchedRule matches
+    private void evaluate(EventListener listener, int matchedRule, long durationNanos) {
+        evaluate(listener, element, matchedRule, durationNanos);
+    }
+
+    private void evaluate(EventListener listener, DRGElement element, int matchedRule, long durationNanos) {
+        listener.startDRGElement(element, null);
+        if (listener.isTraced(element)) {
+            for (int i = 0; i <= matchedRule; i++) {
+                Rule rule = new Rule(i, "");
+                listener.startRule(element, rule);
+                if (i == matchedRule) {
+                    listener.matchRule(element, rule);
+                }
+                listener.endRule(element, rule, null);
+            }
+        }
+        listener.endDRGElementNanos(element, null, null, durationNanos);
+    }
+}
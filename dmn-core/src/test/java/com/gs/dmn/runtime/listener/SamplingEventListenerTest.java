@@ -0,0 +1,233 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.annotation.DRGElementKind;
+import com.gs.dmn.runtime.annotation.ExpressionKind;
+import com.gs.dmn.runtime.annotation.HitPolicy;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SamplingEventListenerTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(SamplingEventListenerTest.class));
+
+    private final DRGElement parent = new DRGElement("ns", "Parent", "Parent", DRGElementKind.DECISION, ExpressionKind.LITERAL_EXPRESSION, HitPolicy.UNKNOWN, 0);
+    private final DRGElement child = new DRGElement("ns", "Child", "Child", DRGElementKind.DECISION, ExpressionKind.DECISION_TABLE, HitPolicy.UNIQUE, 1);
+    private final Rule rule = new Rule(0, "");
+
+    @Test
+    public void testEveryNth() {
+        RecordingListener recorder = new RecordingListener();
+        SamplingEventListener listener = SamplingEventListener.everyNth(recorder, 3);
+
+        List<Boolean> traced = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            traced.add(evaluate(listener, "1", 0));
+        }
+
+        assertEquals("[true, false, false, true, false, false]", traced.toString());
+        assertEquals(2 * 7, recorder.events.size());
+        assertEquals("start Parent", recorder.events.get(0));
+        assertEquals("end Parent", recorder.events.get(6));
+    }
+
+    @Test
+    public void testMatching() {
+        RecordingListener recorder = new RecordingListener();
+        SamplingEventListener listener = SamplingEventListener.matching(recorder, arguments -> "42".equals(arguments.get("id")));
+
+        evaluate(listener, "1", 0);
+        assertTrue(recorder.events.isEmpty());
+
+        evaluate(listener, "42", 0);
+        assertEquals(7, recorder.events.size());
+        assertEquals("match Child", recorder.events.get(3));
+    }
+
+    @Test
+    public void testSlowerThan() {
+        RecordingListener recorder = new RecordingListener();
+        SamplingEventListener listener = SamplingEventListener.slowerThan(recorder, 100);
+
+        evaluate(listener, "1", 10);
+        assertTrue(recorder.events.isEmpty());
+
+        evaluate(listener, "1", 100);
+        assertEquals(7, recorder.events.size());
+    }
+
+    @Test
+    public void testUnfinishedElementsAreDiscarded() {
+        RecordingListener recorder = new RecordingListener();
+        SamplingEventListener listener = SamplingEventListener.everyNth(recorder, 2);
+
+        // Child fails and does not report its end
+        listener.isTraced(parent);
+        listener.startDRGElement(parent, new Arguments());
+        listener.isTraced(child);
+        listener.startDRGElement(child, null);
+        listener.endDRGElement(parent, null, null, 0);
+
+        // Next top-level evaluation is not sampled
+        assertFalse(evaluate(listener, "1", 0));
+        assertTrue(evaluate(listener, "1", 0));
+    }
+
+    @Test
+    public void testFailedEvaluationInInterpreter() {
+        DMNModelRepository repository = new DMNReader(LOGGER, false).read(new File(getClass().getClassLoader().getResource("tck/cl3/input/0020-vacation-days.dmn").getFile()));
+        DMNInterpreter interpreter = new StandardDMNDialectDefinition().createDMNInterpreter(new ToSimpleNameTransformer(LOGGER).transform(repository));
+        RecordingListener recorder = new RecordingListener();
+
+        // The first evaluation fails after its start was reported; its end is reported by the interpreter
+        DMNInterpreter.setEventListener(new FailingEventListener(SamplingEventListener.everyNth(recorder, 2), "TotalVacationDays"));
+        try {
+            for (int i = 0; i < 4; i++) {
+                RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+                runtimeEnvironment.bind("Age", new BigDecimal("16"));
+                runtimeEnvironment.bind("YearsOfService", new BigDecimal("1"));
+                try {
+                    interpreter.evaluate("TotalVacationDays", runtimeEnvironment);
+                    assertNotEquals(0, i);
+                } catch (DMNRuntimeException e) {
+                    assertEquals(0, i);
+                }
+            }
+        } finally {
+            DMNInterpreter.setEventListener(new LoggingEventListener(LoggerFactory.getLogger(DMNInterpreter.class)));
+        }
+
+        // The failed evaluation and the third one are sampled
+        assertEquals(2, recorder.events.stream().filter("start TotalVacationDays"::equals).count());
+        assertEquals(2, recorder.events.stream().filter("end TotalVacationDays"::equals).count());
+    }
+
+    private boolean evaluate(EventListener listener, String id, long duration) {
+        boolean traced = listener.isTraced(parent);
+        Arguments parentArguments = null;
+        if (traced) {
+            parentArguments = new Arguments();
+            parentArguments.put("id", id);
+        }
+        listener.startDRGElement(parent, parentArguments);
+
+        Arguments childArguments = listener.isTraced(child) ? new Arguments() : null;
+        listener.startDRGElement(child, childArguments);
+        if (listener.isTraced(child)) {
+            listener.startRule(child, rule);
+            listener.matchRule(child, rule);
+            listener.endRule(child, rule, "x");
+        }
+        listener.endDRGElement(child, childArguments, "x", duration);
+
+        listener.endDRGElement(parent, parentArguments, "x", duration);
+        return traced;
+    }
+
+    // Fails once, when the element starts; the start is reported to the delegate first
+    private static class FailingEventListener implements EventListener {
+        private final EventListener delegate;
+        private final String failingElement;
+        private boolean failed;
+
+        FailingEventListener(EventListener delegate, String failingElement) {
+            this.delegate = delegate;
+            this.failingElement = failingElement;
+        }
+
+        @Override
+        public boolean isTraced(DRGElement element) {
+            return delegate.isTraced(element);
+        }
+
+        @Override
+        public void startDRGElement(DRGElement element, Arguments arguments) {
+            delegate.startDRGElement(element, arguments);
+            if (!failed && failingElement.equals(element.getName())) {
+                failed = true;
+                throw new DMNRuntimeException(String.format("Failure in '%s'", failingElement));
+            }
+        }
+
+        @Override
+        public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+            delegate.endDRGElement(element, arguments, output, duration);
+        }
+
+        @Override
+        public void endDRGElementNanos(DRGElement element, Arguments arguments, Object output, long durationNanos) {
+            delegate.endDRGElementNanos(element, arguments, output, durationNanos);
+        }
+
+        @Override
+        public void startRule(DRGElement element, Rule rule) {
+            delegate.startRule(element, rule);
+        }
+
+        @Override
+        public void matchRule(DRGElement element, Rule rule) {
+            delegate.matchRule(element, rule);
+        }
+
+        @Override
+        public void endRule(DRGElement element, Rule rule, Object result) {
+            delegate.endRule(element, rule, result);
+        }
+    }
+
+    private static class RecordingListener implements SimpleEventListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void startDRGElement(DRGElement element, Arguments arguments) {
+            events.add("start " + element.getName());
+        }
+
+        @Override
+        public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+            events.add("end " + element.getName());
+        }
+
+        @Override
+        public void startRule(DRGElement element, Rule rule) {
+            events.add("start rule " + element.getName());
+        }
+
+        @Override
+        public void matchRule(DRGElement element, Rule rule) {
+            events.add("match " + element.getName());
+        }
+
+        @Override
+        public void endRule(DRGElement element, Rule rule, Object result) {
+            events.add("end rule " + element.getName());
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.replay;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.lib.DefaultFEELLib;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.Context;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+import com.gs.dmn.runtime.annotation.DRGElementKind;
+import com.gs.dmn.runtime.annotation.ExpressionKind;
+import com.gs.dmn.runtime.annotation.HitPolicy;
+import com.gs.dmn.runtime.external.DefaultExternalFunctionExecutor;
+import com.gs.dmn.runtime.external.ExternalFunctionExecutor;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.runtime.listener.Arguments;
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.LoggingEventListener;
+import com.gs.dmn.runtime.listener.Rule;
+import com.gs.dmn.runtime.listener.SamplingEventListener;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.serialization.JsonSerializer;
+import com.gs.dmn.transformation.GeneratedModel;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class ReplayTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(ReplayTest.class));
+    private static final ClassLoader CLASS_LOADER = ReplayTest.class.getClassLoader();
+
+    // Age, Years of Service and Total Vacation Days of the TCK test cases
+    private static final int[][] VACATION_DAYS = {{16, 1, 27}, {25, 5, 22}, {25, 20, 24}, {44, 30, 30}};
+
+    private static final String APPLICANT_DATA = "{\"Age\":35,\"EmploymentStatus\":\"EMPLOYED\",\"ExistingCustomer\":true,\"MaritalStatus\":\"M\",\"Monthly\":{\"Expenses\":2000,\"Income\":6000,\"Repayments\":0}}";
+    private static final String REQUESTED_PRODUCT = "{\"Amount\":350000,\"ProductType\":\"STANDARD LOAN\",\"Rate\":0.0395,\"Term\":360}";
+
+    private final DefaultFEELLib lib = new DefaultFEELLib();
+    private final DRGElement element = new DRGElement("ns", "ScoreDecision", "ScoreDecision", DRGElementKind.DECISION, ExpressionKind.OTHER, HitPolicy.UNKNOWN, 0);
+    private File folder;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = Files.createTempDirectory("dmn-replay").toFile();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        resetEventListener();
+        FileUtils.deleteDirectory(folder);
+    }
+
+    @Test
+    public void testRecordAndReplayWithInterpreter() throws Exception {
+        DMNInterpreter interpreter = vacationDays();
+        Path capture = folder.toPath().resolve("capture.bin");
+        try (CaptureWriter writer = new CaptureWriter(capture)) {
+            DMNInterpreter.setEventListener(SamplingEventListener.everyNth(new RecordingEventListener(writer), 2));
+            for (int i = 0; i < 8; i++) {
+                int[] testCase = VACATION_DAYS[i % VACATION_DAYS.length];
+                RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+                runtimeEnvironment.bind("Age", lib.number(String.valueOf(testCase[0])));
+                runtimeEnvironment.bind("YearsOfService", lib.number(String.valueOf(testCase[1])));
+                interpreter.evaluate("TotalVacationDays", runtimeEnvironment);
+            }
+            assertEquals(4, writer.getWritten());
+        }
+        resetEventListener();
+
+        List<CapturedEvaluation> evaluations = CaptureReader.readAll(capture, lib);
+        assertEquals(4, evaluations.size());
+        CapturedEvaluation first = evaluations.get(0);
+        assertEquals("TotalVacationDays", first.getName());
+        assertEquals(Arrays.asList("Age", "YearsOfService"), new ArrayList<>(first.getArguments().keySet()));
+        assertEquals(lib.number("27"), first.getOutput());
+        assertTrue(first.getDurationNanos() > 0);
+
+        ReplayReport report = new Replayer(1, 2).replay(capture, new InterpreterReplayTarget(vacationDays()));
+        assertTrue(report.toString(), report.isSuccessful());
+        assertEquals(4, report.getEvaluations());
+        assertEquals(8, report.getMeasuredEvaluations());
+        assertEquals(8, report.getReplayedLatency().getCount());
+        assertEquals(4, report.getRecordedLatency().getCount());
+    }
+
+    @Test
+    public void testMismatches() throws Exception {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        arguments.put("Age", lib.number("16"));
+        arguments.put("YearsOfService", lib.number("1"));
+        List<CapturedEvaluation> evaluations = Arrays.asList(
+                new CapturedEvaluation("", "TotalVacationDays", 0, 1000, arguments, lib.number("27")),
+                new CapturedEvaluation("", "TotalVacationDays", 0, 1000, arguments, lib.number("28")),
+                new CapturedEvaluation("", "Unknown", 0, 1000, arguments, null)
+        );
+
+        ReplayReport report = new Replayer(0, 1).replay(evaluations, new InterpreterReplayTarget(vacationDays()));
+
+        assertFalse(report.isSuccessful());
+        assertEquals(1, report.getMismatches());
+        assertEquals(1, report.getErrors());
+        assertEquals(2, report.getDetails().size());
+        assertTrue(report.getDetails().get(0), report.getDetails().get(0).startsWith("Evaluation 1 of 'TotalVacationDays': expected '28'"));
+    }
+
+    @Test
+    public void testRecordAndReplayWithGeneratedDecision() throws Exception {
+        try (URLClassLoader classLoader = GeneratedModel.load("tck/cl3/input/0004-lending.dmn", "com.gs.lending", folder)) {
+            Class<?> strategyClass = classLoader.loadClass("com.gs.lending.Strategy");
+            Class<?> applicantDataClass = classLoader.loadClass("com.gs.lending.type.TApplicantData");
+            Class<?> requestedProductClass = classLoader.loadClass("com.gs.lending.type.TRequestedProduct");
+            Object applicantData = JsonSerializer.OBJECT_MAPPER.readValue(APPLICANT_DATA, classLoader.loadClass("com.gs.lending.type.TApplicantDataImpl"));
+            Object requestedProduct = JsonSerializer.OBJECT_MAPPER.readValue(REQUESTED_PRODUCT, classLoader.loadClass("com.gs.lending.type.TRequestedProductImpl"));
+
+            // Record the generated code
+            Method apply = strategyClass.getMethod("apply", applicantDataClass, requestedProductClass, AnnotationSet.class, EventListener.class, ExternalFunctionExecutor.class);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (CaptureWriter writer = new CaptureWriter(output)) {
+                RecordingEventListener listener = new RecordingEventListener(writer);
+                for (int i = 0; i < 3; i++) {
+                    assertEquals("BUREAU", apply.invoke(strategyClass.newInstance(), applicantData, requestedProduct, new AnnotationSet(), listener, new DefaultExternalFunctionExecutor()));
+                }
+                // Only the top-level evaluations
+                assertEquals(3, writer.getWritten());
+            }
+
+            List<CapturedEvaluation> evaluations = read(output.toByteArray());
+            CapturedEvaluation first = evaluations.get(0);
+            assertEquals("Strategy", first.getName());
+            assertEquals("BUREAU", first.getOutput());
+            assertEquals(Arrays.asList("applicantData", "requestedProduct"), new ArrayList<>(first.getArguments().keySet()));
+            Context capturedApplicant = (Context) first.getArguments().get("applicantData");
+            assertEquals(lib.number("35"), capturedApplicant.get("Age"));
+
+            // Replay: the contexts are converted back to item definitions
+            ReplayTarget target = new GeneratedDecisionReplayTarget(strategyClass);
+            ReplayReport report = new Replayer(0, 2).replay(evaluations, target);
+            assertTrue(report.toString(), report.isSuccessful());
+            assertEquals(3, report.getEvaluations());
+            assertEquals(6, report.getMeasuredEvaluations());
+
+            // The arguments are bound by name
+            Map<String, Object> reversed = new LinkedHashMap<>();
+            reversed.put("requestedProduct", first.getArguments().get("requestedProduct"));
+            reversed.put("applicantData", first.getArguments().get("applicantData"));
+            assertEquals("BUREAU", target.evaluate(new CapturedEvaluation("", "Strategy", 0, 1000, reversed, "BUREAU")));
+        }
+    }
+
+    @Test
+    public void testRecordingAfterFailedEvaluationWithInterpreter() throws Exception {
+        DMNInterpreter interpreter = vacationDays();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CaptureWriter writer = new CaptureWriter(output)) {
+            // The first evaluation fails in a nested decision, after its start was reported
+            DMNInterpreter.setEventListener(new FailingEventListener(new RecordingEventListener(writer), "BaseVacationDays"));
+            for (int i = 0; i < 2; i++) {
+                RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+                runtimeEnvironment.bind("Age", lib.number("16"));
+                runtimeEnvironment.bind("YearsOfService", lib.number("1"));
+                try {
+                    interpreter.evaluate("TotalVacationDays", runtimeEnvironment);
+                    assertEquals(1, i);
+                } catch (RuntimeException e) {
+                    assertEquals(0, i);
+                }
+            }
+            assertEquals(2, writer.getWritten());
+        }
+        resetEventListener();
+
+        List<CapturedEvaluation> evaluations = read(output.toByteArray());
+        assertNull(evaluations.get(0).getOutput());
+        assertEquals("TotalVacationDays", evaluations.get(1).getName());
+        assertEquals(lib.number("27"), evaluations.get(1).getOutput());
+    }
+
+    @Test
+    public void testRecordingAfterFailedEvaluationWithGeneratedDecision() throws Exception {
+        try (URLClassLoader classLoader = GeneratedModel.load("tck/cl3/input/0004-lending.dmn", "com.gs.lending", folder)) {
+            Class<?> strategyClass = classLoader.loadClass("com.gs.lending.Strategy");
+            Object applicantData = JsonSerializer.OBJECT_MAPPER.readValue(APPLICANT_DATA, classLoader.loadClass("com.gs.lending.type.TApplicantDataImpl"));
+            Object requestedProduct = JsonSerializer.OBJECT_MAPPER.readValue(REQUESTED_PRODUCT, classLoader.loadClass("com.gs.lending.type.TRequestedProductImpl"));
+            Method apply = strategyClass.getMethod("apply", classLoader.loadClass("com.gs.lending.type.TApplicantData"), classLoader.loadClass("com.gs.lending.type.TRequestedProduct"), AnnotationSet.class, EventListener.class, ExternalFunctionExecutor.class);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (CaptureWriter writer = new CaptureWriter(output)) {
+                // The generated code catches the failure of the top-level decision and reports its end
+                EventListener listener = new FailingEventListener(new RecordingEventListener(writer), "Strategy");
+                assertNull(apply.invoke(strategyClass.newInstance(), applicantData, requestedProduct, new AnnotationSet(), listener, new DefaultExternalFunctionExecutor()));
+                assertEquals("BUREAU", apply.invoke(strategyClass.newInstance(), applicantData, requestedProduct, new AnnotationSet(), listener, new DefaultExternalFunctionExecutor()));
+                assertEquals(2, writer.getWritten());
+            }
+
+            List<CapturedEvaluation> evaluations = read(output.toByteArray());
+            assertNull(evaluations.get(0).getOutput());
+            assertEquals("Strategy", evaluations.get(1).getName());
+            assertEquals("BUREAU", evaluations.get(1).getOutput());
+        }
+    }
+
+    @Test
+    public void testValues() throws Exception {
+        Context context = new Context();
+        context.put("date", lib.date("2016-12-24"));
+        context.put("dateTime", lib.dateAndTime("2016-12-24T23:59:00Z"));
+        context.put("time", lib.time("13:20:00Z"));
+        context.put("duration", lib.duration("P1DT2H"));
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        arguments.put("number", lib.number("-123456789012345678901234567890.125"));
+        arguments.put("long", 42L);
+        arguments.put("string", "abc");
+        arguments.put("long string", String.join("", Collections.nCopies(100, "x")));
+        arguments.put("boolean", true);
+        arguments.put("null", null);
+        arguments.put("list", Arrays.asList("abc", null, false));
+        arguments.put("context", context);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CaptureWriter writer = new CaptureWriter(output)) {
+            assertTrue(writer.write(element, arguments, context, 10));
+            // Functions cannot be captured, the record is skipped
+            assertFalse(writer.write(element, Collections.singletonMap("function", new Object()), "new string", 10));
+            assertTrue(writer.write(element, arguments, "abc", 20));
+            assertEquals(2, writer.getWritten());
+            assertEquals(1, writer.getSkipped());
+        }
+
+        List<CapturedEvaluation> evaluations = read(output.toByteArray());
+        assertEquals(2, evaluations.size());
+        for (CapturedEvaluation evaluation : evaluations) {
+            assertEquals("ns", evaluation.getNamespace());
+            assertEquals("ScoreDecision", evaluation.getName());
+            assertEquals(new ArrayList<>(arguments.keySet()), new ArrayList<>(evaluation.getArguments().keySet()));
+            for (String key : arguments.keySet()) {
+                if (!"long".equals(key)) {
+                    com.gs.dmn.runtime.Assert.assertEquals(arguments.get(key), evaluation.getArguments().get(key));
+                }
+            }
+            // Converted to the numbers of the library
+            assertEquals(lib.number("42"), evaluation.getArguments().get("long"));
+        }
+        com.gs.dmn.runtime.Assert.assertEquals(context, evaluations.get(0).getOutput());
+        assertEquals("abc", evaluations.get(1).getOutput());
+        assertEquals(20, evaluations.get(1).getDurationNanos());
+
+        // A truncated last record is ignored
+        byte[] bytes = output.toByteArray();
+        assertEquals(1, read(Arrays.copyOf(bytes, bytes.length - 3)).size());
+    }
+
+    // Fails once, when the element starts; the start is reported to the delegate first
+    private static class FailingEventListener implements EventListener {
+        private final EventListener delegate;
+        private final String failingElement;
+        private boolean failed;
+
+        FailingEventListener(EventListener delegate, String failingElement) {
+            this.delegate = delegate;
+            this.failingElement = failingElement;
+        }
+
+        @Override
+        public boolean isTraced(DRGElement element) {
+            return delegate.isTraced(element);
+        }
+
+        @Override
+        public void startDRGElement(DRGElement element, Arguments arguments) {
+            delegate.startDRGElement(element, arguments);
+            if (!failed && failingElement.equals(element.getName())) {
+                failed = true;
+                throw new DMNRuntimeException(String.format("Failure in '%s'", failingElement));
+            }
+        }
+
+        @Override
+        public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+            delegate.endDRGElement(element, arguments, output, duration);
+        }
+
+        @Override
+        public void endDRGElementNanos(DRGElement element, Arguments arguments, Object output, long durationNanos) {
+            delegate.endDRGElementNanos(element, arguments, output, durationNanos);
+        }
+
+        @Override
+        public void startRule(DRGElement element, Rule rule) {
+            delegate.startRule(element, rule);
+        }
+
+        @Override
+        public void matchRule(DRGElement element, Rule rule) {
+            delegate.matchRule(element, rule);
+        }
+
+        @Override
+        public void endRule(DRGElement element, Rule rule, Object result) {
+            delegate.endRule(element, rule, result);
+        }
+    }
+
+    // Default listener of the interpreter
+    private void resetEventListener() {
+        DMNInterpreter.setEventListener(new LoggingEventListener(LoggerFactory.getLogger(DMNInterpreter.class)));
+    }
+
+    private List<CapturedEvaluation> read(byte[] bytes) throws Exception {
+        List<CapturedEvaluation> evaluations = new ArrayList<>();
+        try (CaptureReader reader = new CaptureReader(new ByteArrayInputStream(bytes), lib)) {
+            while (reader.hasNext()) {
+                evaluations.add(reader.next());
+            }
+        }
+        return evaluations;
+    }
+
+    private DMNInterpreter vacationDays() {
+        DMNModelRepository repository = new DMNReader(LOGGER, false).read(new File(CLASS_LOADER.getResource("tck/cl3/input/0020-vacation-days.dmn").getFile()));
+        repository = new ToSimpleNameTransformer(LOGGER).transform(repository);
+        return new StandardDMNDialectDefinition().createDMNInterpreter(repository);
+    }
+}
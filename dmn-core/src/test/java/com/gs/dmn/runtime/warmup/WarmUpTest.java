@@ -0,0 +1,208 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.warmup;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.runtime.listener.Arguments;
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.serialization.JsonSerializer;
+import com.gs.dmn.serialization.PrefixNamespaceMappings;
+import com.gs.dmn.serialization.SyntheticModelGenerator;
+import com.gs.dmn.serialization.SyntheticModelParameters;
+import com.gs.dmn.tck.TestCasesReader;
+import com.gs.dmn.transformation.GeneratedModel;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class WarmUpTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(WarmUpTest.class));
+    private static final ClassLoader CLASS_LOADER = WarmUpTest.class.getClassLoader();
+    private static final String APPLICANT_DATA = "{\"Age\":35,\"EmploymentStatus\":\"EMPLOYED\",\"ExistingCustomer\":true,\"MaritalStatus\":\"M\",\"Monthly\":{\"Expenses\":2000,\"Income\":6000,\"Repayments\":0}}";
+    private static final String REQUESTED_PRODUCT = "{\"Amount\":350000,\"ProductType\":\"STANDARD LOAN\",\"Rate\":0.0395,\"Term\":360}";
+
+    @Test
+    public void testTargetsStabilize() {
+        WarmUpTarget constant = new StubTarget("constant", 0);
+        WarmUpReport report = new WarmUp(10_000, 10, 1_000.0, 2).run(constant);
+
+        assertTrue(report.isStabilized());
+        assertFalse(report.isBudgetExpired());
+        WarmUpStatistics statistics = report.getStatistics("constant");
+        assertEquals(30, statistics.getEvaluations());
+        assertEquals(30, statistics.getStabilizedAfterEvaluations());
+        assertEquals(0, statistics.getErrors());
+    }
+
+    @Test
+    public void testFailingTargetIsAbandoned() {
+        WarmUpTarget failing = new StubTarget("failing", -1);
+        WarmUpTarget constant = new StubTarget("constant", 0);
+        WarmUpReport report = new WarmUp(10_000, 10, 1_000.0, 2).run(failing, constant);
+
+        assertFalse(report.isStabilized());
+        assertTrue(report.getStatistics("failing").isAbandoned());
+        assertEquals(10, report.getStatistics("failing").getErrors());
+        assertTrue(report.getStatistics("constant").isStabilized());
+    }
+
+    @Test
+    public void testTimeBudget() {
+        // Latency never stabilizes with a 0 tolerance
+        WarmUpTarget slowingDown = new StubTarget("slowingDown", 1);
+        WarmUpReport report = new WarmUp(50, 1, 0.0, 1_000).run(slowingDown);
+
+        assertTrue(report.isBudgetExpired());
+        assertFalse(report.isStabilized());
+        assertTrue(report.getElapsedMillis() >= 50);
+    }
+
+    @Test
+    public void testInterpreterWithSyntheticInputs() {
+        SyntheticModelParameters parameters = new SyntheticModelParameters(4, 6, 2, 2, 5, 2, 0.5, 2);
+        SyntheticModelGenerator generator = new SyntheticModelGenerator(LOGGER);
+        DMNInterpreter interpreter = new StandardDMNDialectDefinition().createDMNInterpreter(new DMNModelRepository(generator.generate(parameters), new PrefixNamespaceMappings()));
+
+        List<InterpreterWarmUpTarget> targets = InterpreterWarmUpTarget.fromItemDefinitions(interpreter, 5);
+        assertEquals(6, targets.size());
+        assertTrue(targets.get(0).evaluate(3) instanceof BigDecimal);
+
+        WarmUpReport report = new WarmUp(10_000, 20, 10.0, 2).run(targets);
+        assertTrue(report.toString(), report.isStabilized());
+        for (WarmUpStatistics statistics : report.getStatistics()) {
+            assertEquals(0, statistics.getErrors());
+        }
+    }
+
+    @Test
+    public void testInterpreterWithTestCases() {
+        String path = "tck/cl3/input/";
+        DMNModelRepository repository = new DMNReader(LOGGER, false).read(new File(CLASS_LOADER.getResource(path + "0020-vacation-days.dmn").getFile()));
+        TestCases testCases = new TestCasesReader(LOGGER).read(new File(CLASS_LOADER.getResource(path + "standard/0020-vacation-days-test-01.xml").getFile()));
+        // Same names as the TCK tests
+        Pair<DMNModelRepository, TestCases> result = new ToSimpleNameTransformer(LOGGER).transform(repository, testCases);
+        DMNInterpreter interpreter = new StandardDMNDialectDefinition().createDMNInterpreter(result.getLeft());
+        testCases = result.getRight();
+
+        List<InterpreterWarmUpTarget> targets = InterpreterWarmUpTarget.fromTestCases(interpreter, testCases);
+        assertEquals(1, targets.size());
+        assertEquals("TotalVacationDays", targets.get(0).getName());
+        assertEquals(testCases.getTestCase().size(), targets.get(0).getInputs().size());
+
+        WarmUpReport report = new WarmUp(10_000, 20, 10.0, 2).run(targets);
+        assertEquals(0, report.getStatistics("TotalVacationDays").getErrors());
+        // Each sample is evaluated in a fresh environment, the results are not cached in the inputs
+        for (RuntimeEnvironment input : targets.get(0).getInputs()) {
+            assertFalse(input.isBound("TotalVacationDays"));
+        }
+
+        // The events go to the listener of the target, the interpreter keeps its listener
+        List<String> events = new ArrayList<>();
+        InterpreterWarmUpTarget target = new InterpreterWarmUpTarget(interpreter, "TotalVacationDays", targets.get(0).getInputs(), new NopEventListener() {
+            @Override
+            public void startDRGElement(DRGElement element, Arguments arguments) {
+                events.add(element.getName());
+            }
+        });
+        EventListener listener = interpreter.getEventListener();
+        target.evaluate(0);
+        assertEquals(5, events.size());
+        assertSame(listener, interpreter.getEventListener());
+        interpreter.evaluate("TotalVacationDays", RuntimeEnvironmentFactory.instance().makeEnvironment(targets.get(0).getInputs().get(0)));
+        assertEquals(5, events.size());
+    }
+
+    @Test
+    public void testGeneratedDecisions() throws Exception {
+        File folder = Files.createTempDirectory("dmn-warmup").toFile();
+        try (URLClassLoader classLoader = GeneratedModel.load("tck/cl3/input/0004-lending.dmn", "com.gs.lending", folder)) {
+            Class<?> strategyClass = classLoader.loadClass("com.gs.lending.Strategy");
+            // The typed variant of apply is preferred to the one that parses JSON strings
+            GeneratedDecisionWarmUpTarget synthetic = GeneratedDecisionWarmUpTarget.synthetic(strategyClass, 2);
+            assertEquals("Strategy", synthetic.getName());
+            synthetic.evaluate(0);
+
+            Object applicantData = JsonSerializer.OBJECT_MAPPER.readValue(APPLICANT_DATA, classLoader.loadClass("com.gs.lending.type.TApplicantDataImpl"));
+            Object requestedProduct = JsonSerializer.OBJECT_MAPPER.readValue(REQUESTED_PRODUCT, classLoader.loadClass("com.gs.lending.type.TRequestedProductImpl"));
+            GeneratedDecisionWarmUpTarget recorded = new GeneratedDecisionWarmUpTarget(strategyClass, Collections.singletonList(new Object[] {applicantData, requestedProduct}));
+            assertEquals("BUREAU", recorded.evaluate(0));
+
+            WarmUpReport report = new WarmUp(10_000, 20, 1_000.0, 2).run(synthetic, recorded);
+            assertTrue(report.toString(), report.isStabilized());
+            assertEquals(0, report.getStatistics("Strategy").getErrors());
+
+            // One target for each decision of the model
+            List<GeneratedDecisionWarmUpTarget> targets = GeneratedDecisionWarmUpTarget.discover(classLoader, "com.gs.lending", 2);
+            assertEquals(11, targets.size());
+            assertTrue(targets.stream().anyMatch(t -> "Strategy".equals(t.getName())));
+        } finally {
+            FileUtils.deleteDirectory(folder);
+        }
+
+        // NopDecision does not have an apply method
+        assertTrue(GeneratedDecisionWarmUpTarget.discover("com.gs.dmn.runtime.discovery", 2).isEmpty());
+    }
+
+    private static class StubTarget implements WarmUpTarget {
+        private final String name;
+        // < 0 fails, 0 constant latency, > 0 latency grows with each evaluation
+        private final int mode;
+        private int evaluations;
+
+        private StubTarget(String name, int mode) {
+            this.name = name;
+            this.mode = mode;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Object evaluate(int sample) throws Exception {
+            evaluations++;
+            if (mode < 0) {
+                throw new IllegalStateException("test");
+            } else if (mode > 0) {
+                long end = System.nanoTime() + 10_000L * evaluations;
+                while (System.nanoTime() < end) {
+                    // Busy wait
+                }
+            }
+            return sample;
+        }
+    }
+}
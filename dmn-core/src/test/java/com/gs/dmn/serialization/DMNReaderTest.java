@@ -15,12 +15,17 @@ package com.gs.dmn.serialization;
 import com.gs.dmn.DMNModelRepository;
 import com.gs.dmn.log.BuildLogger;
 import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
 import org.junit.Test;
 import org.omg.spec.dmn._20180521.model.*;
 import org.slf4j.LoggerFactory;
 
 import javax.xml.bind.JAXBElement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -77,6 +82,75 @@ public class DMNReaderTest {
         assertEquals("= \"Female\"", firstUnaryTest.getText());
     }
 
+    @Test
+    public void testReadSkippingDiagrams() {
+        // Add a diagram to a synthetic model
+        ByteArrayOutputStream model = new ByteArrayOutputStream();
+        new SyntheticModelGenerator(LOGGER).write(new SyntheticModelParameters(2, 3, 1, 1, 2, 1, 0.5, 1), model);
+        String xml = new String(model.toByteArray(), StandardCharsets.UTF_8);
+        int end = xml.lastIndexOf("</");
+        xml = xml.substring(0, end) +
+                "<dmndi:DMNDI xmlns:dmndi=\"http://www.omg.org/spec/DMN/20180521/DMNDI/\" xmlns:dc=\"http://www.omg.org/spec/DMN/20180521/DC/\">" +
+                "<dmndi:DMNDiagram id=\"diagram\"><dmndi:DMNShape id=\"shape\" dmnElementRef=\"d_0\"><dc:Bounds x=\"10\" y=\"10\" width=\"100\" height=\"50\"/></dmndi:DMNShape></dmndi:DMNDiagram>" +
+                "</dmndi:DMNDI>" +
+                xml.substring(end);
+        byte[] input = xml.getBytes(StandardCharsets.UTF_8);
+
+        DMNModelRepository full = new DMNReader(LOGGER, true).read(new ByteArrayInputStream(input));
+        DMNModelRepository streamed = new DMNReader(LOGGER, true, true).read(new ByteArrayInputStream(input));
+        assertNotNull(full.getDefinitions().getDMNDI());
+        assertNull(streamed.getDefinitions().getDMNDI());
+
+        full.getDefinitions().setDMNDI(null);
+        assertEquals(toXML(full), toXML(streamed));
+    }
+
+    @Test
+    public void testReadDMN11SkippingDiagrams() {
+        File input = resource("tck/cl3/input/0004-lending.dmn");
+
+        assertEquals(toXML(dmnReader.read(input)), toXML(new DMNReader(LOGGER, false, true).read(input)));
+    }
+
+    @Test
+    public void testParallelRead() {
+        List<File> inputs = Arrays.asList(
+                resource("tck/cl3/input/0004-lending.dmn"),
+                resource("tck/cl3/input/0020-vacation-days.dmn"),
+                resource("dmn/expected/quoted/0034-drg-scopes.dmn"),
+                resource("dmn/expected/quoted/0007-date-time.dmn"),
+                resource("tck/cl3/input/0004-lending.dmn")
+        );
+
+        // One repository for each input, duplicates included
+        List<DMNModelRepository> repositories = new DMNReader(LOGGER, true, true).read(inputs, 3);
+        assertEquals(inputs.size(), repositories.size());
+        assertNotSame(repositories.get(0), repositories.get(4));
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(toXML(new DMNReader(LOGGER, false, true).read(inputs.get(i))), toXML(repositories.get(i)));
+        }
+    }
+
+    @Test(expected = DMNRuntimeException.class)
+    public void testDTDIsRejectedWhenSkippingDiagrams() {
+        String dmn = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<!DOCTYPE definitions [<!ENTITY name \"expanded\">]>\n" +
+                "<definitions xmlns=\"http://www.omg.org/spec/DMN/20180521/MODEL/\" id=\"d\" name=\"&name;\" namespace=\"http://www.gs.com/dtd\"/>";
+
+        new DMNReader(LOGGER, false, true).read(new ByteArrayInputStream(dmn.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private File resource(String path) {
+        return new File(DMNReaderTest.class.getClassLoader().getResource(path).getFile());
+    }
+
+    private String toXML(DMNModelRepository repository) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String namespace = repository.getDefinitions().getNamespace();
+        new DMNWriter(LOGGER).write(repository.getDefinitions(), output, new DMNNamespacePrefixMapper(namespace, "tns", DMNVersion.DMN_12));
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     private void assertLiteralExpression(TLiteralExpression inputExpression, String stringType, String id, String text) {
         assertEquals(id, inputExpression.getId());
         assertEquals(stringType, inputExpression.getTypeRef());
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.serialization;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.analysis.ASTCache;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.transformation.AbstractFileTransformerTest;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
+
+import static org.junit.Assert.*;
+
+public class DMNSnapshotTest extends AbstractFileTransformerTest {
+    private static final String CONFIGURATION = ToSimpleNameTransformer.class.getName();
+
+    private final DMNReader dmnReader = new DMNReader(LOGGER, false);
+    private final DMNWriter dmnWriter = new DMNWriter(LOGGER);
+    private final DMNSnapshotWriter snapshotWriter = new DMNSnapshotWriter(LOGGER);
+    private final DMNSnapshotReader snapshotReader = new DMNSnapshotReader(LOGGER);
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        // DMN 1.1 (transformed), DMN 1.2 with DMNDI and extension elements
+        doTest("tck/cl3/input/0004-lending.dmn");
+        doTest("tck/cl3/input/0020-vacation-days.dmn");
+        doTest("dmn/expected/quoted/0034-drg-scopes.dmn");
+        doTest("dmn/expected/quoted/0007-date-time.dmn");
+    }
+
+    @Test
+    public void testStaleSnapshot() throws Exception {
+        File source = copySource("tck/cl3/input/0004-lending.dmn");
+        File snapshot = new File(source.getParentFile(), "0004-lending" + DMNConstants.DMN_SNAPSHOT_FILE_EXTENSION);
+        DMNModelRepository repository = new ToSimpleNameTransformer(LOGGER).transform(dmnReader.read(source));
+        snapshotWriter.write(repository, source, CONFIGURATION, snapshot);
+
+        assertNotNull(snapshotReader.read(snapshot, source, CONFIGURATION));
+        assertNull(snapshotReader.read(snapshot, source, "other"));
+        assertNull(snapshotReader.read(new File(snapshot.getPath() + ".missing"), source, CONFIGURATION));
+
+        // Source changed
+        FileUtils.write(source, "\n", StandardCharsets.UTF_8, true);
+        assertNull(snapshotReader.read(snapshot, source, CONFIGURATION));
+        DMNModelRepository fallback = snapshotReader.readOrElse(snapshot, source, CONFIGURATION, () -> dmnReader.read(source));
+        assertEquals(toXML(dmnReader.read(source)), toXML(fallback));
+    }
+
+    @Test
+    public void testCorruptSnapshot() throws Exception {
+        File source = copySource("tck/cl3/input/0004-lending.dmn");
+        File snapshot = new File(source.getParentFile(), "0004-lending" + DMNConstants.DMN_SNAPSHOT_FILE_EXTENSION);
+        snapshotWriter.write(dmnReader.read(source), source, CONFIGURATION, snapshot);
+
+        // Flip a byte of the payload
+        try (RandomAccessFile file = new RandomAccessFile(snapshot, "rw")) {
+            long position = file.length() - 10;
+            file.seek(position);
+            int b = file.read();
+            file.seek(position);
+            file.write(b ^ 0xFF);
+        }
+        assertNull(snapshotReader.read(snapshot, source, CONFIGURATION));
+        try {
+            snapshotReader.read(snapshot);
+            fail("Expected exception");
+        } catch (Exception e) {
+            assertTrue(e.getCause().getMessage().contains("Checksum mismatch"));
+        }
+    }
+
+    @Test
+    public void testParsedFEEL() throws Exception {
+        File source = new File(resource("tck/cl3/input/0020-vacation-days.dmn"));
+        DMNModelRepository expected = new ToSimpleNameTransformer(LOGGER).transform(dmnReader.read(source));
+        File snapshot = new File("target/snapshot/feel/" + source.getName() + DMNConstants.DMN_SNAPSHOT_FILE_EXTENSION);
+        snapshotWriter.write(expected, source, CONFIGURATION, snapshot);
+        DMNModelRepository actual = snapshotReader.read(snapshot, source, CONFIGURATION);
+
+        ASTCache astCache = actual.getASTCache();
+        assertNotNull(astCache);
+        assertTrue(astCache.parsedSize() > 0);
+
+        // Same results, without parsing the expressions
+        assertEquals(evaluate(expected), evaluate(actual));
+        assertEquals(0, astCache.getParseMissCount());
+        assertTrue(astCache.getParseHitCount() > 0);
+    }
+
+    @Test
+    public void testClassNotAllowed() throws Exception {
+        File source = copySource("tck/cl3/input/0004-lending.dmn");
+        File snapshot = new File(source.getParentFile(), "0004-lending-class" + DMNConstants.DMN_SNAPSHOT_FILE_EXTENSION);
+        snapshotWriter.write(dmnReader.read(source), source, CONFIGURATION, snapshot);
+
+        // Rename a class of the payload and fix the CRC
+        byte[] bytes = Files.readAllBytes(snapshot.toPath());
+        byte[] className = TDefinitions.class.getName().getBytes(StandardCharsets.UTF_8);
+        int index = indexOf(bytes, className);
+        bytes[index + "org.omg.spec.dmn".length() - 1] = 'x';
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(8);
+        buffer.position(buffer.position() + buffer.getInt() + 4);
+        buffer.position(buffer.position() + buffer.getInt() + 4);
+        int crcPosition = buffer.position() + 4;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, crcPosition + 8, bytes.length - crcPosition - 8);
+        buffer.putLong(crcPosition, crc.getValue());
+        Files.write(snapshot.toPath(), bytes);
+
+        try {
+            snapshotReader.read(snapshot);
+            fail("Expected exception");
+        } catch (Exception e) {
+            assertEquals("Class 'org.omg.spec.dmx._20180521.model.TDefinitions' is not allowed in a DMN snapshot", e.getCause().getMessage());
+        }
+    }
+
+    private Object evaluate(DMNModelRepository repository) {
+        DMNInterpreter interpreter = new StandardDMNDialectDefinition().createDMNInterpreter(repository);
+        StandardFEELLib lib = (StandardFEELLib) interpreter.getFeelLib();
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+        runtimeEnvironment.bind("Age", lib.number("16"));
+        runtimeEnvironment.bind("YearsOfService", lib.number("1"));
+        return interpreter.evaluate("TotalVacationDays", runtimeEnvironment);
+    }
+
+    private int indexOf(byte[] bytes, byte[] value) {
+        for (int i = 0; i <= bytes.length - value.length; i++) {
+            boolean found = true;
+            for (int j = 0; j < value.length && found; j++) {
+                found = bytes[i + j] == value[j];
+            }
+            if (found) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Not found");
+    }
+
+    private void doTest(String path) throws Exception {
+        File source = new File(resource(path));
+        DMNModelRepository expected = new ToSimpleNameTransformer(LOGGER).transform(dmnReader.read(source));
+
+        File snapshot = new File("target/snapshot/" + source.getName() + DMNConstants.DMN_SNAPSHOT_FILE_EXTENSION);
+        snapshotWriter.write(expected, source, CONFIGURATION, snapshot);
+        DMNModelRepository actual = snapshotReader.read(snapshot, source, CONFIGURATION);
+
+        assertNotNull(path, actual);
+        assertEquals(path, toXML(expected), toXML(actual));
+        assertTrue(path, snapshot.length() < source.length());
+    }
+
+    private File copySource(String path) throws Exception {
+        File folder = new File("target/snapshot/stale");
+        folder.mkdirs();
+        File source = new File(folder, new File(path).getName());
+        FileUtils.copyFile(new File(resource(path)), source);
+        return source;
+    }
+
+    private String toXML(DMNModelRepository repository) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String namespace = repository.getDefinitions().getNamespace();
+        dmnWriter.write(repository.getDefinitions(), output, new DMNNamespacePrefixMapper(namespace, "tns", DMNVersion.DMN_12));
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.serialization;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import org.junit.Test;
+import org.omg.spec.dmn._20180521.model.TDefinitions;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SyntheticModelGeneratorTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(SyntheticModelGeneratorTest.class));
+
+    private final SyntheticModelGenerator generator = new SyntheticModelGenerator(LOGGER);
+
+    @Test
+    public void testShape() {
+        SyntheticModelParameters parameters = new SyntheticModelParameters(8, 15, 3, 2, 5, 3, 0.5, 2);
+        TDefinitions definitions = generator.generate(parameters);
+
+        DMNModelRepository repository = new DMNModelRepository(definitions, new PrefixNamespaceMappings());
+        assertEquals(8, repository.inputDatas().size());
+        assertEquals(15, repository.decisions().size());
+        assertEquals(2, repository.businessKnowledgeModels().size());
+        long tables = repository.decisions().stream().filter(repository::isDecisionTableExpression).count();
+        assertEquals(8, tables);
+
+        // Layers of 5, 3, 2, 1, 1, 1, 1, 1 decisions
+        assertEquals(Collections.singletonList("decision14"), generator.topDecisionNames(definitions));
+        assertTrue(new DefaultDMNValidator(LOGGER).validate(repository).isEmpty());
+    }
+
+    @Test
+    public void testWriteAndRead() {
+        SyntheticModelParameters parameters = new SyntheticModelParameters(10, 50, 2, 2, 10, 4, 0.3, 3);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        generator.write(parameters, output);
+
+        DMNModelRepository repository = new DMNReader(LOGGER, true).read(new ByteArrayInputStream(output.toByteArray()));
+        assertEquals(parameters.getModelName(), repository.getDefinitions().getName());
+        assertEquals(10 + 50 + 3, repository.drgElements().size());
+    }
+
+    @Test
+    public void testEvaluateDecisionTable() {
+        SyntheticModelParameters parameters = new SyntheticModelParameters(2, 1, 2, 1, 3, 1, 0.0, 0);
+
+        assertEquals(new BigDecimal("15"), evaluate(parameters, "decision0", 12, 3));
+        assertEquals(new BigDecimal("25"), evaluate(parameters, "decision0", 29, 3));
+    }
+
+    @Test
+    public void testEvaluateBKMChain() {
+        SyntheticModelParameters parameters = new SyntheticModelParameters(2, 1, 2, 1, 3, 1, 1.0, 2);
+
+        // bkm1(12, 3) = bkm2(3, 13) = 10
+        assertEquals(new BigDecimal("10"), evaluate(parameters, "decision0", 12, 3));
+    }
+
+    @Test
+    public void testEvaluateLargeModel() {
+        SyntheticModelParameters parameters = new SyntheticModelParameters(20, 200, 3, 2, 10, 3, 0.5, 2);
+        DMNInterpreter interpreter = new StandardDMNDialectDefinition().createDMNInterpreter(new DMNModelRepository(generator.generate(parameters), new PrefixNamespaceMappings()));
+
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+        for (int i = 0; i < parameters.getInputCount(); i++) {
+            runtimeEnvironment.bind(generator.inputDataName(i), BigDecimal.valueOf(generator.inputValue(parameters, i, 0)));
+        }
+        List<String> topDecisionNames = generator.topDecisionNames(generator.generate(parameters));
+        assertFalse(topDecisionNames.isEmpty());
+        for (String name : topDecisionNames) {
+            BigDecimal result = (BigDecimal) interpreter.evaluate(name, runtimeEnvironment);
+            assertTrue(result.signum() >= 0 && result.intValue() < 100);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalParameters() {
+        new SyntheticModelParameters(1, 1, 1, 1, 1, 1, 1.5, 0);
+    }
+
+    private Object evaluate(SyntheticModelParameters parameters, String decisionName, int... inputs) {
+        DMNInterpreter interpreter = new StandardDMNDialectDefinition().createDMNInterpreter(new DMNModelRepository(generator.generate(parameters), new PrefixNamespaceMappings()));
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+        for (int i = 0; i < inputs.length; i++) {
+            runtimeEnvironment.bind(generator.inputDataName(i), BigDecimal.valueOf(inputs[i]));
+        }
+        return interpreter.evaluate(decisionName, runtimeEnvironment);
+    }
+}
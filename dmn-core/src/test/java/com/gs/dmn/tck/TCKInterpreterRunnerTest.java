@@ -0,0 +1,128 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.tck;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.junit.Test;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+import org.omg.dmn.tck.marshaller._20160719.ValueType;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TCKInterpreterRunnerTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(TCKInterpreterRunnerTest.class));
+    private static final String INPUT_PATH = "tck/cl3/input/";
+
+    @Test
+    public void testStreamingReader() throws Exception {
+        File file = testFile("0017-tableTests");
+        TestCases testCases = new TestCasesReader(LOGGER).read(file);
+
+        List<String> ids = new ArrayList<>();
+        try (TestCaseIterator iterator = new TestCasesReader(LOGGER).stream(file)) {
+            while (iterator.hasNext()) {
+                TestCase testCase = iterator.next();
+                ids.add(testCase.getId());
+                TestCase expected = testCases.getTestCase().get(ids.size() - 1);
+                assertEquals(expected.getInputNode().size(), testCase.getInputNode().size());
+                assertEquals(expected.getResultNode().size(), testCase.getResultNode().size());
+            }
+            assertEquals(testCases.getModelName(), iterator.getModelName());
+        }
+        assertEquals(testCases.getTestCase().size(), ids.size());
+    }
+
+    @Test
+    public void testParallelRun() throws Exception {
+        ToSimpleNameTransformer transformer = new ToSimpleNameTransformer(LOGGER);
+        DMNModelRepository repository = transformer.transform(readModel("0020-vacation-days"));
+        List<TestCase> testCases = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            testCases.addAll(streamTestCases("0020-vacation-days", transformer));
+        }
+
+        TCKReport report = new TCKInterpreterRunner(new StandardDMNDialectDefinition(), repository, 3).run(testCases.iterator());
+
+        assertTrue(report.isSuccessful());
+        assertEquals(testCases.size(), report.getResults().size());
+        for (int i = 0; i < testCases.size(); i++) {
+            TCKTestCaseResult result = report.getResults().get(i);
+            assertEquals(i, result.getIndex());
+            assertEquals(testCases.get(i).getId(), result.getId());
+            assertTrue(result.getLatencyNanos() > 0);
+        }
+        assertTrue(report.getLatencyPercentileNanos(50) <= report.getLatencyPercentileNanos(99));
+        assertTrue(report.getLatencyPercentileNanos(99) <= report.getLatencyPercentileNanos(100));
+    }
+
+    @Test
+    public void testDiffsAndErrors() throws Exception {
+        ToSimpleNameTransformer transformer = new ToSimpleNameTransformer(LOGGER);
+        DMNModelRepository repository = transformer.transform(readModel("0020-vacation-days"));
+        List<TestCase> testCases = streamTestCases("0020-vacation-days", transformer);
+        // Wrong expected value in the first test case
+        ValueType expected = testCases.get(0).getResultNode().get(0).getExpected();
+        expected.setValue(new JAXBElement<>(new QName("value"), Object.class, "1000"));
+
+        TCKReport report = new TCKInterpreterRunner(new StandardDMNDialectDefinition(), repository, 2).run(testCases.iterator());
+
+        assertFalse(report.isSuccessful());
+        assertEquals(1, report.count(TCKTestCaseResult.Status.FAILED));
+        TCKTestCaseResult failure = report.getFailures().get(0);
+        assertEquals(0, failure.getIndex());
+        assertEquals(1, failure.getDiffs().size());
+        assertTrue(failure.getDiffs().get(0), failure.getDiffs().get(0).contains("expected '1000'"));
+
+        // Unknown DRG element
+        testCases.get(1).getResultNode().get(0).setName("missing");
+        report = new TCKInterpreterRunner(new StandardDMNDialectDefinition(), repository).run(testCases.iterator());
+        assertEquals(TCKTestCaseResult.Status.ERROR, report.getResults().get(1).getStatus());
+    }
+
+    private DMNModelRepository readModel(String modelName) {
+        return new DMNReader(LOGGER, false).read(new File(resource(INPUT_PATH + modelName + ".dmn")));
+    }
+
+    private List<TestCase> streamTestCases(String modelName, ToSimpleNameTransformer transformer) throws Exception {
+        List<TestCase> testCases = new ArrayList<>();
+        try (TestCaseIterator iterator = new TestCasesReader(LOGGER).stream(testFile(modelName))) {
+            while (iterator.hasNext()) {
+                TestCase testCase = iterator.next();
+                transformer.transform(testCase);
+                testCases.add(testCase);
+            }
+        }
+        return testCases;
+    }
+
+    private File testFile(String modelName) {
+        return new File(resource(INPUT_PATH + "standard/" + modelName + "-test-01.xml"));
+    }
+
+    private String resource(String path) {
+        return TCKInterpreterRunnerTest.class.getClassLoader().getResource(path).getFile();
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.lib.DefaultFEELLib;
+import com.gs.dmn.log.NopBuildLogger;
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+import com.gs.dmn.runtime.discovery.DecisionDiscovery;
+import com.gs.dmn.runtime.discovery.ModelElementRegistry;
+import com.gs.dmn.runtime.discovery.RegistryEntry;
+import com.gs.dmn.runtime.serialization.JsonCodec;
+import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
+import com.gs.dmn.serialization.JsonSerializer;
+import com.gs.dmn.serialization.SyntheticModelGenerator;
+import com.gs.dmn.serialization.SyntheticModelParameters;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import com.gs.dmn.transformation.template.TreeTemplateProvider;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class DMNToJavaTransformerTest {
+    private File folder;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = Files.createTempDirectory("dmn-parallel").toFile();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(folder);
+    }
+
+    @Test
+    public void testParallelGenerationOfSyntheticModel() throws Exception {
+        SyntheticModelParameters parameters = new SyntheticModelParameters(6, 20, 2, 2, 4, 2, 0.5, 2);
+        File input = new File(folder, "model.dmn");
+        new SyntheticModelGenerator(new NopBuildLogger()).write(parameters, input);
+
+        checkSameOutput(input, new NopDMNTransformer());
+    }
+
+    @Test
+    public void testParallelGenerationOfModelWithItemDefinitions() throws Exception {
+        File input = new File(this.getClass().getClassLoader().getResource("tck/cl3/input/0004-lending.dmn").getFile());
+
+        checkSameOutput(input, new ToSimpleNameTransformer(new NopBuildLogger()));
+    }
+
+    @Test
+    public void testGenerateRegistry() throws Exception {
+        File input = new File(this.getClass().getClassLoader().getResource("tck/cl3/input/0004-lending.dmn").getFile());
+        File output = new File(folder, "registry");
+        Map<String, String> inputParameters = makeInputParameters();
+        inputParameters.put("javaRootPackage", "com.gs.lending");
+        inputParameters.put("generateRegistry", "true");
+        makeTransformer(new ToSimpleNameTransformer(new NopBuildLogger()), inputParameters).transform(input.toPath(), output.toPath());
+
+        // Services file
+        File servicesFile = new File(output, "META-INF/services/" + ModelElementRegistry.class.getName());
+        assertEquals(Collections.singletonList("com.gs.lending.Lending1Registry"), FileUtils.readLines(servicesFile, "UTF-8"));
+
+        // Compile and load the generated classes
+        File classes = compile(output);
+        FileUtils.copyDirectory(new File(output, "META-INF"), new File(classes, "META-INF"));
+
+        try (TrackingClassLoader classLoader = new TrackingClassLoader(classes)) {
+            DecisionDiscovery discovery = new DecisionDiscovery(classLoader);
+            assertEquals(1, discovery.getRegistries().size());
+            List<RegistryEntry> entries = discovery.discoverEntries("com.gs.lending");
+            assertEquals(24, entries.size());
+            // The registry does not load the registered classes
+            assertFalse(classLoader.isLoaded("com.gs.lending.Strategy"));
+
+            RegistryEntry decision = discovery.findEntry("com.gs.lending.Strategy");
+            assertEquals("Strategy", decision.getMetadata().getName());
+            assertEquals(Arrays.asList("applicantData", "requestedProduct"), decision.getParameterNames());
+            assertEquals(Arrays.asList("com.gs.lending.type.TApplicantData", "com.gs.lending.type.TRequestedProduct"), decision.getParameterTypes());
+            assertEquals("com.gs.lending.Strategy", decision.newInstance().getClass().getName());
+
+            RegistryEntry itemDefinition = discovery.findEntry("com.gs.lending.type.TApplicantData");
+            assertTrue(itemDefinition.isItemDefinition());
+            assertEquals("com.gs.lending.type.TApplicantDataImpl", itemDefinition.newInstance().getClass().getName());
+
+            assertEquals(20, discovery.discover("com.gs.lending").size());
+            // The registry covers the prefix, the other packages are scanned only on request
+            assertEquals(20, discovery.discover("com.gs").size());
+            Set<Class<?>> decisions = discovery.discover("com.gs", true);
+            assertEquals(21, decisions.size());
+            assertTrue(decisions.stream().anyMatch(c -> c.getName().equals("com.gs.dmn.runtime.discovery.NopDecision")));
+        }
+    }
+
+    private static class TrackingClassLoader extends URLClassLoader {
+        TrackingClassLoader(File classes) throws Exception {
+            super(new URL[] {classes.toURI().toURL()}, DMNToJavaTransformerTest.class.getClassLoader());
+        }
+
+        boolean isLoaded(String className) {
+            return findLoadedClass(className) != null;
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGenerateJsonCodecs() throws Exception {
+        File input = new File(this.getClass().getClassLoader().getResource("tck/cl3/input/0004-lending.dmn").getFile());
+        File output = new File(folder, "codecs");
+        Map<String, String> inputParameters = makeInputParameters();
+        inputParameters.put("javaRootPackage", "com.gs.lending");
+        inputParameters.put("generateJsonCodecs", "true");
+        makeTransformer(new ToSimpleNameTransformer(new NopBuildLogger()), inputParameters).transform(input.toPath(), output.toPath());
+        File classes = compile(output);
+
+        String applicantData = "{\"Age\":35,\"EmploymentStatus\":\"EMPLOYED\",\"ExistingCustomer\":true,\"MaritalStatus\":\"M\",\"Monthly\":{\"Expenses\":2000,\"Income\":6000,\"Repayments\":0}}";
+        String requestedProduct = "{\"Amount\":350000,\"ProductType\":\"STANDARD LOAN\",\"Rate\":0.0395,\"Term\":360}";
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes.toURI().toURL()}, this.getClass().getClassLoader())) {
+            // Item definition: same value and same JSON as the data binding
+            JsonCodec<Object> itemDefinitionCodec = (JsonCodec<Object>) classLoader.loadClass("com.gs.lending.type.TApplicantDataJsonCodec").getField("INSTANCE").get(null);
+            Object value = itemDefinitionCodec.read(applicantData);
+            assertEquals(JsonSerializer.OBJECT_MAPPER.readValue(applicantData, classLoader.loadClass("com.gs.lending.type.TApplicantDataImpl")), value);
+            assertEquals(applicantData, itemDefinitionCodec.writeAsString(value));
+            assertEquals(JsonSerializer.OBJECT_MAPPER.writeValueAsString(value), itemDefinitionCodec.writeAsString(value));
+            assertNull(itemDefinitionCodec.read("null"));
+
+            // Decision inputs: unknown fields are skipped
+            Class<?> decisionCodecClass = classLoader.loadClass("com.gs.lending.StrategyJsonCodec");
+            JsonCodec<Object[]> decisionCodec = (JsonCodec<Object[]>) decisionCodecClass.getField("INSTANCE").get(null);
+            String inputs = String.format("{\"ApplicantData\":%s,\"Other\":[1,{\"a\":2}],\"RequestedProduct\":%s}", applicantData, requestedProduct);
+            Object[] arguments = decisionCodec.read(inputs);
+            assertEquals(2, arguments.length);
+            assertEquals(value, arguments[0]);
+            assertEquals(String.format("{\"ApplicantData\":%s,\"RequestedProduct\":%s}", applicantData, requestedProduct), decisionCodec.writeAsString(arguments));
+
+            Class<?> decisionClass = classLoader.loadClass("com.gs.lending.Strategy");
+            Method apply = decisionCodecClass.getMethod("apply", decisionClass, JsonParser.class, AnnotationSet.class);
+            try (JsonParser parser = JsonCodec.JSON_FACTORY.createParser(inputs)) {
+                assertEquals("BUREAU", apply.invoke(decisionCodec, decisionClass.newInstance(), parser, new AnnotationSet()));
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGenerateJsonCodecsForDates() throws Exception {
+        File input = new File(this.getClass().getClassLoader().getResource("dmn/input/0007-date-time.dmn").getFile());
+        File output = new File(folder, "codecs");
+        Map<String, String> inputParameters = makeInputParameters();
+        inputParameters.put("javaRootPackage", "com.gs.datetime");
+        inputParameters.put("generateJsonCodecs", "true");
+        makeTransformer(new ToSimpleNameTransformer(new NopBuildLogger()), inputParameters).transform(input.toPath(), output.toPath());
+        File classes = compile(output);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes.toURI().toURL()}, this.getClass().getClassLoader())) {
+            JsonCodec<Object> codec = (JsonCodec<Object>) classLoader.loadClass("com.gs.datetime.type.TDateVariantsJsonCodec").getField("INSTANCE").get(null);
+            String json = "{\"fromDateTime\":\"2017-01-02\",\"fromString\":\"2016-12-31\",\"fromYearMonthDay\":null}";
+            Object value = codec.read(json);
+            DefaultFEELLib lib = new DefaultFEELLib();
+            assertEquals(lib.date("2016-12-31"), value.getClass().getMethod("getFromString").invoke(value));
+            assertEquals(lib.date("2017-01-02"), value.getClass().getMethod("getFromDateTime").invoke(value));
+            assertEquals(json, codec.writeAsString(value));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalThreads() {
+        makeTransformer(new NopDMNTransformer()).setThreads(0);
+    }
+
+    private void checkSameOutput(File input, DMNTransformer dmnTransformer) throws Exception {
+        File sequentialOutput = new File(folder, "sequential");
+        makeTransformer(dmnTransformer).transform(input.toPath(), sequentialOutput.toPath());
+
+        File parallelOutput = new File(folder, "parallel");
+        DMNToJavaTransformer transformer = makeTransformer(dmnTransformer);
+        transformer.setThreads(4);
+        transformer.transform(input.toPath(), parallelOutput.toPath());
+
+        Map<String, String> expected = read(sequentialOutput);
+        assertTrue(expected.size() > 4);
+        assertEquals(expected, read(parallelOutput));
+    }
+
+    private File compile(File sources) throws Exception {
+        File classes = new File(folder, "classes");
+        assertTrue(classes.mkdirs());
+        List<String> arguments = new ArrayList<>(Arrays.asList("-nowarn", "-d", classes.getPath(), "-cp", System.getProperty("java.class.path")));
+        for (File file : FileUtils.listFiles(sources, new String[] {"java"}, true)) {
+            arguments.add(file.getPath());
+        }
+        assertEquals(0, ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0])));
+        return classes;
+    }
+
+    private DMNToJavaTransformer makeTransformer(DMNTransformer dmnTransformer) {
+        return makeTransformer(dmnTransformer, makeInputParameters());
+    }
+
+    private DMNToJavaTransformer makeTransformer(DMNTransformer dmnTransformer, Map<String, String> inputParameters) {
+        return new StandardDMNDialectDefinition().createDMNToJavaTransformer(new DefaultDMNValidator(), dmnTransformer, new TreeTemplateProvider(), new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), inputParameters, new NopBuildLogger());
+    }
+
+    private Map<String, String> read(File folder) throws Exception {
+        Map<String, String> result = new TreeMap<>();
+        for (File file : FileUtils.listFiles(folder, null, true)) {
+            result.put(folder.toPath().relativize(file.toPath()).toString(), FileUtils.readFileToString(file, "UTF-8"));
+        }
+        return result;
+    }
+
+    private Map<String, String> makeInputParameters() {
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        inputParameters.put("dmnVersion", "1.2");
+        inputParameters.put("modelVersion", "1.0");
+        inputParameters.put("platformVersion", "1.0");
+        return inputParameters;
+    }
+}
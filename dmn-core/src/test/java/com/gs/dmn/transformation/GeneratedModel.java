@@ -0,0 +1,64 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.NopBuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import com.gs.dmn.transformation.template.TreeTemplateProvider;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import org.apache.commons.io.FileUtils;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+
+// Generates the Java code of a test model (with its registry), compiles it and loads it; shared by the runtime tests
+public class GeneratedModel {
+    public static URLClassLoader load(String dmnResource, String javaRootPackage, File folder) throws Exception {
+        return load(dmnResource, javaRootPackage, false, folder);
+    }
+
+    // The JSON codecs are needed to stream records into the decisions (e.g. batch evaluation)
+    public static URLClassLoader load(String dmnResource, String javaRootPackage, boolean generateJsonCodecs, File folder) throws Exception {
+        File input = new File(GeneratedModel.class.getClassLoader().getResource(dmnResource).toURI());
+        File sources = new File(folder, "java");
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        inputParameters.put("dmnVersion", "1.2");
+        inputParameters.put("modelVersion", "1.0");
+        inputParameters.put("platformVersion", "1.0");
+        inputParameters.put("javaRootPackage", javaRootPackage);
+        inputParameters.put("generateRegistry", "true");
+        inputParameters.put("generateJsonCodecs", String.valueOf(generateJsonCodecs));
+        new StandardDMNDialectDefinition().createDMNToJavaTransformer(new DefaultDMNValidator(), new ToSimpleNameTransformer(new NopBuildLogger()), new TreeTemplateProvider(), new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), inputParameters, new NopBuildLogger())
+                .transform(input.toPath(), sources.toPath());
+
+        File classes = new File(folder, "classes");
+        if (!classes.mkdirs()) {
+            throw new DMNRuntimeException(String.format("Cannot create folder '%s'", classes));
+        }
+        List<String> arguments = new ArrayList<>(Arrays.asList("-nowarn", "-d", classes.getPath(), "-cp", System.getProperty("java.class.path")));
+        for (File file : FileUtils.listFiles(sources, new String[] {"java"}, true)) {
+            arguments.add(file.getPath());
+        }
+        if (ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new DMNRuntimeException(String.format("Cannot compile '%s'", dmnResource));
+        }
+        FileUtils.copyDirectory(new File(sources, "META-INF"), new File(classes, "META-INF"));
+        return new URLClassLoader(new URL[] {classes.toURI().toURL()}, GeneratedModel.class.getClassLoader());
+    }
+}
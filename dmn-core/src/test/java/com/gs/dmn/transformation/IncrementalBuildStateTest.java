@@ -0,0 +1,151 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.NopBuildLogger;
+import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
+import com.gs.dmn.serialization.SyntheticModelGenerator;
+import com.gs.dmn.serialization.SyntheticModelParameters;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import com.gs.dmn.transformation.template.TreeTemplateProvider;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class IncrementalBuildStateTest {
+    private static final long OLD_TIMESTAMP = 1000000000000L;
+
+    private File folder;
+    private File input;
+    private File output;
+    private File stateFile;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = Files.createTempDirectory("dmn-incremental").toFile();
+        input = new File(folder, "dmn/model.dmn");
+        assertTrue(input.getParentFile().mkdirs());
+        output = new File(folder, "java");
+        stateFile = new File(folder, "state/dmn-to-java.json");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(folder);
+    }
+
+    @Test
+    public void testUnchangedInputIsSkipped() throws Exception {
+        writeModel(6);
+        transform("configuration");
+        Map<File, Long> generated = makeOld(generatedFiles());
+        assertFalse(generated.isEmpty());
+        assertTrue(stateFile.isFile());
+
+        DMNToJavaTransformer transformer = transform("configuration");
+        assertEquals(0, transformer.getPhaseTimings().getCount(PhaseTimings.TEMPLATE_RENDERING));
+        assertEquals(generated, timestamps(generatedFiles()));
+    }
+
+    @Test
+    public void testChangedInputPreservesUnchangedOutputs() throws Exception {
+        writeModel(6);
+        transform("configuration");
+        Map<File, Long> generated = makeOld(generatedFiles());
+
+        // Same content for the generated code
+        FileUtils.write(input, "\n", "UTF-8", true);
+        DMNToJavaTransformer transformer = transform("configuration");
+        assertTrue(transformer.getPhaseTimings().getCount(PhaseTimings.TEMPLATE_RENDERING) > 0);
+        assertEquals(generated, timestamps(generatedFiles()));
+
+        // Configuration changed
+        transformer = transform("other configuration");
+        assertTrue(transformer.getPhaseTimings().getCount(PhaseTimings.TEMPLATE_RENDERING) > 0);
+    }
+
+    @Test
+    public void testOrphansAreDeleted() throws Exception {
+        writeModel(6);
+        transform("configuration");
+        Set<File> before = generatedFiles();
+
+        writeModel(3);
+        transform("configuration");
+        Set<File> after = generatedFiles();
+
+        assertTrue(after.size() < before.size());
+        assertTrue(before.containsAll(after));
+    }
+
+    @Test
+    public void testMissingOutputIsRegenerated() throws Exception {
+        writeModel(6);
+        transform("configuration");
+        Set<File> generated = generatedFiles();
+        File deleted = generated.iterator().next();
+        assertTrue(deleted.delete());
+
+        transform("configuration");
+        assertEquals(generated, generatedFiles());
+    }
+
+    private void writeModel(int decisionCount) throws Exception {
+        SyntheticModelParameters parameters = new SyntheticModelParameters(4, decisionCount, 2, 2, 3, 2, 0.5, 1);
+        new SyntheticModelGenerator(new NopBuildLogger()).write(parameters, input);
+    }
+
+    private DMNToJavaTransformer transform(String configuration) {
+        NopBuildLogger logger = new NopBuildLogger();
+        DMNToJavaTransformer transformer = new StandardDMNDialectDefinition().createDMNToJavaTransformer(new DefaultDMNValidator(), new NopDMNTransformer(), new TreeTemplateProvider(), new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), makeInputParameters(), logger);
+        transformer.setIncrementalBuildState(IncrementalBuildState.load(stateFile, configuration, logger));
+        transformer.transform(input.getParentFile().toPath(), output.toPath());
+        return transformer;
+    }
+
+    private Set<File> generatedFiles() {
+        return new TreeSet<>(FileUtils.listFiles(output, null, true));
+    }
+
+    private Map<File, Long> makeOld(Set<File> files) {
+        for (File file : files) {
+            assertTrue(file.setLastModified(OLD_TIMESTAMP));
+        }
+        return timestamps(files);
+    }
+
+    private Map<File, Long> timestamps(Set<File> files) {
+        Map<File, Long> result = new TreeMap<>();
+        for (File file : files) {
+            result.put(file, file.lastModified());
+        }
+        return result;
+    }
+
+    private Map<String, String> makeInputParameters() {
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        inputParameters.put("dmnVersion", "1.2");
+        inputParameters.put("modelVersion", "1.0");
+        inputParameters.put("platformVersion", "1.0");
+        return inputParameters;
+    }
+}
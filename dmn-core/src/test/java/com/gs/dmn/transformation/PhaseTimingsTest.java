@@ -0,0 +1,148 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.NopBuildLogger;
+import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
+import com.gs.dmn.serialization.SyntheticModelGenerator;
+import com.gs.dmn.serialization.SyntheticModelParameters;
+import com.gs.dmn.tck.TCKTestCasesToJUnitTransformer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import com.gs.dmn.transformation.template.TreeTemplateProvider;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PhaseTimingsTest {
+    @Test
+    public void testAccumulate() {
+        PhaseTimings timings = new PhaseTimings();
+        timings.add(PhaseTimings.READ, 1000);
+        timings.add(PhaseTimings.VALIDATION, 2000);
+        timings.add(PhaseTimings.READ, 3000);
+
+        assertEquals(4000, timings.getNanos(PhaseTimings.READ));
+        assertEquals(2, timings.getCount(PhaseTimings.READ));
+        assertEquals(0, timings.getNanos(PhaseTimings.FORMATTING));
+        assertEquals(Arrays.asList(PhaseTimings.READ, PhaseTimings.VALIDATION), new ArrayList<>(timings.getNanos().keySet()));
+
+        timings.reset();
+        assertTrue(timings.getNanos().isEmpty());
+    }
+
+    @Test
+    public void testDMNToJavaTransformerPhases() throws Exception {
+        File folder = Files.createTempDirectory("dmn-phases").toFile();
+        try {
+            SyntheticModelParameters parameters = new SyntheticModelParameters(4, 6, 2, 2, 3, 2, 0.5, 1);
+            File input = new File(folder, parameters.getModelName() + ".dmn");
+            new SyntheticModelGenerator(new NopBuildLogger()).write(parameters, input);
+
+            RecordingLogger logger = new RecordingLogger();
+            DMNToJavaTransformer transformer = new StandardDMNDialectDefinition().createDMNToJavaTransformer(new DefaultDMNValidator(), new NopDMNTransformer(), new TreeTemplateProvider(), new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), makeInputParameters(), logger);
+            transformer.transform(input.toPath(), new File(folder, "java").toPath());
+
+            PhaseTimings timings = transformer.getPhaseTimings();
+            assertEquals(
+                    Arrays.asList(PhaseTimings.READ, PhaseTimings.DIALECT_TRANSFORMATION, PhaseTimings.DMN_TRANSFORMATION, PhaseTimings.LAZY_DETECTION, PhaseTimings.VALIDATION, PhaseTimings.TEMPLATE_RENDERING, PhaseTimings.FORMATTING, PhaseTimings.FILE_WRITE),
+                    new ArrayList<>(timings.getNanos().keySet()));
+            // 1 BKM, 6 decisions, 3 decision tables with rule output classes
+            assertEquals(10, timings.getCount(PhaseTimings.TEMPLATE_RENDERING));
+            assertEquals(10, timings.getCount(PhaseTimings.FILE_WRITE));
+            assertTrue(logger.messages.stream().anyMatch(m -> m.startsWith("Phase timings")));
+            assertTrue(logger.messages.stream().anyMatch(m -> m.contains(PhaseTimings.TEMPLATE_RENDERING)));
+
+            // The timings are reset by each call
+            transformer.transform(input.toPath(), new File(folder, "java").toPath());
+            assertEquals(1, timings.getCount(PhaseTimings.READ));
+            assertEquals(10, timings.getCount(PhaseTimings.TEMPLATE_RENDERING));
+        } finally {
+            FileUtils.deleteDirectory(folder);
+        }
+    }
+
+    @Test
+    public void testTCKTransformerPhases() throws Exception {
+        File folder = Files.createTempDirectory("tck-phases").toFile();
+        try {
+            File model = new File(getClass().getClassLoader().getResource("tck/cl3/input/0004-lending.dmn").toURI());
+            File testCases = new File(getClass().getClassLoader().getResource("tck/cl3/input/standard/0004-lending-test-01.xml").toURI());
+
+            RecordingLogger logger = new RecordingLogger();
+            TCKTestCasesToJUnitTransformer transformer = new TCKTestCasesToJUnitTransformer(new StandardDMNDialectDefinition(), new DefaultDMNValidator(), new NopDMNTransformer(), new TreeTemplateProvider(), new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), model.toPath(), makeInputParameters(), logger);
+            transformer.transform(testCases.toPath(), new File(folder, "java").toPath());
+
+            // The first report includes the model phases run by the constructor
+            PhaseTimings timings = transformer.getPhaseTimings();
+            assertEquals(
+                    Arrays.asList(PhaseTimings.READ, PhaseTimings.DIALECT_TRANSFORMATION, PhaseTimings.LAZY_DETECTION, PhaseTimings.VALIDATION, PhaseTimings.DMN_TRANSFORMATION, PhaseTimings.TEMPLATE_RENDERING, PhaseTimings.FORMATTING, PhaseTimings.FILE_WRITE),
+                    new ArrayList<>(timings.getNanos().keySet()));
+            // The model and the test cases
+            assertEquals(2, timings.getCount(PhaseTimings.READ));
+            assertEquals(1, timings.getCount(PhaseTimings.VALIDATION));
+            assertEquals(1, timings.getCount(PhaseTimings.TEMPLATE_RENDERING));
+            assertTrue(logger.messages.stream().anyMatch(m -> m.contains(PhaseTimings.VALIDATION)));
+
+            // The next call reports its own phases only
+            transformer.transform(testCases.toPath(), new File(folder, "java").toPath());
+            assertEquals(
+                    Arrays.asList(PhaseTimings.READ, PhaseTimings.DMN_TRANSFORMATION, PhaseTimings.TEMPLATE_RENDERING, PhaseTimings.FORMATTING, PhaseTimings.FILE_WRITE),
+                    new ArrayList<>(timings.getNanos().keySet()));
+            assertEquals(1, timings.getCount(PhaseTimings.READ));
+        } finally {
+            FileUtils.deleteDirectory(folder);
+        }
+    }
+
+    private Map<String, String> makeInputParameters() {
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        inputParameters.put("dmnVersion", "1.2");
+        inputParameters.put("modelVersion", "1.0");
+        inputParameters.put("platformVersion", "1.0");
+        return inputParameters;
+    }
+
+    private static class RecordingLogger implements BuildLogger {
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void debug(String charSequence) {
+        }
+
+        @Override
+        public void info(String charSequence) {
+            messages.add(charSequence);
+        }
+
+        @Override
+        public void warn(String charSequence) {
+        }
+
+        @Override
+        public void error(String charSequence) {
+            messages.add(charSequence);
+        }
+    }
+}
@@ -49,35 +49,42 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'ApprovalStatus'
+        long approvalStatusStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments approvalStatusArguments_ = null;
         try {
-            // Start decision 'ApprovalStatus'
-            long approvalStatusStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments approvalStatusArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            approvalStatusArguments_.put("age", age);
-            approvalStatusArguments_.put("riskCategory", riskCategory);
-            approvalStatusArguments_.put("isAffordable", isAffordable);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                approvalStatusArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                approvalStatusArguments_.put("age", age);
+                approvalStatusArguments_.put("riskCategory", riskCategory);
+                approvalStatusArguments_.put("isAffordable", isAffordable);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, approvalStatusArguments_);
 
             // Evaluate decision 'ApprovalStatus'
             String output_ = evaluate(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'ApprovalStatus'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, approvalStatusArguments_, output_, (System.currentTimeMillis() - approvalStatusStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, approvalStatusArguments_, output_, System.nanoTime() - approvalStatusStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'ApprovalStatus' evaluation", e);
+            // End decision 'ApprovalStatus'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, approvalStatusArguments_, null, System.nanoTime() - approvalStatusStartTime_);
+
             return null;
         }
     }
 
     protected String evaluate(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
         // Apply rules and collect results
+        boolean traced_ = eventListener_.isTraced(DRG_ELEMENT_METADATA);
         com.gs.dmn.runtime.RuleOutputList ruleOutputList_ = new com.gs.dmn.runtime.RuleOutputList();
-        ruleOutputList_.add(rule0(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
-        ruleOutputList_.add(rule1(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
-        ruleOutputList_.add(rule2(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
-        ruleOutputList_.add(rule3(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
+        ruleOutputList_.add(rule0(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
+        ruleOutputList_.add(rule1(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
+        ruleOutputList_.add(rule2(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
+        ruleOutputList_.add(rule3(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
 
         // Return results based on hit policy
         String output_;
@@ -92,13 +99,14 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 0, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule0(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(0, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_0 = new com.gs.dmn.runtime.listener.Rule(0, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 0, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule0(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_0);
+        }
 
         // Apply rule
         ApprovalStatusRuleOutput output_ = new ApprovalStatusRuleOutput(false);
@@ -108,7 +116,9 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             (booleanEqual(isAffordable, Boolean.TRUE))
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_0);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -120,18 +130,21 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_0, output_);
+        }
 
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 1, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule1(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(1, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_1 = new com.gs.dmn.runtime.listener.Rule(1, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 1, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule1(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_1);
+        }
 
         // Apply rule
         ApprovalStatusRuleOutput output_ = new ApprovalStatusRuleOutput(false);
@@ -141,7 +154,9 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             true
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_1);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -153,18 +168,21 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_1, output_);
+        }
 
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 2, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule2(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(2, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_2 = new com.gs.dmn.runtime.listener.Rule(2, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 2, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule2(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_2);
+        }
 
         // Apply rule
         ApprovalStatusRuleOutput output_ = new ApprovalStatusRuleOutput(false);
@@ -174,7 +192,9 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             true
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_2);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -186,18 +206,21 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_2, output_);
+        }
 
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 3, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule3(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(3, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_3 = new com.gs.dmn.runtime.listener.Rule(3, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 3, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule3(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_3);
+        }
 
         // Apply rule
         ApprovalStatusRuleOutput output_ = new ApprovalStatusRuleOutput(false);
@@ -207,7 +230,9 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             (booleanEqual(isAffordable, Boolean.FALSE))
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_3);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -219,7 +244,9 @@ public class ApprovalStatus extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_3, output_);
+        }
 
         return output_;
     }
@@ -49,22 +49,28 @@ public class Payment extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public java.math.BigDecimal apply(type.TLoan loan, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'payment'
+        long paymentStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments paymentArguments_ = null;
         try {
-            // Start decision 'payment'
-            long paymentStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments paymentArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            paymentArguments_.put("loan", loan);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                paymentArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                paymentArguments_.put("loan", loan);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, paymentArguments_);
 
             // Evaluate decision 'payment'
             java.math.BigDecimal output_ = evaluate(loan, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'payment'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, paymentArguments_, output_, (System.currentTimeMillis() - paymentStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, paymentArguments_, output_, System.nanoTime() - paymentStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'payment' evaluation", e);
+            // End decision 'payment'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, paymentArguments_, null, System.nanoTime() - paymentStartTime_);
+
             return null;
         }
     }
@@ -51,23 +51,29 @@ public class MonthlyPayment extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public java.math.BigDecimal apply(type.TLoan loan, java.math.BigDecimal fee, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'MonthlyPayment'
+        long monthlyPaymentStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments monthlyPaymentArguments_ = null;
         try {
-            // Start decision 'MonthlyPayment'
-            long monthlyPaymentStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments monthlyPaymentArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            monthlyPaymentArguments_.put("loan", loan);
-            monthlyPaymentArguments_.put("fee", fee);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                monthlyPaymentArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                monthlyPaymentArguments_.put("loan", loan);
+                monthlyPaymentArguments_.put("fee", fee);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, monthlyPaymentArguments_);
 
             // Evaluate decision 'MonthlyPayment'
             java.math.BigDecimal output_ = evaluate(loan, fee, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'MonthlyPayment'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, monthlyPaymentArguments_, output_, (System.currentTimeMillis() - monthlyPaymentStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, monthlyPaymentArguments_, output_, System.nanoTime() - monthlyPaymentStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'MonthlyPayment' evaluation", e);
+            // End decision 'MonthlyPayment'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, monthlyPaymentArguments_, null, System.nanoTime() - monthlyPaymentStartTime_);
+
             return null;
         }
     }
@@ -49,36 +49,43 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public type.TApproval apply(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'Approval'
+        long approvalStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments approvalArguments_ = null;
         try {
-            // Start decision 'Approval'
-            long approvalStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments approvalArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            approvalArguments_.put("age", age);
-            approvalArguments_.put("riskCategory", riskCategory);
-            approvalArguments_.put("isAffordable", isAffordable);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                approvalArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                approvalArguments_.put("age", age);
+                approvalArguments_.put("riskCategory", riskCategory);
+                approvalArguments_.put("isAffordable", isAffordable);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, approvalArguments_);
 
             // Evaluate decision 'Approval'
             type.TApproval output_ = evaluate(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'Approval'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, approvalArguments_, output_, (System.currentTimeMillis() - approvalStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, approvalArguments_, output_, System.nanoTime() - approvalStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'Approval' evaluation", e);
+            // End decision 'Approval'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, approvalArguments_, null, System.nanoTime() - approvalStartTime_);
+
             return null;
         }
     }
 
     protected type.TApproval evaluate(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
         // Apply rules and collect results
+        boolean traced_ = eventListener_.isTraced(DRG_ELEMENT_METADATA);
         com.gs.dmn.runtime.RuleOutputList ruleOutputList_ = new com.gs.dmn.runtime.RuleOutputList();
-        ruleOutputList_.add(rule0(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
-        ruleOutputList_.add(rule1(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
-        ruleOutputList_.add(rule2(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
-        ruleOutputList_.add(rule3(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
-        ruleOutputList_.add(rule4(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_));
+        ruleOutputList_.add(rule0(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
+        ruleOutputList_.add(rule1(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
+        ruleOutputList_.add(rule2(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
+        ruleOutputList_.add(rule3(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
+        ruleOutputList_.add(rule4(age, riskCategory, isAffordable, annotationSet_, eventListener_, externalExecutor_, traced_));
 
         // Return results based on hit policy
         type.TApproval output_;
@@ -93,13 +100,14 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 0, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule0(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(0, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_0 = new com.gs.dmn.runtime.listener.Rule(0, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 0, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule0(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_0);
+        }
 
         // Apply rule
         ApprovalRuleOutput output_ = new ApprovalRuleOutput(false);
@@ -109,7 +117,9 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             (booleanEqual(isAffordable, Boolean.TRUE))
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_0);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -121,18 +131,21 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_0, output_);
+        }
 
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 1, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule1(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(1, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_1 = new com.gs.dmn.runtime.listener.Rule(1, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 1, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule1(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_1);
+        }
 
         // Apply rule
         ApprovalRuleOutput output_ = new ApprovalRuleOutput(false);
@@ -142,7 +155,9 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             (booleanEqual(isAffordable, Boolean.TRUE))
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_1);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -154,18 +169,21 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_1, output_);
+        }
 
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 2, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule2(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(2, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_2 = new com.gs.dmn.runtime.listener.Rule(2, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 2, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule2(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_2);
+        }
 
         // Apply rule
         ApprovalRuleOutput output_ = new ApprovalRuleOutput(false);
@@ -175,7 +193,9 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             (booleanEqual(isAffordable, Boolean.TRUE))
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_2);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -187,18 +207,21 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_2, output_);
+        }
 
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 3, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule3(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(3, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_3 = new com.gs.dmn.runtime.listener.Rule(3, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 3, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule3(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_3);
+        }
 
         // Apply rule
         ApprovalRuleOutput output_ = new ApprovalRuleOutput(false);
@@ -208,7 +231,9 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             (booleanEqual(isAffordable, Boolean.TRUE))
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_3);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -220,18 +245,21 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_3, output_);
+        }
 
         return output_;
     }
 
-    @com.gs.dmn.runtime.annotation.Rule(index = 4, annotation = "")
-    public com.gs.dmn.runtime.RuleOutput rule4(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
-        // Rule metadata
-        com.gs.dmn.runtime.listener.Rule drgRuleMetadata = new com.gs.dmn.runtime.listener.Rule(4, "");
+    private static final com.gs.dmn.runtime.listener.Rule DRG_RULE_METADATA_4 = new com.gs.dmn.runtime.listener.Rule(4, "");
 
+    @com.gs.dmn.runtime.annotation.Rule(index = 4, annotation = "")
+    public com.gs.dmn.runtime.RuleOutput rule4(java.math.BigDecimal age, String riskCategory, Boolean isAffordable, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_, boolean traced_) {
         // Rule start
-        eventListener_.startRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+        if (traced_) {
+            eventListener_.startRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_4);
+        }
 
         // Apply rule
         ApprovalRuleOutput output_ = new ApprovalRuleOutput(false);
@@ -241,7 +269,9 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             (booleanEqual(isAffordable, Boolean.FALSE))
         )) {
             // Rule match
-            eventListener_.matchRule(DRG_ELEMENT_METADATA, drgRuleMetadata);
+            if (traced_) {
+                eventListener_.matchRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_4);
+            }
 
             // Compute output
             output_.setMatched(true);
@@ -253,7 +283,9 @@ public class Approval extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
         }
 
         // Rule end
-        eventListener_.endRule(DRG_ELEMENT_METADATA, drgRuleMetadata, output_);
+        if (traced_) {
+            eventListener_.endRule(DRG_ELEMENT_METADATA, DRG_RULE_METADATA_4, output_);
+        }
 
         return output_;
     }
@@ -49,24 +49,30 @@ public class Adjudication extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(type.TApplicantData applicantData, type.TBureauData bureauData, String supportingDocuments, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'Adjudication'
+        long adjudicationStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments adjudicationArguments_ = null;
         try {
-            // Start decision 'Adjudication'
-            long adjudicationStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments adjudicationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            adjudicationArguments_.put("applicantData", applicantData);
-            adjudicationArguments_.put("bureauData", bureauData);
-            adjudicationArguments_.put("supportingDocuments", supportingDocuments);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                adjudicationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                adjudicationArguments_.put("applicantData", applicantData);
+                adjudicationArguments_.put("bureauData", bureauData);
+                adjudicationArguments_.put("supportingDocuments", supportingDocuments);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, adjudicationArguments_);
 
             // Evaluate decision 'Adjudication'
             String output_ = evaluate(applicantData, bureauData, supportingDocuments, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'Adjudication'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, adjudicationArguments_, output_, (System.currentTimeMillis() - adjudicationStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, adjudicationArguments_, output_, System.nanoTime() - adjudicationStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'Adjudication' evaluation", e);
+            // End decision 'Adjudication'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, adjudicationArguments_, null, System.nanoTime() - adjudicationStartTime_);
+
             return null;
         }
     }
@@ -35,26 +35,32 @@ public class AffordabilityCalculation extends com.gs.dmn.runtime.DefaultDMNBaseD
     }
 
     private Boolean apply(java.math.BigDecimal monthlyIncome, java.math.BigDecimal monthlyRepayments, java.math.BigDecimal monthlyExpenses, String riskCategory, java.math.BigDecimal requiredMonthlyInstallment, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'AffordabilityCalculation'
+        long affordabilityCalculationStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments affordabilityCalculationArguments_ = null;
         try {
-            // Start BKM 'AffordabilityCalculation'
-            long affordabilityCalculationStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments affordabilityCalculationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            affordabilityCalculationArguments_.put("monthlyIncome", monthlyIncome);
-            affordabilityCalculationArguments_.put("monthlyRepayments", monthlyRepayments);
-            affordabilityCalculationArguments_.put("monthlyExpenses", monthlyExpenses);
-            affordabilityCalculationArguments_.put("riskCategory", riskCategory);
-            affordabilityCalculationArguments_.put("requiredMonthlyInstallment", requiredMonthlyInstallment);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                affordabilityCalculationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                affordabilityCalculationArguments_.put("monthlyIncome", monthlyIncome);
+                affordabilityCalculationArguments_.put("monthlyRepayments", monthlyRepayments);
+                affordabilityCalculationArguments_.put("monthlyExpenses", monthlyExpenses);
+                affordabilityCalculationArguments_.put("riskCategory", riskCategory);
+                affordabilityCalculationArguments_.put("requiredMonthlyInstallment", requiredMonthlyInstallment);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, affordabilityCalculationArguments_);
 
             // Evaluate BKM 'AffordabilityCalculation'
             Boolean output_ = evaluate(monthlyIncome, monthlyRepayments, monthlyExpenses, riskCategory, requiredMonthlyInstallment, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'AffordabilityCalculation'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, affordabilityCalculationArguments_, output_, (System.currentTimeMillis() - affordabilityCalculationStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, affordabilityCalculationArguments_, output_, System.nanoTime() - affordabilityCalculationStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'AffordabilityCalculation' evaluation", e);
+            // End BKM 'AffordabilityCalculation'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, affordabilityCalculationArguments_, null, System.nanoTime() - affordabilityCalculationStartTime_);
+
             return null;
         }
     }
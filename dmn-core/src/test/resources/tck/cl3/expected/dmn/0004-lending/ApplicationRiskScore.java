@@ -51,22 +51,28 @@ public class ApplicationRiskScore extends com.gs.dmn.runtime.DefaultDMNBaseDecis
     }
 
     public java.math.BigDecimal apply(type.TApplicantData applicantData, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'ApplicationRiskScore'
+        long applicationRiskScoreStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments applicationRiskScoreArguments_ = null;
         try {
-            // Start decision 'ApplicationRiskScore'
-            long applicationRiskScoreStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments applicationRiskScoreArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            applicationRiskScoreArguments_.put("applicantData", applicantData);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                applicationRiskScoreArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                applicationRiskScoreArguments_.put("applicantData", applicantData);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, applicationRiskScoreArguments_);
 
             // Evaluate decision 'ApplicationRiskScore'
             java.math.BigDecimal output_ = evaluate(applicantData, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'ApplicationRiskScore'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, applicationRiskScoreArguments_, output_, (System.currentTimeMillis() - applicationRiskScoreStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, applicationRiskScoreArguments_, output_, System.nanoTime() - applicationRiskScoreStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'ApplicationRiskScore' evaluation", e);
+            // End decision 'ApplicationRiskScore'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, applicationRiskScoreArguments_, null, System.nanoTime() - applicationRiskScoreStartTime_);
+
             return null;
         }
     }
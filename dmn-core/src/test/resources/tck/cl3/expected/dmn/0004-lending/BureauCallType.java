@@ -57,11 +57,14 @@ public class BureauCallType extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(type.TApplicantData applicantData, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'BureauCallType'
+        long bureauCallTypeStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments bureauCallTypeArguments_ = null;
         try {
-            // Start decision 'BureauCallType'
-            long bureauCallTypeStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments bureauCallTypeArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            bureauCallTypeArguments_.put("applicantData", applicantData);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                bureauCallTypeArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                bureauCallTypeArguments_.put("applicantData", applicantData);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, bureauCallTypeArguments_);
 
             // Apply child decisions
@@ -71,11 +74,14 @@ public class BureauCallType extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             String output_ = evaluate(preBureauRiskCategory, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'BureauCallType'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, bureauCallTypeArguments_, output_, (System.currentTimeMillis() - bureauCallTypeStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, bureauCallTypeArguments_, output_, System.nanoTime() - bureauCallTypeStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'BureauCallType' evaluation", e);
+            // End decision 'BureauCallType'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, bureauCallTypeArguments_, null, System.nanoTime() - bureauCallTypeStartTime_);
+
             return null;
         }
     }
@@ -59,12 +59,15 @@ public class Eligibility extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(type.TApplicantData applicantData, type.TRequestedProduct requestedProduct, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'Eligibility'
+        long eligibilityStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments eligibilityArguments_ = null;
         try {
-            // Start decision 'Eligibility'
-            long eligibilityStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments eligibilityArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            eligibilityArguments_.put("applicantData", applicantData);
-            eligibilityArguments_.put("requestedProduct", requestedProduct);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                eligibilityArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                eligibilityArguments_.put("applicantData", applicantData);
+                eligibilityArguments_.put("requestedProduct", requestedProduct);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, eligibilityArguments_);
 
             // Apply child decisions
@@ -75,11 +78,14 @@ public class Eligibility extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             String output_ = evaluate(applicantData, preBureauAffordability, preBureauRiskCategory, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'Eligibility'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, eligibilityArguments_, output_, (System.currentTimeMillis() - eligibilityStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, eligibilityArguments_, output_, System.nanoTime() - eligibilityStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'Eligibility' evaluation", e);
+            // End decision 'Eligibility'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, eligibilityArguments_, null, System.nanoTime() - eligibilityStartTime_);
+
             return null;
         }
     }
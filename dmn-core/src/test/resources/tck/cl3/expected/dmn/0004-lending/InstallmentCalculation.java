@@ -33,25 +33,31 @@ public class InstallmentCalculation extends com.gs.dmn.runtime.DefaultDMNBaseDec
     }
 
     private java.math.BigDecimal apply(String productType, java.math.BigDecimal rate, java.math.BigDecimal term, java.math.BigDecimal amount, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'InstallmentCalculation'
+        long installmentCalculationStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments installmentCalculationArguments_ = null;
         try {
-            // Start BKM 'InstallmentCalculation'
-            long installmentCalculationStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments installmentCalculationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            installmentCalculationArguments_.put("productType", productType);
-            installmentCalculationArguments_.put("rate", rate);
-            installmentCalculationArguments_.put("term", term);
-            installmentCalculationArguments_.put("amount", amount);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                installmentCalculationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                installmentCalculationArguments_.put("productType", productType);
+                installmentCalculationArguments_.put("rate", rate);
+                installmentCalculationArguments_.put("term", term);
+                installmentCalculationArguments_.put("amount", amount);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, installmentCalculationArguments_);
 
             // Evaluate BKM 'InstallmentCalculation'
             java.math.BigDecimal output_ = evaluate(productType, rate, term, amount, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'InstallmentCalculation'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, installmentCalculationArguments_, output_, (System.currentTimeMillis() - installmentCalculationStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, installmentCalculationArguments_, output_, System.nanoTime() - installmentCalculationStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'InstallmentCalculation' evaluation", e);
+            // End BKM 'InstallmentCalculation'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, installmentCalculationArguments_, null, System.nanoTime() - installmentCalculationStartTime_);
+
             return null;
         }
     }
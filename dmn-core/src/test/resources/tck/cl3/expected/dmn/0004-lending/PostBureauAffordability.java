@@ -59,13 +59,16 @@ public class PostBureauAffordability extends com.gs.dmn.runtime.DefaultDMNBaseDe
     }
 
     public Boolean apply(type.TApplicantData applicantData, type.TBureauData bureauData, type.TRequestedProduct requestedProduct, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'PostBureauAffordability'
+        long postBureauAffordabilityStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments postBureauAffordabilityArguments_ = null;
         try {
-            // Start decision 'PostBureauAffordability'
-            long postBureauAffordabilityStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments postBureauAffordabilityArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            postBureauAffordabilityArguments_.put("applicantData", applicantData);
-            postBureauAffordabilityArguments_.put("bureauData", bureauData);
-            postBureauAffordabilityArguments_.put("requestedProduct", requestedProduct);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                postBureauAffordabilityArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                postBureauAffordabilityArguments_.put("applicantData", applicantData);
+                postBureauAffordabilityArguments_.put("bureauData", bureauData);
+                postBureauAffordabilityArguments_.put("requestedProduct", requestedProduct);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, postBureauAffordabilityArguments_);
 
             // Apply child decisions
@@ -76,11 +79,14 @@ public class PostBureauAffordability extends com.gs.dmn.runtime.DefaultDMNBaseDe
             Boolean output_ = evaluate(applicantData, postBureauRiskCategory, requiredMonthlyInstallment, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'PostBureauAffordability'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, postBureauAffordabilityArguments_, output_, (System.currentTimeMillis() - postBureauAffordabilityStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, postBureauAffordabilityArguments_, output_, System.nanoTime() - postBureauAffordabilityStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'PostBureauAffordability' evaluation", e);
+            // End decision 'PostBureauAffordability'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, postBureauAffordabilityArguments_, null, System.nanoTime() - postBureauAffordabilityStartTime_);
+
             return null;
         }
     }
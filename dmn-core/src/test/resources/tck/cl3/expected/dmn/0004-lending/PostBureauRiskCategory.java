@@ -57,12 +57,15 @@ public class PostBureauRiskCategory extends com.gs.dmn.runtime.DefaultDMNBaseDec
     }
 
     public String apply(type.TApplicantData applicantData, type.TBureauData bureauData, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'PostBureauRiskCategory'
+        long postBureauRiskCategoryStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments postBureauRiskCategoryArguments_ = null;
         try {
-            // Start decision 'PostBureauRiskCategory'
-            long postBureauRiskCategoryStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments postBureauRiskCategoryArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            postBureauRiskCategoryArguments_.put("applicantData", applicantData);
-            postBureauRiskCategoryArguments_.put("bureauData", bureauData);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                postBureauRiskCategoryArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                postBureauRiskCategoryArguments_.put("applicantData", applicantData);
+                postBureauRiskCategoryArguments_.put("bureauData", bureauData);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, postBureauRiskCategoryArguments_);
 
             // Apply child decisions
@@ -72,11 +75,14 @@ public class PostBureauRiskCategory extends com.gs.dmn.runtime.DefaultDMNBaseDec
             String output_ = evaluate(applicantData, applicationRiskScore, bureauData, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'PostBureauRiskCategory'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, postBureauRiskCategoryArguments_, output_, (System.currentTimeMillis() - postBureauRiskCategoryStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, postBureauRiskCategoryArguments_, output_, System.nanoTime() - postBureauRiskCategoryStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'PostBureauRiskCategory' evaluation", e);
+            // End decision 'PostBureauRiskCategory'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, postBureauRiskCategoryArguments_, null, System.nanoTime() - postBureauRiskCategoryStartTime_);
+
             return null;
         }
     }
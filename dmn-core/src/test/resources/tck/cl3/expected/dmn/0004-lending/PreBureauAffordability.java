@@ -59,12 +59,15 @@ public class PreBureauAffordability extends com.gs.dmn.runtime.DefaultDMNBaseDec
     }
 
     public Boolean apply(type.TApplicantData applicantData, type.TRequestedProduct requestedProduct, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'PreBureauAffordability'
+        long preBureauAffordabilityStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments preBureauAffordabilityArguments_ = null;
         try {
-            // Start decision 'PreBureauAffordability'
-            long preBureauAffordabilityStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments preBureauAffordabilityArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            preBureauAffordabilityArguments_.put("applicantData", applicantData);
-            preBureauAffordabilityArguments_.put("requestedProduct", requestedProduct);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                preBureauAffordabilityArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                preBureauAffordabilityArguments_.put("applicantData", applicantData);
+                preBureauAffordabilityArguments_.put("requestedProduct", requestedProduct);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, preBureauAffordabilityArguments_);
 
             // Apply child decisions
@@ -75,11 +78,14 @@ public class PreBureauAffordability extends com.gs.dmn.runtime.DefaultDMNBaseDec
             Boolean output_ = evaluate(applicantData, preBureauRiskCategory, requiredMonthlyInstallment, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'PreBureauAffordability'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, preBureauAffordabilityArguments_, output_, (System.currentTimeMillis() - preBureauAffordabilityStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, preBureauAffordabilityArguments_, output_, System.nanoTime() - preBureauAffordabilityStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'PreBureauAffordability' evaluation", e);
+            // End decision 'PreBureauAffordability'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, preBureauAffordabilityArguments_, null, System.nanoTime() - preBureauAffordabilityStartTime_);
+
             return null;
         }
     }
@@ -57,11 +57,14 @@ public class PreBureauRiskCategory extends com.gs.dmn.runtime.DefaultDMNBaseDeci
     }
 
     public String apply(type.TApplicantData applicantData, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'PreBureauRiskCategory'
+        long preBureauRiskCategoryStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments preBureauRiskCategoryArguments_ = null;
         try {
-            // Start decision 'PreBureauRiskCategory'
-            long preBureauRiskCategoryStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments preBureauRiskCategoryArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            preBureauRiskCategoryArguments_.put("applicantData", applicantData);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                preBureauRiskCategoryArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                preBureauRiskCategoryArguments_.put("applicantData", applicantData);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, preBureauRiskCategoryArguments_);
 
             // Apply child decisions
@@ -71,11 +74,14 @@ public class PreBureauRiskCategory extends com.gs.dmn.runtime.DefaultDMNBaseDeci
             String output_ = evaluate(applicantData, applicationRiskScore, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'PreBureauRiskCategory'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, preBureauRiskCategoryArguments_, output_, (System.currentTimeMillis() - preBureauRiskCategoryStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, preBureauRiskCategoryArguments_, output_, System.nanoTime() - preBureauRiskCategoryStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'PreBureauRiskCategory' evaluation", e);
+            // End decision 'PreBureauRiskCategory'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, preBureauRiskCategoryArguments_, null, System.nanoTime() - preBureauRiskCategoryStartTime_);
+
             return null;
         }
     }
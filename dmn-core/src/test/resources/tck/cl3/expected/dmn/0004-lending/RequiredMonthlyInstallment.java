@@ -51,22 +51,28 @@ public class RequiredMonthlyInstallment extends com.gs.dmn.runtime.DefaultDMNBas
     }
 
     public java.math.BigDecimal apply(type.TRequestedProduct requestedProduct, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'RequiredMonthlyInstallment'
+        long requiredMonthlyInstallmentStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments requiredMonthlyInstallmentArguments_ = null;
         try {
-            // Start decision 'RequiredMonthlyInstallment'
-            long requiredMonthlyInstallmentStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments requiredMonthlyInstallmentArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            requiredMonthlyInstallmentArguments_.put("requestedProduct", requestedProduct);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                requiredMonthlyInstallmentArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                requiredMonthlyInstallmentArguments_.put("requestedProduct", requestedProduct);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, requiredMonthlyInstallmentArguments_);
 
             // Evaluate decision 'RequiredMonthlyInstallment'
             java.math.BigDecimal output_ = evaluate(requestedProduct, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'RequiredMonthlyInstallment'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, requiredMonthlyInstallmentArguments_, output_, (System.currentTimeMillis() - requiredMonthlyInstallmentStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, requiredMonthlyInstallmentArguments_, output_, System.nanoTime() - requiredMonthlyInstallmentStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'RequiredMonthlyInstallment' evaluation", e);
+            // End decision 'RequiredMonthlyInstallment'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, requiredMonthlyInstallmentArguments_, null, System.nanoTime() - requiredMonthlyInstallmentStartTime_);
+
             return null;
         }
     }
@@ -59,13 +59,16 @@ public class Routing extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(type.TApplicantData applicantData, type.TBureauData bureauData, type.TRequestedProduct requestedProduct, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'Routing'
+        long routingStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments routingArguments_ = null;
         try {
-            // Start decision 'Routing'
-            long routingStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments routingArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            routingArguments_.put("applicantData", applicantData);
-            routingArguments_.put("bureauData", bureauData);
-            routingArguments_.put("requestedProduct", requestedProduct);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                routingArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                routingArguments_.put("applicantData", applicantData);
+                routingArguments_.put("bureauData", bureauData);
+                routingArguments_.put("requestedProduct", requestedProduct);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, routingArguments_);
 
             // Apply child decisions
@@ -76,11 +79,14 @@ public class Routing extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             String output_ = evaluate(bureauData, postBureauAffordability, postBureauRiskCategory, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'Routing'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, routingArguments_, output_, (System.currentTimeMillis() - routingStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, routingArguments_, output_, System.nanoTime() - routingStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'Routing' evaluation", e);
+            // End decision 'Routing'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, routingArguments_, null, System.nanoTime() - routingStartTime_);
+
             return null;
         }
     }
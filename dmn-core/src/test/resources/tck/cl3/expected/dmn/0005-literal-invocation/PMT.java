@@ -33,24 +33,30 @@ public class PMT extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     private java.math.BigDecimal apply(java.math.BigDecimal p, java.math.BigDecimal r, java.math.BigDecimal n, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'PMT'
+        long pMTStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments pMTArguments_ = null;
         try {
-            // Start BKM 'PMT'
-            long pMTStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments pMTArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            pMTArguments_.put("p", p);
-            pMTArguments_.put("r", r);
-            pMTArguments_.put("n", n);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                pMTArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                pMTArguments_.put("p", p);
+                pMTArguments_.put("r", r);
+                pMTArguments_.put("n", n);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, pMTArguments_);
 
             // Evaluate BKM 'PMT'
             java.math.BigDecimal output_ = evaluate(p, r, n, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'PMT'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, pMTArguments_, output_, (System.currentTimeMillis() - pMTStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, pMTArguments_, output_, System.nanoTime() - pMTStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'PMT' evaluation", e);
+            // End BKM 'PMT'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, pMTArguments_, null, System.nanoTime() - pMTStartTime_);
+
             return null;
         }
     }
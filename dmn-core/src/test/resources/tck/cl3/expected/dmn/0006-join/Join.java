@@ -49,24 +49,30 @@ public class Join extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(List<type.TDeptTable> deptTable, List<type.TEmployeeTable> employeeTable, String lastName, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'Join'
+        long joinStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments joinArguments_ = null;
         try {
-            // Start decision 'Join'
-            long joinStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments joinArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            joinArguments_.put("deptTable", deptTable);
-            joinArguments_.put("employeeTable", employeeTable);
-            joinArguments_.put("lastName", lastName);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                joinArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                joinArguments_.put("deptTable", deptTable);
+                joinArguments_.put("employeeTable", employeeTable);
+                joinArguments_.put("lastName", lastName);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, joinArguments_);
 
             // Evaluate decision 'Join'
             String output_ = evaluate(deptTable, employeeTable, lastName, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'Join'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, joinArguments_, output_, (System.currentTimeMillis() - joinStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, joinArguments_, output_, System.nanoTime() - joinStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'Join' evaluation", e);
+            // End decision 'Join'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, joinArguments_, null, System.nanoTime() - joinStartTime_);
+
             return null;
         }
     }
@@ -49,22 +49,28 @@ public class Sort1 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public List<java.math.BigDecimal> apply(List<java.math.BigDecimal> listA, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'sort1'
+        long sort1StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments sort1Arguments_ = null;
         try {
-            // Start decision 'sort1'
-            long sort1StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments sort1Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            sort1Arguments_.put("listA", listA);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                sort1Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                sort1Arguments_.put("listA", listA);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, sort1Arguments_);
 
             // Evaluate decision 'sort1'
             List<java.math.BigDecimal> output_ = evaluate(listA, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'sort1'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, sort1Arguments_, output_, (System.currentTimeMillis() - sort1StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, sort1Arguments_, output_, System.nanoTime() - sort1StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'sort1' evaluation", e);
+            // End decision 'sort1'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, sort1Arguments_, null, System.nanoTime() - sort1StartTime_);
+
             return null;
         }
     }
@@ -49,22 +49,28 @@ public class Sort2 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public List<type.TRow> apply(List<type.TRow> tableB, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'sort2'
+        long sort2StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments sort2Arguments_ = null;
         try {
-            // Start decision 'sort2'
-            long sort2StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments sort2Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            sort2Arguments_.put("tableB", tableB);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                sort2Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                sort2Arguments_.put("tableB", tableB);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, sort2Arguments_);
 
             // Evaluate decision 'sort2'
             List<type.TRow> output_ = evaluate(tableB, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'sort2'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, sort2Arguments_, output_, (System.currentTimeMillis() - sort2StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, sort2Arguments_, output_, System.nanoTime() - sort2StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'sort2' evaluation", e);
+            // End decision 'sort2'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, sort2Arguments_, null, System.nanoTime() - sort2StartTime_);
+
             return null;
         }
     }
@@ -49,22 +49,28 @@ public class Sort3 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public List<String> apply(List<String> stringList, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'sort3'
+        long sort3StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments sort3Arguments_ = null;
         try {
-            // Start decision 'sort3'
-            long sort3StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments sort3Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            sort3Arguments_.put("stringList", stringList);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                sort3Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                sort3Arguments_.put("stringList", stringList);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, sort3Arguments_);
 
             // Evaluate decision 'sort3'
             List<String> output_ = evaluate(stringList, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'sort3'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, sort3Arguments_, output_, (System.currentTimeMillis() - sort3StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, sort3Arguments_, output_, System.nanoTime() - sort3StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'sort3' evaluation", e);
+            // End decision 'sort3'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, sort3Arguments_, null, System.nanoTime() - sort3StartTime_);
+
             return null;
         }
     }
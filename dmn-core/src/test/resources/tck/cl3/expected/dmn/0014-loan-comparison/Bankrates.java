@@ -31,21 +31,27 @@ public class Bankrates extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public List<type.TLoanProduct> apply(com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'Bankrates'
+        long bankratesStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments bankratesArguments_ = null;
         try {
-            // Start decision 'Bankrates'
-            long bankratesStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments bankratesArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                bankratesArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, bankratesArguments_);
 
             // Evaluate decision 'Bankrates'
             List<type.TLoanProduct> output_ = evaluate(annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'Bankrates'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, bankratesArguments_, output_, (System.currentTimeMillis() - bankratesStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, bankratesArguments_, output_, System.nanoTime() - bankratesStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'Bankrates' evaluation", e);
+            // End decision 'Bankrates'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, bankratesArguments_, null, System.nanoTime() - bankratesStartTime_);
+
             return null;
         }
     }
@@ -33,25 +33,31 @@ public class Equity36Mo extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     private java.math.BigDecimal apply(java.math.BigDecimal p, java.math.BigDecimal r, java.math.BigDecimal n, java.math.BigDecimal pmt, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'equity36Mo'
+        long equity36MoStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments equity36MoArguments_ = null;
         try {
-            // Start BKM 'equity36Mo'
-            long equity36MoStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments equity36MoArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            equity36MoArguments_.put("p", p);
-            equity36MoArguments_.put("r", r);
-            equity36MoArguments_.put("n", n);
-            equity36MoArguments_.put("pmt", pmt);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                equity36MoArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                equity36MoArguments_.put("p", p);
+                equity36MoArguments_.put("r", r);
+                equity36MoArguments_.put("n", n);
+                equity36MoArguments_.put("pmt", pmt);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, equity36MoArguments_);
 
             // Evaluate BKM 'equity36Mo'
             java.math.BigDecimal output_ = evaluate(p, r, n, pmt, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'equity36Mo'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, equity36MoArguments_, output_, (System.currentTimeMillis() - equity36MoStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, equity36MoArguments_, output_, System.nanoTime() - equity36MoStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'equity36Mo' evaluation", e);
+            // End BKM 'equity36Mo'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, equity36MoArguments_, null, System.nanoTime() - equity36MoStartTime_);
+
             return null;
         }
     }
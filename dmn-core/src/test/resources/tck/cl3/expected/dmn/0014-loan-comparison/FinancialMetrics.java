@@ -36,23 +36,29 @@ public class FinancialMetrics extends com.gs.dmn.runtime.DefaultDMNBaseDecision
     }
 
     private type.TMetric apply(type.TLoanProduct product, java.math.BigDecimal requestedAmt, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'FinancialMetrics'
+        long financialMetricsStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments financialMetricsArguments_ = null;
         try {
-            // Start BKM 'FinancialMetrics'
-            long financialMetricsStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments financialMetricsArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            financialMetricsArguments_.put("product", product);
-            financialMetricsArguments_.put("requestedAmt", requestedAmt);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                financialMetricsArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                financialMetricsArguments_.put("product", product);
+                financialMetricsArguments_.put("requestedAmt", requestedAmt);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, financialMetricsArguments_);
 
             // Evaluate BKM 'FinancialMetrics'
             type.TMetric output_ = evaluate(product, requestedAmt, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'FinancialMetrics'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, financialMetricsArguments_, output_, (System.currentTimeMillis() - financialMetricsStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, financialMetricsArguments_, output_, System.nanoTime() - financialMetricsStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'FinancialMetrics' evaluation", e);
+            // End BKM 'FinancialMetrics'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, financialMetricsArguments_, null, System.nanoTime() - financialMetricsStartTime_);
+
             return null;
         }
     }
@@ -33,24 +33,30 @@ public class MonthlyPayment extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     private java.math.BigDecimal apply(java.math.BigDecimal p, java.math.BigDecimal r, java.math.BigDecimal n, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'monthlyPayment'
+        long monthlyPaymentStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments monthlyPaymentArguments_ = null;
         try {
-            // Start BKM 'monthlyPayment'
-            long monthlyPaymentStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments monthlyPaymentArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            monthlyPaymentArguments_.put("p", p);
-            monthlyPaymentArguments_.put("r", r);
-            monthlyPaymentArguments_.put("n", n);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                monthlyPaymentArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                monthlyPaymentArguments_.put("p", p);
+                monthlyPaymentArguments_.put("r", r);
+                monthlyPaymentArguments_.put("n", n);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, monthlyPaymentArguments_);
 
             // Evaluate BKM 'monthlyPayment'
             java.math.BigDecimal output_ = evaluate(p, r, n, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'monthlyPayment'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, monthlyPaymentArguments_, output_, (System.currentTimeMillis() - monthlyPaymentStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, monthlyPaymentArguments_, output_, System.nanoTime() - monthlyPaymentStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'monthlyPayment' evaluation", e);
+            // End BKM 'monthlyPayment'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, monthlyPaymentArguments_, null, System.nanoTime() - monthlyPaymentStartTime_);
+
             return null;
         }
     }
@@ -57,11 +57,14 @@ public class RankedProducts extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public type.TRankedProducts apply(java.math.BigDecimal requestedAmt, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'RankedProducts'
+        long rankedProductsStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments rankedProductsArguments_ = null;
         try {
-            // Start decision 'RankedProducts'
-            long rankedProductsStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments rankedProductsArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            rankedProductsArguments_.put("requestedAmt", requestedAmt);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                rankedProductsArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                rankedProductsArguments_.put("requestedAmt", requestedAmt);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, rankedProductsArguments_);
 
             // Apply child decisions
@@ -71,11 +74,14 @@ public class RankedProducts extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             type.TRankedProducts output_ = evaluate(bankrates, requestedAmt, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'RankedProducts'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, rankedProductsArguments_, output_, (System.currentTimeMillis() - rankedProductsStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, rankedProductsArguments_, output_, System.nanoTime() - rankedProductsStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'RankedProducts' evaluation", e);
+            // End decision 'RankedProducts'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, rankedProductsArguments_, null, System.nanoTime() - rankedProductsStartTime_);
+
             return null;
         }
     }
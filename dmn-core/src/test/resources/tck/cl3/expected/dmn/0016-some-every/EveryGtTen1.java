@@ -37,10 +37,13 @@ public class EveryGtTen1 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public Boolean apply(com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'everyGtTen1'
+        long everyGtTen1StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments everyGtTen1Arguments_ = null;
         try {
-            // Start decision 'everyGtTen1'
-            long everyGtTen1StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments everyGtTen1Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                everyGtTen1Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, everyGtTen1Arguments_);
 
             // Apply child decisions
@@ -50,11 +53,14 @@ public class EveryGtTen1 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             Boolean output_ = evaluate(priceTable1, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'everyGtTen1'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, everyGtTen1Arguments_, output_, (System.currentTimeMillis() - everyGtTen1StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, everyGtTen1Arguments_, output_, System.nanoTime() - everyGtTen1StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'everyGtTen1' evaluation", e);
+            // End decision 'everyGtTen1'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, everyGtTen1Arguments_, null, System.nanoTime() - everyGtTen1StartTime_);
+
             return null;
         }
     }
@@ -39,10 +39,13 @@ public class EveryGtTen3 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public Boolean apply(com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'everyGtTen3'
+        long everyGtTen3StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments everyGtTen3Arguments_ = null;
         try {
-            // Start decision 'everyGtTen3'
-            long everyGtTen3StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments everyGtTen3Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                everyGtTen3Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, everyGtTen3Arguments_);
 
             // Apply child decisions
@@ -52,11 +55,14 @@ public class EveryGtTen3 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
             Boolean output_ = evaluate(priceTable1, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'everyGtTen3'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, everyGtTen3Arguments_, output_, (System.currentTimeMillis() - everyGtTen3StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, everyGtTen3Arguments_, output_, System.nanoTime() - everyGtTen3StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'everyGtTen3' evaluation", e);
+            // End decision 'everyGtTen3'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, everyGtTen3Arguments_, null, System.nanoTime() - everyGtTen3StartTime_);
+
             return null;
         }
     }
@@ -33,22 +33,28 @@ public class GtTen extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     private Boolean apply(java.math.BigDecimal theNumber, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'gtTen'
+        long gtTenStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments gtTenArguments_ = null;
         try {
-            // Start BKM 'gtTen'
-            long gtTenStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments gtTenArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            gtTenArguments_.put("theNumber", theNumber);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                gtTenArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                gtTenArguments_.put("theNumber", theNumber);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, gtTenArguments_);
 
             // Evaluate BKM 'gtTen'
             Boolean output_ = evaluate(theNumber, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'gtTen'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, gtTenArguments_, output_, (System.currentTimeMillis() - gtTenStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, gtTenArguments_, output_, System.nanoTime() - gtTenStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'gtTen' evaluation", e);
+            // End BKM 'gtTen'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, gtTenArguments_, null, System.nanoTime() - gtTenStartTime_);
+
             return null;
         }
     }
@@ -31,21 +31,27 @@ public class PriceTable1 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public List<type.TItemPrice> apply(com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'priceTable1'
+        long priceTable1StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments priceTable1Arguments_ = null;
         try {
-            // Start decision 'priceTable1'
-            long priceTable1StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments priceTable1Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                priceTable1Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, priceTable1Arguments_);
 
             // Evaluate decision 'priceTable1'
             List<type.TItemPrice> output_ = evaluate(annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'priceTable1'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, priceTable1Arguments_, output_, (System.currentTimeMillis() - priceTable1StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, priceTable1Arguments_, output_, System.nanoTime() - priceTable1StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'priceTable1' evaluation", e);
+            // End decision 'priceTable1'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, priceTable1Arguments_, null, System.nanoTime() - priceTable1StartTime_);
+
             return null;
         }
     }
@@ -49,22 +49,28 @@ public class SomeGtTen2 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public Boolean apply(List<type.TItemPrice> priceTable2, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'someGtTen2'
+        long someGtTen2StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments someGtTen2Arguments_ = null;
         try {
-            // Start decision 'someGtTen2'
-            long someGtTen2StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments someGtTen2Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            someGtTen2Arguments_.put("priceTable2", priceTable2);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                someGtTen2Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                someGtTen2Arguments_.put("priceTable2", priceTable2);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, someGtTen2Arguments_);
 
             // Evaluate decision 'someGtTen2'
             Boolean output_ = evaluate(priceTable2, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'someGtTen2'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, someGtTen2Arguments_, output_, (System.currentTimeMillis() - someGtTen2StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, someGtTen2Arguments_, output_, System.nanoTime() - someGtTen2StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'someGtTen2' evaluation", e);
+            // End decision 'someGtTen2'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, someGtTen2Arguments_, null, System.nanoTime() - someGtTen2StartTime_);
+
             return null;
         }
     }
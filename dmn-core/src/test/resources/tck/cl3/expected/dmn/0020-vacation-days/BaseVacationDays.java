@@ -31,21 +31,27 @@ public class BaseVacationDays extends com.gs.dmn.runtime.DefaultDMNBaseDecision
     }
 
     public java.math.BigDecimal apply(com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'BaseVacationDays'
+        long baseVacationDaysStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments baseVacationDaysArguments_ = null;
         try {
-            // Start decision 'BaseVacationDays'
-            long baseVacationDaysStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments baseVacationDaysArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                baseVacationDaysArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, baseVacationDaysArguments_);
 
             // Evaluate decision 'BaseVacationDays'
             java.math.BigDecimal output_ = evaluate(annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'BaseVacationDays'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, baseVacationDaysArguments_, output_, (System.currentTimeMillis() - baseVacationDaysStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, baseVacationDaysArguments_, output_, System.nanoTime() - baseVacationDaysStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'BaseVacationDays' evaluation", e);
+            // End decision 'BaseVacationDays'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, baseVacationDaysArguments_, null, System.nanoTime() - baseVacationDaysStartTime_);
+
             return null;
         }
     }
@@ -61,12 +61,15 @@ public class TotalVacationDays extends com.gs.dmn.runtime.DefaultDMNBaseDecision
     }
 
     public java.math.BigDecimal apply(java.math.BigDecimal age, java.math.BigDecimal yearsOfService, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'TotalVacationDays'
+        long totalVacationDaysStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments totalVacationDaysArguments_ = null;
         try {
-            // Start decision 'TotalVacationDays'
-            long totalVacationDaysStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments totalVacationDaysArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            totalVacationDaysArguments_.put("age", age);
-            totalVacationDaysArguments_.put("yearsOfService", yearsOfService);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                totalVacationDaysArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                totalVacationDaysArguments_.put("age", age);
+                totalVacationDaysArguments_.put("yearsOfService", yearsOfService);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, totalVacationDaysArguments_);
 
             // Apply child decisions
@@ -79,11 +82,14 @@ public class TotalVacationDays extends com.gs.dmn.runtime.DefaultDMNBaseDecision
             java.math.BigDecimal output_ = evaluate(baseVacationDays, extraDaysCase1, extraDaysCase2, extraDaysCase3, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'TotalVacationDays'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, totalVacationDaysArguments_, output_, (System.currentTimeMillis() - totalVacationDaysStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, totalVacationDaysArguments_, output_, System.nanoTime() - totalVacationDaysStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'TotalVacationDays' evaluation", e);
+            // End decision 'TotalVacationDays'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, totalVacationDaysArguments_, null, System.nanoTime() - totalVacationDaysStartTime_);
+
             return null;
         }
     }
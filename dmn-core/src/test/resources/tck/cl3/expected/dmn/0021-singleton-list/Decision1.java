@@ -49,22 +49,28 @@ public class Decision1 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public List<String> apply(List<String> employees, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'decision1'
+        long decision1StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments decision1Arguments_ = null;
         try {
-            // Start decision 'decision1'
-            long decision1StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments decision1Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            decision1Arguments_.put("employees", employees);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                decision1Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                decision1Arguments_.put("employees", employees);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, decision1Arguments_);
 
             // Evaluate decision 'decision1'
             List<String> output_ = evaluate(employees, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'decision1'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, decision1Arguments_, output_, (System.currentTimeMillis() - decision1StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision1Arguments_, output_, System.nanoTime() - decision1StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'decision1' evaluation", e);
+            // End decision 'decision1'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision1Arguments_, null, System.nanoTime() - decision1StartTime_);
+
             return null;
         }
     }
@@ -49,22 +49,28 @@ public class Decision2 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(List<String> employees, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'decision2'
+        long decision2StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments decision2Arguments_ = null;
         try {
-            // Start decision 'decision2'
-            long decision2StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments decision2Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            decision2Arguments_.put("employees", employees);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                decision2Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                decision2Arguments_.put("employees", employees);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, decision2Arguments_);
 
             // Evaluate decision 'decision2'
             String output_ = evaluate(employees, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'decision2'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, decision2Arguments_, output_, (System.currentTimeMillis() - decision2StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision2Arguments_, output_, System.nanoTime() - decision2StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'decision2' evaluation", e);
+            // End decision 'decision2'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision2Arguments_, null, System.nanoTime() - decision2StartTime_);
+
             return null;
         }
     }
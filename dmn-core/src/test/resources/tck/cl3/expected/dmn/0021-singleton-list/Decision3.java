@@ -49,22 +49,28 @@ public class Decision3 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public List<String> apply(List<String> employees, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'decision3'
+        long decision3StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments decision3Arguments_ = null;
         try {
-            // Start decision 'decision3'
-            long decision3StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments decision3Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            decision3Arguments_.put("employees", employees);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                decision3Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                decision3Arguments_.put("employees", employees);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, decision3Arguments_);
 
             // Evaluate decision 'decision3'
             List<String> output_ = evaluate(employees, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'decision3'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, decision3Arguments_, output_, (System.currentTimeMillis() - decision3StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision3Arguments_, output_, System.nanoTime() - decision3StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'decision3' evaluation", e);
+            // End decision 'decision3'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision3Arguments_, null, System.nanoTime() - decision3StartTime_);
+
             return null;
         }
     }
@@ -49,22 +49,28 @@ public class Decision4 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(List<String> employees, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'decision4'
+        long decision4StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments decision4Arguments_ = null;
         try {
-            // Start decision 'decision4'
-            long decision4StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments decision4Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            decision4Arguments_.put("employees", employees);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                decision4Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                decision4Arguments_.put("employees", employees);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, decision4Arguments_);
 
             // Evaluate decision 'decision4'
             String output_ = evaluate(employees, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'decision4'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, decision4Arguments_, output_, (System.currentTimeMillis() - decision4StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision4Arguments_, output_, System.nanoTime() - decision4StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'decision4' evaluation", e);
+            // End decision 'decision4'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision4Arguments_, null, System.nanoTime() - decision4StartTime_);
+
             return null;
         }
     }
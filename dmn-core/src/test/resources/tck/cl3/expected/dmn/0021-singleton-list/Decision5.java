@@ -49,22 +49,28 @@ public class Decision5 extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public String apply(List<String> employees, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'decision5'
+        long decision5StartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments decision5Arguments_ = null;
         try {
-            // Start decision 'decision5'
-            long decision5StartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments decision5Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            decision5Arguments_.put("employees", employees);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                decision5Arguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                decision5Arguments_.put("employees", employees);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, decision5Arguments_);
 
             // Evaluate decision 'decision5'
             String output_ = evaluate(employees, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'decision5'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, decision5Arguments_, output_, (System.currentTimeMillis() - decision5StartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision5Arguments_, output_, System.nanoTime() - decision5StartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'decision5' evaluation", e);
+            // End decision 'decision5'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, decision5Arguments_, null, System.nanoTime() - decision5StartTime_);
+
             return null;
         }
     }
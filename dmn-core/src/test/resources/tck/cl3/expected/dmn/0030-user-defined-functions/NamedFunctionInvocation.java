@@ -31,23 +31,29 @@ public class NamedFunctionInvocation extends com.gs.dmn.runtime.DefaultDMNBaseDe
     }
 
     public String apply(String stringInputA, String stringInputB, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'namedFunctionInvocation'
+        long namedFunctionInvocationStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments namedFunctionInvocationArguments_ = null;
         try {
-            // Start decision 'namedFunctionInvocation'
-            long namedFunctionInvocationStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments namedFunctionInvocationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            namedFunctionInvocationArguments_.put("stringInputA", stringInputA);
-            namedFunctionInvocationArguments_.put("stringInputB", stringInputB);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                namedFunctionInvocationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                namedFunctionInvocationArguments_.put("stringInputA", stringInputA);
+                namedFunctionInvocationArguments_.put("stringInputB", stringInputB);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, namedFunctionInvocationArguments_);
 
             // Evaluate decision 'namedFunctionInvocation'
             String output_ = evaluate(stringInputA, stringInputB, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'namedFunctionInvocation'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, namedFunctionInvocationArguments_, output_, (System.currentTimeMillis() - namedFunctionInvocationStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, namedFunctionInvocationArguments_, output_, System.nanoTime() - namedFunctionInvocationStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'namedFunctionInvocation' evaluation", e);
+            // End decision 'namedFunctionInvocation'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, namedFunctionInvocationArguments_, null, System.nanoTime() - namedFunctionInvocationStartTime_);
+
             return null;
         }
     }
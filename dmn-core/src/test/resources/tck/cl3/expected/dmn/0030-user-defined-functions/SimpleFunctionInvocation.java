@@ -31,23 +31,29 @@ public class SimpleFunctionInvocation extends com.gs.dmn.runtime.DefaultDMNBaseD
     }
 
     public String apply(String stringInputA, String stringInputB, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'simpleFunctionInvocation'
+        long simpleFunctionInvocationStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments simpleFunctionInvocationArguments_ = null;
         try {
-            // Start decision 'simpleFunctionInvocation'
-            long simpleFunctionInvocationStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments simpleFunctionInvocationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            simpleFunctionInvocationArguments_.put("stringInputA", stringInputA);
-            simpleFunctionInvocationArguments_.put("stringInputB", stringInputB);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                simpleFunctionInvocationArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                simpleFunctionInvocationArguments_.put("stringInputA", stringInputA);
+                simpleFunctionInvocationArguments_.put("stringInputB", stringInputB);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, simpleFunctionInvocationArguments_);
 
             // Evaluate decision 'simpleFunctionInvocation'
             String output_ = evaluate(stringInputA, stringInputB, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'simpleFunctionInvocation'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, simpleFunctionInvocationArguments_, output_, (System.currentTimeMillis() - simpleFunctionInvocationStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, simpleFunctionInvocationArguments_, output_, System.nanoTime() - simpleFunctionInvocationStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'simpleFunctionInvocation' evaluation", e);
+            // End decision 'simpleFunctionInvocation'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, simpleFunctionInvocationArguments_, null, System.nanoTime() - simpleFunctionInvocationStartTime_);
+
             return null;
         }
     }
@@ -33,22 +33,28 @@ public class Circumference extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     private java.math.BigDecimal apply(java.math.BigDecimal radius, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'Circumference'
+        long circumferenceStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments circumferenceArguments_ = null;
         try {
-            // Start BKM 'Circumference'
-            long circumferenceStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments circumferenceArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            circumferenceArguments_.put("radius", radius);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                circumferenceArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                circumferenceArguments_.put("radius", radius);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, circumferenceArguments_);
 
             // Evaluate BKM 'Circumference'
             java.math.BigDecimal output_ = evaluate(radius, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'Circumference'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, circumferenceArguments_, output_, (System.currentTimeMillis() - circumferenceStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, circumferenceArguments_, output_, System.nanoTime() - circumferenceStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'Circumference' evaluation", e);
+            // End BKM 'Circumference'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, circumferenceArguments_, null, System.nanoTime() - circumferenceStartTime_);
+
             return null;
         }
     }
@@ -57,12 +57,15 @@ public class FnInvocationComplexParameters extends com.gs.dmn.runtime.DefaultDMN
     }
 
     public type.TFnInvocationComplexParamsResult apply(java.math.BigDecimal inputA, java.math.BigDecimal inputB, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'fnInvocationComplexParameters'
+        long fnInvocationComplexParametersStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments fnInvocationComplexParametersArguments_ = null;
         try {
-            // Start decision 'fnInvocationComplexParameters'
-            long fnInvocationComplexParametersStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments fnInvocationComplexParametersArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            fnInvocationComplexParametersArguments_.put("inputA", inputA);
-            fnInvocationComplexParametersArguments_.put("inputB", inputB);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                fnInvocationComplexParametersArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                fnInvocationComplexParametersArguments_.put("inputA", inputA);
+                fnInvocationComplexParametersArguments_.put("inputB", inputB);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, fnInvocationComplexParametersArguments_);
 
             // Apply child decisions
@@ -72,11 +75,14 @@ public class FnInvocationComplexParameters extends com.gs.dmn.runtime.DefaultDMN
             type.TFnInvocationComplexParamsResult output_ = evaluate(fnLibrary, inputA, inputB, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'fnInvocationComplexParameters'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, fnInvocationComplexParametersArguments_, output_, (System.currentTimeMillis() - fnInvocationComplexParametersStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fnInvocationComplexParametersArguments_, output_, System.nanoTime() - fnInvocationComplexParametersStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'fnInvocationComplexParameters' evaluation", e);
+            // End decision 'fnInvocationComplexParameters'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fnInvocationComplexParametersArguments_, null, System.nanoTime() - fnInvocationComplexParametersStartTime_);
+
             return null;
         }
     }
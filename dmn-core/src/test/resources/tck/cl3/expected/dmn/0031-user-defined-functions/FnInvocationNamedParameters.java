@@ -55,12 +55,15 @@ public class FnInvocationNamedParameters extends com.gs.dmn.runtime.DefaultDMNBa
     }
 
     public type.TFnInvocationNamedResult apply(java.math.BigDecimal inputA, java.math.BigDecimal inputB, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'fnInvocationNamedParameters'
+        long fnInvocationNamedParametersStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments fnInvocationNamedParametersArguments_ = null;
         try {
-            // Start decision 'fnInvocationNamedParameters'
-            long fnInvocationNamedParametersStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments fnInvocationNamedParametersArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            fnInvocationNamedParametersArguments_.put("inputA", inputA);
-            fnInvocationNamedParametersArguments_.put("inputB", inputB);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                fnInvocationNamedParametersArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                fnInvocationNamedParametersArguments_.put("inputA", inputA);
+                fnInvocationNamedParametersArguments_.put("inputB", inputB);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, fnInvocationNamedParametersArguments_);
 
             // Apply child decisions
@@ -70,11 +73,14 @@ public class FnInvocationNamedParameters extends com.gs.dmn.runtime.DefaultDMNBa
             type.TFnInvocationNamedResult output_ = evaluate(fnLibrary, inputA, inputB, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'fnInvocationNamedParameters'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, fnInvocationNamedParametersArguments_, output_, (System.currentTimeMillis() - fnInvocationNamedParametersStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fnInvocationNamedParametersArguments_, output_, System.nanoTime() - fnInvocationNamedParametersStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'fnInvocationNamedParameters' evaluation", e);
+            // End decision 'fnInvocationNamedParameters'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fnInvocationNamedParametersArguments_, null, System.nanoTime() - fnInvocationNamedParametersStartTime_);
+
             return null;
         }
     }
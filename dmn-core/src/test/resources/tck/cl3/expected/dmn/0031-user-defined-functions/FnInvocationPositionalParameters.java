@@ -55,12 +55,15 @@ public class FnInvocationPositionalParameters extends com.gs.dmn.runtime.Default
     }
 
     public type.TFnInvocationPositionalResult apply(java.math.BigDecimal inputA, java.math.BigDecimal inputB, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'fnInvocationPositionalParameters'
+        long fnInvocationPositionalParametersStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments fnInvocationPositionalParametersArguments_ = null;
         try {
-            // Start decision 'fnInvocationPositionalParameters'
-            long fnInvocationPositionalParametersStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments fnInvocationPositionalParametersArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            fnInvocationPositionalParametersArguments_.put("inputA", inputA);
-            fnInvocationPositionalParametersArguments_.put("inputB", inputB);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                fnInvocationPositionalParametersArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                fnInvocationPositionalParametersArguments_.put("inputA", inputA);
+                fnInvocationPositionalParametersArguments_.put("inputB", inputB);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, fnInvocationPositionalParametersArguments_);
 
             // Apply child decisions
@@ -70,11 +73,14 @@ public class FnInvocationPositionalParameters extends com.gs.dmn.runtime.Default
             type.TFnInvocationPositionalResult output_ = evaluate(fnLibrary, inputA, inputB, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'fnInvocationPositionalParameters'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, fnInvocationPositionalParametersArguments_, output_, (System.currentTimeMillis() - fnInvocationPositionalParametersStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fnInvocationPositionalParametersArguments_, output_, System.nanoTime() - fnInvocationPositionalParametersStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'fnInvocationPositionalParameters' evaluation", e);
+            // End decision 'fnInvocationPositionalParameters'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fnInvocationPositionalParametersArguments_, null, System.nanoTime() - fnInvocationPositionalParametersStartTime_);
+
             return null;
         }
     }
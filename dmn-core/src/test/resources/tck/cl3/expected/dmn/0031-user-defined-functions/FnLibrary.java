@@ -31,21 +31,27 @@ public class FnLibrary extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public type.TFnLibrary apply(com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'fnLibrary'
+        long fnLibraryStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments fnLibraryArguments_ = null;
         try {
-            // Start decision 'fnLibrary'
-            long fnLibraryStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments fnLibraryArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                fnLibraryArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, fnLibraryArguments_);
 
             // Evaluate decision 'fnLibrary'
             type.TFnLibrary output_ = evaluate(annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'fnLibrary'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, fnLibraryArguments_, output_, (System.currentTimeMillis() - fnLibraryStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fnLibraryArguments_, output_, System.nanoTime() - fnLibraryStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'fnLibrary' evaluation", e);
+            // End decision 'fnLibrary'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fnLibraryArguments_, null, System.nanoTime() - fnLibraryStartTime_);
+
             return null;
         }
     }
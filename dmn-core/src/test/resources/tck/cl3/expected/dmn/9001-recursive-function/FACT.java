@@ -33,22 +33,28 @@ public class FACT extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     private java.math.BigDecimal apply(java.math.BigDecimal n, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start BKM 'FACT'
+        long fACTStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments fACTArguments_ = null;
         try {
-            // Start BKM 'FACT'
-            long fACTStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments fACTArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            fACTArguments_.put("n", n);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                fACTArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                fACTArguments_.put("n", n);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, fACTArguments_);
 
             // Evaluate BKM 'FACT'
             java.math.BigDecimal output_ = evaluate(n, annotationSet_, eventListener_, externalExecutor_);
 
             // End BKM 'FACT'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, fACTArguments_, output_, (System.currentTimeMillis() - fACTStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fACTArguments_, output_, System.nanoTime() - fACTStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'FACT' evaluation", e);
+            // End BKM 'FACT'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, fACTArguments_, null, System.nanoTime() - fACTStartTime_);
+
             return null;
         }
     }
@@ -51,22 +51,28 @@ public class Main extends com.gs.dmn.runtime.DefaultDMNBaseDecision {
     }
 
     public java.math.BigDecimal apply(java.math.BigDecimal n, com.gs.dmn.runtime.annotation.AnnotationSet annotationSet_, com.gs.dmn.runtime.listener.EventListener eventListener_, com.gs.dmn.runtime.external.ExternalFunctionExecutor externalExecutor_) {
+        // Start decision 'main'
+        long mainStartTime_ = System.nanoTime();
+        com.gs.dmn.runtime.listener.Arguments mainArguments_ = null;
         try {
-            // Start decision 'main'
-            long mainStartTime_ = System.currentTimeMillis();
-            com.gs.dmn.runtime.listener.Arguments mainArguments_ = new com.gs.dmn.runtime.listener.Arguments();
-            mainArguments_.put("n", n);
+            if (eventListener_.isTraced(DRG_ELEMENT_METADATA)) {
+                mainArguments_ = new com.gs.dmn.runtime.listener.Arguments();
+                mainArguments_.put("n", n);
+            }
             eventListener_.startDRGElement(DRG_ELEMENT_METADATA, mainArguments_);
 
             // Evaluate decision 'main'
             java.math.BigDecimal output_ = evaluate(n, annotationSet_, eventListener_, externalExecutor_);
 
             // End decision 'main'
-            eventListener_.endDRGElement(DRG_ELEMENT_METADATA, mainArguments_, output_, (System.currentTimeMillis() - mainStartTime_));
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, mainArguments_, output_, System.nanoTime() - mainStartTime_);
 
             return output_;
         } catch (Exception e) {
             logError("Exception caught in 'main' evaluation", e);
+            // End decision 'main'
+            eventListener_.endDRGElementNanos(DRG_ELEMENT_METADATA, mainArguments_, null, System.nanoTime() - mainStartTime_);
+
             return null;
         }
     }
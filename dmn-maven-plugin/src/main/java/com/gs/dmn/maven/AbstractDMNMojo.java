@@ -19,6 +19,7 @@ import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
 import com.gs.dmn.serialization.TypeDeserializationConfigurer;
 import com.gs.dmn.transformation.CompositeDMNTransformer;
 import com.gs.dmn.transformation.DMNTransformer;
+import com.gs.dmn.transformation.IncrementalBuildState;
 import com.gs.dmn.transformation.NopDMNTransformer;
 import com.gs.dmn.transformation.lazy.CompositeLazyEvaluationDetector;
 import com.gs.dmn.transformation.lazy.LazyEvaluationDetector;
@@ -31,9 +32,11 @@ import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.*;
 
 public abstract class AbstractDMNMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
@@ -45,6 +48,49 @@ public abstract class AbstractDMNMojo extends AbstractMojo {
         }
     }
 
+    // State file of an incremental build, unique per goal, input and output
+    protected IncrementalBuildState makeIncrementalBuildState(String goal, File stateFile, File inputFileDirectory, File outputFileDirectory, String configuration, BuildLogger logger) throws IOException {
+        if (stateFile == null) {
+            String buildDirectory = project == null || project.getBuild() == null || project.getBuild().getDirectory() == null ? "target" : project.getBuild().getDirectory();
+            String id = IncrementalBuildState.fingerprint(inputFileDirectory.getCanonicalPath() + "|" + outputFileDirectory.getCanonicalPath()).substring(0, 12);
+            stateFile = new File(buildDirectory, String.format("dmn-incremental/%s-%s.json", goal, id));
+        }
+        return IncrementalBuildState.load(stateFile, configuration, logger);
+    }
+
+    // Everything that influences the generated code apart from the input files
+    protected String makeConfiguration(String dmnDialect, String[] dmnValidators, DMNTransformerComponent[] dmnTransformers, String templateProvider, String[] lazyEvaluationDetectors, String typeDeserializationConfigurer, Map<String, String> inputParameters) {
+        StringBuilder result = new StringBuilder();
+        result.append("version=").append(generatorVersion()).append("\n");
+        result.append("dialect=").append(dmnDialect).append("\n");
+        result.append("validators=").append(dmnValidators == null ? "" : Arrays.toString(dmnValidators)).append("\n");
+        result.append("transformers=");
+        if (dmnTransformers != null) {
+            for (DMNTransformerComponent transformer : dmnTransformers) {
+                Map<String, Object> configuration = transformer.getConfiguration();
+                result.append(transformer.getName()).append(configuration == null ? "{}" : new TreeMap<>(configuration)).append(";");
+            }
+        }
+        result.append("\n");
+        result.append("templateProvider=").append(templateProvider).append("\n");
+        result.append("lazyEvaluationDetectors=").append(lazyEvaluationDetectors == null ? "" : Arrays.toString(lazyEvaluationDetectors)).append("\n");
+        result.append("typeDeserializationConfigurer=").append(typeDeserializationConfigurer).append("\n");
+        result.append("inputParameters=").append(inputParameters == null ? "{}" : new TreeMap<>(inputParameters)).append("\n");
+        return result.toString();
+    }
+
+    // jDMN version; snapshot jars are identified by their location and timestamp
+    private String generatorVersion() {
+        String version = IncrementalBuildState.class.getPackage().getImplementationVersion();
+        CodeSource codeSource = IncrementalBuildState.class.getProtectionDomain().getCodeSource();
+        URL location = codeSource == null ? null : codeSource.getLocation();
+        if (location != null && "file".equals(location.getProtocol())) {
+            File file = new File(location.getPath());
+            return String.format("%s %s %d", version, file.getPath(), file.lastModified());
+        }
+        return String.valueOf(version);
+    }
+
     protected DMNDialectDefinition makeDialect(Class<?> dialectClass) throws InstantiationException, IllegalAccessException {
         return (DMNDialectDefinition) dialectClass.newInstance();
     }
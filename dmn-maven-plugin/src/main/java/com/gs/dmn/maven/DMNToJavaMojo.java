@@ -23,6 +23,7 @@ import com.gs.dmn.transformation.lazy.LazyEvaluationDetector;
 import com.gs.dmn.transformation.template.DagTemplateProvider;
 import com.gs.dmn.transformation.template.TemplateProvider;
 import com.gs.dmn.validation.DMNValidator;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -61,6 +62,17 @@ public class DMNToJavaMojo extends AbstractDMNMojo {
     @Parameter(required = true, defaultValue = "${project.build.directory}/generated-sources/dmn")
     public File outputFileDirectory;
 
+    // On by default: the unchanged inputs are skipped and the generated files are rewritten only when their content changes
+    @Parameter(required = false, defaultValue = "true")
+    public boolean incremental;
+
+    // Default value is target/dmn-incremental/<goal>-<hash of the input and output folders>.json
+    @Parameter(required = false)
+    public File stateFile;
+
+    @Parameter(required = false, defaultValue = "1")
+    public int threads;
+
     @Override
     public void execute() throws MojoExecutionException {
         checkMandatoryField(project, "project");
@@ -91,12 +103,30 @@ public class DMNToJavaMojo extends AbstractDMNMojo {
                     logger
             );
 
-            // Transform
-            transformer.transform(inputFileDirectory.toPath(), outputFileDirectory.toPath());
+            if (threads > 1) {
+                transformer.setThreads(threads);
+            }
+
+            // Skip the unchanged files
+            if (incremental) {
+                String configuration = makeConfiguration(this.dmnDialect, this.dmnValidators, this.dmnTransformers, this.templateProvider, this.lazyEvaluationDetectors, this.typeDeserializationConfigurer, this.inputParameters);
+                transformer.setIncrementalBuildState(makeIncrementalBuildState("dmn-to-java", this.stateFile, this.inputFileDirectory, this.outputFileDirectory, configuration, logger));
+            }
+
+            // Transform (logs the phase timings)
             this.getLog().info(String.format("Transforming '%s' to '%s' ...", this.inputFileDirectory, this.outputFileDirectory));
+            transformer.transform(inputFileDirectory.toPath(), outputFileDirectory.toPath());
 
             // Add sources
             this.project.addCompileSourceRoot(this.outputFileDirectory.getCanonicalPath());
+
+            // Add the services file of the generated registries
+            if (InputParamUtil.getOptionalBooleanParam(inputParameters, "generateRegistry")) {
+                Resource resource = new Resource();
+                resource.setDirectory(this.outputFileDirectory.getCanonicalPath());
+                resource.addInclude("META-INF/**");
+                this.project.addResource(resource);
+            }
         } catch (Exception e) {
             throw new MojoExecutionException("", e);
         }
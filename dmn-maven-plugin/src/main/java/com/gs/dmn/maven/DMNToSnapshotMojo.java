@@ -0,0 +1,110 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.maven;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.maven.configuration.components.DMNTransformerComponent;
+import com.gs.dmn.serialization.DMNConstants;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.serialization.DMNSnapshotWriter;
+import com.gs.dmn.transformation.DMNTransformer;
+import com.gs.dmn.transformation.InputParamUtil;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Writes a binary snapshot (see DMNSnapshotReader) next to each DMN file, for fast interpreter startup
+@SuppressWarnings("CanBeFinal")
+@Mojo(name = "dmn-to-snapshot", defaultPhase = LifecyclePhase.GENERATE_RESOURCES, configurator = "dmn-mojo-configurator")
+public class DMNToSnapshotMojo extends AbstractDMNMojo {
+    @Parameter(required = false)
+    public DMNTransformerComponent[] dmnTransformers;
+
+    // Recorded in the snapshots and checked when they are loaded. Default value is the list of DMN transformers.
+    @Parameter(required = false)
+    public String configuration;
+
+    @Parameter(required = false)
+    public Map<String, String> inputParameters;
+
+    @Parameter(required = true, defaultValue = "${project.basedir}/src/main/resources/dmn")
+    public File inputFileDirectory;
+
+    @Parameter(required = true, defaultValue = "${project.build.directory}/generated-resources/dmn")
+    public File outputFileDirectory;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        checkMandatoryField(project, "project");
+        checkMandatoryField(inputFileDirectory, "inputFileDirectory");
+        checkMandatoryField(outputFileDirectory, "outputFileDirectory");
+
+        try {
+            BuildLogger logger = new MavenBuildLogger(this.getLog());
+            DMNTransformer dmnTransformer = makeDMNTransformer(this.dmnTransformers, logger);
+            boolean xsdValidation = InputParamUtil.getOptionalBooleanParam(inputParameters, "xsdValidation");
+            DMNReader dmnReader = new DMNReader(logger, xsdValidation);
+            DMNSnapshotWriter snapshotWriter = new DMNSnapshotWriter(logger);
+            String configuration = this.configuration != null ? this.configuration : defaultConfiguration();
+
+            this.getLog().info(String.format("Writing snapshots of '%s' to '%s' ...", this.inputFileDirectory, this.outputFileDirectory));
+            for (File source : dmnFiles(inputFileDirectory)) {
+                DMNModelRepository repository = dmnTransformer.transform(dmnReader.read(source));
+                String name = source.getName().substring(0, source.getName().length() - DMNConstants.DMN_FILE_EXTENSION.length());
+                snapshotWriter.write(repository, source, configuration, new File(outputFileDirectory, name + DMNConstants.DMN_SNAPSHOT_FILE_EXTENSION));
+            }
+
+            // Add resources
+            Resource resource = new Resource();
+            resource.setDirectory(this.outputFileDirectory.getCanonicalPath());
+            this.project.addResource(resource);
+        } catch (Exception e) {
+            throw new MojoExecutionException("", e);
+        }
+    }
+
+    private String defaultConfiguration() {
+        List<String> names = new ArrayList<>();
+        if (dmnTransformers != null) {
+            for (DMNTransformerComponent component : dmnTransformers) {
+                names.add(component.getName());
+            }
+        }
+        return String.join(",", names);
+    }
+
+    private List<File> dmnFiles(File input) {
+        List<File> files = new ArrayList<>();
+        if (input.isFile()) {
+            files.add(input);
+        } else {
+            File[] children = input.listFiles();
+            if (children != null) {
+                for (File child : children) {
+                    if (child.isFile() && child.getName().endsWith(DMNConstants.DMN_FILE_EXTENSION)) {
+                        files.add(child);
+                    }
+                }
+            }
+        }
+        return files;
+    }
+}
@@ -17,7 +17,6 @@ import com.gs.dmn.maven.configuration.components.DMNTransformerComponent;
 import com.gs.dmn.serialization.TypeDeserializationConfigurer;
 import com.gs.dmn.tck.TCKTestCasesToJUnitTransformer;
 import com.gs.dmn.transformation.DMNTransformer;
-import com.gs.dmn.transformation.FileTransformer;
 import com.gs.dmn.transformation.lazy.LazyEvaluationDetector;
 import com.gs.dmn.transformation.template.TemplateProvider;
 import com.gs.dmn.validation.DMNValidator;
@@ -62,6 +61,14 @@ public class TCKToJUnitMojo extends AbstractDMNMojo {
     @Parameter(required = true, defaultValue = "${project.build.directory}/generated-test-sources/junit")
     public File outputFileDirectory;
 
+    // On by default: the unchanged inputs are skipped and the generated files are rewritten only when their content changes
+    @Parameter(required = false, defaultValue = "true")
+    public boolean incremental;
+
+    // Default value is target/dmn-incremental/<goal>-<hash of the input and output folders>.json
+    @Parameter(required = false)
+    public File stateFile;
+
     @Override
     public void execute() throws MojoExecutionException {
         checkMandatoryField(inputTestFileDirectory, "inputTestFileDirectory");
@@ -81,12 +88,18 @@ public class TCKToJUnitMojo extends AbstractDMNMojo {
             TypeDeserializationConfigurer typeDeserializationConfigurer = makeTypeDeserializationConfigurer(this.typeDeserializationConfigurer, logger);
 
             // Create transformer
-            FileTransformer transformer = new TCKTestCasesToJUnitTransformer(
+            TCKTestCasesToJUnitTransformer transformer = new TCKTestCasesToJUnitTransformer(
                     dmnDialect, dmnValidator, dmnTransformer, templateProvider, lazyEvaluationDetector, typeDeserializationConfigurer,
                     inputModelFileDirectory.toPath(), inputParameters,
                     logger
             );
 
+            // Skip the unchanged files
+            if (incremental) {
+                String configuration = makeConfiguration(this.dmnDialect, this.dmnValidators, this.dmnTransformers, this.templateProvider, this.lazyEvaluationDetectors, this.typeDeserializationConfigurer, this.inputParameters);
+                transformer.setIncrementalBuildState(makeIncrementalBuildState("tck-to-java", this.stateFile, this.inputTestFileDirectory, this.outputFileDirectory, configuration, logger));
+            }
+
             // Transform
             this.getLog().info(String.format("Transforming '%s' to '%s' ...", this.inputTestFileDirectory, this.outputFileDirectory));
             transformer.transform(inputTestFileDirectory.toPath(), outputFileDirectory.toPath());
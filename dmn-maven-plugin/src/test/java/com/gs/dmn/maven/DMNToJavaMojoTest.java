@@ -18,14 +18,27 @@ import com.gs.dmn.transformation.ToSimpleNameTransformer;
 import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
 import com.gs.dmn.transformation.template.TreeTemplateProvider;
 import com.gs.dmn.validation.NopDMNValidator;
+import org.apache.commons.io.FileUtils;
 import org.apache.maven.project.MavenProject;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 public class DMNToJavaMojoTest extends AbstractMojoTest {
+    private static final long OLD_TIMESTAMP = 1000000000000L;
+
     private final DMNToJavaMojo mojo = new DMNToJavaMojo();
     private final MavenProject project = new MavenProject();
 
@@ -51,4 +64,65 @@ public class DMNToJavaMojoTest extends AbstractMojoTest {
         mojo.execute();
         assertTrue(true);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testExecuteIncremental() throws Exception {
+        Path folder = Files.createTempDirectory("dmn-to-java-incremental");
+        try {
+            File inputFileDirectory = new File(folder.toFile(), "dmn");
+            File outputFileDirectory = new File(folder.toFile(), "output");
+            File input = new File(inputFileDirectory, "0004-lending.dmn");
+            inputFileDirectory.mkdirs();
+            Files.copy(new File(this.getClass().getClassLoader().getResource("input/0004-lending.dmn").toURI()).toPath(), input.toPath());
+
+            mojo.project = project;
+            mojo.dmnDialect = StandardDMNDialectDefinition.class.getName();
+            mojo.dmnTransformers = new DMNTransformerComponent[] { new DMNTransformerComponent(ToSimpleNameTransformer.class.getName()) };
+            mojo.templateProvider = TreeTemplateProvider.class.getName();
+            mojo.inputFileDirectory = inputFileDirectory;
+            mojo.outputFileDirectory = outputFileDirectory;
+            mojo.inputParameters = makeParams();
+            mojo.incremental = true;
+            mojo.stateFile = new File(folder.toFile(), "dmn-incremental/dmn-to-java-test.json");
+            mojo.threads = 2;
+            mojo.execute();
+            assertTrue(mojo.stateFile.isFile());
+
+            // Age the generated files to tell them apart from the rewritten ones
+            Map<String, File> generatedFiles = generatedFiles(outputFileDirectory);
+            assertTrue(generatedFiles.containsKey("Strategy.java"));
+            assertTrue(generatedFiles.containsKey("Eligibility.java"));
+            String strategy = read(generatedFiles.get("Strategy.java"));
+            for (File file : generatedFiles.values()) {
+                assertTrue(file.setLastModified(OLD_TIMESTAMP));
+            }
+
+            // Second build skips the unchanged model
+            mojo.execute();
+            assertEquals(generatedFiles.keySet(), generatedFiles(outputFileDirectory).keySet());
+            for (File file : generatedFiles.values()) {
+                assertEquals(file.getName(), OLD_TIMESTAMP, file.lastModified());
+            }
+
+            // Third build regenerates the changed model and rewrites only the files whose content changed
+            String model = read(input);
+            Files.write(input.toPath(), model.replace("<text>\"THROUGH\"</text>", "<text>\"DECLINE\"</text>").getBytes(StandardCharsets.UTF_8));
+            mojo.execute();
+            assertNotEquals(OLD_TIMESTAMP, generatedFiles.get("Strategy.java").lastModified());
+            assertNotEquals(strategy, read(generatedFiles.get("Strategy.java")));
+            assertEquals(OLD_TIMESTAMP, generatedFiles.get("Eligibility.java").lastModified());
+        } finally {
+            FileUtils.deleteDirectory(folder.toFile());
+        }
+    }
+
+    private Map<String, File> generatedFiles(File outputFileDirectory) throws IOException {
+        try (Stream<Path> paths = Files.walk(outputFileDirectory.toPath())) {
+            return paths.map(Path::toFile).filter(File::isFile).collect(Collectors.toMap(File::getName, f -> f, (f1, f2) -> f1, TreeMap::new));
+        }
+    }
+
+    private String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
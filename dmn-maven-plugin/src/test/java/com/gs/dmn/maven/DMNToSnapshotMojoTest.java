@@ -0,0 +1,51 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.maven;
+
+import com.gs.dmn.log.NopBuildLogger;
+import com.gs.dmn.maven.configuration.components.DMNTransformerComponent;
+import com.gs.dmn.serialization.DMNSnapshotReader;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.apache.maven.project.MavenProject;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class DMNToSnapshotMojoTest extends AbstractMojoTest {
+    private final DMNToSnapshotMojo mojo = new DMNToSnapshotMojo();
+    private final MavenProject project = new MavenProject();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExecuteWhenMissingInput() throws Exception {
+        mojo.inputParameters = makeParams();
+        mojo.execute();
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        File input = new File(this.getClass().getClassLoader().getResource("input/0004-lending.dmn").getFile());
+        mojo.project = project;
+        mojo.dmnTransformers = new DMNTransformerComponent[] { new DMNTransformerComponent(ToSimpleNameTransformer.class.getName()) };
+        mojo.inputFileDirectory = input;
+        mojo.outputFileDirectory = new File("target/output/snapshot");
+        mojo.inputParameters = makeParams();
+        mojo.execute();
+
+        File snapshot = new File(mojo.outputFileDirectory, "0004-lending.dmns");
+        assertNotNull(new DMNSnapshotReader(new NopBuildLogger()).read(snapshot, input, ToSimpleNameTransformer.class.getName()));
+        assertEquals(1, project.getResources().size());
+    }
+}
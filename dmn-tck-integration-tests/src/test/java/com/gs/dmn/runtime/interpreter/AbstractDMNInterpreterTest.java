@@ -14,32 +14,23 @@ package com.gs.dmn.runtime.interpreter;
 
 import com.gs.dmn.DMNModelRepository;
 import com.gs.dmn.dialect.DMNDialectDefinition;
-import com.gs.dmn.feel.analysis.semantics.environment.Environment;
-import com.gs.dmn.feel.analysis.semantics.type.Type;
-import com.gs.dmn.feel.lib.FEELLib;
-import com.gs.dmn.feel.lib.StandardFEELLib;
 import com.gs.dmn.log.BuildLogger;
 import com.gs.dmn.log.Slf4jBuildLogger;
-import com.gs.dmn.runtime.Assert;
 import com.gs.dmn.runtime.DMNRuntimeException;
-import com.gs.dmn.runtime.Pair;
-import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
 import com.gs.dmn.serialization.DMNConstants;
 import com.gs.dmn.serialization.DMNReader;
-import com.gs.dmn.tck.TCKUtil;
+import com.gs.dmn.tck.TCKInterpreterRunner;
+import com.gs.dmn.tck.TCKReport;
+import com.gs.dmn.tck.TestCaseIterator;
 import com.gs.dmn.tck.TestCasesReader;
-import com.gs.dmn.transformation.DMNTransformer;
+import com.gs.dmn.transformation.NameTransformer;
 import com.gs.dmn.transformation.ToSimpleNameTransformer;
-import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
-import org.omg.dmn.tck.marshaller._20160719.TestCases;
 import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
-import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase.ResultNode;
-import org.omg.spec.dmn._20180521.model.TDRGElement;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.net.URL;
-import java.util.List;
+import java.util.Iterator;
 
 import static org.junit.Assert.assertTrue;
 
@@ -49,10 +40,7 @@ public abstract class AbstractDMNInterpreterTest {
     private final DMNReader reader = new DMNReader(LOGGER, false);
     private final TestCasesReader testCasesReader = new TestCasesReader(LOGGER);
 
-    protected DMNInterpreter interpreter;
-    private DMNTransformer dmnTransformer;
-    private BasicDMN2JavaTransformer basicTransformer;
-    private FEELLib lib;
+    private NameTransformer dmnTransformer;
 
     protected void doTestDiagram(String dmnFileName, String... testSuffixes) {
         String errorMessage = String.format("Tested failed for diagram '%s'", dmnFileName);
@@ -66,10 +54,8 @@ public abstract class AbstractDMNInterpreterTest {
             dmnTransformer = new ToSimpleNameTransformer(LOGGER);
             repository = dmnTransformer.transform(repository);
 
-            // Set-up execution
-            this.interpreter = getDialectDefinition().createDMNInterpreter(repository);
-            this.basicTransformer = interpreter.getBasicDMNTransformer();
-            this.lib = interpreter.getFeelLib();
+            // Set-up execution, the model is prepared once for all the workers
+            TCKInterpreterRunner runner = new TCKInterpreterRunner(getDialectDefinition(), repository, getParallelism());
 
             // Check test files
             if (testSuffixes == null || testSuffixes.length == 0) {
@@ -77,16 +63,14 @@ public abstract class AbstractDMNInterpreterTest {
                 File inputPathFolder = new File(inputPathURL.getFile());
                 for (File child : inputPathFolder.listFiles()) {
                     if (child.getName().endsWith(TestCasesReader.TEST_FILE_EXTENSION) && child.getName().startsWith(dmnFileName)) {
-                        TestCases testCases = testCasesReader.read(child);
-                        doTest(child.getName(), interpreter, repository, testCases);
+                        doTest(child.getName(), runner, child.toURI().toURL());
                     }
                 }
             } else {
                 for (String testSuffix : testSuffixes) {
                     String testPathName = getTestCasesInputPath() + "/" + dmnFileName + testSuffix + TestCasesReader.TEST_FILE_EXTENSION;
                     URL testURL = getClass().getClassLoader().getResource(testPathName).toURI().toURL();
-                    TestCases testCases = testCasesReader.read(testURL);
-                    doTest(new File(testURL.getFile()).getName(), interpreter, repository, testCases);
+                    doTest(new File(testURL.getFile()).getName(), runner, testURL);
                 }
             }
         } catch (Exception e) {
@@ -94,41 +78,31 @@ public abstract class AbstractDMNInterpreterTest {
         }
     }
 
-    protected void doTest(String testCaseFileName, DMNInterpreter interpreter, DMNModelRepository repository, TestCases testCases) {
-        // Check all TestCases
-        Pair<DMNModelRepository, TestCases> result = dmnTransformer.transform(repository, testCases);
-        for (TestCase testCase : result.getRight().getTestCase()) {
-            doTest(testCaseFileName, interpreter, result.getLeft(), testCase);
-        }
-    }
+    protected void doTest(String testCaseFileName, TCKInterpreterRunner runner, URL testCasesURL) throws Exception {
+        // Stream the TestCases, renamed as the model
+        try (TestCaseIterator testCases = testCasesReader.stream(testCasesURL)) {
+            Iterator<TestCase> renamedTestCases = new Iterator<TestCase>() {
+                @Override
+                public boolean hasNext() {
+                    return testCases.hasNext();
+                }
 
-    private void doTest(String testCaseFileName, DMNInterpreter interpreter, DMNModelRepository repository, TestCase testCase) {
-        TCKUtil tckUtil = new TCKUtil(basicTransformer, (StandardFEELLib) lib);
-        RuntimeEnvironment runtimeEnvironment = tckUtil.makeEnvironment(testCase);
-
-        List<ResultNode> resultNode = testCase.getResultNode();
-        for (ResultNode res : resultNode) {
-            Object expectedValue = null;
-            Object actualOutput = null;
-            String message = String.format("Unexpected result in test case in file '%s' for result node '%s'", testCaseFileName, res.getName());
-            try {
-                String drgElementName = res.getName();
-                TDRGElement tdrgElement = basicTransformer.getDMNModelRepository().findDRGElementByName(drgElementName);
-                Environment environment = basicTransformer.makeEnvironment(tdrgElement);
-                Type decisionType = basicTransformer.drgElementOutputFEELType(tdrgElement, environment);
-                expectedValue = tckUtil.makeValue(res.getExpected(), decisionType);
-                actualOutput = interpreter.evaluate(drgElementName, runtimeEnvironment);
-            } catch (Exception e) {
-                if (!res.isErrorResult()) {
-                    e.printStackTrace();
-                    DMNRuntimeException dmnRuntimeException = new DMNRuntimeException(message, e);
-                    assertTrue(dmnRuntimeException.getMessage() + ". " + e.getMessage() + String.format(".  Expected '%s' actual '%s'", expectedValue, actualOutput), res.isErrorResult());
+                @Override
+                public TestCase next() {
+                    TestCase testCase = testCases.next();
+                    dmnTransformer.transform(testCase);
+                    return testCase;
                 }
-            }
-            Assert.assertEquals(message, expectedValue, actualOutput);
+            };
+            TCKReport report = runner.run(renamedTestCases);
+            assertTrue(String.format("Unexpected results in test cases in file '%s': %s", testCaseFileName, report.getFailures()), report.isSuccessful());
         }
     }
 
+    protected int getParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
     protected abstract DMNDialectDefinition getDialectDefinition();
 
     protected abstract String getDMNInputPath();